@@ -18,15 +18,19 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.request.BookBulkCreateRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookRecentSearchRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookSearchRequest;
+import com.dadok.gaerval.domain.book.dto.request.PopularKeywordRequest;
 import com.dadok.gaerval.domain.book.dto.request.SuggestionsBookFindRequest;
 import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookIdResponse;
+import com.dadok.gaerval.domain.book.dto.response.BookIdsResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponses;
 import com.dadok.gaerval.domain.book.service.BookService;
@@ -36,6 +40,7 @@ import com.dadok.gaerval.global.config.security.UserPrincipal;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @RequestMapping("/api/books")
 @RestController
@@ -48,6 +53,8 @@ public class BookController {
 	/**
 	 * <pre>
 	 *     검색어를 입력받아 도서 목록을 외부 API로부터 받아온다.
+	 *     외부 API 응답을 기다리는 동안 요청 스레드를 반환하도록 비동기로 처리한다.
+	 *     isSearchAllProviders 가 true 면 카카오와 알라딘을 동시에 검색해 ISBN 기준으로 합친다.
 	 * </pre>
 	 *
 	 * @param bookSearchRequest 검색어, 페이지 정보
@@ -56,15 +63,18 @@ public class BookController {
 	@GetMapping(produces = APPLICATION_JSON_VALUE)
 	@PreAuthorize(value = "hasAnyRole('ROLE_ADMIN', 'ROLE_USER','ROLE_ANONYMOUS')")
 	@LogMethodInfo
-	public ResponseEntity<BookResponses> findBooksByQuery(@ModelAttribute @Valid BookSearchRequest bookSearchRequest,
+	public Mono<ResponseEntity<BookResponses>> findBooksByQuery(
+		@ModelAttribute @Valid BookSearchRequest bookSearchRequest,
 		@CurrentUserPrincipal UserPrincipal userPrincipal) {
-		return ResponseEntity.ok().body(bookService.findAllByKeyword(bookSearchRequest, userPrincipal.getUserId()));
+		return bookService.findAllByKeyword(bookSearchRequest, userPrincipal.getUserId())
+			.map(bookResponses -> ResponseEntity.ok().body(bookResponses));
 	}
 
 
 	/**
 	 * <pre>
 	 *     베스트셀러 목록을 외부 API로부터 받아온다.
+	 *     외부 API 응답을 기다리는 동안 요청 스레드를 반환하도록 비동기로 처리한다.
 	 * </pre>
 	 *
 	 * @param bestSellerSearchRequest 페이지 정보
@@ -73,8 +83,10 @@ public class BookController {
 	@GetMapping(value = "/best-seller",produces = APPLICATION_JSON_VALUE)
 	@PreAuthorize(value = "hasAnyRole('ROLE_ADMIN', 'ROLE_USER','ROLE_ANONYMOUS')")
 	@LogMethodInfo
-	public ResponseEntity<BestSellerBookResponses> findBestSellers(@ModelAttribute @Valid BestSellerSearchRequest bestSellerSearchRequest) {
-		return ResponseEntity.ok().body(bookService.findAllBestSeller(bestSellerSearchRequest));
+	public Mono<ResponseEntity<BestSellerBookResponses>> findBestSellers(
+		@ModelAttribute @Valid BestSellerSearchRequest bestSellerSearchRequest) {
+		return bookService.findAllBestSeller(bestSellerSearchRequest)
+			.map(bestSellerBookResponses -> ResponseEntity.ok().body(bestSellerBookResponses));
 	}
 
 	/**
@@ -95,6 +107,23 @@ public class BookController {
 			.body(bookService.findKeywordsByUserId(userPrincipal.getUserId(), bookRecentSearchRequest.limit()));
 	}
 
+	/**
+	 * <pre>
+	 *     최근 한 시간 동안 많이 검색된 인기 검색어 목록을 가져온다.
+	 *     메모리에서 집계한 근사값이며, 주기적으로 갱신된다.
+	 * </pre>
+	 *
+	 * @param popularKeywordRequest 가져올 검색어 개수
+	 * @return status : ok
+	 */
+	@GetMapping(value = "/popular-keywords", produces = APPLICATION_JSON_VALUE)
+	@PreAuthorize(value = "hasAnyRole('ROLE_ADMIN', 'ROLE_USER','ROLE_ANONYMOUS')")
+	@LogMethodInfo
+	public ResponseEntity<PopularKeywordResponses> findPopularKeywords(
+		@ModelAttribute @Valid PopularKeywordRequest popularKeywordRequest) {
+		return ResponseEntity.ok().body(bookService.findPopularKeywords(popularKeywordRequest.limit()));
+	}
+
 	/**
 	 * <pre>
 	 *     도서 ID를 통해 상세정보를 가져온다.
@@ -146,6 +175,24 @@ public class BookController {
 		return ResponseEntity.created(URI.create(redirectUri)).body(new BookIdResponse(bookId));
 	}
 
+	/**
+	 * <pre>
+	 *     여러 도서를 한 번에 저장한다. 책장 가져오기, 모임 생성처럼 도서를 여러 권 저장하는 흐름에서 사용한다.
+	 *     이미 저장된 isbn 은 도서 정보를 갱신하고, 요청 순서대로 도서 id 를 반환한다.
+	 *     길이 제한을 어기는 도서는 저장하지 않고 그 자리의 id 를 null 로 반환하며, 나머지 도서는 그대로 저장한다.
+	 * </pre>
+	 *
+	 * @param bookBulkCreateRequest 책 정보 목록
+	 * @return status : ok
+	 */
+	@PostMapping(value = "/bulk", consumes = APPLICATION_JSON_VALUE)
+	@PreAuthorize(value = "hasAnyRole('ROLE_ANONYMOUS', 'ROLE_ADMIN', 'ROLE_USER')")
+	@LogMethodInfo
+	public ResponseEntity<BookIdsResponse> saveBooks(@Valid @RequestBody BookBulkCreateRequest bookBulkCreateRequest) {
+		return ResponseEntity.ok()
+			.body(new BookIdsResponse(bookService.createBooksAndReturnIds(bookBulkCreateRequest.books())));
+	}
+
 	@GetMapping("/suggestions")
 	@PreAuthorize(value = "hasAnyRole('ROLE_ADMIN', 'ROLE_USER','ROLE_ANONYMOUS')")
 	public ResponseEntity<SuggestionsBookFindResponses> findSuggestionsBook(
@@ -0,0 +1,84 @@
+package com.dadok.gaerval.domain.book.converter;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 도서 API 데이터의 전처리 규칙.
+ * 엔티티 생성과 검색 응답 생성이 같은 규칙을 쓰도록 한 곳에 모아둔다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BookDataNormalizer {
+
+	private static final int MAX_CONTENTS_LENGTH = 1998;
+
+	public static String title(String title) {
+		return StringUtils.isBlank(title) ? "책 제목 미상" : title;
+	}
+
+	public static String authors(List<String> authors) {
+		return authors.isEmpty() ? "저자 미상" : String.join(",", authors);
+	}
+
+	public static String author(String author) {
+		return StringUtils.isEmpty(author) ? "저자 미상" : author;
+	}
+
+	public static String contents(String contents) {
+		if (StringUtils.isBlank(contents)) {
+			return "책 소개 미상";
+		}
+		return contents.length() > MAX_CONTENTS_LENGTH ? contents.substring(0, MAX_CONTENTS_LENGTH) : contents;
+	}
+
+	// "ISBN10 ISBN13" 형태로 오는 경우 ISBN13 을 사용한다.
+	public static String isbn(String isbn) {
+		int separator = isbn.indexOf(' ');
+		if (separator < 0) {
+			return isbn;
+		}
+		int end = isbn.indexOf(' ', separator + 1);
+		return isbn.substring(separator + 1, end < 0 ? isbn.length() : end);
+	}
+
+	/**
+	 * 제공자 간 같은 책을 찾기 위한 ISBN 키. 숫자와 X 만 남기고 ISBN10 은 ISBN13 으로 바꾼다.
+	 * ISBN 이 없거나 형식이 맞지 않으면 null 을 반환한다.
+	 */
+	public static String isbn13Key(String isbn) {
+		if (StringUtils.isBlank(isbn)) {
+			return null;
+		}
+		String candidate = isbn(isbn.trim());
+		StringBuilder digits = new StringBuilder(13);
+		for (int i = 0; i < candidate.length(); i++) {
+			char c = candidate.charAt(i);
+			if (Character.isDigit(c) || c == 'X' || c == 'x') {
+				digits.append(Character.toUpperCase(c));
+			}
+		}
+
+		if (digits.length() == 13) {
+			return digits.toString();
+		}
+		if (digits.length() != 10) {
+			return null;
+		}
+
+		digits.setLength(9);
+		digits.insert(0, "978");
+		int sum = 0;
+		for (int i = 0; i < 12; i++) {
+			sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+		}
+		return digits.append((10 - sum % 10) % 10).toString();
+	}
+
+	public static String publisher(String publisher) {
+		return StringUtils.isBlank(publisher) ? "출판사 미상" : publisher;
+	}
+}
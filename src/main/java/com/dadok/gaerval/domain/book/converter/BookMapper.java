@@ -1,6 +1,5 @@
 package com.dadok.gaerval.domain.book.converter;
 
-import org.apache.commons.lang3.StringUtils;
 import org.mapstruct.Mapper;
 import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
@@ -32,15 +31,11 @@ public interface BookMapper {
 	BookRecentSearchResponse entityToBookRecentSearchResponse(BookRecentSearch bookRecentSearch);
 
 	default Book originalBookDataToEntity(OriginalBookData originalBookData) {
-		String title = StringUtils.isBlank(originalBookData.title()) ? "책 제목 미상" : originalBookData.title();
-		String authorsString = originalBookData.authors().isEmpty() ? "저자 미상" : String.join(",", originalBookData.authors());
-		String contents = StringUtils.isBlank(originalBookData.contents()) ? "책 소개 미상"
-			: (originalBookData.contents().length() >= 1999 ? originalBookData.contents().substring(0, 1998) : originalBookData.contents());
-		String isbn = originalBookData.isbn().contains(" ") ? originalBookData.isbn().split(" ")[1] : originalBookData.isbn();
-		String publisher = StringUtils.isBlank(originalBookData.publisher()) ? "출판사 미상" : originalBookData.publisher();
-
-		return Book.create(title, authorsString, isbn,
-			contents, originalBookData.url(), originalBookData.imageUrl(), originalBookData.bookApiProvider().getName(),
-			publisher);
+		return Book.create(BookDataNormalizer.title(originalBookData.title()),
+			BookDataNormalizer.authors(originalBookData.authors()),
+			BookDataNormalizer.isbn(originalBookData.isbn()),
+			BookDataNormalizer.contents(originalBookData.contents()), originalBookData.url(),
+			originalBookData.imageUrl(), originalBookData.bookApiProvider().getName(),
+			BookDataNormalizer.publisher(originalBookData.publisher()));
 	}
 }
@@ -0,0 +1,17 @@
+package com.dadok.gaerval.domain.book.dto.request;
+
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+/**
+ * 도서마다 검증하지 않는다. 저장할 수 없는 도서가 있어도 나머지 도서는 저장하고, 그 도서의 id 만 null 로 응답한다.
+ */
+public record BookBulkCreateRequest(
+
+	@NotEmpty(message = "books 입력되지 않았습니다.")
+	@Size(max = 100, message = "books는 100개를 초과할 수 없습니다.")
+	List<BookCreateRequest> books
+) {
+}
@@ -3,6 +3,8 @@ package com.dadok.gaerval.domain.book.dto.request;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
+import org.apache.commons.lang3.StringUtils;
+
 public record BookCreateRequest(
 
 	@NotBlank(message = "title 입력되지 않았습니다.")
@@ -10,6 +12,7 @@ public record BookCreateRequest(
 	String title,
 
 	@NotBlank(message = "author 입력되지 않았습니다.")
+	@Size(max = 255, message = "author는 255자를 초과할 수 없습니다.")
 	String author,
 
 	@NotBlank(message = "isbn 입력되지 않았습니다.")
@@ -28,11 +31,30 @@ public record BookCreateRequest(
 	String imageUrl,
 
 	@NotBlank(message = "publisher 입력되지 않았습니다.")
-	@Size(max = 20, message = "publisher 20자를 초과할 수 없습니다.")
+	@Size(max = 50, message = "publisher 50자를 초과할 수 없습니다.")
 	String publisher,
 
 	@NotBlank(message = "apiProvider 입력되지 않았습니다.")
 	@Size(max = 20, message = "apiProvider 20자를 초과할 수 없습니다.")
 	String apiProvider
 ) {
+
+	/**
+	 * 위 제약과 같은 기준으로 books 에 저장할 수 있는지 확인한다.
+	 * JDBC upsert 는 Book 의 길이 검증을 거치지 않으므로, 검증되지 않은 요청은 저장 전에 이 값으로 거른다.
+	 */
+	public static boolean isStorable(BookCreateRequest request) {
+		return isLengthInRange(request.title(), 1, 500)
+			&& isLengthInRange(request.author(), 1, 255)
+			&& isLengthInRange(request.isbn(), 10, 20)
+			&& isLengthInRange(request.contents(), 1, 2000)
+			&& (request.url() == null || request.url().length() <= 2083)
+			&& isLengthInRange(request.imageUrl(), 1, 2083)
+			&& isLengthInRange(request.publisher(), 1, 50)
+			&& isLengthInRange(request.apiProvider(), 1, 20);
+	}
+
+	private static boolean isLengthInRange(String value, int min, int max) {
+		return StringUtils.isNotBlank(value) && value.length() >= min && value.length() <= max;
+	}
 }
@@ -1,6 +1,7 @@
 package com.dadok.gaerval.domain.book.dto.request;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 
 import org.hibernate.validator.constraints.Range;
 
@@ -10,13 +11,17 @@ public record BookSearchRequest(
 	@Range(min = 1, max = 50, message = "pageSize는 1에서 50사이 값입니다.")
 	Integer pageSize,
 	@NotBlank(message = "검색어는 빈 값일 수 없습니다.")
- 	String query,
-	Boolean isStoreRecent
+	@Size(max = 255, message = "검색어는 255자를 초과할 수 없습니다.")
+	String query,
+	Boolean isStoreRecent,
+	Boolean isSearchAllProviders
 ) {
-	public BookSearchRequest(Integer page, Integer pageSize, String query, Boolean isStoreRecent) {
+	public BookSearchRequest(Integer page, Integer pageSize, String query, Boolean isStoreRecent,
+		Boolean isSearchAllProviders) {
 		this.page = (page == null) ? 1 : page;
 		this.pageSize = (pageSize == null) ? 10 : pageSize;
 		this.query = query;
 		this.isStoreRecent = isStoreRecent != null && isStoreRecent;
+		this.isSearchAllProviders = isSearchAllProviders != null && isSearchAllProviders;
 	}
 }
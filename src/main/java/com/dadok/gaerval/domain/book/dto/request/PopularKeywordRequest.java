@@ -0,0 +1,14 @@
+package com.dadok.gaerval.domain.book.dto.request;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+public record PopularKeywordRequest(
+	@Min(value = 1, message = "Limit must be at least 1")
+	@Max(value = 20, message = "Limit cannot exceed 20") Integer limit
+) {
+
+	public PopularKeywordRequest(Integer limit) {
+		this.limit = limit == null ? 10 : limit;
+	}
+}
@@ -7,6 +7,13 @@ import javax.validation.constraints.NotNull;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
 import com.dadok.gaerval.global.util.SortDirection;
 
+/**
+ * <pre>
+ *     직군별 많이 꽂은 책 조회 요청. 커서는 직전 페이지 마지막 책의 (count, bookId) 쌍이다.
+ *     - bookCursorCount : 마지막 책의 count, bookCursorId : 마지막 책의 bookId. 둘 다 없으면 처음부터 조회한다.
+ *     - DESC 는 많이 꽂힌 책부터, ASC 는 적게 꽂힌 책부터 조회한다. 꽂힌 수가 같으면 bookId 순이다.
+ * </pre>
+ */
 public record SuggestionsBookFindRequest(
 	@NotNull
 	JobGroup jobGroup,
@@ -17,14 +24,17 @@ public record SuggestionsBookFindRequest(
 
 	Long bookCursorId,
 
+	Long bookCursorCount,
+
 	SortDirection sortDirection
 ) {
 
 	public SuggestionsBookFindRequest(JobGroup jobGroup, Integer pageSize, Long bookCursorId,
-		SortDirection sortDirection) {
+		Long bookCursorCount, SortDirection sortDirection) {
 		this.jobGroup = jobGroup;
 		this.pageSize = pageSize == null ? 10 : pageSize;
 		this.bookCursorId = bookCursorId;
+		this.bookCursorCount = bookCursorCount;
 		this.sortDirection = sortDirection == null ? SortDirection.DESC : sortDirection;
 	}
 
@@ -0,0 +1,7 @@
+package com.dadok.gaerval.domain.book.dto.response;
+
+import java.util.List;
+
+public record BookIdsResponse(
+	List<Long> bookIds) {
+}
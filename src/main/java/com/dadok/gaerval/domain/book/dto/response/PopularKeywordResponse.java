@@ -0,0 +1,7 @@
+package com.dadok.gaerval.domain.book.dto.response;
+
+public record PopularKeywordResponse(
+	int rank,
+	String keyword
+) {
+}
@@ -0,0 +1,13 @@
+package com.dadok.gaerval.domain.book.dto.response;
+
+import java.util.List;
+
+public record PopularKeywordResponses(
+	int count, // 결과 총 갯수
+	boolean isEmpty, // 반환 값이 0개인가
+	List<PopularKeywordResponse> popularKeywordResponses
+) {
+	public PopularKeywordResponses(List<PopularKeywordResponse> popularKeywordResponses) {
+		this(popularKeywordResponses.size(), popularKeywordResponses.isEmpty(), popularKeywordResponses);
+	}
+}
@@ -0,0 +1,57 @@
+package com.dadok.gaerval.domain.book.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <pre>
+ *     직군별로 책이 책장에 꽂힌 수를 미리 집계해 둔 테이블.
+ *     책장에 책을 넣고 뺄 때, 책장 주인의 직군이 바뀔 때 BookJobGroupCountJdbcRepository 로 갱신한다.
+ *     shelf_count 가 0 이 되어도 행을 지우지 않으므로, 조회할 때 shelf_count > 0 으로 거른다.
+ * </pre>
+ */
+@Entity
+@Table(name = "book_job_group_counts",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "UK_book_job_group_counts_job_group_book", columnNames = {"job_group", "book_id"})
+	},
+	indexes = {
+		@Index(name = "job_group_shelf_count_book_id_index", columnList = "job_group, shelf_count, book_id")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookJobGroupCount {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_group", nullable = false)
+	private JobGroup jobGroup;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "book_id", nullable = false)
+	private Book book;
+
+	@Column(name = "shelf_count", nullable = false, columnDefinition = "bigint default 0")
+	private long shelfCount;
+
+}
@@ -0,0 +1,145 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     JPA 를 거치지 않고 books 에 여러 도서를 한 번에 저장한다.
+ *     isbn 이 이미 있으면 도서 정보만 갱신하고, 삭제 여부와 이미지 키는 건드리지 않는다.
+ *     조회 후 저장하지 않고 한 문장으로 처리하므로, 같은 isbn 을 동시에 저장해도 unique 제약 위반이 나지 않는다.
+ *     upsert 는 기존 행이 바뀌었는지만 알려주고, upsertAll 은 그마저 알려주지 않는다.
+ *     그래서 여러 도서를 저장할 때 제목으로 색인하는 곳은 upsertAll 전에 findRetitledBooks 로 제목이 바뀌는 도서를 확인한다.
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookJdbcRepository {
+
+	private static final String UPSERT_SQL = """
+		insert into books (api_provider, author, contents, image_url, is_deleted, isbn, publisher, title, url)
+		values (?, ?, ?, ?, false, ?, ?, ?, ?)
+		on duplicate key update
+		    api_provider = values(api_provider),
+		    author = values(author),
+		    contents = values(contents),
+		    image_url = values(image_url),
+		    publisher = values(publisher),
+		    title = values(title),
+		    url = values(url)
+		""";
+
+	// 기존 행을 갱신한 경우에도 id = last_insert_id(id) 로 기존 id 를 생성 키로 돌려받는다.
+	private static final String UPSERT_RETURNING_ID_SQL = """
+		insert into books (api_provider, author, contents, image_url, is_deleted, isbn, publisher, title, url)
+		values (?, ?, ?, ?, false, ?, ?, ?, ?)
+		on duplicate key update
+		    id = last_insert_id(id),
+		    api_provider = values(api_provider),
+		    author = values(author),
+		    contents = values(contents),
+		    image_url = values(image_url),
+		    publisher = values(publisher),
+		    title = values(title),
+		    url = values(url)
+		""";
+
+	private static final int UPDATED_ROW_COUNT = 2;
+
+	private static final String FIND_ID_BY_ISBN_SQL = "select id from books where isbn = ?";
+
+	private static final String FIND_TITLES_BY_ISBNS_SQL = "select id, isbn, title from books where isbn in (:isbns)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * MySQL 은 한 문장으로 id 와 기존 행이 바뀌었는지까지 돌려준다.
+	 * on duplicate key update 의 영향받은 행 수는 새로 저장하면 1, 기존 행의 값이 바뀌면 2 이다.
+	 * 갱신 시 생성 키를 돌려주지 않는 DB(H2 등)에서는 isbn 으로 id 를 한 번 더 조회한다.
+	 */
+	public UpsertResult upsert(BookCreateRequest request) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		int affectedRows = jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(UPSERT_RETURNING_ID_SQL,
+				Statement.RETURN_GENERATED_KEYS);
+			ps.setString(1, request.apiProvider());
+			ps.setString(2, request.author());
+			ps.setString(3, request.contents());
+			ps.setString(4, request.imageUrl());
+			ps.setString(5, request.isbn());
+			ps.setString(6, request.publisher());
+			ps.setString(7, request.title());
+			ps.setString(8, request.url());
+			return ps;
+		}, keyHolder);
+
+		Number key = keyHolder.getKeyList().stream()
+			.flatMap(keys -> keys.values().stream())
+			.filter(Number.class::isInstance)
+			.map(Number.class::cast)
+			.findFirst()
+			.orElse(null);
+		boolean changed = affectedRows == UPDATED_ROW_COUNT;
+		if (key != null && key.longValue() > 0) {
+			return new UpsertResult(key.longValue(), changed);
+		}
+		return new UpsertResult(jdbcTemplate.queryForObject(FIND_ID_BY_ISBN_SQL, Long.class, request.isbn()), changed);
+	}
+
+	public void upsertAll(List<BookCreateRequest> bookCreateRequests) {
+		jdbcTemplate.batchUpdate(UPSERT_SQL, bookCreateRequests, bookCreateRequests.size(), (ps, request) -> {
+			ps.setString(1, request.apiProvider());
+			ps.setString(2, request.author());
+			ps.setString(3, request.contents());
+			ps.setString(4, request.imageUrl());
+			ps.setString(5, request.isbn());
+			ps.setString(6, request.publisher());
+			ps.setString(7, request.title());
+			ps.setString(8, request.url());
+		});
+	}
+
+	/**
+	 * 저장할 도서 중 이미 있고 제목이 바뀌는 도서의 id 와 새 제목을 반환한다. upsertAll 전에 호출해야 한다.
+	 */
+	public Map<Long, String> findRetitledBooks(List<BookCreateRequest> bookCreateRequests) {
+		if (bookCreateRequests.isEmpty()) {
+			return Map.of();
+		}
+		Map<String, String> titlesByIsbn = bookCreateRequests.stream()
+			.collect(Collectors.toMap(BookCreateRequest::isbn, BookCreateRequest::title, (first, last) -> last));
+
+		Map<Long, String> retitledBooks = new HashMap<>();
+		namedParameterJdbcTemplate.query(FIND_TITLES_BY_ISBNS_SQL,
+			new MapSqlParameterSource("isbns", titlesByIsbn.keySet()), resultSet -> {
+				String title = titlesByIsbn.get(resultSet.getString("isbn"));
+				if (!title.equals(resultSet.getString("title"))) {
+					retitledBooks.put(resultSet.getLong("id"), title);
+				}
+			});
+		return retitledBooks;
+	}
+
+	/**
+	 * changed 는 이미 있던 도서의 값이 바뀌었는지를 나타낸다. 어느 컬럼이 바뀌었는지는 알 수 없다.
+	 */
+	public record UpsertResult(Long bookId, boolean changed) {
+	}
+}
@@ -0,0 +1,55 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import java.util.Collection;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     book_job_group_counts 의 shelf_count 를 (job_group, book_id) unique 키 기준으로 더하고 뺀다.
+ *     더할 때는 행이 없으면 만들고, 뺄 때는 0 아래로 내려가지 않는다.
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookJobGroupCountJdbcRepository {
+
+	private static final String INCREASE_SQL = """
+		insert into book_job_group_counts (job_group, book_id, shelf_count)
+		values (:jobGroup, :bookId, 1)
+		on duplicate key update shelf_count = shelf_count + 1
+		""";
+
+	private static final String DECREASE_SQL = """
+		update book_job_group_counts set shelf_count = shelf_count - 1
+		where job_group = :jobGroup and book_id = :bookId and shelf_count > 0
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public void increase(JobGroup jobGroup, Collection<Long> bookIds) {
+		if (!bookIds.isEmpty()) {
+			namedParameterJdbcTemplate.batchUpdate(INCREASE_SQL, toParameters(jobGroup, bookIds));
+		}
+	}
+
+	public void decrease(JobGroup jobGroup, Collection<Long> bookIds) {
+		if (!bookIds.isEmpty()) {
+			namedParameterJdbcTemplate.batchUpdate(DECREASE_SQL, toParameters(jobGroup, bookIds));
+		}
+	}
+
+	private MapSqlParameterSource[] toParameters(JobGroup jobGroup, Collection<Long> bookIds) {
+		return bookIds.stream()
+			.map(bookId -> new MapSqlParameterSource()
+				.addValue("jobGroup", jobGroup.name())
+				.addValue("bookId", bookId))
+			.toArray(MapSqlParameterSource[]::new);
+	}
+}
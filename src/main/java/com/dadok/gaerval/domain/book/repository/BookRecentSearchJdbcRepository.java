@@ -0,0 +1,57 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     최근 검색어를 (user_id, keyword) unique 키 기준으로 여러 건 한 번에 upsert 한다.
+ *     이미 있으면 modified_at 만 갱신한다. 탈퇴 등으로 없는 사용자의 검색어는 외래 키 위반으로 배치 전체가 실패하지 않도록 미리 걸러낸다.
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookRecentSearchJdbcRepository {
+
+	private static final String FIND_EXISTING_USER_IDS_SQL = "select id from users where id in (:userIds)";
+
+	private static final String UPSERT_SQL = """
+		insert into book_recent_searches (created_at, modified_at, keyword, user_id)
+		values (:searchedAt, :searchedAt, :keyword, :userId)
+		on duplicate key update modified_at = values(modified_at)
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public int upsertAll(List<RecentSearchKeyword> recentSearchKeywords) {
+		Set<Long> userIds = new HashSet<>();
+		recentSearchKeywords.forEach(recentSearchKeyword -> userIds.add(recentSearchKeyword.userId()));
+		Set<Long> existingUserIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+			FIND_EXISTING_USER_IDS_SQL, Collections.singletonMap("userIds", userIds), Long.class));
+
+		MapSqlParameterSource[] parameters = recentSearchKeywords.stream()
+			.filter(recentSearchKeyword -> existingUserIds.contains(recentSearchKeyword.userId()))
+			.map(recentSearchKeyword -> new MapSqlParameterSource()
+				.addValue("searchedAt", Timestamp.valueOf(recentSearchKeyword.searchedAt()))
+				.addValue("keyword", recentSearchKeyword.keyword())
+				.addValue("userId", recentSearchKeyword.userId()))
+			.toArray(MapSqlParameterSource[]::new);
+		if (parameters.length > 0) {
+			namedParameterJdbcTemplate.batchUpdate(UPSERT_SQL, parameters);
+		}
+		return parameters.length;
+	}
+
+	public record RecentSearchKeyword(Long userId, String keyword, LocalDateTime searchedAt) {
+	}
+}
@@ -0,0 +1,90 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponse;
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
+import com.dadok.gaerval.global.config.redis.RecentSearchProperties;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     사용자별 최근 검색어를 Redis sorted set 하나에 저장한다. member 는 검색어, score 는 검색 시각(epoch millis)이다.
+ *     같은 검색어를 다시 검색하면 score 만 갱신되고, 저장할 때마다 오래된 검색어를 잘라 maxKeywords 개만 남긴다.
+ *     추가, 자르기, 만료 시간 갱신을 한 번의 pipeline 으로 보낸다.
+ *     Redis 장애는 검색을 막지 않도록 로그만 남기고, 조회는 Optional.empty() 로 알린다.
+ * </pre>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookRecentSearchRedisStore {
+
+	static final String KEY_PREFIX = "recent-search:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RecentSearchProperties recentSearchProperties;
+	private final TimeHolder timeHolder;
+
+	public void save(Long userId, String keyword) {
+		String key = key(userId);
+		long searchedAt = timeHolder.getMillis();
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				public <K, V> Object execute(RedisOperations<K, V> redisOperations) throws DataAccessException {
+					@SuppressWarnings("unchecked")
+					RedisOperations<String, String> operations = (RedisOperations<String, String>)redisOperations;
+					ZSetOperations<String, String> zSetOperations = operations.opsForZSet();
+					zSetOperations.add(key, keyword, searchedAt);
+					zSetOperations.removeRange(key, 0, -(recentSearchProperties.getMaxKeywords() + 1L));
+					operations.expire(key, recentSearchProperties.getTimeToLive());
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("[BookRecentSearchRedisStore]-[save] 최근 검색어 저장 실패. userId : {}, message : {}", userId,
+				e.getMessage());
+		}
+	}
+
+	public Optional<BookRecentSearchResponses> findRecentSearches(Long userId, Long limit) {
+		try {
+			Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+				.reverseRangeWithScores(key(userId), 0, limit - 1);
+			if (tuples == null) {
+				return Optional.empty();
+			}
+
+			ZoneId zoneId = timeHolder.getCurrentClock().getZone();
+			List<BookRecentSearchResponse> responses = tuples.stream()
+				.map(tuple -> new BookRecentSearchResponse(tuple.getValue(),
+					LocalDateTime.ofInstant(Instant.ofEpochMilli(tuple.getScore().longValue()), zoneId)))
+				.toList();
+			return Optional.of(new BookRecentSearchResponses(responses));
+		} catch (DataAccessException e) {
+			log.warn("[BookRecentSearchRedisStore]-[findRecentSearches] 최근 검색어 조회 실패. userId : {}, message : {}",
+				userId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private static String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+}
@@ -1,8 +1,13 @@
 package com.dadok.gaerval.domain.book.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +16,16 @@ import com.dadok.gaerval.domain.book.entity.Book;
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long>, BookSupport {
 	Optional<Book> findBookByIsbn(@Param("isbn") String isbn);
+
+	List<Book> findAllByIsbnIn(Collection<String> isbns);
+
+	List<Book> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	@Modifying
+	@Query("update Book b set b.shelvedCount = b.shelvedCount + 1 where b.id = :bookId")
+	int increaseShelvedCount(@Param("bookId") Long bookId);
+
+	@Modifying
+	@Query("update Book b set b.shelvedCount = b.shelvedCount - 1 where b.id = :bookId and b.shelvedCount > 0")
+	int decreaseShelvedCount(@Param("bookId") Long bookId);
 }
@@ -1,9 +1,7 @@
 package com.dadok.gaerval.domain.book.repository;
 
 import static com.dadok.gaerval.domain.book.entity.QBook.*;
-import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelf.*;
-import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelfItem.*;
-import static com.dadok.gaerval.domain.job.entity.QJob.*;
+import static com.dadok.gaerval.domain.book.entity.QBookJobGroupCount.*;
 
 import java.util.List;
 
@@ -14,6 +12,7 @@ import org.springframework.data.domain.Sort;
 import com.dadok.gaerval.domain.book.dto.request.SuggestionsBookFindRequest;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponse;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
+import com.dadok.gaerval.global.error.exception.InvalidArgumentException;
 import com.dadok.gaerval.global.util.QueryDslUtil;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -26,7 +25,15 @@ public class BookSupportImpl implements BookSupport {
 
 	private final JPAQueryFactory query;
 
-	// 많이 꽂은 책순
+	/**
+	 * <pre>
+	 *     직군별로 많이 꽂은 책순. book_job_group_counts 집계 테이블에서 (shelf_count, book_id) 순으로 읽는다.
+	 *     커서는 직전 페이지 마지막 책의 (count, bookId) 쌍을 그대로 받아 keyset 으로 쓴다.
+	 *     커서 책의 shelf_count 를 다시 읽지 않으므로, 그 사이 꽂힌 수가 바뀌어도 페이지가 건너뛰거나 겹치지 않는다.
+	 *     DESC 는 많이 꽂힌 책부터, ASC 는 적게 꽂힌 책부터 읽는다.
+	 *     커서와 정렬은 모두 book_job_group_counts 의 컬럼만 써서 (job_group, shelf_count, book_id) 인덱스 순서대로 읽고 filesort 하지 않는다.
+	 * </pre>
+	 */
 	@Override
 	public SuggestionsBookFindResponses findSuggestionBooks(SuggestionsBookFindRequest request) {
 
@@ -34,44 +41,50 @@ public class BookSupportImpl implements BookSupport {
 
 		List<SuggestionsBookFindResponse> bookFindResponses = query.select(
 				Projections.constructor(SuggestionsBookFindResponse.class,
-					bookshelfItem.book.id.as("bookId"),
+					book.id.as("bookId"),
 					book.imageUrl.as("imageUrl"),
 					book.title.as("title"),
 					book.author.as("author"),
 					book.isbn.as("isbn"),
 					book.publisher.as("publisher"),
 					book.url.as("url"),
-					job.jobGroup.as("jobGroup"),
-					bookshelfItem.book.id.count().as("count")
+					bookJobGroupCount.jobGroup.as("jobGroup"),
+					bookJobGroupCount.shelfCount.as("count")
 				))
-			.from(bookshelfItem)
-			.innerJoin(bookshelfItem.bookshelf, bookshelf)
-			.innerJoin(bookshelfItem.book, book)
-			.innerJoin(job).on(job.id.eq(bookshelf.jobId))
-			.where(generateCursorId(request.bookCursorId(), direction),
-				job.jobGroup.eq(request.jobGroup())
+			.from(bookJobGroupCount)
+			.innerJoin(bookJobGroupCount.book, book)
+			.where(bookJobGroupCount.jobGroup.eq(request.jobGroup()),
+				bookJobGroupCount.shelfCount.gt(0L),
+				generateCursor(request.bookCursorCount(), request.bookCursorId(), direction)
 			)
+			.orderBy(direction == Sort.Direction.DESC
+					? bookJobGroupCount.shelfCount.desc() : bookJobGroupCount.shelfCount.asc(),
+				direction == Sort.Direction.DESC
+					? bookJobGroupCount.book.id.desc() : bookJobGroupCount.book.id.asc())
 			.limit(request.pageSize() + 1)
-			.groupBy(bookshelfItem.book.id, job.jobGroup)
-			.orderBy(bookshelfItem.book.id.count().desc())
 			.fetch();
 
 		Slice<SuggestionsBookFindResponse> books = QueryDslUtil.toSlice(bookFindResponses,
 			PageRequest.of(0, request.pageSize(),
-				Sort.by(direction, "bookshelfItem.book_id")));
+				Sort.by(direction, "shelfCount", "book_id")));
 		return new SuggestionsBookFindResponses(books, request.jobGroup());
 	}
 
-	private BooleanExpression generateCursorId(Long cursorId, Sort.Direction direction) {
-		if (cursorId == null) {
+	private BooleanExpression generateCursor(Long cursorCount, Long cursorId, Sort.Direction direction) {
+		if (cursorId == null && cursorCount == null) {
 			return null;
 		}
+		if (cursorId == null || cursorCount == null) {
+			throw new InvalidArgumentException("bookCursorId 와 bookCursorCount 는 함께 보내야 합니다.");
+		}
 
 		if (direction == Sort.Direction.DESC) {
-			return bookshelfItem.book.id.lt(cursorId);
+			return bookJobGroupCount.shelfCount.lt(cursorCount)
+				.or(bookJobGroupCount.shelfCount.eq(cursorCount).and(bookJobGroupCount.book.id.lt(cursorId)));
 		}
 
-		return bookshelfItem.book.id.gt(cursorId);
+		return bookJobGroupCount.shelfCount.gt(cursorCount)
+			.or(bookJobGroupCount.shelfCount.eq(cursorCount).and(bookJobGroupCount.book.id.gt(cursorId)));
 	}
 
 }
@@ -0,0 +1,39 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponse;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.global.config.externalapi.AladinWebClientConfig;
+
+/**
+ * 한 카테고리의 베스트셀러 전체 목록을 담은 불변 스냅샷.
+ * 요청한 페이지는 목록을 잘라서 만들기 때문에 외부 API 를 호출하지 않는다.
+ */
+public record BestSellerSnapshot(Integer categoryId, int totalCount, List<BestSellerBookResponse> items,
+								 LocalDateTime refreshedAt) {
+
+	public static BestSellerSnapshot of(Integer categoryId, List<BestSellerBookResponses> pages,
+		LocalDateTime refreshedAt) {
+		List<BestSellerBookResponse> items = new ArrayList<>(AladinWebClientConfig.MAXIMUM_ALADIN_COUNT);
+		for (BestSellerBookResponses page : pages) {
+			for (BestSellerBookResponse item : page.bestSellerBookResponseList()) {
+				if (items.size() == AladinWebClientConfig.MAXIMUM_ALADIN_COUNT) {
+					break;
+				}
+				items.add(item);
+			}
+		}
+		int totalCount = pages.isEmpty() ? 0 : pages.get(0).totalCount();
+		return new BestSellerSnapshot(categoryId, totalCount, List.copyOf(items), refreshedAt);
+	}
+
+	public BestSellerBookResponses page(int page, int pageSize) {
+		int fromIndex = Math.min((page - 1) * pageSize, items.size());
+		int toIndex = Math.min(fromIndex + pageSize, items.size());
+		return new BestSellerBookResponses(page, pageSize, toIndex == items.size(),
+			AladinWebClientConfig.MAXIMUM_ALADIN_COUNT, totalCount, items.subList(fromIndex, toIndex));
+	}
+}
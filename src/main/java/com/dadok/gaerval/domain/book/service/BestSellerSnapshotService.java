@@ -0,0 +1,99 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRange;
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.global.config.externalapi.AladinWebClientConfig;
+import com.dadok.gaerval.global.config.externalapi.BestSellerSnapshotProperties;
+import com.dadok.gaerval.global.config.externalapi.WebClientBookApiOperations;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *     카테고리별 베스트셀러를 주기적으로 모두 가져와 메모리에 스냅샷으로 보관한다.
+ *     갱신이 끝난 스냅샷만 한 번에 교체하므로 조회 중에는 항상 완성된 스냅샷을 본다.
+ *     갱신에 실패한 카테고리는 이전 스냅샷을 그대로 유지한다.
+ *     외부 API 응답은 WebClient 스레드에서 이어 받으므로 갱신 중에도 스케줄러 스레드를 점유하지 않는다.
+ * </pre>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BestSellerSnapshotService {
+
+	private static final int PAGE_COUNT =
+		AladinWebClientConfig.MAXIMUM_ALADIN_COUNT / AladinWebClientConfig.MAXIMUM_ALADIN_PAGE_SIZE;
+
+	private final WebClientBookApiOperations webClientBookApiOperations;
+
+	private final BestSellerSnapshotProperties bestSellerSnapshotProperties;
+
+	private final TimeHolder timeHolder;
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private volatile Map<Integer, BestSellerSnapshot> snapshots = Map.of();
+
+	public Optional<BestSellerBookResponses> find(BestSellerSearchRequest bestSellerSearchRequest) {
+		return Optional.ofNullable(snapshots.get(bestSellerSearchRequest.categoryId()))
+			.map(snapshot -> snapshot.page(bestSellerSearchRequest.page(), bestSellerSearchRequest.pageSize()));
+	}
+
+	/**
+	 * 스케줄러 스레드를 막지 않도록 구독만 하고 바로 반환한다. 이전 갱신이 끝나지 않았으면 이번 갱신은 건너뛴다.
+	 */
+	@Scheduled(fixedDelayString = "${search-api-provider.best-seller-snapshot.refresh-interval:PT6H}")
+	public void refresh() {
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		refreshSnapshots()
+			.doFinally(signalType -> refreshing.set(false))
+			.subscribe(this::replaceSnapshots);
+	}
+
+	private Mono<Map<Integer, BestSellerSnapshot>> refreshSnapshots() {
+		return Flux.fromIterable(bestSellerSnapshotProperties.getCategoryIds())
+			.concatMap(categoryId -> fetchSnapshot(categoryId)
+				.timeout(bestSellerSnapshotProperties.getFetchTimeout())
+				.filter(snapshot -> !snapshot.items().isEmpty())
+				.onErrorResume(e -> {
+					log.warn("[BestSellerSnapshotService]-[refresh] 베스트셀러 스냅샷 갱신 실패. categoryId : {}, message : {}",
+						categoryId, e.getMessage());
+					return Mono.empty();
+				}))
+			.collectMap(BestSellerSnapshot::categoryId);
+	}
+
+	private void replaceSnapshots(Map<Integer, BestSellerSnapshot> refreshedSnapshots) {
+		Map<Integer, BestSellerSnapshot> refreshed = new HashMap<>(snapshots);
+		refreshed.putAll(refreshedSnapshots);
+		snapshots = Map.copyOf(refreshed);
+	}
+
+	private Mono<BestSellerSnapshot> fetchSnapshot(Integer categoryId) {
+		return Flux.range(1, PAGE_COUNT)
+			.concatMap(page -> webClientBookApiOperations.searchWeeklyBestSellers(
+				new BestSellerSearchRequest(page, AladinWebClientConfig.MAXIMUM_ALADIN_PAGE_SIZE, categoryId,
+					BestSellerSearchRange.WEEKLY)))
+			.takeUntil(bestSellerBookResponses -> bestSellerBookResponses.bestSellerBookResponseList().size()
+				< AladinWebClientConfig.MAXIMUM_ALADIN_PAGE_SIZE)
+			.collectList()
+			.map(pages -> BestSellerSnapshot.of(categoryId, pages,
+				LocalDateTime.now(timeHolder.getCurrentClock())));
+	}
+}
@@ -1,5 +1,6 @@
 package com.dadok.gaerval.domain.book.service;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
@@ -10,18 +11,24 @@ import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponses;
 import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+
+import reactor.core.publisher.Mono;
 
 public interface BookService {
 
-	BookResponses findAllByKeyword(BookSearchRequest bookSearchRequest, Long userId);
+	Mono<BookResponses> findAllByKeyword(BookSearchRequest bookSearchRequest, Long userId);
 
-	BestSellerBookResponses findAllBestSeller(BestSellerSearchRequest bestSellerSearchRequest);
+	Mono<BestSellerBookResponses> findAllBestSeller(BestSellerSearchRequest bestSellerSearchRequest);
 
 	Long createBookAndReturnId(BookCreateRequest bookCreateRequest);
 
+	List<Long> createBooksAndReturnIds(List<BookCreateRequest> bookCreateRequests);
+
 	Book getById(Long bookId);
 
 	Optional<Book> findById(Long bookId);
@@ -32,7 +39,15 @@ public interface BookService {
 
 	SuggestionsBookFindResponses findSuggestionBooks(SuggestionsBookFindRequest request);
 
+	void increaseShelvedCount(Long bookId, JobGroup jobGroup);
+
+	void decreaseShelvedCount(Long bookId, JobGroup jobGroup);
+
+	void moveJobGroupShelfCounts(List<Long> bookIds, JobGroup from, JobGroup to);
+
 	UserByBookResponses findUserByBookId(Long bookId, Long userId);
 
 	BookRecentSearchResponses findKeywordsByUserId(Long userId, Long limit);
+
+	PopularKeywordResponses findPopularKeywords(int limit);
 }
@@ -0,0 +1,11 @@
+package com.dadok.gaerval.domain.book.service;
+
+/**
+ * 이미 저장된 도서의 제목이 upsert 로 바뀌었을 때 발행한다. 도서 제목으로 색인하는 곳이 다시 색인한다.
+ * 도서 한 권을 저장할 때는 제목 외의 값만 바뀌어도 발행될 수 있으므로, 같은 제목으로 다시 색인해도 결과가 같아야 한다.
+ */
+public record BookTitleChangedEvent(
+	Long bookId,
+	String title
+) {
+}
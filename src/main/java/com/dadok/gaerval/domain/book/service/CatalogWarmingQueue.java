@@ -0,0 +1,158 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+import com.dadok.gaerval.global.config.externalapi.CatalogWarmingProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     검색 결과로 받은 도서를 books 에 미리 저장해 두는 write-behind 큐.
+ *     사용자가 검색 결과에서 도서를 고르면 곧바로 도서 저장 API 를 호출하므로, 그 전에 저장해 두면 저장 API 는 조회만 하고 끝난다.
+ *
+ *     - 같은 isbn 은 deduplicationWindow 동안 한 번만 큐에 넣는다.
+ *     - 큐는 queueCapacity 로 제한하고, 가득 차면 기다리지 않고 버린다. 검색 응답은 큐 때문에 지연되지 않는다.
+ *     - 주기적으로 batchSize 씩 꺼내 JDBC batch 로 upsert 하고, 저장된 도서를 로컬 카탈로그 색인에 반영한다.
+ *     - 제목이 바뀐 도서는 BookTitleChangedEvent 를 발행해 모임 검색 토큰도 다시 만들게 한다.
+ *     - 저장에 실패한 isbn 은 중복 제거 기록에서 지워 다음 검색 때 다시 큐에 들어갈 수 있게 한다.
+ *
+ *     metric
+ *     - book.catalog.warming.queue.depth : 큐에 쌓인 도서 수
+ *     - book.catalog.warming.batch.size : 한 번에 upsert 한 도서 수
+ *     - book.catalog.warming.flush.latency : 배치에서 가장 오래 기다린 도서가 큐에 들어간 뒤 저장되기까지 걸린 시간
+ *     - book.catalog.warming.skipped : 큐에 넣지 않은 도서 수 (reason : duplicate, queue_full, invalid)
+ *     - book.catalog.warming.failed : 저장에 실패한 도서 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CatalogWarmingQueue {
+
+	static final String QUEUE_DEPTH_METRIC = "book.catalog.warming.queue.depth";
+	static final String BATCH_SIZE_METRIC = "book.catalog.warming.batch.size";
+	static final String FLUSH_LATENCY_METRIC = "book.catalog.warming.flush.latency";
+	static final String SKIPPED_METRIC = "book.catalog.warming.skipped";
+	static final String FAILED_METRIC = "book.catalog.warming.failed";
+
+	private final BookJdbcRepository bookJdbcRepository;
+	private final BookRepository bookRepository;
+	private final LocalBookCatalogIndex localBookCatalogIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int batchSize;
+
+	private final BlockingQueue<PendingBook> queue;
+	private final Cache<String, Boolean> recentIsbns;
+
+	private final DistributionSummary batchSizeSummary;
+	private final Timer flushLatency;
+	private final Counter duplicateSkips;
+	private final Counter queueFullSkips;
+	private final Counter invalidSkips;
+	private final Counter failures;
+
+	public CatalogWarmingQueue(BookJdbcRepository bookJdbcRepository, BookRepository bookRepository,
+		LocalBookCatalogIndex localBookCatalogIndex, ApplicationEventPublisher eventPublisher,
+		CatalogWarmingProperties properties, MeterRegistry meterRegistry) {
+		this.bookJdbcRepository = bookJdbcRepository;
+		this.bookRepository = bookRepository;
+		this.localBookCatalogIndex = localBookCatalogIndex;
+		this.eventPublisher = eventPublisher;
+		this.batchSize = properties.getBatchSize();
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.recentIsbns = CacheBuilder.newBuilder()
+			.expireAfterWrite(properties.getDeduplicationWindow())
+			.maximumSize(properties.getDeduplicationMaximumSize())
+			.build();
+
+		Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size).register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC).register(meterRegistry);
+		this.flushLatency = Timer.builder(FLUSH_LATENCY_METRIC).register(meterRegistry);
+		this.duplicateSkips = meterRegistry.counter(SKIPPED_METRIC, "reason", "duplicate");
+		this.queueFullSkips = meterRegistry.counter(SKIPPED_METRIC, "reason", "queue_full");
+		this.invalidSkips = meterRegistry.counter(SKIPPED_METRIC, "reason", "invalid");
+		this.failures = meterRegistry.counter(FAILED_METRIC);
+	}
+
+	public void enqueue(List<SearchBookResponse> searchBookResponses) {
+		long enqueuedAt = System.nanoTime();
+		for (SearchBookResponse searchBookResponse : searchBookResponses) {
+			BookCreateRequest request = toBookCreateRequest(searchBookResponse);
+			// books 테이블 제약을 어기는 도서는 배치 전체를 실패시키므로 큐에 넣지 않는다.
+			if (!BookCreateRequest.isStorable(request)) {
+				invalidSkips.increment();
+				continue;
+			}
+			if (recentIsbns.asMap().putIfAbsent(searchBookResponse.isbn(), Boolean.TRUE) != null) {
+				duplicateSkips.increment();
+				continue;
+			}
+			if (!queue.offer(new PendingBook(request, enqueuedAt))) {
+				recentIsbns.invalidate(searchBookResponse.isbn());
+				queueFullSkips.increment();
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${search-api-provider.catalog-warming.flush-interval:1s}")
+	public void flush() {
+		List<PendingBook> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	int queueDepth() {
+		return queue.size();
+	}
+
+	private void write(List<PendingBook> batch) {
+		List<BookCreateRequest> requests = batch.stream().map(PendingBook::request).toList();
+		try {
+			Map<Long, String> retitledBooks = bookJdbcRepository.findRetitledBooks(requests);
+			bookJdbcRepository.upsertAll(requests);
+			retitledBooks.forEach(
+				(bookId, title) -> eventPublisher.publishEvent(new BookTitleChangedEvent(bookId, title)));
+			bookRepository.findAllByIsbnIn(requests.stream().map(BookCreateRequest::isbn).toList())
+				.forEach(localBookCatalogIndex::index);
+		} catch (RuntimeException e) {
+			log.warn("[CatalogWarmingQueue]-[flush] 도서 일괄 저장 실패. size : {}, message : {}", batch.size(),
+				e.getMessage());
+			requests.forEach(request -> recentIsbns.invalidate(request.isbn()));
+			failures.increment(batch.size());
+			return;
+		}
+
+		batchSizeSummary.record(batch.size());
+		flushLatency.record(Duration.ofNanos(System.nanoTime() - batch.get(0).enqueuedAt()));
+	}
+
+	private static BookCreateRequest toBookCreateRequest(SearchBookResponse book) {
+		return new BookCreateRequest(book.title(), book.author(), book.isbn(), book.contents(), book.url(),
+			book.imageUrl(), book.publisher(), book.apiProvider());
+	}
+
+	private record PendingBook(BookCreateRequest request, long enqueuedAt) {
+	}
+}
@@ -1,7 +1,12 @@
 package com.dadok.gaerval.domain.book.service;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ApplicationEventPublisher;
@@ -19,17 +24,28 @@ import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponses;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
 import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository.UpsertResult;
+import com.dadok.gaerval.domain.book.repository.BookJobGroupCountJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchRedisStore;
 import com.dadok.gaerval.domain.book.repository.BookRecentSearchRepository;
 import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
+import com.dadok.gaerval.domain.job.entity.JobGroup;
 import com.dadok.gaerval.global.config.externalapi.ExternalBookApiOperations;
+import com.dadok.gaerval.global.config.externalapi.MultiProviderBookSearch;
 import com.dadok.gaerval.global.error.exception.ResourceNotfoundException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Transactional
 @Service
@@ -44,51 +60,122 @@ public class DefaultBookService implements BookService {
 	private final BookMapper bookMapper;
 	private final ApplicationEventPublisher eventPublisher;
 	private final BookRecentSearchRepository bookRecentSearchRepository;
-
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	private final BestSellerSnapshotService bestSellerSnapshotService;
+	private final MultiProviderBookSearch multiProviderBookSearch;
+	private final LocalBookCatalogIndex localBookCatalogIndex;
+	private final CatalogWarmingQueue catalogWarmingQueue;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final BookRecentSearchRedisStore bookRecentSearchRedisStore;
+	private final PopularKeywordCounter popularKeywordCounter;
+	private final BookJobGroupCountJdbcRepository bookJobGroupCountJdbcRepository;
+
+	// Mono 를 조립만 하고 DB 작업(대체 응답, 카탈로그 적재)은 다른 스레드에서 하므로, 외부 API 가 느린 동안
+	// 호출한 쪽 트랜잭션을 멈추거나 커넥션을 잡아 두지 않도록 트랜잭션을 열지 않는다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
-	public BookResponses findAllByKeyword(BookSearchRequest bookSearchRequest, Long userId) {
+	public Mono<BookResponses> findAllByKeyword(BookSearchRequest bookSearchRequest, Long userId) {
 
 		if (StringUtils.isBlank(bookSearchRequest.query()) || !StringUtils.isAlphanumericSpace(
 			bookSearchRequest.query())) {
 			log.info("[DefaultBookService]-[findAllByKeyword] invalid keyword : {}", bookSearchRequest.query());
-			return new BookResponses(bookSearchRequest.page(), bookSearchRequest.pageSize(), true, 0, 0,
-				Collections.emptyList());
+			return Mono.just(new BookResponses(bookSearchRequest.page(), bookSearchRequest.pageSize(), true, 0, 0,
+				Collections.emptyList()));
 		}
 
-		BookResponses bookResponses = externalBookApiOperations.searchBooks(bookSearchRequest.query(),
-			bookSearchRequest.page(),
-			bookSearchRequest.pageSize(), SortingPolicy.ACCURACY.getName());
-
-		if(Boolean.TRUE.equals(bookSearchRequest.isStoreRecent())) {
+		// 한 검색어의 모든 페이지는 외부 API 로 응답하고, 로컬 카탈로그는 외부 API 가 쿼터 초과나 서킷 오픈으로
+		// 실패했을 때만 대신 응답한다. 대체 응답은 DB 를 읽으므로 reactor-netty 스레드가 아닌 boundedElastic 에서 만든다.
+		Mono<BookResponses> bookResponses = (Boolean.TRUE.equals(bookSearchRequest.isSearchAllProviders())
+			? multiProviderBookSearch.searchBooks(bookSearchRequest.query(), bookSearchRequest.page(),
+			bookSearchRequest.pageSize(), SortingPolicy.ACCURACY.getName())
+			: externalBookApiOperations.searchBooks(bookSearchRequest.query(), bookSearchRequest.page(),
+			bookSearchRequest.pageSize(), SortingPolicy.ACCURACY.getName()))
+			.doOnNext(responses -> catalogWarmingQueue.enqueue(responses.searchBookResponseList()))
+			.onErrorResume(BookApiNotAvailableException.class, e -> Mono.fromCallable(
+					() -> searchLocalCatalog(bookSearchRequest, e))
+				.subscribeOn(Schedulers.boundedElastic()));
+
+		// 최근 검색어는 Redis 에 pipeline 한 번으로 저장하고, MySQL 보관은 이벤트 리스너가 비동기로 처리한다.
+		// 트랜잭션이 없으므로 리스너는 fallbackExecution 으로 바로 실행된다.
+		if (Boolean.TRUE.equals(bookSearchRequest.isStoreRecent()) && userId != null && userId > 0) {
+			bookRecentSearchRedisStore.save(userId, bookSearchRequest.query());
 			eventPublisher.publishEvent(new SaveKeywordEvent(userId, bookSearchRequest.query()));
 		}
 
 		return bookResponses;
 	}
 
+	// 스냅샷에서 응답할 때는 DB 커넥션이 필요 없으므로 트랜잭션을 열지 않는다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
-	public BestSellerBookResponses findAllBestSeller(BestSellerSearchRequest bestSellerSearchRequest) {
-		return externalBookApiOperations.searchWeeklyBestSellers(bestSellerSearchRequest);
-	}
-
-	private Book createBook(BookCreateRequest bookCreateRequest) {
-		Optional<Book> existsBook = this.findByIsbn(bookCreateRequest.isbn());
-		if (existsBook.isPresent()) {
-			return existsBook.map(book -> {
-				book.change(bookCreateRequest);
-				return bookRepository.save(book);
-			}).orElseThrow(() -> new IllegalArgumentException("도서 데이터를 찾는데 실패했습니다."));
-		} else {
-			Book newBook = bookMapper.createBookRequestToEntity(bookCreateRequest);
-			return bookRepository.save(newBook);
+	public Mono<BestSellerBookResponses> findAllBestSeller(BestSellerSearchRequest bestSellerSearchRequest) {
+		return bestSellerSnapshotService.find(bestSellerSearchRequest)
+			.map(Mono::just)
+			.orElseGet(() -> externalBookApiOperations.searchWeeklyBestSellers(bestSellerSearchRequest));
+	}
+
+	private BookResponses searchLocalCatalog(BookSearchRequest bookSearchRequest, BookApiNotAvailableException e) {
+		int page = bookSearchRequest.page();
+		int pageSize = bookSearchRequest.pageSize();
+		LocalCatalogSearchResult localResult = localBookCatalogIndex.search(bookSearchRequest.query(), page,
+			pageSize);
+		if (localResult.isEmpty()) {
+			throw e;
 		}
+
+		Map<Long, Book> booksById = bookRepository.findAllById(localResult.bookIds()).stream()
+			.collect(Collectors.toMap(Book::getId, Function.identity()));
+		List<SearchBookResponse> searchBookResponses = localResult.bookIds().stream()
+			.map(booksById::get)
+			.filter(Objects::nonNull)
+			.map(bookMapper::entityToSearchBookResponse)
+			.toList();
+		boolean isLast = (long)page * pageSize >= localResult.totalCount();
+		return new BookResponses(page, pageSize, isLast, localResult.totalCount(), localResult.totalCount(),
+			searchBookResponses);
 	}
 
+	// 조회 후 저장하지 않고 isbn 기준 upsert 한 문장으로 처리해, 같은 도서를 동시에 저장해도 충돌하지 않는다.
+	// upsert 는 어느 컬럼이 바뀌었는지 알려주지 않으므로, 기존 도서의 값이 바뀌면 제목이 바뀐 것으로 보고 이벤트를 발행한다.
 	@Override
 	@Transactional
 	public Long createBookAndReturnId(BookCreateRequest bookCreateRequest) {
-		return this.createBook(bookCreateRequest).getId();
+		UpsertResult upsertResult = bookJdbcRepository.upsert(bookCreateRequest);
+		Long bookId = upsertResult.bookId();
+		localBookCatalogIndex.indexAfterCommit(bookId, bookCreateRequest);
+		if (upsertResult.changed()) {
+			eventPublisher.publishEvent(new BookTitleChangedEvent(bookId, bookCreateRequest.title()));
+		}
+		return bookId;
+	}
+
+	// 여러 도서를 batch upsert 한 번과 isbn 조회 한 번으로 저장하고, 요청 순서대로 도서 id 를 반환한다.
+	// books 제약을 어기는 도서가 섞여 있으면 배치 전체가 실패하므로, 그런 도서는 저장하지 않고 그 자리의 id 를 null 로 둔다.
+	@Override
+	@Transactional
+	public List<Long> createBooksAndReturnIds(List<BookCreateRequest> bookCreateRequests) {
+		List<BookCreateRequest> storableRequests = bookCreateRequests.stream()
+			.filter(BookCreateRequest::isStorable)
+			.toList();
+		if (storableRequests.isEmpty()) {
+			return Collections.nCopies(bookCreateRequests.size(), null);
+		}
+
+		Map<Long, String> retitledBooks = bookJdbcRepository.findRetitledBooks(storableRequests);
+		bookJdbcRepository.upsertAll(storableRequests);
+		publishTitleChanges(retitledBooks);
+
+		List<String> isbns = storableRequests.stream().map(BookCreateRequest::isbn).distinct().toList();
+		List<Book> books = bookRepository.findAllByIsbnIn(isbns);
+		books.forEach(localBookCatalogIndex::indexAfterCommit);
+
+		Map<String, Long> bookIdsByIsbn = books.stream().collect(Collectors.toMap(Book::getIsbn, Book::getId));
+		return bookCreateRequests.stream()
+			.map(request -> BookCreateRequest.isStorable(request) ? bookIdsByIsbn.get(request.isbn()) : null)
+			.toList();
+	}
+
+	private void publishTitleChanges(Map<Long, String> retitledBooks) {
+		retitledBooks.forEach((bookId, title) -> eventPublisher.publishEvent(new BookTitleChangedEvent(bookId, title)));
 	}
 
 	@Override
@@ -116,6 +203,36 @@ public class DefaultBookService implements BookService {
 		return bookRepository.findSuggestionBooks(request);
 	}
 
+	@Override
+	public void increaseShelvedCount(Long bookId, JobGroup jobGroup) {
+		bookRepository.increaseShelvedCount(bookId);
+		if (jobGroup != null) {
+			bookJobGroupCountJdbcRepository.increase(jobGroup, List.of(bookId));
+		}
+	}
+
+	@Override
+	public void decreaseShelvedCount(Long bookId, JobGroup jobGroup) {
+		bookRepository.decreaseShelvedCount(bookId);
+		if (jobGroup != null) {
+			bookJobGroupCountJdbcRepository.decrease(jobGroup, List.of(bookId));
+		}
+	}
+
+	@Override
+	public void moveJobGroupShelfCounts(List<Long> bookIds, JobGroup from, JobGroup to) {
+		if (from == to) {
+			return;
+		}
+		if (from != null) {
+			bookJobGroupCountJdbcRepository.decrease(from, bookIds);
+		}
+		if (to != null) {
+			bookJobGroupCountJdbcRepository.increase(to, bookIds);
+		}
+	}
+
+	@Transactional(readOnly = true)
 	@Override
 	public UserByBookResponses findUserByBookId(Long bookId, Long userId) {
 		return bookshelfItemRepository.findBookshelfItemUsersByBook(bookId, userId, USER_VIEW_LIMIT);
@@ -123,6 +240,14 @@ public class DefaultBookService implements BookService {
 
 	@Override
 	public BookRecentSearchResponses findKeywordsByUserId(Long userId, Long limit) {
-		return bookRecentSearchRepository.findRecentSearches(userId, limit);
+		// Redis 에 기록이 없거나 Redis 를 사용할 수 없으면 MySQL 보관분으로 응답한다.
+		return bookRecentSearchRedisStore.findRecentSearches(userId, limit)
+			.filter(responses -> !responses.isEmpty())
+			.orElseGet(() -> bookRecentSearchRepository.findRecentSearches(userId, limit));
+	}
+
+	@Override
+	public PopularKeywordResponses findPopularKeywords(int limit) {
+		return popularKeywordCounter.findPopularKeywords(limit);
 	}
 }
@@ -0,0 +1,387 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     books 테이블의 제목, 저자, 출판사로 만든 서버 내 역색인.
+ *     한글은 띄어쓰기 없이 검색하는 경우가 많아 단어 대신 글자 2-gram 으로 색인한다.
+ *     후보는 검색어의 모든 2-gram 을 가진 도서이고, 검색어의 모든 단어를 실제로 포함하는 도서만 결과로 남긴다.
+ *     도서 본문은 보관하지 않고 도서 id 만 돌려주므로, 결과 도서는 id 로 다시 조회해야 한다.
+ *
+ *     애플리케이션 시작 후 books 전체를 읽어 만들고, 도서가 저장될 때마다 커밋 이후에 반영한다.
+ *     색인할 내용이 바뀌지 않았으면 아무것도 하지 않는다. 바뀌었으면 이전 문서를 removed 로 표시하고 새 문서를 덧붙이며,
+ *     표시된 문서가 COMPACT_MIN_REMOVED 개 이상이고 전체 문서의 1/4 이상이 되면 문서와 postings 를 다시 채워 회수한다.
+ *     조회는 읽기 락, 반영은 쓰기 락으로 보호한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalBookCatalogIndex {
+
+	static final int LOAD_PAGE_SIZE = 1000;
+
+	private static final char FIELD_SEPARATOR = '\u0001';
+
+	static final int COMPACT_MIN_REMOVED = 1024;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final BookRepository bookRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Integer, Postings> postingsByGram = new HashMap<>();
+
+	private final Map<Long, Integer> documentIdByBookId = new HashMap<>();
+
+	private final BitSet removed = new BitSet();
+
+	private long[] bookIds = new long[INITIAL_CAPACITY];
+
+	private String[] texts = new String[INITIAL_CAPACITY];
+
+	private int documentCount;
+
+	private int removedCount;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long startedAt = System.nanoTime();
+		long lastId = 0L;
+		List<Book> books;
+		do {
+			books = bookRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(LOAD_PAGE_SIZE));
+			books.forEach(this::index);
+			if (!books.isEmpty()) {
+				lastId = books.get(books.size() - 1).getId();
+			}
+		} while (books.size() == LOAD_PAGE_SIZE);
+
+		log.info("[LocalBookCatalogIndex]-[load] books : {}, grams : {}, estimated bytes : {}, elapsed ms : {}",
+			size(), gramCount(), estimatedFootprintBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영해, 롤백된 도서가 색인에 남지 않게 한다.
+	 */
+	public void indexAfterCommit(Book book) {
+		afterCommit(() -> index(book));
+	}
+
+	public void indexAfterCommit(Long bookId, BookCreateRequest bookCreateRequest) {
+		String text = documentText(bookCreateRequest.title(), bookCreateRequest.author(),
+			bookCreateRequest.publisher());
+		afterCommit(() -> index(bookId, text, false));
+	}
+
+	public void index(Book book) {
+		index(book.getId(), documentText(book.getTitle(), book.getAuthor(), book.getPublisher()), book.isDeleted());
+	}
+
+	private void index(Long bookId, String text, boolean deleted) {
+		lock.writeLock().lock();
+		try {
+			Integer previous = documentIdByBookId.get(bookId);
+			if (previous != null && !deleted && texts[previous].equals(text)) {
+				return;
+			}
+			if (previous != null) {
+				documentIdByBookId.remove(bookId);
+				removed.set(previous);
+				removedCount++;
+			}
+			if (!deleted) {
+				int documentId = append(bookId, text);
+				documentIdByBookId.put(bookId, documentId);
+				for (int gram : grams(text)) {
+					postingsByGram.computeIfAbsent(gram, key -> new Postings()).add(documentId);
+				}
+			}
+			if (removedCount >= COMPACT_MIN_REMOVED && removedCount * 4 >= documentCount) {
+				compact();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public LocalCatalogSearchResult search(String query, int page, int pageSize) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty()) {
+			return LocalCatalogSearchResult.empty();
+		}
+		String[] tokens = normalized.split(" ");
+		int[] queryGrams = grams(normalized);
+
+		lock.readLock().lock();
+		try {
+			List<Integer> titleMatches = new ArrayList<>();
+			List<Integer> otherMatches = new ArrayList<>();
+			for (int documentId : candidates(queryGrams)) {
+				if (removed.get(documentId)) {
+					continue;
+				}
+				String text = texts[documentId];
+				if (!containsAll(text, tokens, text.length())) {
+					continue;
+				}
+				if (containsAll(text, tokens, text.indexOf(FIELD_SEPARATOR))) {
+					titleMatches.add(documentId);
+				} else {
+					otherMatches.add(documentId);
+				}
+			}
+
+			int totalCount = titleMatches.size() + otherMatches.size();
+			int fromIndex = Math.min((page - 1) * pageSize, totalCount);
+			int toIndex = Math.min(fromIndex + pageSize, totalCount);
+			List<Long> pageBookIds = new ArrayList<>(toIndex - fromIndex);
+			for (int i = fromIndex; i < toIndex; i++) {
+				int documentId = i < titleMatches.size()
+					? titleMatches.get(titleMatches.size() - 1 - i)
+					: otherMatches.get(otherMatches.size() - 1 - (i - titleMatches.size()));
+				pageBookIds.add(bookIds[documentId]);
+			}
+			return new LocalCatalogSearchResult(pageBookIds, totalCount);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documentIdByBookId.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인이 차지하는 힙 크기의 추정치. 64bit JVM, compressed oops 기준의 객체 크기로 계산한다.
+	 */
+	public long estimatedFootprintBytes() {
+		lock.readLock().lock();
+		try {
+			long bytes = 16L + bookIds.length * 8L + 16L + texts.length * 4L;
+			for (int i = 0; i < documentCount; i++) {
+				bytes += 40L + texts[i].length() * 2L;
+			}
+			for (Postings postings : postingsByGram.values()) {
+				bytes += 32L + 16L + 24L + 16L + postings.documentIds.length * 4L;
+			}
+			bytes += documentIdByBookId.size() * (32L + 16L + 16L) + removed.size() / 8;
+			return bytes;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int documentCount() {
+		lock.readLock().lock();
+		try {
+			return documentCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int gramCount() {
+		lock.readLock().lock();
+		try {
+			return postingsByGram.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private int[] candidates(int[] queryGrams) {
+		if (queryGrams.length == 0) {
+			int[] all = new int[documentCount];
+			for (int i = 0; i < documentCount; i++) {
+				all[i] = i;
+			}
+			return all;
+		}
+
+		Postings[] lists = new Postings[queryGrams.length];
+		for (int i = 0; i < queryGrams.length; i++) {
+			lists[i] = postingsByGram.get(queryGrams[i]);
+			if (lists[i] == null) {
+				return new int[0];
+			}
+		}
+		Arrays.sort(lists, (left, right) -> Integer.compare(left.size, right.size));
+
+		int[] result = Arrays.copyOf(lists[0].documentIds, lists[0].size);
+		int resultSize = result.length;
+		for (int i = 1; i < lists.length && resultSize > 0; i++) {
+			int kept = 0;
+			for (int j = 0; j < resultSize; j++) {
+				if (Arrays.binarySearch(lists[i].documentIds, 0, lists[i].size, result[j]) >= 0) {
+					result[kept++] = result[j];
+				}
+			}
+			resultSize = kept;
+		}
+		return Arrays.copyOf(result, resultSize);
+	}
+
+	private int append(long bookId, String text) {
+		if (documentCount == bookIds.length) {
+			bookIds = Arrays.copyOf(bookIds, documentCount * 2);
+			texts = Arrays.copyOf(texts, documentCount * 2);
+		}
+		bookIds[documentCount] = bookId;
+		texts[documentCount] = text;
+		return documentCount++;
+	}
+
+	/**
+	 * removed 로 표시된 문서를 빼고 문서 id 를 앞에서부터 다시 매긴다. 남은 문서의 순서는 그대로이므로 postings 는 정렬 상태를 유지한다.
+	 */
+	private void compact() {
+		int[] newDocumentIds = new int[documentCount];
+		int liveCount = 0;
+		for (int documentId = 0; documentId < documentCount; documentId++) {
+			if (removed.get(documentId)) {
+				newDocumentIds[documentId] = -1;
+				continue;
+			}
+			newDocumentIds[documentId] = liveCount;
+			bookIds[liveCount] = bookIds[documentId];
+			texts[liveCount] = texts[documentId];
+			liveCount++;
+		}
+		Arrays.fill(texts, liveCount, documentCount, null);
+
+		postingsByGram.values().removeIf(postings -> postings.retain(newDocumentIds) == 0);
+		documentIdByBookId.replaceAll((bookId, documentId) -> newDocumentIds[documentId]);
+		removed.clear();
+		removedCount = 0;
+		documentCount = liveCount;
+	}
+
+	private static boolean containsAll(String text, String[] tokens, int endIndex) {
+		for (String token : tokens) {
+			int index = text.indexOf(token);
+			if (index < 0 || index + token.length() > endIndex) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String documentText(String title, String author, String publisher) {
+		return normalize(title) + FIELD_SEPARATOR + normalize(author) + FIELD_SEPARATOR + normalize(publisher);
+	}
+
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(normalized.length());
+		boolean space = false;
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				if (space && !builder.isEmpty()) {
+					builder.append(' ');
+				}
+				builder.append(c);
+				space = false;
+			} else {
+				space = true;
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 공백과 필드 구분자를 넘지 않는 글자 2-gram 을 두 글자를 이어 붙인 int 로 만든다. 중복은 제거한다.
+	 */
+	private static int[] grams(String text) {
+		int[] grams = new int[Math.max(text.length() - 1, 0)];
+		int count = 0;
+		for (int i = 0; i + 1 < text.length(); i++) {
+			char first = text.charAt(i);
+			char second = text.charAt(i + 1);
+			if (first == ' ' || second == ' ' || first == FIELD_SEPARATOR || second == FIELD_SEPARATOR) {
+				continue;
+			}
+			grams[count++] = (first << 16) | second;
+		}
+		return Arrays.stream(grams, 0, count).distinct().toArray();
+	}
+
+	private static final class Postings {
+
+		private int[] documentIds = new int[4];
+
+		private int size;
+
+		// 문서 id 는 항상 증가하는 순서로 추가되므로 정렬 상태가 유지된다.
+		private void add(int documentId) {
+			if (size == documentIds.length) {
+				documentIds = Arrays.copyOf(documentIds, size * 2);
+			}
+			documentIds[size++] = documentId;
+		}
+
+		// 새 문서 id 로 바꾸고 제거된 문서(-1)는 뺀 뒤 남은 개수를 반환한다.
+		private int retain(int[] newDocumentIds) {
+			int kept = 0;
+			for (int i = 0; i < size; i++) {
+				int documentId = newDocumentIds[documentIds[i]];
+				if (documentId >= 0) {
+					documentIds[kept++] = documentId;
+				}
+			}
+			size = kept;
+			if (size < documentIds.length / 4) {
+				documentIds = Arrays.copyOf(documentIds, Math.max(size, 4));
+			}
+			return size;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 로컬 카탈로그 검색 결과. bookIds 는 요청한 페이지의 도서 id 이고, totalCount 는 전체 일치 건수다.
+ */
+public record LocalCatalogSearchResult(
+	List<Long> bookIds,
+	int totalCount
+) {
+
+	public static LocalCatalogSearchResult empty() {
+		return new LocalCatalogSearchResult(Collections.emptyList(), 0);
+	}
+
+	public boolean isEmpty() {
+		return bookIds.isEmpty();
+	}
+}
@@ -0,0 +1,116 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponse;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+/**
+ * <pre>
+ *     최근 window 동안의 인기 검색어를 메모리에서 센다.
+ *     book_recent_searches 를 group by 하지 않고, SaveKeywordEvent 를 받을 때마다 sketch 에 더한다.
+ *
+ *     - window 를 segmentCount 개의 구간으로 나누고, 구간마다 capacityPerSegment 크기의 SpaceSavingSketch 를 둔다.
+ *       메모리는 segmentCount * capacityPerSegment 개의 검색어로 제한된다.
+ *     - 검색어 하나를 더하는 비용은 O(1) 이다. 구간이 바뀌면 가장 오래된 구간의 sketch 를 새 sketch 로 바꾼다.
+ *     - refresh-interval 마다 window 안의 구간을 합쳐 상위 topSize 개를 만들어 두고, 조회는 만들어 둔 목록을 그대로 반환한다.
+ * </pre>
+ */
+@Component
+public class PopularKeywordCounter {
+
+	private final TimeHolder timeHolder;
+	private final long segmentMillis;
+	private final int capacityPerSegment;
+	private final int topSize;
+	private final int maxKeywordLength;
+
+	private final SpaceSavingSketch[] segments;
+	private final long[] segmentEpochs;
+
+	private volatile List<PopularKeywordResponse> popularKeywords = List.of();
+
+	public PopularKeywordCounter(TimeHolder timeHolder, PopularKeywordProperties popularKeywordProperties) {
+		this.timeHolder = timeHolder;
+		this.segmentMillis = popularKeywordProperties.getSegmentMillis();
+		this.capacityPerSegment = popularKeywordProperties.getCapacityPerSegment();
+		this.topSize = popularKeywordProperties.getTopSize();
+		this.maxKeywordLength = popularKeywordProperties.getMaxKeywordLength();
+
+		int segmentCount = popularKeywordProperties.getSegmentCount();
+		this.segments = new SpaceSavingSketch[segmentCount];
+		this.segmentEpochs = new long[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new SpaceSavingSketch(capacityPerSegment);
+			segmentEpochs[i] = -1;
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleSaveKeywordEvent(SaveKeywordEvent event) {
+		record(event.getKeyword());
+	}
+
+	public void record(String keyword) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty() || normalized.length() > maxKeywordLength) {
+			return;
+		}
+
+		long epoch = timeHolder.getMillis() / segmentMillis;
+		int slot = (int)(epoch % segments.length);
+		synchronized (segments) {
+			if (segmentEpochs[slot] != epoch) {
+				segments[slot] = new SpaceSavingSketch(capacityPerSegment);
+				segmentEpochs[slot] = epoch;
+			}
+			segments[slot].offer(normalized);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${popular-keyword.refresh-interval:10s}")
+	public void refresh() {
+		long oldestEpoch = timeHolder.getMillis() / segmentMillis - segments.length + 1;
+		List<SpaceSavingSketch.Entry> entries = new ArrayList<>();
+		synchronized (segments) {
+			for (int i = 0; i < segments.length; i++) {
+				if (segmentEpochs[i] >= oldestEpoch) {
+					entries.addAll(segments[i].entries());
+				}
+			}
+		}
+
+		Map<String, Long> counts = new HashMap<>();
+		entries.forEach(entry -> counts.merge(entry.keyword(), entry.count(), Long::sum));
+
+		List<PopularKeywordResponse> ranked = new ArrayList<>(topSize);
+		counts.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+				.thenComparing(Map.Entry.comparingByKey()))
+			.limit(topSize)
+			.forEach(entry -> ranked.add(new PopularKeywordResponse(ranked.size() + 1, entry.getKey())));
+		popularKeywords = List.copyOf(ranked);
+	}
+
+	public PopularKeywordResponses findPopularKeywords(int limit) {
+		List<PopularKeywordResponse> snapshot = popularKeywords;
+		return new PopularKeywordResponses(snapshot.subList(0, Math.min(limit, snapshot.size())));
+	}
+
+	private static String normalize(String keyword) {
+		if (keyword == null) {
+			return "";
+		}
+		return keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,34 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "popular-keyword")
+public class PopularKeywordProperties {
+
+	private final Duration window;
+	private final Integer segmentCount;
+	private final Integer capacityPerSegment;
+	private final Integer topSize;
+	private final Integer maxKeywordLength;
+
+	public PopularKeywordProperties(Duration window, Integer segmentCount, Integer capacityPerSegment,
+		Integer topSize, Integer maxKeywordLength) {
+		this.window = Objects.requireNonNullElse(window, Duration.ofHours(1));
+		this.segmentCount = Objects.requireNonNullElse(segmentCount, 12);
+		this.capacityPerSegment = Objects.requireNonNullElse(capacityPerSegment, 1_000);
+		this.topSize = Objects.requireNonNullElse(topSize, 20);
+		this.maxKeywordLength = Objects.requireNonNullElse(maxKeywordLength, 50);
+	}
+
+	public long getSegmentMillis() {
+		return Math.max(1L, window.toMillis() / segmentCount);
+	}
+}
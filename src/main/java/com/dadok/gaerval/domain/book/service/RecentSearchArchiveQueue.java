@@ -0,0 +1,140 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchJdbcRepository.RecentSearchKeyword;
+import com.dadok.gaerval.global.config.redis.RecentSearchProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     최근 검색어의 MySQL 보관을 검색 요청과 분리하는 버퍼.
+ *     offer 는 메모리에만 기록하고 바로 반환하므로, 검색 응답 시간은 MySQL 저장과 무관하다.
+ *
+ *     - 같은 (사용자, 검색어) 는 flush 주기 안에서 마지막 검색 시각 하나로 합친다.
+ *     - archiveQueueCapacity 를 넘으면 가장 오래된 항목을 버린다. 최근 검색어는 Redis 가 원본이므로 보관분 일부 유실은 허용한다.
+ *     - 주기적으로 쌓인 항목을 archiveBatchSize 씩 나누어 batch upsert 한다.
+ *     - keyword 컬럼보다 긴 검색어는 batch 전체를 실패시키지 않도록 버퍼에 넣지 않는다.
+ *
+ *     metric
+ *     - recent.search.archive.queue.depth : 버퍼에 쌓인 항목 수
+ *     - recent.search.archive.coalesced : 이미 버퍼에 있어 합쳐진 검색 수
+ *     - recent.search.archive.dropped : 버퍼가 가득 차 버린 항목 수
+ *     - recent.search.archive.batch.size : 한 번에 upsert 한 항목 수
+ *     - recent.search.archive.failed : 저장에 실패한 항목 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RecentSearchArchiveQueue {
+
+	static final String QUEUE_DEPTH_METRIC = "recent.search.archive.queue.depth";
+	static final String COALESCED_METRIC = "recent.search.archive.coalesced";
+	static final String DROPPED_METRIC = "recent.search.archive.dropped";
+	static final String BATCH_SIZE_METRIC = "recent.search.archive.batch.size";
+	static final String FAILED_METRIC = "recent.search.archive.failed";
+
+	static final int MAX_KEYWORD_LENGTH = 255;
+
+	private final BookRecentSearchJdbcRepository bookRecentSearchJdbcRepository;
+	private final int capacity;
+	private final int batchSize;
+
+	private final Object lock = new Object();
+	private LinkedHashMap<Key, LocalDateTime> pending = new LinkedHashMap<>();
+
+	private final Counter coalesced;
+	private final Counter dropped;
+	private final DistributionSummary batchSizeSummary;
+	private final Counter failures;
+
+	public RecentSearchArchiveQueue(BookRecentSearchJdbcRepository bookRecentSearchJdbcRepository,
+		RecentSearchProperties recentSearchProperties, MeterRegistry meterRegistry) {
+		this.bookRecentSearchJdbcRepository = bookRecentSearchJdbcRepository;
+		this.capacity = recentSearchProperties.getArchiveQueueCapacity();
+		this.batchSize = recentSearchProperties.getArchiveBatchSize();
+
+		Gauge.builder(QUEUE_DEPTH_METRIC, this, RecentSearchArchiveQueue::depth).register(meterRegistry);
+		this.coalesced = meterRegistry.counter(COALESCED_METRIC);
+		this.dropped = meterRegistry.counter(DROPPED_METRIC);
+		this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC).register(meterRegistry);
+		this.failures = meterRegistry.counter(FAILED_METRIC);
+	}
+
+	public void offer(Long userId, String keyword, LocalDateTime searchedAt) {
+		if (keyword == null || keyword.length() > MAX_KEYWORD_LENGTH) {
+			return;
+		}
+		Key key = new Key(userId, keyword);
+		synchronized (lock) {
+			// 다시 넣어 순서를 맨 뒤로 옮겨야 가장 오래된 항목부터 버릴 수 있다.
+			if (pending.remove(key) != null) {
+				coalesced.increment();
+			} else if (pending.size() >= capacity) {
+				Iterator<Key> eldest = pending.keySet().iterator();
+				eldest.next();
+				eldest.remove();
+				dropped.increment();
+			}
+			pending.put(key, searchedAt);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${recent-search.archive-flush-interval:1s}")
+	public void flush() {
+		Map<Key, LocalDateTime> drained;
+		synchronized (lock) {
+			if (pending.isEmpty()) {
+				return;
+			}
+			drained = pending;
+			pending = new LinkedHashMap<>();
+		}
+
+		List<RecentSearchKeyword> batch = new ArrayList<>(Math.min(batchSize, drained.size()));
+		for (Map.Entry<Key, LocalDateTime> entry : drained.entrySet()) {
+			batch.add(new RecentSearchKeyword(entry.getKey().userId(), entry.getKey().keyword(), entry.getValue()));
+			if (batch.size() == batchSize) {
+				write(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		if (!batch.isEmpty()) {
+			write(batch);
+		}
+	}
+
+	int depth() {
+		synchronized (lock) {
+			return pending.size();
+		}
+	}
+
+	private void write(List<RecentSearchKeyword> batch) {
+		try {
+			bookRecentSearchJdbcRepository.upsertAll(batch);
+			batchSizeSummary.record(batch.size());
+		} catch (RuntimeException e) {
+			log.warn("[RecentSearchArchiveQueue]-[flush] 최근 검색어 보관 실패. size : {}, message : {}", batch.size(),
+				e.getMessage());
+			failures.increment(batch.size());
+		}
+	}
+
+	private record Key(Long userId, String keyword) {
+	}
+}
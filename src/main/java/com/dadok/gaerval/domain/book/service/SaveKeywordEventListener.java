@@ -1,39 +1,39 @@
 package com.dadok.gaerval.domain.book.service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
-import org.springframework.context.event.EventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.dadok.gaerval.domain.book.entity.BookRecentSearch;
-import com.dadok.gaerval.domain.book.repository.BookRecentSearchRepository;
-import com.dadok.gaerval.domain.user.entity.User;
-import com.dadok.gaerval.domain.user.service.UserService;
-import com.dadok.gaerval.global.common.logging.LogMethodInfo;
+import com.dadok.gaerval.global.util.TimeHolder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * <pre>
+ *     최근 검색어는 BookRecentSearchRedisStore 에 저장하고, 이 리스너는 MySQL 보관용으로 RecentSearchArchiveQueue 에 넘긴다.
+ *     검색 트랜잭션이 커밋된 뒤에 버퍼에만 기록하므로 검색 응답을 기다리게 하지 않는다.
+ *     recent-search.archive-enabled 가 false 면 등록되지 않는다.
+ * </pre>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "recent-search", name = "archive-enabled", havingValue = "true", matchIfMissing = true)
 public class SaveKeywordEventListener {
 
-	private final UserService userService;
-	private final BookRecentSearchRepository bookRecentSearchRepository;
+	private final RecentSearchArchiveQueue recentSearchArchiveQueue;
+	private final TimeHolder timeHolder;
 
-	@EventListener
-	@LogMethodInfo
+	@TransactionalEventListener(fallbackExecution = true)
 	public void handleSaveKeywordEvent(SaveKeywordEvent event) {
-		Optional<User> user = userService.findById(event.getUserId() == null ? 0L : event.getUserId());
-		user.ifPresent(value -> {
-			BookRecentSearch bookRecentSearch = BookRecentSearch.create(value, event.getKeyword());
-			if (bookRecentSearchRepository.existsByKeywordAndUserId(event.getKeyword(), event.getUserId())) {
-				bookRecentSearchRepository.updateRecentSearchKeyword(bookRecentSearch);
-			} else {
-				bookRecentSearchRepository.save(bookRecentSearch);
-			}
-		});
-		log.info("User[{}]-Keyword[{}] EventListener done", event.getUserId(), event.getKeyword());
+		if (event.getUserId() == null) {
+			return;
+		}
+		recentSearchArchiveQueue.offer(event.getUserId(), event.getKeyword(),
+			LocalDateTime.now(timeHolder.getCurrentClock()));
+		log.debug("User[{}]-Keyword[{}] queued for archive", event.getUserId(), event.getKeyword());
 	}
 }
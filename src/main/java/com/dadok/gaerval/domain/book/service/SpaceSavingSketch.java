@@ -0,0 +1,157 @@
+package com.dadok.gaerval.domain.book.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ *     Space-Saving 알고리즘으로 자주 등장하는 검색어를 세는 sketch.
+ *     capacity 개의 검색어만 기억하고, 가득 찬 상태에서 새 검색어가 들어오면 가장 적게 센 검색어 자리를 물려받는다.
+ *     물려받은 검색어의 count 는 실제보다 최대 error 만큼 크게 잡힌다.
+ *
+ *     같은 count 의 검색어를 하나의 bucket 에 묶고 bucket 을 count 오름차순 연결 리스트로 두는 Stream-Summary 구조라서
+ *     offer 는 capacity 와 무관하게 O(1) 이다.
+ *     동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 한다.
+ * </pre>
+ */
+class SpaceSavingSketch {
+
+	private final int capacity;
+	private final Map<String, Counter> counters;
+
+	private Bucket minBucket;
+
+	SpaceSavingSketch(int capacity) {
+		this.capacity = capacity;
+		this.counters = new HashMap<>(capacity * 4 / 3 + 1);
+	}
+
+	void offer(String keyword) {
+		Counter counter = counters.get(keyword);
+		if (counter == null) {
+			counter = counters.size() < capacity ? add(keyword) : replaceMinimum(keyword);
+		}
+		increment(counter);
+	}
+
+	List<Entry> entries() {
+		List<Entry> entries = new ArrayList<>(counters.size());
+		for (Bucket bucket = minBucket; bucket != null; bucket = bucket.next) {
+			for (Counter counter = bucket.head; counter != null; counter = counter.next) {
+				entries.add(new Entry(counter.keyword, bucket.count, counter.error));
+			}
+		}
+		return entries;
+	}
+
+	int size() {
+		return counters.size();
+	}
+
+	private Counter add(String keyword) {
+		Counter counter = new Counter(keyword, 0);
+		counters.put(keyword, counter);
+		Bucket zero = new Bucket(0);
+		zero.next = minBucket;
+		if (minBucket != null) {
+			minBucket.prev = zero;
+		}
+		minBucket = zero;
+		zero.attach(counter);
+		return counter;
+	}
+
+	private Counter replaceMinimum(String keyword) {
+		Counter evicted = minBucket.head;
+		counters.remove(evicted.keyword);
+		evicted.keyword = keyword;
+		evicted.error = minBucket.count;
+		counters.put(keyword, evicted);
+		return evicted;
+	}
+
+	private void increment(Counter counter) {
+		Bucket current = counter.bucket;
+		long nextCount = current.count + 1;
+		Bucket target = current.next;
+		if (target == null || target.count != nextCount) {
+			target = new Bucket(nextCount);
+			target.prev = current;
+			target.next = current.next;
+			if (current.next != null) {
+				current.next.prev = target;
+			}
+			current.next = target;
+		}
+		current.detach(counter);
+		target.attach(counter);
+		if (current.head == null) {
+			unlink(current);
+		}
+	}
+
+	private void unlink(Bucket bucket) {
+		if (bucket.prev != null) {
+			bucket.prev.next = bucket.next;
+		} else {
+			minBucket = bucket.next;
+		}
+		if (bucket.next != null) {
+			bucket.next.prev = bucket.prev;
+		}
+	}
+
+	record Entry(String keyword, long count, long error) {
+	}
+
+	private static final class Bucket {
+
+		private final long count;
+		private Bucket prev;
+		private Bucket next;
+		private Counter head;
+
+		private Bucket(long count) {
+			this.count = count;
+		}
+
+		private void attach(Counter counter) {
+			counter.bucket = this;
+			counter.prev = null;
+			counter.next = head;
+			if (head != null) {
+				head.prev = counter;
+			}
+			head = counter;
+		}
+
+		private void detach(Counter counter) {
+			if (counter.prev != null) {
+				counter.prev.next = counter.next;
+			} else {
+				head = counter.next;
+			}
+			if (counter.next != null) {
+				counter.next.prev = counter.prev;
+			}
+			counter.prev = null;
+			counter.next = null;
+		}
+	}
+
+	private static final class Counter {
+
+		private String keyword;
+		private long error;
+		private Bucket bucket;
+		private Counter prev;
+		private Counter next;
+
+		private Counter(String keyword, long error) {
+			this.keyword = keyword;
+			this.error = error;
+		}
+	}
+}
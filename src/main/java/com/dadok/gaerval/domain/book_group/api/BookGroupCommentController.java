@@ -21,10 +21,13 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentCreateRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.domain.book_group.service.BookGroupCommentService;
 import com.dadok.gaerval.global.config.security.CurrentUserPrincipal;
 import com.dadok.gaerval.global.config.security.UserPrincipal;
@@ -81,6 +84,49 @@ public class BookGroupCommentController {
 				userPrincipal.getUserId(), groupId));
 	}
 
+	/**
+	 * <Pre>
+	 * 모임의 댓글을 답글과 함께 조회
+	 * 1단계 댓글을 페이징하고, 댓글마다 답글 수와 앞쪽 답글 replySize 개를 함께 담는다.
+	 * </Pre>
+	 *
+	 * @param groupId 모임 아이디
+	 * @return status : ok, BookGroupCommentThreadResponses 조회된 댓글과 답글 list
+	 */
+	@PreAuthorize(value = "hasAnyRole('ROLE_ANONYMOUS','ROLE_ADMIN', 'ROLE_USER')")
+	@GetMapping(value = "/{groupId}/comments/threads", produces = APPLICATION_JSON_VALUE)
+	public ResponseEntity<BookGroupCommentThreadResponses> findBookGroupCommentThreads(
+		@PathVariable Long groupId,
+		@CurrentUserPrincipal UserPrincipal userPrincipal,
+		@ModelAttribute @Valid BookGroupCommentThreadSearchRequest bookGroupCommentThreadSearchRequest
+	) {
+		return ResponseEntity.ok()
+			.body(bookGroupCommentService.findBookGroupCommentThreads(bookGroupCommentThreadSearchRequest,
+				userPrincipal.getUserId(), groupId));
+	}
+
+	/**
+	 * <Pre>
+	 * 댓글의 답글 더보기
+	 * </Pre>
+	 *
+	 * @param groupId   모임 아이디
+	 * @param commentId 부모 댓글 아이디
+	 * @return status : ok, BookGroupCommentResponses 조회된 답글 list
+	 */
+	@PreAuthorize(value = "hasAnyRole('ROLE_ANONYMOUS','ROLE_ADMIN', 'ROLE_USER')")
+	@GetMapping(value = "/{groupId}/comments/{commentId}/replies", produces = APPLICATION_JSON_VALUE)
+	public ResponseEntity<BookGroupCommentResponses> findBookGroupCommentReplies(
+		@PathVariable Long groupId,
+		@PathVariable Long commentId,
+		@CurrentUserPrincipal UserPrincipal userPrincipal,
+		@ModelAttribute @Valid BookGroupCommentReplySearchRequest bookGroupCommentReplySearchRequest
+	) {
+		return ResponseEntity.ok()
+			.body(bookGroupCommentService.findBookGroupCommentReplies(bookGroupCommentReplySearchRequest,
+				userPrincipal.getUserId(), groupId, commentId));
+	}
+
 	/**
 	 * <Pre>
 	 * 모임 코멘트 수정
@@ -0,0 +1,19 @@
+package com.dadok.gaerval.domain.book_group.dto.request;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * 답글은 작성 순서대로 보여주므로 항상 오래된 답글부터 replyCursorId 다음 답글을 조회한다.
+ */
+public record BookGroupCommentReplySearchRequest(
+	@Min(value = 0, message = "pageSize는 최소 0 입니다.")
+	@Max(value = 100, message = "pageSize는 최대 100 입니다.")
+	Integer pageSize,
+	Long replyCursorId) {
+
+	public BookGroupCommentReplySearchRequest(Integer pageSize, Long replyCursorId) {
+		this.pageSize = (pageSize == null) ? 10 : pageSize;
+		this.replyCursorId = replyCursorId;
+	}
+}
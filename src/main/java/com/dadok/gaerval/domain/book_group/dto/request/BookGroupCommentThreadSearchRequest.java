@@ -0,0 +1,25 @@
+package com.dadok.gaerval.domain.book_group.dto.request;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import com.dadok.gaerval.global.util.SortDirection;
+
+public record BookGroupCommentThreadSearchRequest(
+	@Min(value = 0, message = "pageSize는 최소 0 입니다.")
+	@Max(value = 100, message = "pageSize는 최대 100 입니다.")
+	Integer pageSize,
+	Long groupCommentCursorId,
+	SortDirection sortDirection,
+	@Min(value = 0, message = "replySize는 최소 0 입니다.")
+	@Max(value = 10, message = "replySize는 최대 10 입니다.")
+	Integer replySize) {
+
+	public BookGroupCommentThreadSearchRequest(Integer pageSize, Long groupCommentCursorId,
+		SortDirection sortDirection, Integer replySize) {
+		this.pageSize = (pageSize == null) ? 10 : pageSize;
+		this.groupCommentCursorId = groupCommentCursorId;
+		this.sortDirection = sortDirection == null ? SortDirection.DESC : sortDirection;
+		this.replySize = (replySize == null) ? 3 : replySize;
+	}
+}
@@ -0,0 +1,15 @@
+package com.dadok.gaerval.domain.book_group.dto.response;
+
+import java.util.List;
+
+public record BookGroupCommentThreadResponse(
+	BookGroupCommentResponse comment,
+	long replyCount, // 답글 전체 갯수
+	boolean hasMoreReplies, // replies 에 담지 못한 답글이 있는가
+	List<BookGroupCommentResponse> replies) {
+
+	public BookGroupCommentThreadResponse(BookGroupCommentResponse comment, long replyCount,
+		List<BookGroupCommentResponse> replies) {
+		this(comment, replyCount, replyCount > replies.size(), replies);
+	}
+}
@@ -18,6 +18,7 @@ import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
 import javax.persistence.Table;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -99,9 +100,18 @@ public class BookGroup extends BaseTimeColumn {
 	@OneToMany(mappedBy = "bookGroup", cascade = CascadeType.PERSIST, orphanRemoval = true)
 	private final List<GroupMember> groupMembers = new ArrayList<>();
 
+	// 댓글은 목록에 넣지 않고 저장소로 바로 저장한다. 댓글 하나를 쓸 때 모임의 댓글을 모두 읽어 오지 않는다.
 	@OneToMany(mappedBy = "bookGroup", cascade = CascadeType.PERSIST, orphanRemoval = true)
 	private List<GroupComment> comments = new ArrayList<>();
 
+	// 목록 조회에서 멤버, 댓글을 join 해 세지 않도록 미리 세어 둔다.
+	// 엔티티를 저장할 때 덮어쓰지 않도록 BookGroupRepository 의 update 쿼리로만 바꾼다.
+	@Column(name = "member_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+	private long memberCount;
+
+	@Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+	private long commentCount;
+
 	protected BookGroup(Long ownerId, Book book, LocalDate startDate, LocalDate endDate, Integer maxMemberCount,
 		String introduce, Boolean hasJoinPasswd, String title, String joinQuestion, String joinPasswd,
 		Boolean isPublic, PasswordEncoder passwordEncoder, TimeHolder timeHolder) {
@@ -150,16 +160,15 @@ public class BookGroup extends BaseTimeColumn {
 			joinQuestion, joinPasswd, isPublic, passwordEncoder, timeHolder);
 	}
 
-	public void addComment(GroupComment groupComment) {
-		validateNotnull(groupComment, "groupComment");
-		if (!this.comments.contains(groupComment)) {
-			this.comments.add(groupComment);
-		}
+	@PrePersist
+	private void initCounts() {
+		this.memberCount = this.groupMembers.size();
+		this.commentCount = this.comments.size();
 	}
 
 	public void addMember(GroupMember groupMember, TimeHolder timeHolder) {
 		validateNotnull(groupMember, "groupMember");
-		if (this.groupMembers.contains(groupMember)) {
+		if (this.groupMembers.stream().anyMatch(member -> member.getUser().equals(groupMember.getUser()))) {
 			throw new AlreadyContainBookGroupException();
 		}
 		checkCanJoin(timeHolder);
@@ -168,11 +177,23 @@ public class BookGroup extends BaseTimeColumn {
 	}
 
 	private void checkCanJoin(TimeHolder timeHolder) {
+		checkJoinPeriod(timeHolder);
+		checkMemberCount();
+	}
+
+	/**
+	 * 멤버 목록을 읽지 않고 가입 기간과 비밀번호만 확인한다. 남은 자리는 BookGroupRepository.reserveSeat 로 잡는다.
+	 */
+	public void validateJoin(String joinPassword, PasswordEncoder passwordEncoder, TimeHolder timeHolder) {
+		checkJoinPeriod(timeHolder);
+		checkPasswd(joinPassword, passwordEncoder);
+	}
+
+	private void checkJoinPeriod(TimeHolder timeHolder) {
 		LocalDate currentDate = LocalDate.now(timeHolder.getCurrentClock());
 		if (currentDate.isAfter(this.endDate)) {
 			throw new ExpiredJoinGroupPeriodException();
 		}
-		checkMemberCount();
 	}
 
 	public void changeBookGroupContents(String title, String introduce, LocalDate endDate, Integer maxMemberCount,
@@ -192,24 +213,15 @@ public class BookGroup extends BaseTimeColumn {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o == null || getClass() != o.getClass())
+		if (!(o instanceof BookGroup bookGroup))
 			return false;
-		BookGroup bookGroup = (BookGroup)o;
-		return Objects.equals(id, bookGroup.id) && Objects.equals(ownerId, bookGroup.ownerId)
-			&& Objects.equals(book, bookGroup.book) && Objects.equals(title, bookGroup.title)
-			&& Objects.equals(startDate, bookGroup.startDate) && Objects.equals(endDate,
-			bookGroup.endDate) && Objects.equals(maxMemberCount, bookGroup.maxMemberCount)
-			&& Objects.equals(introduce, bookGroup.introduce) && Objects.equals(isPublic,
-			bookGroup.isPublic) && Objects.equals(hasJoinPasswd, bookGroup.hasJoinPasswd)
-			&& Objects.equals(joinQuestion, bookGroup.joinQuestion) && Objects.equals(joinPasswd,
-			bookGroup.joinPasswd);
+		return id != null && Objects.equals(id, bookGroup.getId());
 	}
 
 	@JacocoExcludeGenerated
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, ownerId, book, title, startDate, endDate, maxMemberCount, introduce, isPublic,
-			hasJoinPasswd, joinQuestion, joinPasswd);
+		return BookGroup.class.hashCode();
 	}
 
 	public void checkPasswd(String joinPassword, PasswordEncoder passwordEncoder) {
@@ -0,0 +1,105 @@
+package com.dadok.gaerval.domain.book_group.entity;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <pre>
+ *     모임 이름, 책 이름 검색용 2-gram 역색인.
+ *
+ *     - 단어(공백 기준)마다 소문자로 바꾼 뒤 연속한 두 글자를 토큰으로 저장한다. "자바스터디" -> 자바, 바스, 스터, 터디
+ *     - 단어의 마지막 글자도 한 글자 토큰으로 저장한다. 한 글자 검색어는 그 글자로 시작하는 토큰을 찾는다.
+ *     - 검색은 검색어의 토큰을 모두 가진 모임만 후보로 고른 뒤, 후보에서만 실제로 검색어를 포함하는지 확인한다.
+ *     - token, field, book_group_id 인덱스만 읽어 후보를 고르므로 모임 수가 늘어도 모임 테이블을 훑지 않는다.
+ * </pre>
+ */
+@Entity
+@Table(name = "book_group_search_tokens",
+	indexes = {
+		@Index(name = "token_field_book_group_id_index", columnList = "token, field, book_group_id"),
+		@Index(name = "book_group_id_index", columnList = "book_group_id")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookGroupSearchToken {
+
+	public static final int TOKEN_SIZE = 2;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, name = "book_group_id")
+	private Long bookGroupId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private Field field;
+
+	@Column(nullable = false, length = 8)
+	private String token;
+
+	/**
+	 * 색인할 때 쓰는 토큰. 단어마다 2-gram 과 마지막 한 글자를 반환한다.
+	 */
+	public static Set<String> tokenize(String text) {
+		Set<String> tokens = new LinkedHashSet<>();
+		for (String word : words(text)) {
+			int[] codePoints = word.codePoints().toArray();
+			for (int i = 0; i + 1 < codePoints.length; i++) {
+				tokens.add(new String(codePoints, i, TOKEN_SIZE));
+			}
+			tokens.add(new String(codePoints, codePoints.length - 1, 1));
+		}
+		return tokens;
+	}
+
+	/**
+	 * 검색할 때 쓰는 토큰. 두 글자 이상인 단어의 2-gram 만 반환한다.
+	 * 모든 단어가 한 글자면 빈 Set 을 반환하고, 이때는 firstCharacter 로 시작하는 토큰을 찾는다.
+	 */
+	public static Set<String> queryTokens(String query) {
+		Set<String> tokens = new LinkedHashSet<>();
+		for (String word : words(query)) {
+			int[] codePoints = word.codePoints().toArray();
+			for (int i = 0; i + 1 < codePoints.length; i++) {
+				tokens.add(new String(codePoints, i, TOKEN_SIZE));
+			}
+		}
+		return tokens;
+	}
+
+	public static String firstCharacter(String query) {
+		String normalized = normalize(query);
+		return normalized.isEmpty() ? normalized : new String(Character.toChars(normalized.codePointAt(0)));
+	}
+
+	public static String normalize(String text) {
+		return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+	}
+
+	private static String[] words(String text) {
+		String normalized = normalize(text);
+		return normalized.isEmpty() ? new String[0] : normalized.split("\\s+");
+	}
+
+	public enum Field {
+		GROUP_NAME,
+		BOOK_NAME
+	}
+}
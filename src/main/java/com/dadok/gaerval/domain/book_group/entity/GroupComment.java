@@ -12,6 +12,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -29,7 +30,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "group_comments")
+@Table(name = "group_comments",
+	indexes = {
+		@Index(name = "book_group_id_parent_comment_id_id_index", columnList = "book_group_id, parent_comment_id, id"),
+		@Index(name = "parent_comment_id_id_index", columnList = "parent_comment_id, id")
+	})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GroupComment extends BaseTimeColumn {
@@ -66,7 +71,6 @@ public class GroupComment extends BaseTimeColumn {
 		this.contents = contents;
 		this.user = user;
 		this.bookGroup = bookGroup;
-		bookGroup.addComment(this);
 	}
 
 	public static GroupComment create(String contents, BookGroup bookGroup, User user) {
@@ -86,20 +90,7 @@ public class GroupComment extends BaseTimeColumn {
 			throw new InvalidCommentException();
 		}
 
-		if (!Objects.equals(this.parentComment, parent)) {
-			this.parentComment = parent;
-			parent.addChild(this);
-		}
-	}
-
-	public void addChild(GroupComment child) {
-		validateNotnull(child, "childComment");
-		if (!this.isParent() || child.isParent()) {
-			throw new InvalidCommentException();
-		}
-		if (!this.childComments.contains(child)) {
-			this.childComments.add(child);
-		}
+		this.parentComment = parent;
 	}
 
 	public boolean isParent() {
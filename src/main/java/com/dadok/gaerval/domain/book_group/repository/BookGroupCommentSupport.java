@@ -1,13 +1,22 @@
 package com.dadok.gaerval.domain.book_group.repository;
 
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 
 public interface BookGroupCommentSupport {
 	boolean existsBy(Long id);
 
 	BookGroupCommentResponses findAllBy(BookGroupCommentSearchRequest request, Long userId, Long groupId);
 
+	BookGroupCommentThreadResponses findThreadsBy(BookGroupCommentThreadSearchRequest request, Long userId,
+		Long groupId);
+
+	BookGroupCommentResponses findReplies(BookGroupCommentReplySearchRequest request, Long userId, Long groupId,
+		Long parentCommentId);
+
 	BookGroupCommentResponse findGroupComment(Long commentId, Long userId, Long groupId);
 }
@@ -5,18 +5,35 @@ import static com.dadok.gaerval.domain.book_group.entity.QGroupComment.*;
 import static com.dadok.gaerval.domain.user.entity.QUser.*;
 import static com.querydsl.core.types.Projections.*;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.global.util.QueryDslUtil;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -27,6 +44,8 @@ public class BookGroupCommentSupportImpl implements BookGroupCommentSupport {
 
 	private final JPAQueryFactory queryFactory;
 
+	private final EntityManager entityManager;
+
 	@Override
 	public boolean existsBy(Long id) {
 		Integer fetchOne = queryFactory
@@ -42,7 +61,91 @@ public class BookGroupCommentSupportImpl implements BookGroupCommentSupport {
 	public BookGroupCommentResponses findAllBy(BookGroupCommentSearchRequest request, Long userId, Long groupId) {
 		Sort.Direction direction = request.sortDirection().toDirection();
 
-		List<Tuple> groupCommentTuples = queryFactory
+		List<Tuple> groupCommentTuples = findCommentTuples(groupId, null, request.groupCommentCursorId(), direction,
+			request.pageSize());
+
+		Slice<BookGroupCommentResponse> bookGroupResponses = QueryDslUtil.toSlice(
+			toResponses(groupCommentTuples, userId),
+			PageRequest.of(0, request.pageSize(), Sort.by(direction, "id")));
+
+		return new BookGroupCommentResponses(isPublic(groupCommentTuples), bookGroupResponses);
+	}
+
+	/**
+	 * <pre>
+	 *     1단계 댓글만 커서로 페이징하고, 페이지에 담긴 댓글의 답글 수와 앞쪽 답글 replySize 개를 함께 조회한다.
+	 *     답글 수는 group by 한 번, 답글은 union all 한 번으로 읽으므로 댓글 수와 상관없이 쿼리는 3번이다.
+	 *     답글을 부모 id 로 한 번 모은 뒤 댓글 순서대로 붙인다. 나머지 답글은 findReplies 로 이어서 조회한다.
+	 * </pre>
+	 */
+	@Override
+	public BookGroupCommentThreadResponses findThreadsBy(BookGroupCommentThreadSearchRequest request, Long userId,
+		Long groupId) {
+		Sort.Direction direction = request.sortDirection().toDirection();
+
+		List<Tuple> parentCommentTuples = findCommentTuples(groupId, groupComment.parentComment.isNull(),
+			request.groupCommentCursorId(), direction, request.pageSize());
+
+		Slice<BookGroupCommentResponse> parentComments = QueryDslUtil.toSlice(
+			toResponses(parentCommentTuples, userId),
+			PageRequest.of(0, request.pageSize(), Sort.by(direction, "id")));
+
+		List<Long> parentCommentIds = parentComments.getContent().stream()
+			.map(BookGroupCommentResponse::getCommentId)
+			.toList();
+		Map<Long, Long> replyCounts = countReplies(parentCommentIds);
+		Map<Long, List<BookGroupCommentResponse>> replies = findFirstReplies(
+			parentCommentIds.stream().filter(replyCounts::containsKey).toList(), request.replySize(), userId);
+
+		List<BookGroupCommentThreadResponse> threads = parentComments.getContent().stream()
+			.map(parentComment -> new BookGroupCommentThreadResponse(parentComment,
+				replyCounts.getOrDefault(parentComment.getCommentId(), 0L),
+				replies.getOrDefault(parentComment.getCommentId(), List.of())))
+			.toList();
+
+		return new BookGroupCommentThreadResponses(isPublic(parentCommentTuples),
+			new SliceImpl<>(threads, parentComments.getPageable(), parentComments.hasNext()));
+	}
+
+	@Override
+	public BookGroupCommentResponses findReplies(BookGroupCommentReplySearchRequest request, Long userId,
+		Long groupId, Long parentCommentId) {
+		List<Tuple> replyTuples = findCommentTuples(groupId, groupComment.parentComment.id.eq(parentCommentId),
+			request.replyCursorId(), Sort.Direction.ASC, request.pageSize());
+
+		Slice<BookGroupCommentResponse> replies = QueryDslUtil.toSlice(toResponses(replyTuples, userId),
+			PageRequest.of(0, request.pageSize(), Sort.by(Sort.Direction.ASC, "id")));
+
+		return new BookGroupCommentResponses(isPublic(replyTuples), replies);
+	}
+
+	@Override
+	public BookGroupCommentResponse findGroupComment(Long commentId, Long userId, Long groupId) {
+		return queryFactory.select(
+				constructor(BookGroupCommentResponse.class,
+					groupComment.id.as("commentId"),
+					groupComment.contents.as("contents"),
+					bookGroup.id.as("booGroupId"),
+					groupComment.parentComment.id.as("parentCommentId"),
+					user.id.as("userId"),
+					user.profileImage.as("userProfileImage"),
+					groupComment.createdAt.as("createdAt"),
+					groupComment.modifiedAt.as("modifiedAt"),
+					user.nickname.nickname.as("nickname"),
+					Expressions.booleanTemplate("{0} = {1}", user.id, userId).as("writtenByCurrentUser")
+				))
+			.from(groupComment)
+			.innerJoin(user).on(user.id.eq(groupComment.user.id))
+			.innerJoin(bookGroup).on(bookGroup.id.eq(groupComment.bookGroup.id))
+			.where(
+				bookGroup.id.eq(groupId),
+				groupComment.id.eq(commentId)
+			).fetchFirst();
+	}
+
+	private List<Tuple> findCommentTuples(Long groupId, Predicate condition, Long cursorId, Sort.Direction direction,
+		int pageSize) {
+		return queryFactory
 			.select(
 				groupComment.id,
 				groupComment.contents,
@@ -59,14 +162,82 @@ public class BookGroupCommentSupportImpl implements BookGroupCommentSupport {
 			.innerJoin(user).on(user.id.eq(groupComment.user.id))
 			.innerJoin(bookGroup).on(bookGroup.id.eq(groupComment.bookGroup.id))
 			.where(
-				QueryDslUtil.generateCursorWhereCondition(groupComment.id, request.groupCommentCursorId(), direction),
-				bookGroup.id.eq(groupId)
+				QueryDslUtil.generateCursorWhereCondition(groupComment.id, cursorId, direction),
+				bookGroup.id.eq(groupId),
+				condition
 			)
 			.orderBy(QueryDslUtil.getOrder(groupComment.id, direction))
-			.limit(request.pageSize() + 1)
+			.limit(pageSize + 1)
 			.fetch();
+	}
+
+	private Map<Long, Long> countReplies(List<Long> parentCommentIds) {
+		if (parentCommentIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return queryFactory
+			.select(groupComment.parentComment.id, groupComment.count())
+			.from(groupComment)
+			.where(groupComment.parentComment.id.in(parentCommentIds))
+			.groupBy(groupComment.parentComment.id)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(
+				tuple -> tuple.get(groupComment.parentComment.id),
+				tuple -> tuple.get(groupComment.count())));
+	}
+
+	/**
+	 * <pre>
+	 *     부모 댓글마다 가장 먼저 단 답글 replySize 개만 조회한다.
+	 *     부모별로 (parent_comment_id, id) 인덱스를 읽다가 limit 에서 멈추는 쿼리를 union all 로 묶으므로,
+	 *     답글이 몇 개 달렸든 읽는 행 수는 부모 댓글 수 * replySize 로 일정하다.
+	 * </pre>
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Long, List<BookGroupCommentResponse>> findFirstReplies(List<Long> parentCommentIds, int replySize,
+		Long userId) {
+		if (parentCommentIds.isEmpty() || replySize == 0) {
+			return Map.of();
+		}
+
+		String sql = IntStream.range(0, parentCommentIds.size())
+			.mapToObj(index -> "(select c.id, c.contents, c.book_group_id, c.parent_comment_id, u.id as user_id,"
+				+ " u.profile_image, c.created_at, c.modified_at, u.nickname"
+				+ " from group_comments c inner join users u on u.id = c.user_id"
+				+ " where c.parent_comment_id = :parentCommentId" + index
+				+ " order by c.id asc limit " + replySize + ")")
+			.collect(Collectors.joining(" union all "));
 
-		List<BookGroupCommentResponse> bookGroupCommentResponses = groupCommentTuples.stream().map(
+		Query nativeQuery = entityManager.createNativeQuery(sql);
+		for (int index = 0; index < parentCommentIds.size(); index++) {
+			nativeQuery.setParameter("parentCommentId" + index, parentCommentIds.get(index));
+		}
+
+		Map<Long, List<BookGroupCommentResponse>> replies = new HashMap<>();
+		for (Object[] row : (List<Object[]>)nativeQuery.getResultList()) {
+			Long replyUserId = ((Number)row[4]).longValue();
+			replies.computeIfAbsent(((Number)row[3]).longValue(), parentCommentId -> new ArrayList<>())
+				.add(new BookGroupCommentResponse(
+					((Number)row[0]).longValue(),
+					(String)row[1],
+					((Number)row[2]).longValue(),
+					((Number)row[3]).longValue(),
+					replyUserId,
+					(String)row[5],
+					toLocalDateTime(row[6]),
+					toLocalDateTime(row[7]),
+					(String)row[8],
+					Objects.equals(replyUserId, userId)));
+		}
+		replies.values()
+			.forEach(replyList -> replyList.sort(Comparator.comparing(BookGroupCommentResponse::getCommentId)));
+		return replies;
+	}
+
+	private static List<BookGroupCommentResponse> toResponses(List<Tuple> groupCommentTuples, Long userId) {
+		return groupCommentTuples.stream().map(
 			tuple -> new BookGroupCommentResponse(
 				tuple.get(groupComment.id),
 				tuple.get(groupComment.contents),
@@ -79,41 +250,19 @@ public class BookGroupCommentSupportImpl implements BookGroupCommentSupport {
 				tuple.get(user.nickname.nickname),
 				Objects.equals(tuple.get(user.id), userId))
 		).toList();
+	}
 
-		Boolean isPublic = null;
-
-		if (!groupCommentTuples.isEmpty()) {
-			Tuple tuple = groupCommentTuples.get(0);
-			isPublic = tuple.get(bookGroup.isPublic);
+	private static Boolean isPublic(List<Tuple> groupCommentTuples) {
+		if (groupCommentTuples.isEmpty()) {
+			return null;
 		}
-
-		Slice<BookGroupCommentResponse> bookGroupResponses = QueryDslUtil.toSlice(bookGroupCommentResponses,
-			PageRequest.of(0, request.pageSize(), Sort.by(direction, "id")));
-
-		return new BookGroupCommentResponses(isPublic, bookGroupResponses);
+		return groupCommentTuples.get(0).get(bookGroup.isPublic);
 	}
 
-	@Override
-	public BookGroupCommentResponse findGroupComment(Long commentId, Long userId, Long groupId) {
-		return queryFactory.select(
-				constructor(BookGroupCommentResponse.class,
-					groupComment.id.as("commentId"),
-					groupComment.contents.as("contents"),
-					bookGroup.id.as("booGroupId"),
-					groupComment.parentComment.id.as("parentCommentId"),
-					user.id.as("userId"),
-					user.profileImage.as("userProfileImage"),
-					groupComment.createdAt.as("createdAt"),
-					groupComment.modifiedAt.as("modifiedAt"),
-					user.nickname.nickname.as("nickname"),
-					Expressions.booleanTemplate("{0} = {1}", user.id, userId).as("writtenByCurrentUser")
-				))
-			.from(groupComment)
-			.innerJoin(user).on(user.id.eq(groupComment.user.id))
-			.innerJoin(bookGroup).on(bookGroup.id.eq(groupComment.bookGroup.id))
-			.where(
-				bookGroup.id.eq(groupId),
-				groupComment.id.eq(commentId)
-			).fetchFirst();
+	private static LocalDateTime toLocalDateTime(Object value) {
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime();
+		}
+		return (LocalDateTime)value;
 	}
 }
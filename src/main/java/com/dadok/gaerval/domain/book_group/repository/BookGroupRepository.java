@@ -2,12 +2,11 @@ package com.dadok.gaerval.domain.book_group.repository;
 
 import java.util.Optional;
 
-import javax.persistence.LockModeType;
-
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 
@@ -16,10 +15,49 @@ public interface BookGroupRepository extends JpaRepository<BookGroup, Long>, Boo
 	@Query("SELECT bg FROM BookGroup bg LEFT JOIN FETCH bg.groupMembers WHERE bg.id = :groupId")
 	Optional<BookGroup> findByIdWithGroupMembers(@Param("groupId") Long groupId);
 
-
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	// @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "3000"))
-	@Query("SELECT bg FROM BookGroup bg LEFT JOIN FETCH bg.groupMembers WHERE bg.id = :groupId")
-	Optional<BookGroup> findByIdWithGroupMembersForUpdate(@Param("groupId") Long groupId);
+	@Modifying
+	@Query("UPDATE BookGroup bg SET bg.memberCount = bg.memberCount + :amount WHERE bg.id = :groupId ")
+	int addMemberCount(@Param("groupId") Long groupId, @Param("amount") long amount);
+
+	@Modifying
+	@Query("UPDATE BookGroup bg SET bg.commentCount = bg.commentCount + :amount WHERE bg.id = :groupId ")
+	int addCommentCount(@Param("groupId") Long groupId, @Param("amount") long amount);
+
+	/**
+	 * 남은 자리가 있을 때만 멤버 수를 1 늘린다. 자리를 잡았으면 1, 이미 가득 찼으면 0 을 반환한다.
+	 */
+	@Modifying
+	@Query("UPDATE BookGroup bg SET bg.memberCount = bg.memberCount + 1 "
+		+ "WHERE bg.id = :groupId AND bg.memberCount < bg.maxMemberCount ")
+	int reserveSeat(@Param("groupId") Long groupId);
+
+	@Query("SELECT COALESCE(MAX(bg.id), 0) FROM BookGroup bg ")
+	long findMaxId();
+
+	/**
+	 * (fromId, toId] 범위 모임의 멤버 수를 실제 멤버 수로 맞추고, 값이 달랐던 모임 수를 반환한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE book_groups g
+		SET g.member_count = (SELECT COUNT(*) FROM group_member m WHERE m.book_group_id = g.id)
+		WHERE g.id > :fromId AND g.id <= :toId
+			AND g.member_count <> (SELECT COUNT(*) FROM group_member m WHERE m.book_group_id = g.id)
+		""", nativeQuery = true)
+	int reconcileMemberCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	/**
+	 * (fromId, toId] 범위 모임의 댓글 수를 실제 댓글 수로 맞추고, 값이 달랐던 모임 수를 반환한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE book_groups g
+		SET g.comment_count = (SELECT COUNT(*) FROM group_comments c WHERE c.book_group_id = g.id)
+		WHERE g.id > :fromId AND g.id <= :toId
+			AND g.comment_count <> (SELECT COUNT(*) FROM group_comments c WHERE c.book_group_id = g.id)
+		""", nativeQuery = true)
+	int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 
 }
@@ -0,0 +1,147 @@
+package com.dadok.gaerval.domain.book_group.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken;
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken.Field;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     모임 검색 토큰을 지우고 다시 넣는다. 토큰은 모임 하나에 수십 개이므로 batch 로 한 번에 넣는다.
+ *     backfill 은 토큰이 없는 기존 모임만 id 범위로 나누어 색인하고, 이미 있는 토큰은 지우지 않는다.
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookGroupSearchTokenJdbcRepository {
+
+	private static final String INSERT_SQL = """
+		insert into book_group_search_tokens (book_group_id, field, token)
+		values (:bookGroupId, :field, :token)
+		""";
+
+	private static final String DELETE_BY_GROUP_SQL = """
+		delete from book_group_search_tokens
+		where book_group_id = :bookGroupId
+		""";
+
+	private static final String DELETE_BY_GROUP_AND_FIELD_SQL = """
+		delete from book_group_search_tokens
+		where book_group_id = :bookGroupId and field = :field
+		""";
+
+	private static final String DELETE_BOOK_NAME_BY_BOOK_SQL = """
+		delete from book_group_search_tokens
+		where field = 'BOOK_NAME'
+		  and book_group_id in (select id from book_groups where book_id = :bookId)
+		""";
+
+	private static final String FIND_GROUP_IDS_BY_BOOK_SQL = """
+		select id from book_groups where book_id = :bookId
+		""";
+
+	private static final String EXISTS_SQL = """
+		select exists (select 1 from book_group_search_tokens)
+		""";
+
+	private static final String FIND_UNINDEXED_TEXTS_BY_RANGE_SQL = """
+		select g.id, g.title, b.title as book_title
+		from book_groups g
+		inner join books b on b.id = g.book_id
+		where g.id > :fromId and g.id <= :toId
+		  and not exists (select 1 from book_group_search_tokens t where t.book_group_id = g.id)
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public void index(Long bookGroupId, String groupTitle, String bookTitle) {
+		deleteByBookGroupId(bookGroupId);
+		List<MapSqlParameterSource> parameters = new ArrayList<>();
+		addTokens(parameters, bookGroupId, Field.GROUP_NAME, groupTitle);
+		addTokens(parameters, bookGroupId, Field.BOOK_NAME, bookTitle);
+		insert(parameters);
+	}
+
+	public void reindex(Long bookGroupId, Field field, String text) {
+		namedParameterJdbcTemplate.update(DELETE_BY_GROUP_AND_FIELD_SQL, new MapSqlParameterSource()
+			.addValue("bookGroupId", bookGroupId)
+			.addValue("field", field.name()));
+		List<MapSqlParameterSource> parameters = new ArrayList<>();
+		addTokens(parameters, bookGroupId, field, text);
+		insert(parameters);
+	}
+
+	/**
+	 * 도서 제목이 바뀌면 그 도서로 만든 모든 모임의 책 이름 토큰을 새 제목으로 다시 만든다.
+	 */
+	@Transactional
+	public void reindexBookName(Long bookId, String bookTitle) {
+		MapSqlParameterSource book = new MapSqlParameterSource("bookId", bookId);
+		List<Long> bookGroupIds = namedParameterJdbcTemplate.queryForList(FIND_GROUP_IDS_BY_BOOK_SQL, book, Long.class);
+		if (bookGroupIds.isEmpty()) {
+			return;
+		}
+		namedParameterJdbcTemplate.update(DELETE_BOOK_NAME_BY_BOOK_SQL, book);
+		List<MapSqlParameterSource> parameters = new ArrayList<>();
+		bookGroupIds.forEach(bookGroupId -> addTokens(parameters, bookGroupId, Field.BOOK_NAME, bookTitle));
+		insert(parameters);
+	}
+
+	public void deleteByBookGroupId(Long bookGroupId) {
+		namedParameterJdbcTemplate.update(DELETE_BY_GROUP_SQL,
+			new MapSqlParameterSource("bookGroupId", bookGroupId));
+	}
+
+	public boolean existsAny() {
+		return Boolean.TRUE.equals(
+			namedParameterJdbcTemplate.queryForObject(EXISTS_SQL, new MapSqlParameterSource(), Boolean.class));
+	}
+
+	/**
+	 * (fromId, toId] 범위에서 토큰이 하나도 없는 모임만 색인하고, 색인한 모임 수를 반환한다.
+	 * 그 사이 create, update 가 쓴 토큰은 지우지 않는다.
+	 */
+	@Transactional
+	public int backfill(long fromId, long toId) {
+		MapSqlParameterSource range = new MapSqlParameterSource()
+			.addValue("fromId", fromId)
+			.addValue("toId", toId);
+		List<MapSqlParameterSource> parameters = new ArrayList<>();
+		Integer groupCount = namedParameterJdbcTemplate.query(FIND_UNINDEXED_TEXTS_BY_RANGE_SQL, range, resultSet -> {
+			int count = 0;
+			while (resultSet.next()) {
+				long bookGroupId = resultSet.getLong("id");
+				addTokens(parameters, bookGroupId, Field.GROUP_NAME, resultSet.getString("title"));
+				addTokens(parameters, bookGroupId, Field.BOOK_NAME, resultSet.getString("book_title"));
+				count++;
+			}
+			return count;
+		});
+		insert(parameters);
+		return groupCount == null ? 0 : groupCount;
+	}
+
+	private void insert(List<MapSqlParameterSource> parameters) {
+		if (!parameters.isEmpty()) {
+			namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, parameters.toArray(MapSqlParameterSource[]::new));
+		}
+	}
+
+	private static void addTokens(List<MapSqlParameterSource> parameters, Long bookGroupId, Field field,
+		String text) {
+		for (String token : BookGroupSearchToken.tokenize(text)) {
+			parameters.add(new MapSqlParameterSource()
+				.addValue("bookGroupId", bookGroupId)
+				.addValue("field", field.name())
+				.addValue("token", token));
+		}
+	}
+}
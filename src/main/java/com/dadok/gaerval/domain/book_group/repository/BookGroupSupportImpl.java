@@ -2,13 +2,14 @@ package com.dadok.gaerval.domain.book_group.repository;
 
 import static com.dadok.gaerval.domain.book.entity.QBook.*;
 import static com.dadok.gaerval.domain.book_group.entity.QBookGroup.*;
-import static com.dadok.gaerval.domain.book_group.entity.QGroupComment.*;
+import static com.dadok.gaerval.domain.book_group.entity.QBookGroupSearchToken.*;
 import static com.dadok.gaerval.domain.book_group.entity.QGroupMember.*;
 import static com.dadok.gaerval.domain.user.entity.QUser.*;
 import static com.querydsl.core.types.Projections.*;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -21,14 +22,17 @@ import com.dadok.gaerval.domain.book_group.dto.response.BookGroupDetailResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken;
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken.Field;
 import com.dadok.gaerval.global.error.exception.ResourceNotfoundException;
 import com.dadok.gaerval.global.util.QueryDslUtil;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -53,8 +57,8 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 				bookGroup.hasJoinPasswd.as("hasJoinPasswd"),
 				bookGroup.isPublic.as("isPublic"),
 
-				groupMember.countDistinct().as("memberCount"),
-				groupComment.countDistinct().as("commentCount"),
+				bookGroup.memberCount.as("memberCount"),
+				bookGroup.commentCount.as("commentCount"),
 
 				Projections.constructor(BookGroupResponse.BookResponse.class,
 					book.id.as("bookId"),
@@ -70,13 +74,9 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 			.from(bookGroup)
 			.innerJoin(book).on(book.id.eq(bookGroup.book.id))
 			.leftJoin(user).on(user.id.eq(bookGroup.ownerId))
-			.leftJoin(bookGroup.groupMembers, groupMember)
-			.leftJoin(bookGroup.comments, groupComment)
 			.where(
 				QueryDslUtil.generateCursorWhereCondition(bookGroup.id, request.groupCursorId(), direction)
 			)
-			.groupBy(bookGroup.id
-			)
 			.orderBy(QueryDslUtil.getOrder(bookGroup.id, direction))
 			.limit(request.pageSize() + 1)
 			.fetch();
@@ -107,15 +107,12 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 				book.imageUrl,
 				book.id,
 
-				groupMember.countDistinct(),
-				groupComment.countDistinct()
+				bookGroup.memberCount,
+				bookGroup.commentCount
 			)
 			.from(bookGroup)
-			.leftJoin(bookGroup.groupMembers, groupMember)
-			.leftJoin(bookGroup.comments, groupComment)
 			.leftJoin(bookGroup.book, book)
 			.where(bookGroup.id.eq(groupId))
-			.groupBy(bookGroup.id)
 			.fetchOne();
 
 		if (tuple == null) {
@@ -140,8 +137,8 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 			tuple.get(bookGroup.joinQuestion),
 			tuple.get(bookGroup.isPublic),
 			tuple.get(bookGroup.maxMemberCount),
-			tuple.get(groupMember.countDistinct()),
-			tuple.get(groupComment.countDistinct()),
+			tuple.get(bookGroup.memberCount),
+			tuple.get(bookGroup.commentCount),
 			new BookGroupDetailResponse.OwnerResponse(tuple.get(bookGroup.ownerId)),
 			new BookGroupDetailResponse.BookResponse(tuple.get(book.id),
 				tuple.get(book.title),
@@ -165,14 +162,8 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 				bookGroup.hasJoinPasswd.as("hasJoinPasswd"),
 				bookGroup.isPublic.as("isPublic"),
 
-				// groupMember.countDistinct().as("memberCount"),
-				Expressions.as(
-					JPAExpressions.select(groupMember.countDistinct())
-						.from(groupMember)
-						.where(groupMember.bookGroup.id.eq(bookGroup.id)),
-					"memberCount"
-				),
-				groupComment.countDistinct().as("commentCount"),
+				bookGroup.memberCount.as("memberCount"),
+				bookGroup.commentCount.as("commentCount"),
 				Projections.constructor(BookGroupResponse.BookResponse.class,
 					book.id.as("bookId"),
 					book.imageUrl.as("imageUrl")
@@ -187,14 +178,11 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 			.from(bookGroup)
 			.innerJoin(book).on(book.id.eq(bookGroup.book.id))
 			.leftJoin(user).on(user.id.eq(bookGroup.ownerId))
-			.leftJoin(bookGroup.groupMembers, groupMember)
-			.leftJoin(bookGroup.comments, groupComment)
+			.innerJoin(bookGroup.groupMembers, groupMember)
 			.where(
 				QueryDslUtil.generateCursorWhereCondition(bookGroup.id, request.groupCursorId(), direction),
 				QueryDslUtil.generateIdWhereCondition(groupMember.user.id, userId)
 			)
-			.groupBy(bookGroup.id
-			)
 			.orderBy(QueryDslUtil.getOrder(bookGroup.id, direction))
 			.limit(request.pageSize() + 1)
 			.fetch();
@@ -219,8 +207,8 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 				bookGroup.hasJoinPasswd.as("hasJoinPasswd"),
 				bookGroup.isPublic.as("isPublic"),
 
-				groupMember.countDistinct().as("memberCount"),
-				groupComment.countDistinct().as("commentCount"),
+				bookGroup.memberCount.as("memberCount"),
+				bookGroup.commentCount.as("commentCount"),
 
 				Projections.constructor(BookGroupResponse.BookResponse.class,
 					book.id.as("bookId"),
@@ -236,17 +224,12 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 			.from(bookGroup)
 			.innerJoin(book).on(book.id.eq(bookGroup.book.id))
 			.leftJoin(user).on(user.id.eq(bookGroup.ownerId))
-			.leftJoin(bookGroup.groupMembers, groupMember)
-			.leftJoin(bookGroup.comments, groupComment)
 			.where(
 				QueryDslUtil.generateCursorWhereCondition(bookGroup.id, request.groupCursorId(), direction),
-				searchQuery(request.option(), request.query())
-			)
-			.groupBy(bookGroup.id
+				searchQuery(request.option(), request.query(), request.groupCursorId(), direction)
 			)
 			.orderBy(QueryDslUtil.getOrder(bookGroup.id, direction))
 			.limit(request.pageSize() + 1)
-			.distinct()
 			.fetch();
 
 		Slice<BookGroupResponse> bookGroupResponses = QueryDslUtil.toSlice(groupResponses,
@@ -255,20 +238,53 @@ public class BookGroupSupportImpl implements BookGroupSupport {
 		return new BookGroupResponses(bookGroupResponses);
 	}
 
-	private Predicate searchQuery(GroupSearchOption option, String query) {
-		BooleanBuilder booleanBuilder = new BooleanBuilder();
+	/**
+	 * <pre>
+	 *     검색어의 2-gram 토큰을 모두 가진 모임을 book_group_search_tokens 에서 먼저 고르고,
+	 *     고른 모임에서만 이름에 검색어가 들어 있는지 확인한다. 토큰이 모두 있어도 순서가 다를 수 있기 때문이다.
+	 *     후보를 고를 때도 커서 조건을 걸어 이전 페이지의 모임은 읽지 않는다.
+	 * </pre>
+	 */
+	private Predicate searchQuery(GroupSearchOption option, String query, Long cursorId, Sort.Direction direction) {
+		String normalizedQuery = BookGroupSearchToken.normalize(query);
+		List<Field> fields = searchFields(option);
+		Set<String> queryTokens = BookGroupSearchToken.queryTokens(normalizedQuery);
+
+		BooleanExpression tokenCondition = queryTokens.isEmpty()
+			? bookGroupSearchToken.token.startsWith(BookGroupSearchToken.firstCharacter(normalizedQuery))
+			: bookGroupSearchToken.token.in(queryTokens);
+
+		JPQLQuery<Long> candidateGroupIds = JPAExpressions.select(bookGroupSearchToken.bookGroupId)
+			.from(bookGroupSearchToken)
+			.where(
+				tokenCondition,
+				bookGroupSearchToken.field.in(fields),
+				QueryDslUtil.generateCursorWhereCondition(bookGroupSearchToken.bookGroupId, cursorId, direction)
+			)
+			.groupBy(bookGroupSearchToken.bookGroupId, bookGroupSearchToken.field)
+			.having(bookGroupSearchToken.token.countDistinct().goe((long)Math.max(queryTokens.size(), 1)));
+
+		BooleanBuilder containsQuery = new BooleanBuilder();
+		for (Field field : fields) {
+			containsQuery.or(field == Field.GROUP_NAME
+				? bookGroup.title.lower().contains(normalizedQuery)
+				: book.title.lower().contains(normalizedQuery));
+		}
+
+		return bookGroup.id.in(candidateGroupIds).and(containsQuery);
+	}
 
+	private List<Field> searchFields(GroupSearchOption option) {
 		if (option == null) {
-			return booleanBuilder.or(bookGroup.title.startsWith(query))
-				.or(book.title.startsWith(query)).getValue();
+			return List.of(Field.GROUP_NAME, Field.BOOK_NAME);
 		}
 
 		switch (option) {
 			case BOOK_NAME -> {
-				return book.title.startsWith(query);
+				return List.of(Field.BOOK_NAME);
 			}
 			case GROUP_NAME -> {
-				return bookGroup.title.startsWith(query);
+				return List.of(Field.GROUP_NAME);
 			}
 			default -> throw new IllegalStateException("Unexpected value: " + option);
 		}
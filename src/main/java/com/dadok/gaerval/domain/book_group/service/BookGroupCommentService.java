@@ -3,9 +3,12 @@ package com.dadok.gaerval.domain.book_group.service;
 import java.util.Optional;
 
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentCreateRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.domain.book_group.entity.GroupComment;
 
 public interface BookGroupCommentService {
@@ -13,6 +16,12 @@ public interface BookGroupCommentService {
 	BookGroupCommentResponses findAllBookGroupCommentsByGroup(BookGroupCommentSearchRequest request, Long userId,
 		Long groupId);
 
+	BookGroupCommentThreadResponses findBookGroupCommentThreads(BookGroupCommentThreadSearchRequest request,
+		Long userId, Long groupId);
+
+	BookGroupCommentResponses findBookGroupCommentReplies(BookGroupCommentReplySearchRequest request, Long userId,
+		Long groupId, Long commentId);
+
 	Long createBookGroupComment(Long bookGroupId, Long userId, BookGroupCommentCreateRequest request);
 
 	void updateBookGroupComment(Long bookGroupId, Long userId, Long commentId,
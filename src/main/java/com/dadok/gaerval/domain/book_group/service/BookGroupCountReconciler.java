@@ -0,0 +1,44 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     모임의 멤버 수, 댓글 수는 가입, 탈퇴, 댓글 작성, 삭제 때 증감으로 갱신하므로 실패한 요청이나 직접 고친 데이터 때문에 어긋날 수 있다.
+ *     하루에 한 번 id 범위를 나누어 실제 멤버, 댓글 수로 다시 맞춘다. 범위마다 별도 트랜잭션이라 잠금을 오래 잡지 않는다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookGroupCountReconciler {
+
+	static final int CHUNK_SIZE = 1_000;
+
+	private final BookGroupRepository bookGroupRepository;
+
+	@Scheduled(cron = "${book-group.count-reconcile-cron:0 40 4 * * *}")
+	public int reconcile() {
+		long maxId = bookGroupRepository.findMaxId();
+		int memberCountCorrected = 0;
+		int commentCountCorrected = 0;
+		for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+			memberCountCorrected += bookGroupRepository.reconcileMemberCounts(fromId, fromId + CHUNK_SIZE);
+			commentCountCorrected += bookGroupRepository.reconcileCommentCounts(fromId, fromId + CHUNK_SIZE);
+		}
+
+		if (memberCountCorrected > 0) {
+			log.warn("[BookGroupCountReconciler]-[reconcile] 멤버 수가 어긋난 모임 수 : {}", memberCountCorrected);
+		}
+		if (commentCountCorrected > 0) {
+			log.warn("[BookGroupCountReconciler]-[reconcile] 댓글 수가 어긋난 모임 수 : {}", commentCountCorrected);
+		}
+		return memberCountCorrected + commentCountCorrected;
+	}
+}
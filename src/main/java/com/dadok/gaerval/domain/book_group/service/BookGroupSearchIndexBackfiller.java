@@ -0,0 +1,47 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     검색 토큰이 생기기 전에 만든 모임을 한 번만 색인한다.
+ *     애플리케이션이 뜬 뒤 토큰 테이블이 비어 있을 때만 실행하고, 이후에는 모임 생성, 수정, 삭제 때 바로 색인한다.
+ *     id 범위마다 별도 트랜잭션이고 토큰이 없는 모임에만 넣으므로, 실행 중에 생성, 수정된 모임의 토큰을 지우지 않는다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookGroupSearchIndexBackfiller {
+
+	static final int CHUNK_SIZE = 1_000;
+
+	private final BookGroupRepository bookGroupRepository;
+
+	private final BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (bookGroupSearchTokenJdbcRepository.existsAny()) {
+			return;
+		}
+
+		long maxId = bookGroupRepository.findMaxId();
+		int indexedCount = 0;
+		for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+			indexedCount += bookGroupSearchTokenJdbcRepository.backfill(fromId, fromId + CHUNK_SIZE);
+		}
+
+		log.info("[BookGroupSearchIndexBackfiller]-[backfill] 검색 토큰을 만든 모임 수 : {}", indexedCount);
+	}
+}
@@ -37,4 +37,8 @@ public interface BookGroupService {
 
 	BookGroupResponses findByQuery(BookGroupQueryRequest request);
 
+	void increaseCommentCount(Long groupId);
+
+	void decreaseCommentCount(Long groupId);
+
 }
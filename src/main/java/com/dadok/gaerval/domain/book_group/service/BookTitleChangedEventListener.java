@@ -0,0 +1,27 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.service.BookTitleChangedEvent;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     모임 검색 토큰에는 책 이름도 들어 있으므로, 도서 제목이 바뀌면 그 도서로 만든 모임의 책 이름 토큰을 다시 만든다.
+ *     도서를 저장하는 트랜잭션 안에서 바로 처리해, 도서 제목과 토큰이 함께 커밋되거나 롤백되게 한다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class BookTitleChangedEventListener {
+
+	private final BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
+	@EventListener
+	public void handleBookTitleChangedEvent(BookTitleChangedEvent event) {
+		bookGroupSearchTokenJdbcRepository.reindexBookName(event.bookId(), event.title());
+	}
+}
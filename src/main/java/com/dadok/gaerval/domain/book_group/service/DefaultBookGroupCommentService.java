@@ -6,9 +6,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentCreateRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 import com.dadok.gaerval.domain.book_group.entity.GroupComment;
 import com.dadok.gaerval.domain.book_group.exception.NotContainBookGroupException;
@@ -36,6 +39,20 @@ public class DefaultBookGroupCommentService implements BookGroupCommentService {
 		return bookGroupCommentRepository.findAllBy(request, userId, groupId);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public BookGroupCommentThreadResponses findBookGroupCommentThreads(BookGroupCommentThreadSearchRequest request,
+		Long userId, Long groupId) {
+		return bookGroupCommentRepository.findThreadsBy(request, userId, groupId);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BookGroupCommentResponses findBookGroupCommentReplies(BookGroupCommentReplySearchRequest request,
+		Long userId, Long groupId, Long commentId) {
+		return bookGroupCommentRepository.findReplies(request, userId, groupId, commentId);
+	}
+
 	@Override
 	@Transactional
 	public Long createBookGroupComment(Long groupId, Long userId, BookGroupCommentCreateRequest request) {
@@ -51,6 +68,7 @@ public class DefaultBookGroupCommentService implements BookGroupCommentService {
 		// 부모가 없는 1단계 댓글
 		if (request.parentCommentId() == null) {
 			GroupComment savedGroupComment = bookGroupCommentRepository.save(groupComment);
+			bookGroupService.increaseCommentCount(bookGroup.getId());
 			return savedGroupComment.getId();
 		} else {
 			// 부모가 있는 2단계 댓글
@@ -60,6 +78,7 @@ public class DefaultBookGroupCommentService implements BookGroupCommentService {
 				GroupComment parentComment = this.getById(request.parentCommentId());
 				groupComment.addParent(parentComment);
 				GroupComment savedGroupComment = bookGroupCommentRepository.save(groupComment);
+				bookGroupService.increaseCommentCount(bookGroup.getId());
 				return savedGroupComment.getId();
 			}
 		}
@@ -92,7 +111,9 @@ public class DefaultBookGroupCommentService implements BookGroupCommentService {
 	public void deleteBookGroupComment(Long bookGroupId, Long userId,
 		Long commentId) {
 		checkGroupMember(userId, bookGroupId);
-		bookGroupCommentRepository.delete(this.getById(commentId));
+		GroupComment groupComment = this.getById(commentId);
+		bookGroupCommentRepository.delete(groupComment);
+		bookGroupService.decreaseCommentCount(groupComment.getBookGroup().getId());
 	}
 
 	private void checkGroupMember(Long userId, Long groupId) {
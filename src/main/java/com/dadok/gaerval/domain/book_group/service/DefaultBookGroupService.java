@@ -16,9 +16,13 @@ import com.dadok.gaerval.domain.book_group.dto.request.BookGroupUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupDetailResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken;
 import com.dadok.gaerval.domain.book_group.entity.GroupMember;
+import com.dadok.gaerval.domain.book_group.exception.AlreadyContainBookGroupException;
+import com.dadok.gaerval.domain.book_group.exception.ExceedLimitMemberException;
 import com.dadok.gaerval.domain.book_group.exception.NotContainBookGroupException;
 import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
 import com.dadok.gaerval.domain.book_group.repository.GroupMemberRepository;
 import com.dadok.gaerval.domain.bookshelf.service.BookshelfService;
 import com.dadok.gaerval.domain.user.entity.User;
@@ -36,6 +40,8 @@ public class DefaultBookGroupService implements BookGroupService {
 
 	private final GroupMemberRepository groupMemberRepository;
 
+	private final BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
 	private final BookService bookService;
 
 	private final UserService userService;
@@ -62,6 +68,7 @@ public class DefaultBookGroupService implements BookGroupService {
 			request.joinQuestion(), request.joinPasswd(), request.isPublic(), passwordEncoder, timeHolder);
 		GroupMember.create(bookGroup, user, timeHolder);
 		bookGroup = bookGroupRepository.save(bookGroup);
+		bookGroupSearchTokenJdbcRepository.index(bookGroup.getId(), bookGroup.getTitle(), book.getTitle());
 		bookshelfService.insertIfNotPresent(user.getId(), book.getId());
 		return bookGroup.getId();
 	}
@@ -78,18 +85,32 @@ public class DefaultBookGroupService implements BookGroupService {
 		return bookGroupRepository.findById(groupId);
 	}
 
+	/**
+	 * <pre>
+	 *     모임 row 를 잠그거나 멤버 목록을 읽지 않고 가입한다.
+	 *     비밀번호 확인처럼 느린 검증을 먼저 끝내고, 자리는 마지막에 reserveSeat 한 번으로 잡는다.
+	 *     자리가 없으면 예외로 트랜잭션 전체가 롤백되므로 정원을 넘겨 가입되지 않는다.
+	 * </pre>
+	 */
 	@Transactional
 	@Override
 	public void join(Long groupId, Long userId, BookGroupJoinRequest request) {
-		BookGroup bookGroup = bookGroupRepository.findByIdWithGroupMembersForUpdate(groupId)
+		BookGroup bookGroup = bookGroupRepository.findById(groupId)
 			.orElseThrow(() -> new ResourceNotfoundException(BookGroup.class));
-
-		bookGroup.checkPasswd(request.joinPasswd(), passwordEncoder);
+		bookGroup.validateJoin(request.joinPasswd(), passwordEncoder, timeHolder);
+
+		if (groupMemberRepository.existsByBookGroupIdAndUserId(groupId, userId)) {
+			throw new AlreadyContainBookGroupException();
+		}
+		// 자리를 먼저 잡아, 가득 찬 모임에는 멤버와 책장 쓰기를 하지 않는다.
+		if (bookGroupRepository.reserveSeat(groupId) == 0) {
+			throw new ExceedLimitMemberException();
+		}
 		User user = userService.getById(userId);
 
 		GroupMember groupMember = GroupMember.create(user);
-		bookGroup.addMember(groupMember, timeHolder);
-
+		groupMember.changeGroup(bookGroup);
+		groupMemberRepository.save(groupMember);
 		bookshelfService.insertIfNotPresent(user.getId(), bookGroup.getBook().getId());
 	}
 
@@ -99,6 +120,7 @@ public class DefaultBookGroupService implements BookGroupService {
 		BookGroup bookGroup = bookGroupRepository.findById(groupId)
 			.orElseThrow(() -> new ResourceNotfoundException(BookGroup.class));
 		bookGroup.validateDelete(userId);
+		bookGroupSearchTokenJdbcRepository.deleteByBookGroupId(groupId);
 		bookGroupRepository.deleteById(groupId);
 	}
 
@@ -116,6 +138,8 @@ public class DefaultBookGroupService implements BookGroupService {
 		bookGroup.validateOwner(userId);
 		bookGroup.changeBookGroupContents(request.title(), request.introduce(), request.endDate(),
 			request.maxMemberCount(), timeHolder);
+		bookGroupSearchTokenJdbcRepository.reindex(groupId, BookGroupSearchToken.Field.GROUP_NAME,
+			bookGroup.getTitle());
 	}
 
 	@Override
@@ -132,6 +156,7 @@ public class DefaultBookGroupService implements BookGroupService {
 		GroupMember groupMember = groupMemberRepository.findByBookGroupIdAndUserId(groupId, userId)
 			.orElseThrow(NotContainBookGroupException::new);
 		groupMemberRepository.delete(groupMember);
+		bookGroupRepository.addMemberCount(groupId, -1);
 	}
 
 	@Override
@@ -146,4 +171,16 @@ public class DefaultBookGroupService implements BookGroupService {
 		return this.bookGroupRepository.findByQuery(request);
 	}
 
+	@Override
+	@Transactional
+	public void increaseCommentCount(Long groupId) {
+		bookGroupRepository.addCommentCount(groupId, 1);
+	}
+
+	@Override
+	@Transactional
+	public void decreaseCommentCount(Long groupId) {
+		bookGroupRepository.addCommentCount(groupId, -1);
+	}
+
 }
@@ -27,4 +27,9 @@ public record BookShelfDetailResponse(
 		);
 	}
 
+	public BookShelfDetailResponse withLiked(boolean liked) {
+		return new BookShelfDetailResponse(bookshelfId, bookshelfName, isPublic, likeCount, liked, userId, username,
+			userNickname, userProfileImage, job);
+	}
+
 }
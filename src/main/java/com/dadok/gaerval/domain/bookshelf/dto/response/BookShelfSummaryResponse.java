@@ -1,28 +1,31 @@
 package com.dadok.gaerval.domain.bookshelf.dto.response;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record BookShelfSummaryResponse(
 	Long bookshelfId,
 	String bookshelfName,
 	List<BookSummaryResponse> books,
-	Integer likeCount
+	Integer likeCount,
+	Boolean isLiked
 ) {
 
-	static final int BOOK_VIEW_LIMIT = 4;
-
 	public BookShelfSummaryResponse(Long bookshelfId, String bookshelfName, List<BookSummaryResponse> books,
-		Integer likeCount) {
+		Integer likeCount, Boolean isLiked) {
 		this.bookshelfId = bookshelfId;
 		this.bookshelfName = bookshelfName;
 		this.likeCount = likeCount;
-		if (books == null || books.get(0).bookId == null) {
-			this.books = new ArrayList<>();
-		} else {
-			this.books = books.stream().limit(BOOK_VIEW_LIMIT).collect(Collectors.toList());
-		}
+		this.isLiked = Boolean.TRUE.equals(isLiked);
+		this.books = books == null ? List.of() : List.copyOf(books);
+	}
+
+	public BookShelfSummaryResponse(Long bookshelfId, String bookshelfName, List<BookSummaryResponse> books,
+		Integer likeCount) {
+		this(bookshelfId, bookshelfName, books, likeCount, false);
+	}
+
+	public BookShelfSummaryResponse withLiked(boolean liked) {
+		return new BookShelfSummaryResponse(bookshelfId, bookshelfName, books, likeCount, liked);
 	}
 
 	public record BookSummaryResponse(
@@ -0,0 +1,7 @@
+package com.dadok.gaerval.domain.bookshelf.dto.response;
+
+public record SuggestionBookshelfCandidate(
+	Long ownerId,
+	BookShelfSummaryResponse bookshelf
+) {
+}
@@ -19,7 +19,6 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
-import com.dadok.gaerval.domain.bookshelf.exception.AlreadyContainBookshelfItemException;
 import com.dadok.gaerval.domain.bookshelf.exception.BookshelfUserNotMatchedException;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.domain.user.vo.Nickname;
@@ -33,11 +32,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "bookshelves", indexes = @Index(name = "job_id_index", columnList = "job_id"))
+@Table(name = "bookshelves", indexes = {
+	@Index(name = "job_id_popularity_score_index", columnList = "job_id, popularity_score"),
+	@Index(name = "popularity_score_index", columnList = "popularity_score")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bookshelf extends BaseTimeColumn {
 
+	public static final int ITEM_POPULARITY_WEIGHT = 1;
+	public static final int LIKE_POPULARITY_WEIGHT = 3;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -52,6 +57,7 @@ public class Bookshelf extends BaseTimeColumn {
 	@JoinColumn(name = "user_id", nullable = false, unique = true)
 	private User user;
 
+	// 책장 도서, 좋아요는 목록에 넣지 않고 저장소로 바로 저장한다. 목록을 읽어 오지 않도록 중복은 unique 키로 막는다.
 	@JsonManagedReference
 	@OneToMany(mappedBy = "bookshelf", cascade = CascadeType.ALL, orphanRemoval = true)
 	private final List<BookshelfItem> bookshelfItems = new ArrayList<>();
@@ -63,6 +69,15 @@ public class Bookshelf extends BaseTimeColumn {
 	@Column(name = "job_id", nullable = true)
 	private Long jobId;
 
+	// 추천 책장 정렬 기준. 책장 도서 수 * ITEM_POPULARITY_WEIGHT + 좋아요 수 * LIKE_POPULARITY_WEIGHT.
+	// 엔티티를 저장할 때 덮어쓰지 않도록 BookshelfRepository 의 update 쿼리로만 바꾼다.
+	@Column(name = "popularity_score", nullable = false, updatable = false, columnDefinition = "int default 0")
+	private int popularityScore;
+
+	// 좋아요 수. BookshelfLikeCountBuffer 에 모인 증감을 주기적으로 한 번에 더하므로 flush 주기만큼 늦게 반영된다.
+	@Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "int default 0")
+	private int likeCount;
+
 	private Bookshelf(Boolean isPublic, User user) {
 		CommonValidator.validateNotnull(isPublic, "isPublic");
 		CommonValidator.validateNotnull(user, "user");
@@ -75,19 +90,6 @@ public class Bookshelf extends BaseTimeColumn {
 		return new Bookshelf(true, user);
 	}
 
-	public void addBookShelfItem(BookshelfItem bookshelfItem) {
-		CommonValidator.validateNotnull(bookshelfItem, "bookShelfItem");
-		if (bookshelfItems.contains(bookshelfItem)) {
-			throw new AlreadyContainBookshelfItemException();
-		}
-		bookshelfItems.add(bookshelfItem);
-	}
-
-	public void addBookShelfLike(BookshelfLike bookshelfLike) {
-		CommonValidator.validateNotnull(bookshelfLike, "bookshelfLike");
-		bookshelfLikes.add(bookshelfLike);
-	}
-
 	public void changeIsPublic(Boolean isPublic) {
 		CommonValidator.validateNotnull(isPublic, "isPublic");
 		this.isPublic = isPublic;
@@ -109,18 +111,15 @@ public class Bookshelf extends BaseTimeColumn {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o == null || getClass() != o.getClass())
+		if (!(o instanceof Bookshelf bookshelf))
 			return false;
-		Bookshelf bookshelf = (Bookshelf)o;
-		return Objects.equals(id, bookshelf.id) && Objects.equals(name, bookshelf.name)
-			&& Objects.equals(isPublic, bookshelf.isPublic) && Objects.equals(user, bookshelf.user)
-			&& Objects.equals(jobId, bookshelf.jobId);
+		return id != null && Objects.equals(id, bookshelf.getId());
 	}
 
 	@JacocoExcludeGenerated
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, name, isPublic, user, jobId);
+		return Bookshelf.class.hashCode();
 	}
 
 	public void changeName(Nickname nickname) {
@@ -10,6 +10,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -31,6 +32,10 @@ import lombok.NoArgsConstructor;
 	uniqueConstraints = {
 		@UniqueConstraint(name = "bookshelf_id_book_id_unique_key",
 			columnNames = {"bookshelf_id", "book_id"})
+	},
+	indexes = {
+		@Index(name = "book_id_created_at_index", columnList = "book_id, created_at"),
+		@Index(name = "bookshelf_id_id_index", columnList = "bookshelf_id, id")
 	}
 )
 @Getter
@@ -60,7 +65,6 @@ public class BookshelfItem extends BaseTimeColumn {
 		Assert.notNull(type, "BookshelfItem의 type은 null일 수 없습니다.");
 
 		this.bookshelf = bookshelf;
-		bookshelf.addBookShelfItem(this);
 		this.book = book;
 		this.type = type;
 	}
@@ -78,15 +82,14 @@ public class BookshelfItem extends BaseTimeColumn {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o == null || getClass() != o.getClass())
+		if (!(o instanceof BookshelfItem that))
 			return false;
-		BookshelfItem that = (BookshelfItem)o;
-		return Objects.equals(bookshelf, that.bookshelf) && Objects.equals(book, that.book);
+		return id != null && Objects.equals(id, that.getId());
 	}
 
 	@JacocoExcludeGenerated
 	@Override
 	public int hashCode() {
-		return Objects.hash(bookshelf, book);
+		return BookshelfItem.class.hashCode();
 	}
 }
@@ -51,7 +51,6 @@ public class BookshelfLike extends BaseTimeColumn {
 		validateNotOwner(user, bookshelf);
 		this.user = user;
 		this.bookshelf = bookshelf;
-		bookshelf.addBookShelfLike(this);
 	}
 
 	public static BookshelfLike create(User user, Bookshelf bookshelf) {
@@ -69,15 +68,14 @@ public class BookshelfLike extends BaseTimeColumn {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o == null || getClass() != o.getClass())
+		if (!(o instanceof BookshelfLike that))
 			return false;
-		BookshelfLike that = (BookshelfLike)o;
-		return user.equals(that.user) && bookshelf.equals(that.bookshelf);
+		return id != null && Objects.equals(id, that.getId());
 	}
 
 	@Override
 	@JacocoExcludeGenerated
 	public int hashCode() {
-		return Objects.hash(user, bookshelf);
+		return BookshelfLike.class.hashCode();
 	}
 }
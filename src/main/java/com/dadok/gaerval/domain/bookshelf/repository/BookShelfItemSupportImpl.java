@@ -4,10 +4,10 @@ import static com.dadok.gaerval.domain.book.entity.QBook.*;
 import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelf.*;
 import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelfItem.*;
 import static com.dadok.gaerval.domain.user.entity.QUser.*;
-import static com.querydsl.core.types.Projections.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
@@ -19,9 +19,13 @@ import com.dadok.gaerval.domain.book.dto.response.UserByBookResponses;
 import com.dadok.gaerval.domain.bookshelf.dto.request.BooksInBookShelfFindRequest;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItemType;
+import com.dadok.gaerval.domain.bookshelf.entity.QBookshelfItem;
 import com.dadok.gaerval.global.util.QueryDslUtil;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -62,35 +66,42 @@ public class BookShelfItemSupportImpl implements BookShelfItemSupport {
 		return fetchOne != null;
 	}
 
+	/**
+	 * 책장에 꽂은 사용자 수는 books.shelved_count 로, 요청한 사용자의 책장에 있는지는 서브쿼리로 같은 쿼리에서 가져온다.
+	 * (book_id, created_at) 인덱스를 따라 limit 건만 읽으므로 도서를 꽂은 사용자 수와 무관하게 비용이 일정하다.
+	 */
 	@Override
 	public UserByBookResponses findBookshelfItemUsersByBook(Long bookId, Long userId, int limit) {
-		List<UserByBookResponse> userByBookResponses = query
-			.select(constructor(UserByBookResponse.class,
-				user.id,
-				user.profileImage
-			))
+		QBookshelfItem myBookshelfItem = new QBookshelfItem("myBookshelfItem");
+		BooleanExpression inMyBookshelf = JPAExpressions.selectOne()
+			.from(myBookshelfItem)
+			.where(myBookshelfItem.book.id.eq(bookId),
+				myBookshelfItem.bookshelf.user.id.eq(Objects.requireNonNullElse(userId, 0L)))
+			.exists();
+
+		List<Tuple> rows = query
+			.select(user.id, user.profileImage, book.shelvedCount,
+				new CaseBuilder().when(inMyBookshelf).then(true).otherwise(false))
 			.from(bookshelfItem)
 			.innerJoin(bookshelfItem.book, book)
 			.innerJoin(bookshelfItem.bookshelf, bookshelf)
 			.innerJoin(bookshelf.user, user)
 			.where(bookshelfItem.book.id.eq(bookId))
 			.orderBy(bookshelfItem.createdAt.desc())
+			.limit(limit)
 			.fetch();
 
-		if (userByBookResponses.isEmpty()) {
+		if (rows.isEmpty()) {
 			return new UserByBookResponses(bookId, 0, false, new ArrayList<>());
 		}
 
-		boolean isInMyBookshelf =
-			userId != null && query.selectOne()
-				.from(bookshelfItem)
-				.where(bookshelfItem.book.id.eq(bookId),
-					bookshelfItem.bookshelf.user.id.eq(userId)
-				)
-				.fetchFirst() != null;
+		Tuple first = rows.get(0);
+		List<UserByBookResponse> userByBookResponses = rows.stream()
+			.map(row -> new UserByBookResponse(row.get(user.id), row.get(user.profileImage)))
+			.collect(Collectors.toList());
 
-		return new UserByBookResponses(bookId, userByBookResponses.size(), isInMyBookshelf,
-			userByBookResponses.stream().limit(limit).collect(Collectors.toList()));
+		return new UserByBookResponses(bookId, first.get(book.shelvedCount),
+			Boolean.TRUE.equals(first.get(3, Boolean.class)), userByBookResponses);
 	}
 
 	private OrderSpecifier<?> order(Sort.Direction direction) {
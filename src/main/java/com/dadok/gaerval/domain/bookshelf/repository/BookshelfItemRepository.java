@@ -17,4 +17,7 @@ public interface BookshelfItemRepository extends JpaRepository<BookshelfItem, Lo
 
 	@Query("SELECT bsi FROM BookshelfItem bsi WHERE bsi.bookshelf.id IN :bookshelfIds AND bsi.book.id = :bookId")
 	List<BookshelfItem> findAllByBookShelfIdsAndBookId(@Param("bookshelfIds") List<Long> bookshelfIds, @Param("bookId") Long bookId);
+
+	@Query("SELECT bsi.book.id FROM BookshelfItem bsi WHERE bsi.bookshelf.id = :bookshelfId")
+	List<Long> findBookIdsByBookshelfId(@Param("bookshelfId") Long bookshelfId);
 }
@@ -0,0 +1,52 @@
+package com.dadok.gaerval.domain.bookshelf.repository;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     모아 둔 좋아요 증감을 책장마다 한 문장씩 batch 로 반영한다.
+ *     좋아요 수와 함께 인기 점수도 좋아요 가중치만큼 바꾼다.
+ *     여러 서버가 동시에 반영해도 잠금 순서가 같도록 책장 id 순으로 보낸다.
+ *     batch 전체를 한 트랜잭션으로 반영하므로, 중간에 실패하면 앞서 반영한 책장도 함께 롤백된다.
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookshelfJdbcRepository {
+
+	private static final String ADD_LIKE_COUNT_SQL = """
+		update bookshelves
+		set like_count = like_count + :delta,
+		    popularity_score = popularity_score + :popularityDelta
+		where id = :bookshelfId
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Transactional
+	public void addLikeCounts(List<LikeCountDelta> likeCountDeltas) {
+		MapSqlParameterSource[] parameters = likeCountDeltas.stream()
+			.sorted(Comparator.comparing(LikeCountDelta::bookshelfId))
+			.map(likeCountDelta -> new MapSqlParameterSource()
+				.addValue("delta", likeCountDelta.delta())
+				.addValue("popularityDelta", likeCountDelta.delta() * Bookshelf.LIKE_POPULARITY_WEIGHT)
+				.addValue("bookshelfId", likeCountDelta.bookshelfId()))
+			.toArray(MapSqlParameterSource[]::new);
+		if (parameters.length > 0) {
+			namedParameterJdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, parameters);
+		}
+	}
+
+	public record LikeCountDelta(Long bookshelfId, long delta) {
+	}
+}
@@ -0,0 +1,207 @@
+package com.dadok.gaerval.domain.bookshelf.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dadok.gaerval.global.config.redis.BookshelfLikeCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     책장마다 좋아요한 사용자 id 를 Redis set 하나에 저장한다.
+ *
+ *     - set 에는 사용자 id 와 함께 LOADED_MARKER 를 넣어 둔다. marker 가 없는 책장은 아직 읽어 오지 않은 책장이므로
+ *       조회 결과의 unknownIds 로 알리고, 호출하는 쪽에서 DB 로 확인한 뒤 load 로 채운다.
+ *     - 좋아요 추가, 취소는 커밋 이후에 set 을 고치지 않고 지운다. 다음 조회가 DB 에서 다시 채운다.
+ *     - DB 를 읽기 전에 reserveLoad 로 책장마다 token 을 남기고, load 는 token 이 그대로이고 set 이 없을 때만 set 을 만든다.
+ *       DB 를 읽은 뒤 커밋된 좋아요, 취소는 set 과 token 을 함께 지우므로, 그 전에 읽은 사용자 id 로 set 을 만들지 않는다.
+ *     - 여러 책장의 좋아요 여부는 한 번의 pipeline 으로 확인한다.
+ *     - Redis 장애는 좋아요를 막지 않도록 로그만 남기고, 조회는 Optional.empty() 로 알린다.
+ *       지우기에 실패해도 timeToLive 가 지나면 DB 에서 다시 채운다.
+ * </pre>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookshelfLikeRedisStore {
+
+	static final String KEY_PREFIX = "bookshelf-likes:";
+
+	static final String LOAD_TOKEN_KEY_PREFIX = "bookshelf-likes-loading:";
+
+	static final String LOADED_MARKER = "0";
+
+	static final Duration LOAD_TOKEN_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+	static final RedisScript<Long> LOAD_IF_RESERVED = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[2]) ~= ARGV[1] then return 0 end
+		redis.call('del', KEYS[2])
+		if redis.call('exists', KEYS[1]) == 1 then return 0 end
+		redis.call('sadd', KEYS[1], unpack(ARGV, 3))
+		redis.call('expire', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final BookshelfLikeCacheProperties bookshelfLikeCacheProperties;
+
+	/**
+	 * 좋아요 추가, 취소가 커밋된 뒤 책장의 set 과 load token 을 지운다.
+	 */
+	public void evictAfterCommit(Long bookshelfId) {
+		afterCommit(() -> evict(bookshelfId));
+	}
+
+	/**
+	 * DB 에서 좋아요한 사용자 id 를 읽기 전에 호출해, load 에 넘길 token 을 받는다. Redis 를 쓸 수 없으면 빈 Optional 을 반환한다.
+	 */
+	public Optional<String> reserveLoad(Collection<Long> bookshelfIds) {
+		String token = UUID.randomUUID().toString();
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				public <K, V> Object execute(RedisOperations<K, V> redisOperations) throws DataAccessException {
+					@SuppressWarnings("unchecked")
+					RedisOperations<String, String> operations = (RedisOperations<String, String>)redisOperations;
+					for (Long bookshelfId : bookshelfIds) {
+						operations.opsForValue().set(loadTokenKey(bookshelfId), token, LOAD_TOKEN_TIME_TO_LIVE);
+					}
+					return null;
+				}
+			});
+			return Optional.of(token);
+		} catch (DataAccessException e) {
+			log.warn("[BookshelfLikeRedisStore]-[reserveLoad] 책장 좋아요 load token 저장 실패. bookshelfIds : {}, message : {}",
+				bookshelfIds, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * reserveLoad 이후 token 이 그대로인 책장만 좋아요한 사용자 id 로 set 을 채운다. 좋아요가 없는 책장도 marker 만 넣어 채운다.
+	 */
+	public void load(String token, Collection<Long> bookshelfIds, Map<Long, List<Long>> likerIdsByBookshelfId) {
+		String timeToLiveSeconds = String.valueOf(bookshelfLikeCacheProperties.getTimeToLive().toSeconds());
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				public <K, V> Object execute(RedisOperations<K, V> redisOperations) throws DataAccessException {
+					@SuppressWarnings("unchecked")
+					RedisOperations<String, String> operations = (RedisOperations<String, String>)redisOperations;
+					for (Long bookshelfId : bookshelfIds) {
+						operations.execute(LOAD_IF_RESERVED, List.of(key(bookshelfId), loadTokenKey(bookshelfId)),
+							arguments(token, timeToLiveSeconds,
+								likerIdsByBookshelfId.getOrDefault(bookshelfId, List.of())));
+					}
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("[BookshelfLikeRedisStore]-[load] 책장 좋아요 set 채우기 실패. bookshelfIds : {}, message : {}",
+				bookshelfIds, e.getMessage());
+		}
+	}
+
+	/**
+	 * 책장마다 marker 와 userId 를 확인해, 좋아요한 책장과 아직 채워지지 않은 책장을 나눠 반환한다.
+	 */
+	public Optional<LikedBookshelves> findLiked(Long userId, List<Long> bookshelfIds) {
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				public <K, V> Object execute(RedisOperations<K, V> redisOperations) throws DataAccessException {
+					@SuppressWarnings("unchecked")
+					RedisOperations<String, String> operations = (RedisOperations<String, String>)redisOperations;
+					SetOperations<String, String> setOperations = operations.opsForSet();
+					for (Long bookshelfId : bookshelfIds) {
+						String key = key(bookshelfId);
+						setOperations.isMember(key, LOADED_MARKER);
+						setOperations.isMember(key, String.valueOf(userId));
+					}
+					return null;
+				}
+			});
+
+			Set<Long> likedIds = new HashSet<>();
+			List<Long> unknownIds = new ArrayList<>();
+			for (int i = 0; i < bookshelfIds.size(); i++) {
+				Long bookshelfId = bookshelfIds.get(i);
+				if (!Boolean.TRUE.equals(results.get(2 * i))) {
+					unknownIds.add(bookshelfId);
+				} else if (Boolean.TRUE.equals(results.get(2 * i + 1))) {
+					likedIds.add(bookshelfId);
+				}
+			}
+			return Optional.of(new LikedBookshelves(likedIds, unknownIds));
+		} catch (DataAccessException e) {
+			log.warn("[BookshelfLikeRedisStore]-[findLiked] 책장 좋아요 여부 조회 실패. userId : {}, message : {}",
+				userId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void evict(Long bookshelfId) {
+		try {
+			stringRedisTemplate.delete(List.of(key(bookshelfId), loadTokenKey(bookshelfId)));
+		} catch (DataAccessException e) {
+			log.warn("[BookshelfLikeRedisStore]-[evict] 책장 좋아요 set 삭제 실패. bookshelfId : {}, message : {}",
+				bookshelfId, e.getMessage());
+		}
+	}
+
+	private static Object[] arguments(String token, String timeToLiveSeconds, Collection<Long> likerIds) {
+		Object[] arguments = new Object[likerIds.size() + 3];
+		arguments[0] = token;
+		arguments[1] = timeToLiveSeconds;
+		arguments[2] = LOADED_MARKER;
+		int index = 3;
+		for (Long likerId : likerIds) {
+			arguments[index++] = String.valueOf(likerId);
+		}
+		return arguments;
+	}
+
+	private static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private static String key(Long bookshelfId) {
+		return KEY_PREFIX + bookshelfId;
+	}
+
+	private static String loadTokenKey(Long bookshelfId) {
+		return LOAD_TOKEN_KEY_PREFIX + bookshelfId;
+	}
+
+	public record LikedBookshelves(Set<Long> likedIds, List<Long> unknownIds) {
+	}
+}
@@ -1,6 +1,13 @@
 package com.dadok.gaerval.domain.bookshelf.repository;
 
+import java.util.List;
+import java.util.Map;
+
 public interface BookshelfLikeSupport {
 
 	boolean existsLike(Long bookshelfId, Long userId);
+
+	List<Long> findLikedBookshelfIds(Long userId, List<Long> bookshelfIds);
+
+	Map<Long, List<Long>> findLikerIdsByBookshelfIds(List<Long> bookshelfIds);
 }
@@ -1,6 +1,11 @@
 package com.dadok.gaerval.domain.bookshelf.repository;
 
 import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelfLike.*;
+import static com.querydsl.core.group.GroupBy.list;
+import static com.querydsl.core.group.GroupBy.*;
+
+import java.util.List;
+import java.util.Map;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -19,4 +24,18 @@ public class BookshelfLikeSupportImpl implements BookshelfLikeSupport {
 
 		return fetchOne != null;
 	}
+
+	@Override
+	public List<Long> findLikedBookshelfIds(Long userId, List<Long> bookshelfIds) {
+		return query.select(bookshelfLike.bookshelf.id).from(bookshelfLike)
+			.where(bookshelfLike.user.id.eq(userId), bookshelfLike.bookshelf.id.in(bookshelfIds))
+			.fetch();
+	}
+
+	@Override
+	public Map<Long, List<Long>> findLikerIdsByBookshelfIds(List<Long> bookshelfIds) {
+		return query.from(bookshelfLike)
+			.where(bookshelfLike.bookshelf.id.in(bookshelfIds))
+			.transform(groupBy(bookshelfLike.bookshelf.id).as(list(bookshelfLike.user.id)));
+	}
 }
@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
 
@@ -17,4 +19,40 @@ public interface BookshelfRepository extends JpaRepository<Bookshelf, Long>, Boo
 	@Query("SELECT B FROM Bookshelf B WHERE B.user.id = :userId ")
 	Optional<Bookshelf> findByUserId(@Param("userId") Long userId);
 
+	@Modifying
+	@Query("UPDATE Bookshelf B SET B.popularityScore = B.popularityScore + :amount WHERE B.id = :bookshelfId ")
+	int addPopularityScore(@Param("bookshelfId") Long bookshelfId, @Param("amount") int amount);
+
+	@Query("SELECT COALESCE(MAX(B.id), 0) FROM Bookshelf B ")
+	long findMaxId();
+
+	/**
+	 * (fromId, toId] 범위 책장의 인기 점수를 책장 도서, 좋아요 수로 다시 계산하고, 값이 달랐던 책장 수를 반환한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE bookshelves b
+		SET b.popularity_score = (SELECT COUNT(*) FROM bookshelf_item i WHERE i.bookshelf_id = b.id) * :itemWeight
+			+ (SELECT COUNT(*) FROM bookshelf_likes l WHERE l.bookshelf_id = b.id) * :likeWeight
+		WHERE b.id > :fromId AND b.id <= :toId
+			AND b.popularity_score <> (SELECT COUNT(*) FROM bookshelf_item i WHERE i.bookshelf_id = b.id) * :itemWeight
+			+ (SELECT COUNT(*) FROM bookshelf_likes l WHERE l.bookshelf_id = b.id) * :likeWeight
+		""", nativeQuery = true)
+	int reconcilePopularityScores(@Param("fromId") long fromId, @Param("toId") long toId,
+		@Param("itemWeight") int itemWeight, @Param("likeWeight") int likeWeight);
+
+	/**
+	 * (fromId, toId] 범위 책장의 좋아요 수를 실제 좋아요 수로 맞추고, 값이 달랐던 책장 수를 반환한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE bookshelves b
+		SET b.like_count = (SELECT COUNT(*) FROM bookshelf_likes l WHERE l.bookshelf_id = b.id)
+		WHERE b.id > :fromId AND b.id <= :toId
+			AND b.like_count <> (SELECT COUNT(*) FROM bookshelf_likes l WHERE l.bookshelf_id = b.id)
+		""", nativeQuery = true)
+	int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
 }
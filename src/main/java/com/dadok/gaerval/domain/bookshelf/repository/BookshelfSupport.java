@@ -7,11 +7,12 @@ import com.dadok.gaerval.domain.bookshelf.dto.request.LikedBookShelvesRequest;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfDetailResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookshelvesResponses;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelfCandidate;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
 
 public interface BookshelfSupport {
 
-	Optional<BookShelfDetailResponse> findBookShelfByOwnerId(Long ownerId, Long userId);
+	Optional<BookShelfDetailResponse> findBookShelfByOwnerId(Long ownerId);
 
 	Optional<BookShelfSummaryResponse> findSummaryById(Long userId);
 
@@ -19,7 +20,9 @@ public interface BookshelfSupport {
 
 	List<BookShelfSummaryResponse> findAllSuggestions(int limit);
 
-	Optional<BookShelfDetailResponse> findBookShelfById(Long bookshelfId, Long userId);
+	List<SuggestionBookshelfCandidate> findSuggestionCandidates(JobGroup jobGroup, int limit);
+
+	Optional<BookShelfDetailResponse> findBookShelfById(Long bookshelfId);
 
 	BookshelvesResponses findAllLikedByUserId(LikedBookShelvesRequest request, Long userId);
 }
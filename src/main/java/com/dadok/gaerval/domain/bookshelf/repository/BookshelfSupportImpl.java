@@ -1,20 +1,24 @@
 package com.dadok.gaerval.domain.bookshelf.repository;
 
-import static com.dadok.gaerval.domain.book.entity.QBook.*;
 import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelf.*;
-import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelfItem.*;
 import static com.dadok.gaerval.domain.bookshelf.entity.QBookshelfLike.*;
 import static com.dadok.gaerval.domain.job.entity.QJob.*;
 import static com.dadok.gaerval.domain.user.entity.QUser.*;
-import static com.querydsl.core.group.GroupBy.list;
-import static com.querydsl.core.group.GroupBy.*;
-import static com.querydsl.core.types.Projections.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
@@ -23,28 +27,38 @@ import com.dadok.gaerval.domain.bookshelf.dto.request.LikedBookShelvesRequest;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfDetailResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookshelvesResponses;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelfCandidate;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
 import com.dadok.gaerval.global.util.QueryDslUtil;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 public class BookshelfSupportImpl implements BookshelfSupport {
 
 	private final JPAQueryFactory query;
 
+	private final EntityManager entityManager;
+
+	private final int summaryBookLimit;
+
+	public BookshelfSupportImpl(JPAQueryFactory query, EntityManager entityManager,
+		@Value("${bookshelf.summary-book-limit:4}") int summaryBookLimit) {
+		this.query = query;
+		this.entityManager = entityManager;
+		this.summaryBookLimit = summaryBookLimit;
+	}
+
 	@Override
-	public Optional<BookShelfDetailResponse> findBookShelfByOwnerId(Long ownerId, Long userId) {
+	public Optional<BookShelfDetailResponse> findBookShelfByOwnerId(Long ownerId) {
 
 		Tuple tuple = query.select(
 				bookshelf.id,
 				bookshelf.name,
 				bookshelf.isPublic,
-				bookshelfLike.countDistinct(),
+				bookshelf.likeCount,
 
 				user.id,
 				user.name,
@@ -54,7 +68,6 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 			)
 			.from(bookshelf)
 			.leftJoin(bookshelf.user, user)
-			.leftJoin(bookshelf.bookshelfLikes, bookshelfLike)
 			.leftJoin(user.job, job)
 			.where(bookshelf.user.id.eq(ownerId))
 			.fetchOne();
@@ -63,19 +76,12 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 			return Optional.empty();
 		}
 
-		boolean isLiked =
-			userId != null && query.selectOne()
-				.from(bookshelfLike)
-				.where(bookshelfLike.bookshelf.id.eq(tuple.get(bookshelf.id)),
-					bookshelfLike.user.id.eq(userId))
-				.fetchFirst() != null;
-
 		return Optional.of(new BookShelfDetailResponse(
 			tuple.get(bookshelf.id),
 			tuple.get(bookshelf.name),
 			Boolean.TRUE.equals(tuple.get(bookshelf.isPublic)),
-			tuple.get(bookshelfLike.countDistinct()),
-			isLiked,
+			tuple.get(bookshelf.likeCount).longValue(),
+			false,
 			tuple.get(user.id),
 			tuple.get(user.name),
 			tuple.get(user.nickname.nickname),
@@ -88,26 +94,14 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 
 	@Override
 	public Optional<BookShelfSummaryResponse> findSummaryById(Long userId) {
-		List<BookShelfSummaryResponse> transform = query.from(bookshelf)
-			.leftJoin(bookshelf.bookshelfItems, bookshelfItem)
-			.leftJoin(bookshelfItem.book, book)
+		Long bookshelfId = query.select(bookshelf.id).from(bookshelf)
 			.where(bookshelf.user.id.eq(userId))
-			.orderBy(bookshelfItem.id.desc())
-			.transform(
-				groupBy(bookshelf.id).list(constructor(BookShelfSummaryResponse.class,
-					bookshelf.id,
-					bookshelf.name,
-					list(
-						constructor(BookShelfSummaryResponse.BookSummaryResponse.class,
-							book.id, book.title, book.imageUrl)
-					),
-					bookshelf.bookshelfLikes.size()
-				)));
-
-		if (transform.isEmpty()) {
+			.fetchFirst();
+
+		if (bookshelfId == null) {
 			return Optional.empty();
 		}
-		return Optional.of(transform.get(0));
+		return findSummaries(List.of(bookshelfId)).stream().findFirst();
 	}
 
 	@Override
@@ -118,70 +112,68 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 				job.jobGroup.eq(jobGroup),
 				bookshelf.user.id.notIn(userId)
 			)
-			.orderBy(bookshelf.bookshelfItems.size().desc())//TODO 인기척도 후에 수정 필요
+			.orderBy(bookshelf.popularityScore.desc(), bookshelf.id.desc())
 			.limit(limit).fetch();
 
 		if (searchBookshelfIds.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		return query.from(bookshelf)
-			.leftJoin(bookshelf.bookshelfItems, bookshelfItem)
-			.leftJoin(bookshelfItem.book, book)
-			.where(
-				bookshelf.id.in(searchBookshelfIn(searchBookshelfIds))
-			)
-			.transform(
-				groupBy(bookshelf.id).list(constructor(BookShelfSummaryResponse.class,
-					bookshelf.id,
-					bookshelf.name,
-					list(
-						constructor(BookShelfSummaryResponse.BookSummaryResponse.class,
-							book.id, book.title, book.imageUrl)
-					),
-					bookshelf.bookshelfLikes.size()
-				)));
+		return findSummaries(searchBookshelfIds);
 
 	}
 
 	@Override
 	public List<BookShelfSummaryResponse> findAllSuggestions(int limit) {
 		List<Long> searchBookshelfIds = query.select(bookshelf.id).from(bookshelf)
-			.orderBy(bookshelf.bookshelfItems.size().desc())//TODO 인기척도 후에 수정 필요
+			.orderBy(bookshelf.popularityScore.desc(), bookshelf.id.desc())
 			.limit(limit).fetch();
 
 		if (searchBookshelfIds.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		return query.from(bookshelf)
-			.leftJoin(bookshelf.bookshelfItems, bookshelfItem)
-			.leftJoin(bookshelfItem.book, book)
-			.leftJoin(bookshelf.bookshelfLikes, bookshelfLike)
-			.where(
-				bookshelf.id.in(searchBookshelfIn(searchBookshelfIds))
-			)
-			.groupBy(bookshelf.id, bookshelf.name, book.id, book.title, book.imageUrl)
-			.transform(
-				groupBy(bookshelf.id).list(constructor(BookShelfSummaryResponse.class,
-					bookshelf.id,
-					bookshelf.name,
-					list(
-						constructor(BookShelfSummaryResponse.BookSummaryResponse.class,
-							book.id, book.title, book.imageUrl)
-					),
-					bookshelf.bookshelfLikes.size()
-				)));
+		return findSummaries(searchBookshelfIds);
 	}
 
+	/**
+	 * 인기 점수 순서로 책장과 책장 주인 id 를 조회한다. jobGroup 이 null 이면 전체 책장에서 찾는다.
+	 */
 	@Override
-	public Optional<BookShelfDetailResponse> findBookShelfById(Long bookshelfId, Long userId) {
+	public List<SuggestionBookshelfCandidate> findSuggestionCandidates(JobGroup jobGroup, int limit) {
+		JPAQuery<Tuple> candidateQuery = query.select(bookshelf.id, bookshelf.user.id).from(bookshelf);
+		if (jobGroup != null) {
+			candidateQuery.innerJoin(job).on(job.id.eq(bookshelf.jobId))
+				.where(job.jobGroup.eq(jobGroup));
+		}
+		List<Tuple> candidates = candidateQuery
+			.orderBy(bookshelf.popularityScore.desc(), bookshelf.id.desc())
+			.limit(limit).fetch();
+
+		if (candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Long> bookshelfIds = candidates.stream().map(candidate -> candidate.get(bookshelf.id)).toList();
+		Map<Long, BookShelfSummaryResponse> summaries = findSummaries(bookshelfIds).stream()
+			.collect(Collectors.toMap(BookShelfSummaryResponse::bookshelfId, Function.identity()));
+
+		// 두 쿼리 사이에 삭제된 책장은 뺀다.
+		return candidates.stream()
+			.filter(candidate -> summaries.containsKey(candidate.get(bookshelf.id)))
+			.map(candidate -> new SuggestionBookshelfCandidate(candidate.get(bookshelf.user.id),
+				summaries.get(candidate.get(bookshelf.id))))
+			.toList();
+	}
+
+	@Override
+	public Optional<BookShelfDetailResponse> findBookShelfById(Long bookshelfId) {
 
 		Tuple tuple = query.select(
 				bookshelf.id,
 				bookshelf.name,
 				bookshelf.isPublic,
-				bookshelfLike.countDistinct(),
+				bookshelf.likeCount,
 
 				user.id,
 				user.name,
@@ -191,7 +183,6 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 			)
 			.from(bookshelf)
 			.leftJoin(bookshelf.user, user)
-			.leftJoin(bookshelf.bookshelfLikes, bookshelfLike)
 			.leftJoin(user.job, job)
 			.where(bookshelf.id.eq(bookshelfId))
 			.fetchOne();
@@ -200,19 +191,12 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 			return Optional.empty();
 		}
 
-		boolean isLiked =
-			userId != null && query.selectOne()
-				.from(bookshelfLike)
-				.where(bookshelfLike.bookshelf.id.eq(bookshelfId),
-					bookshelfLike.user.id.eq(userId))
-				.fetchFirst() != null;
-
 		return Optional.of(new BookShelfDetailResponse(
 			tuple.get(bookshelf.id),
 			tuple.get(bookshelf.name),
 			Boolean.TRUE.equals(tuple.get(bookshelf.isPublic)),
-			tuple.get(bookshelfLike.countDistinct()),
-			isLiked,
+			tuple.get(bookshelf.likeCount).longValue(),
+			false,
 			tuple.get(user.id),
 			tuple.get(user.name),
 			tuple.get(user.nickname.nickname),
@@ -244,29 +228,68 @@ public class BookshelfSupportImpl implements BookshelfSupport {
 			return BookshelvesResponses.empty();
 		}
 
-		List<BookShelfSummaryResponse> bookShelfSummaryResponses = query.from(bookshelf)
-			.leftJoin(bookshelf.bookshelfItems, bookshelfItem)
-			.leftJoin(bookshelfItem.book, book)
-			.where(
-				bookshelf.id.in(searchBookshelfIn(searchBookshelfIds))
-			)
-			.transform(
-				groupBy(bookshelf.id).list(constructor(BookShelfSummaryResponse.class,
-					bookshelf.id,
-					bookshelf.name,
-					list(
-						constructor(BookShelfSummaryResponse.BookSummaryResponse.class,
-							book.id, book.title, book.imageUrl)
-					),
-					bookshelf.bookshelfLikes.size()
-				)));
-
-		Slice<BookShelfSummaryResponse> responseSlice = QueryDslUtil.toSlice(bookShelfSummaryResponses,
+		List<BookShelfSummaryResponse> bookShelfSummaryResponses = findSummaries(searchBookshelfIds);
+
+		// 내가 좋아요한 책장만 조회하므로 모두 좋아요한 책장이다.
+		Slice<BookShelfSummaryResponse> responseSlice = QueryDslUtil.toSlice(bookShelfSummaryResponses.stream()
+				.map(bookShelfSummaryResponse -> bookShelfSummaryResponse.withLiked(true))
+				.toList(),
 			PageRequest.of(0, request.pageSize(), Sort.by(direction, "bookshelfLike.id")));
 
 		return new BookshelvesResponses(responseSlice);
 	}
 
+	/**
+	 * 책장 요약을 bookshelfIds 순서대로 만든다. 두 쿼리 사이에 삭제된 책장은 뺀다.
+	 */
+	private List<BookShelfSummaryResponse> findSummaries(List<Long> bookshelfIds) {
+		Map<Long, Tuple> bookshelves = query.select(bookshelf.id, bookshelf.name, bookshelf.likeCount)
+			.from(bookshelf)
+			.where(bookshelf.id.in(searchBookshelfIn(bookshelfIds)))
+			.fetch().stream()
+			.collect(Collectors.toMap(tuple -> tuple.get(bookshelf.id), Function.identity()));
+		Map<Long, List<BookShelfSummaryResponse.BookSummaryResponse>> recentBooks = findRecentBooks(bookshelfIds);
+
+		return bookshelfIds.stream()
+			.filter(bookshelves::containsKey)
+			.map(bookshelfId -> new BookShelfSummaryResponse(
+				bookshelfId,
+				bookshelves.get(bookshelfId).get(bookshelf.name),
+				recentBooks.getOrDefault(bookshelfId, List.of()),
+				bookshelves.get(bookshelfId).get(bookshelf.likeCount)))
+			.toList();
+	}
+
+	/**
+	 * <pre>
+	 *     책장마다 가장 최근에 넣은 책 summaryBookLimit 권만 조회한다.
+	 *     책장별로 (bookshelf_id, id) 인덱스를 역순으로 읽다가 limit 에서 멈추는 쿼리를 union all 로 묶으므로,
+	 *     책장에 책이 몇 권 있든 읽는 행 수는 책장 수 * summaryBookLimit 으로 일정하다.
+	 * </pre>
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Long, List<BookShelfSummaryResponse.BookSummaryResponse>> findRecentBooks(List<Long> bookshelfIds) {
+		String sql = IntStream.range(0, bookshelfIds.size())
+			.mapToObj(index -> "(select bi.bookshelf_id, b.id, b.title, b.image_url"
+				+ " from bookshelf_item bi inner join books b on b.id = bi.book_id"
+				+ " where bi.bookshelf_id = :bookshelfId" + index
+				+ " order by bi.id desc limit " + summaryBookLimit + ")")
+			.collect(Collectors.joining(" union all "));
+
+		Query nativeQuery = entityManager.createNativeQuery(sql);
+		for (int index = 0; index < bookshelfIds.size(); index++) {
+			nativeQuery.setParameter("bookshelfId" + index, bookshelfIds.get(index));
+		}
+
+		Map<Long, List<BookShelfSummaryResponse.BookSummaryResponse>> recentBooks = new HashMap<>();
+		for (Object[] row : (List<Object[]>)nativeQuery.getResultList()) {
+			recentBooks.computeIfAbsent(((Number)row[0]).longValue(), bookshelfId -> new ArrayList<>())
+				.add(new BookShelfSummaryResponse.BookSummaryResponse(
+					((Number)row[1]).longValue(), (String)row[2], (String)row[3]));
+		}
+		return recentBooks;
+	}
+
 	private Expression[] searchBookshelfIn(List<Long> bookshelfIds) {
 		List<Expression> tuples = new ArrayList<>();
 		bookshelfIds.forEach(
@@ -0,0 +1,59 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore.LikedBookshelves;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <pre>
+ *     사용자가 여러 책장 중 어떤 책장에 좋아요를 눌렀는지 BookshelfLikeRedisStore 로 한 번에 확인한다.
+ *     Redis 에 아직 채워지지 않은 책장만 DB 에서 좋아요한 사용자 id 를 읽어 채우고,
+ *     DB 를 읽기 전에 load token 을 받아 두어, 읽는 사이 커밋된 좋아요, 취소가 있으면 채우지 않는다.
+ *     Redis 를 쓸 수 없으면 DB 에서 바로 확인한다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class BookshelfLikeChecker {
+
+	private final BookshelfLikeRedisStore bookshelfLikeRedisStore;
+
+	private final BookshelfLikeRepository bookshelfLikeRepository;
+
+	public Set<Long> findLikedBookshelfIds(Long userId, List<Long> bookshelfIds) {
+		if (userId == null || bookshelfIds.isEmpty()) {
+			return Set.of();
+		}
+
+		Optional<LikedBookshelves> cached = bookshelfLikeRedisStore.findLiked(userId, bookshelfIds);
+		if (cached.isEmpty()) {
+			return new HashSet<>(bookshelfLikeRepository.findLikedBookshelfIds(userId, bookshelfIds));
+		}
+
+		Set<Long> likedIds = new HashSet<>(cached.get().likedIds());
+		List<Long> unknownIds = cached.get().unknownIds();
+		if (!unknownIds.isEmpty()) {
+			Optional<String> loadToken = bookshelfLikeRedisStore.reserveLoad(unknownIds);
+			Map<Long, List<Long>> likerIdsByBookshelfId = bookshelfLikeRepository.findLikerIdsByBookshelfIds(unknownIds);
+			loadToken.ifPresent(token -> bookshelfLikeRedisStore.load(token, unknownIds, likerIdsByBookshelfId));
+			unknownIds.stream()
+				.filter(bookshelfId -> likerIdsByBookshelfId.getOrDefault(bookshelfId, List.of()).contains(userId))
+				.forEach(likedIds::add);
+		}
+		return likedIds;
+	}
+
+	public boolean isLiked(Long userId, Long bookshelfId) {
+		return findLikedBookshelfIds(userId, List.of(bookshelfId)).contains(bookshelfId);
+	}
+}
@@ -0,0 +1,152 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository.LikeCountDelta;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     책장 좋아요 수의 증감을 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ *     좋아요가 몰리는 책장도 요청마다 같은 bookshelves 행을 잠그지 않는다.
+ *
+ *     - 책장마다 LongAdder 를 두어, 같은 책장에 동시에 좋아요해도 하나의 값을 두고 경합하지 않는다.
+ *     - 증감은 트랜잭션이 커밋된 뒤에만 버퍼에 넣으므로, 롤백된 좋아요, 취소는 좋아요 수에 반영되지 않는다.
+ *     - flush 는 책장마다 compute 안에서 합계를 읽고 버퍼에서 지운다. 같은 책장의 add 도 compute 로 하므로
+ *       읽는 순간과 지우는 순간 사이에 들어온 증감은 없고, 지운 뒤에 들어온 증감은 새 LongAdder 에 쌓인다.
+ *     - batch 는 한 트랜잭션으로 반영하므로, 실패하면 batch 전체가 롤백된 뒤 증감을 버퍼에 되돌려 다음 flush 에 다시 시도한다.
+ *     - holdingFlush 안에서는 flush 가 돌지 않는다. 좋아요 수를 다시 세는 동안 버퍼에 남은 증감을 고정해 두는 데 쓴다.
+ *
+ *     metric
+ *     - bookshelf.like.count.buffer.size : 버퍼에 있는 책장 수
+ *     - bookshelf.like.count.flush.failed : 반영에 실패한 책장 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class BookshelfLikeCountBuffer {
+
+	static final String BUFFER_SIZE_METRIC = "bookshelf.like.count.buffer.size";
+	static final String FLUSH_FAILED_METRIC = "bookshelf.like.count.flush.failed";
+
+	private final BookshelfJdbcRepository bookshelfJdbcRepository;
+
+	private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+	private final Object flushLock = new Object();
+
+	private final Counter failures;
+
+	public BookshelfLikeCountBuffer(BookshelfJdbcRepository bookshelfJdbcRepository, MeterRegistry meterRegistry) {
+		this.bookshelfJdbcRepository = bookshelfJdbcRepository;
+
+		Gauge.builder(BUFFER_SIZE_METRIC, deltas, Map::size).register(meterRegistry);
+		this.failures = meterRegistry.counter(FLUSH_FAILED_METRIC);
+	}
+
+	public void addAfterCommit(Long bookshelfId, long delta) {
+		afterCommit(() -> add(bookshelfId, delta));
+	}
+
+	public void add(Long bookshelfId, long delta) {
+		deltas.compute(bookshelfId, (id, adder) -> {
+			LongAdder current = adder == null ? new LongAdder() : adder;
+			current.add(delta);
+			return current;
+		});
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${bookshelf.like-count-flush-interval:PT1S}")
+	public void flush() {
+		synchronized (flushLock) {
+			flushDeltas();
+		}
+	}
+
+	/**
+	 * task 가 끝날 때까지 flush 를 미룬다.
+	 */
+	public <T> T holdingFlush(Supplier<T> task) {
+		synchronized (flushLock) {
+			return task.get();
+		}
+	}
+
+	/**
+	 * (fromId, toId] 범위 책장 중 아직 반영하지 않은 증감이 있는 책장의 증감을 반환한다. 버퍼에서 빼지는 않는다.
+	 */
+	public List<LikeCountDelta> pendingBetween(long fromId, long toId) {
+		List<LikeCountDelta> pending = new ArrayList<>();
+		deltas.forEach((bookshelfId, adder) -> {
+			long delta = adder.sum();
+			if (bookshelfId > fromId && bookshelfId <= toId && delta != 0) {
+				pending.add(new LikeCountDelta(bookshelfId, delta));
+			}
+		});
+		return pending;
+	}
+
+	private void flushDeltas() {
+		List<LikeCountDelta> batch = new ArrayList<>();
+		for (Long bookshelfId : deltas.keySet()) {
+			long[] drained = new long[1];
+			deltas.compute(bookshelfId, (id, adder) -> {
+				if (adder != null) {
+					drained[0] = adder.sum();
+				}
+				return null;
+			});
+			if (drained[0] != 0) {
+				batch.add(new LikeCountDelta(bookshelfId, drained[0]));
+			}
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+			bookshelfJdbcRepository.addLikeCounts(batch);
+		} catch (RuntimeException e) {
+			log.warn("[BookshelfLikeCountBuffer]-[flush] 좋아요 수 반영 실패. size : {}, message : {}", batch.size(),
+				e.getMessage());
+			failures.increment(batch.size());
+			batch.forEach(likeCountDelta -> add(likeCountDelta.bookshelfId(), likeCountDelta.delta()));
+		}
+	}
+
+	private static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	long pending(Long bookshelfId) {
+		LongAdder adder = deltas.get(bookshelfId);
+		return adder == null ? 0 : adder.sum();
+	}
+}
@@ -0,0 +1,79 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository.LikeCountDelta;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     책장 인기 점수는 책장 도서, 좋아요를 추가, 삭제할 때 증감으로 갱신하므로 실패한 요청이나 직접 고친 데이터 때문에 어긋날 수 있다.
+ *     하루에 한 번 id 범위를 나누어 실제 책장 도서, 좋아요 수로 다시 계산한다. 범위마다 별도 트랜잭션이라 잠금을 오래 잡지 않는다.
+ *
+ *     좋아요 수(like_count)도 함께 맞춘다. 커밋된 좋아요의 증감은 BookshelfLikeCountBuffer 에 남아 있다가 나중에 더해지므로,
+ *     먼저 버퍼를 비우고, 범위마다 flush 를 미룬 채 그 사이 쌓인 증감을 읽은 뒤 다시 센 값에서 그 증감을 뺀다.
+ *     이후 flush 가 증감을 더하면 실제 좋아요 수가 되므로, 다시 세는 동안 커밋된 좋아요가 두 번 더해지지 않는다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookshelfPopularityReconciler {
+
+	static final int CHUNK_SIZE = 1_000;
+
+	private final BookshelfRepository bookshelfRepository;
+
+	private final BookshelfJdbcRepository bookshelfJdbcRepository;
+
+	private final BookshelfLikeCountBuffer bookshelfLikeCountBuffer;
+
+	private final TransactionTemplate transactionTemplate;
+
+	@Scheduled(cron = "${bookshelf.popularity-reconcile-cron:0 30 4 * * *}")
+	public int reconcile() {
+		bookshelfLikeCountBuffer.flush();
+
+		long maxId = bookshelfRepository.findMaxId();
+		int corrected = 0;
+		int likeCountCorrected = 0;
+		for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			ChunkResult result = bookshelfLikeCountBuffer.holdingFlush(
+				() -> transactionTemplate.execute(status -> reconcileChunk(chunkFromId, chunkFromId + CHUNK_SIZE)));
+			likeCountCorrected += result.likeCountCorrected();
+			corrected += result.popularityCorrected();
+		}
+
+		if (likeCountCorrected > 0) {
+			log.warn("[BookshelfPopularityReconciler]-[reconcile] 좋아요 수가 어긋난 책장 수 : {}", likeCountCorrected);
+		}
+		if (corrected > 0) {
+			log.warn("[BookshelfPopularityReconciler]-[reconcile] 인기 점수가 어긋난 책장 수 : {}", corrected);
+		}
+		return corrected;
+	}
+
+	private ChunkResult reconcileChunk(long fromId, long toId) {
+		List<LikeCountDelta> pending = bookshelfLikeCountBuffer.pendingBetween(fromId, toId);
+		int likeCountCorrected = bookshelfRepository.reconcileLikeCounts(fromId, toId);
+		int popularityCorrected = bookshelfRepository.reconcilePopularityScores(fromId, toId,
+			Bookshelf.ITEM_POPULARITY_WEIGHT, Bookshelf.LIKE_POPULARITY_WEIGHT);
+		bookshelfJdbcRepository.addLikeCounts(pending.stream()
+			.map(likeCountDelta -> new LikeCountDelta(likeCountDelta.bookshelfId(), -likeCountDelta.delta()))
+			.toList());
+		return new ChunkResult(likeCountCorrected, popularityCorrected);
+	}
+
+	private record ChunkResult(int likeCountCorrected, int popularityCorrected) {
+	}
+}
@@ -0,0 +1,112 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelfCandidate;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelvesByJobGroupResponses;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelvesResponses;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     추천 책장 응답을 직군별로 미리 만들어 두고 메모리에서 응답한다.
+ *
+ *     - 직군마다 BOOKSHELF_VIEW_LIMIT + 1 개의 후보를 읽어, 기본 응답과 후보 책장 주인마다 자신의 책장을 뺀 응답을 미리 만든다.
+ *       조회는 요청한 사용자 id 로 응답을 고르기만 하므로 새로 만드는 객체가 없다.
+ *     - bookshelf.suggestion-refresh-interval 마다 전체를 새로 만들고, 다 만든 뒤에 한 번에 교체한다.
+ *       갱신에 실패하면 이전 스냅샷을 그대로 유지한다.
+ *     - 첫 갱신 전에는 빈 Optional 을 반환하므로 호출하는 쪽에서 DB 조회로 응답한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookshelfSuggestionSnapshot {
+
+	static final int BOOKSHELF_VIEW_LIMIT = 5;
+
+	private final BookshelfRepository bookshelfRepository;
+
+	private volatile Snapshot snapshot;
+
+	public Optional<SuggestionBookshelvesByJobGroupResponses> findByJobGroup(JobGroup jobGroup, Long userId) {
+		Snapshot current = snapshot;
+		if (current == null) {
+			return Optional.empty();
+		}
+		JobGroupSuggestions suggestions = current.byJobGroup().get(jobGroup);
+		if (userId == null) {
+			return Optional.of(suggestions.responses());
+		}
+		return Optional.of(suggestions.excludingOwner().getOrDefault(userId, suggestions.responses()));
+	}
+
+	public Optional<SuggestionBookshelvesResponses> findDefault() {
+		Snapshot current = snapshot;
+		return current == null ? Optional.empty() : Optional.of(current.defaultResponses());
+	}
+
+	@Scheduled(fixedDelayString = "${bookshelf.suggestion-refresh-interval:PT1M}")
+	public void refresh() {
+		try {
+			EnumMap<JobGroup, JobGroupSuggestions> byJobGroup = new EnumMap<>(JobGroup.class);
+			for (JobGroup jobGroup : JobGroup.values()) {
+				byJobGroup.put(jobGroup, buildJobGroupSuggestions(jobGroup,
+					bookshelfRepository.findSuggestionCandidates(jobGroup, BOOKSHELF_VIEW_LIMIT + 1)));
+			}
+			SuggestionBookshelvesResponses defaultResponses = new SuggestionBookshelvesResponses(
+				bookshelfRepository.findSuggestionCandidates(null, BOOKSHELF_VIEW_LIMIT).stream()
+					.map(SuggestionBookshelfCandidate::bookshelf)
+					.toList());
+
+			snapshot = new Snapshot(byJobGroup, defaultResponses);
+		} catch (RuntimeException e) {
+			log.warn("[BookshelfSuggestionSnapshot]-[refresh] 추천 책장 스냅샷 갱신 실패. message : {}", e.getMessage());
+		}
+	}
+
+	private JobGroupSuggestions buildJobGroupSuggestions(JobGroup jobGroup,
+		List<SuggestionBookshelfCandidate> candidates) {
+		SuggestionBookshelvesByJobGroupResponses responses = toResponses(jobGroup, candidates, null);
+
+		Map<Long, SuggestionBookshelvesByJobGroupResponses> excludingOwner = new HashMap<>();
+		for (SuggestionBookshelfCandidate candidate : candidates) {
+			excludingOwner.put(candidate.ownerId(), toResponses(jobGroup, candidates, candidate.ownerId()));
+		}
+		return new JobGroupSuggestions(responses, Map.copyOf(excludingOwner));
+	}
+
+	private SuggestionBookshelvesByJobGroupResponses toResponses(JobGroup jobGroup,
+		List<SuggestionBookshelfCandidate> candidates, Long excludedOwnerId) {
+		List<BookShelfSummaryResponse> bookshelves = candidates.stream()
+			.filter(candidate -> !candidate.ownerId().equals(excludedOwnerId))
+			.limit(BOOKSHELF_VIEW_LIMIT)
+			.map(SuggestionBookshelfCandidate::bookshelf)
+			.toList();
+		return new SuggestionBookshelvesByJobGroupResponses(jobGroup, jobGroup.getGroupName(), bookshelves);
+	}
+
+	private record Snapshot(
+		EnumMap<JobGroup, JobGroupSuggestions> byJobGroup,
+		SuggestionBookshelvesResponses defaultResponses
+	) {
+	}
+
+	private record JobGroupSuggestions(
+		SuggestionBookshelvesByJobGroupResponses responses,
+		Map<Long, SuggestionBookshelvesByJobGroupResponses> excludingOwner
+	) {
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfLike;
 import com.dadok.gaerval.domain.bookshelf.exception.AlreadyExistsBookshelfLikeException;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRepository;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.domain.user.service.UserService;
@@ -26,6 +27,10 @@ public class DefaultBookshelfLikeService implements BookshelfLikeService {
 
 	private final BookshelfService bookshelfService;
 
+	private final BookshelfLikeCountBuffer bookshelfLikeCountBuffer;
+
+	private final BookshelfLikeRedisStore bookshelfLikeRedisStore;
+
 	@Override
 	public void createBookshelfLike(Long userId, Long bookshelfId) {
 		User user = userService.getById(userId);
@@ -38,6 +43,8 @@ public class DefaultBookshelfLikeService implements BookshelfLikeService {
 		} catch (DataIntegrityViolationException e) {
 			throw new AlreadyExistsBookshelfLikeException(bookshelf.getId());
 		}
+		bookshelfLikeCountBuffer.addAfterCommit(bookshelfId, 1);
+		bookshelfLikeRedisStore.evictAfterCommit(bookshelfId);
 	}
 
 	@Override
@@ -49,5 +56,7 @@ public class DefaultBookshelfLikeService implements BookshelfLikeService {
 		} catch (ObjectOptimisticLockingFailureException e) {
 			throw new ResourceNotfoundException(BookshelfLike.class);
 		}
+		bookshelfLikeCountBuffer.addAfterCommit(bookshelfId, -1);
+		bookshelfLikeRedisStore.evictAfterCommit(bookshelfId);
 	}
 }
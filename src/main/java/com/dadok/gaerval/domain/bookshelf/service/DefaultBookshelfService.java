@@ -2,11 +2,14 @@ package com.dadok.gaerval.domain.bookshelf.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.persistence.EntityNotFoundException;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dadok.gaerval.domain.book.entity.Book;
@@ -25,7 +28,9 @@ import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.exception.AlreadyContainBookshelfItemException;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+import com.dadok.gaerval.domain.job.entity.Job;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
+import com.dadok.gaerval.domain.job.service.JobService;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.global.error.exception.ResourceNotfoundException;
 
@@ -42,6 +47,12 @@ public class DefaultBookshelfService implements BookshelfService {
 
 	private final BookService bookService;
 
+	private final JobService jobService;
+
+	private final BookshelfSuggestionSnapshot bookshelfSuggestionSnapshot;
+
+	private final BookshelfLikeChecker bookshelfLikeChecker;
+
 	private static final int BOOKSHELF_VIEW_LIMIT = 5;
 
 	@Override
@@ -64,12 +75,26 @@ public class DefaultBookshelfService implements BookshelfService {
 	}
 
 	@Override
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public SuggestionBookshelvesByJobGroupResponses findSuggestionBookshelvesByJobGroup(Long userId,
 		JobGroup jobGroup) {
-		return new SuggestionBookshelvesByJobGroupResponses(
-			jobGroup, jobGroup.getGroupName(),
-			bookshelfRepository.findSuggestionsByJobGroup(jobGroup, userId, BOOKSHELF_VIEW_LIMIT));
+		SuggestionBookshelvesByJobGroupResponses responses = bookshelfSuggestionSnapshot
+			.findByJobGroup(jobGroup, userId)
+			.orElseGet(() -> new SuggestionBookshelvesByJobGroupResponses(
+				jobGroup, jobGroup.getGroupName(),
+				bookshelfRepository.findSuggestionsByJobGroup(jobGroup, userId, BOOKSHELF_VIEW_LIMIT)));
+
+		Set<Long> likedBookshelfIds = bookshelfLikeChecker.findLikedBookshelfIds(userId,
+			responses.bookshelfResponses().stream().map(BookShelfSummaryResponse::bookshelfId).toList());
+		if (likedBookshelfIds.isEmpty()) {
+			return responses;
+		}
+
+		// 스냅샷의 응답은 여러 사용자가 함께 쓰므로 좋아요 여부를 넣은 새 응답을 만든다.
+		return new SuggestionBookshelvesByJobGroupResponses(responses.jobGroup(), responses.JobGroupKoreanName(),
+			responses.bookshelfResponses().stream()
+				.map(bookshelf -> bookshelf.withLiked(likedBookshelfIds.contains(bookshelf.bookshelfId())))
+				.toList());
 	}
 
 	@Override
@@ -81,8 +106,13 @@ public class DefaultBookshelfService implements BookshelfService {
 		if (bookshelfItemRepository.existsByBookshelfIdAndBookId(bookshelfId, book.getId())) {
 			throw new AlreadyContainBookshelfItemException();
 		}
-		BookshelfItem bookshelfItem = BookshelfItem.create(bookshelf, book);
-		bookshelfItemRepository.save(bookshelfItem);
+		try {
+			bookshelfItemRepository.save(BookshelfItem.create(bookshelf, book));
+		} catch (DataIntegrityViolationException e) {
+			throw new AlreadyContainBookshelfItemException();
+		}
+		bookService.increaseShelvedCount(book.getId(), findJobGroup(bookshelf.getJobId()));
+		bookshelfRepository.addPopularityScore(bookshelfId, Bookshelf.ITEM_POPULARITY_WEIGHT);
 		return bookshelfId;
 	}
 
@@ -93,6 +123,8 @@ public class DefaultBookshelfService implements BookshelfService {
 		BookshelfItem bookshelfItem = bookshelfItemRepository.findByBookshelfAndBook(bookshelf, book)
 			.orElseThrow(() -> new ResourceNotfoundException(BookshelfItem.class));
 		bookshelfItemRepository.deleteById(bookshelfItem.getId());
+		bookService.decreaseShelvedCount(book.getId(), findJobGroup(bookshelf.getJobId()));
+		bookshelfRepository.addPopularityScore(bookshelfId, -Bookshelf.ITEM_POPULARITY_WEIGHT);
 		return bookshelfId;
 	}
 
@@ -134,8 +166,9 @@ public class DefaultBookshelfService implements BookshelfService {
 	@Transactional(readOnly = true)
 	@Override
 	public BookShelfDetailResponse findBookShelfByUserId(Long ownerId, Long userId) {
-		return bookshelfRepository.findBookShelfByOwnerId(ownerId, userId)
+		BookShelfDetailResponse bookShelf = bookshelfRepository.findBookShelfByOwnerId(ownerId)
 			.orElseThrow(() -> new ResourceNotfoundException(Bookshelf.class));
+		return bookShelf.withLiked(bookshelfLikeChecker.isLiked(userId, bookShelf.bookshelfId()));
 	}
 
 	@Transactional
@@ -144,20 +177,30 @@ public class DefaultBookshelfService implements BookshelfService {
 		Bookshelf bookshelf = bookshelfRepository.findByUserId(user.getId())
 			.orElseGet(() -> bookshelfRepository.save(Bookshelf.create(user)));
 
+		JobGroup previousJobGroup = findJobGroup(bookshelf.getJobId());
 		bookshelf.changeJobId(jobId);
+
+		JobGroup jobGroup = findJobGroup(jobId);
+		if (previousJobGroup != jobGroup) {
+			bookService.moveJobGroupShelfCounts(
+				bookshelfItemRepository.findBookIdsByBookshelfId(bookshelf.getId()), previousJobGroup, jobGroup);
+		}
 	}
 
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	@Override
 	public SuggestionBookshelvesResponses findSuggestionBookshelves() {
-		return new SuggestionBookshelvesResponses(bookshelfRepository.findAllSuggestions(5));
+		return bookshelfSuggestionSnapshot.findDefault()
+			.orElseGet(() -> new SuggestionBookshelvesResponses(
+				bookshelfRepository.findAllSuggestions(BOOKSHELF_VIEW_LIMIT)));
 	}
 
 	@Transactional(readOnly = true)
 	@Override
 	public BookShelfDetailResponse findBookShelfById(Long bookshelfId, Long userId) {
-		return bookshelfRepository.findBookShelfById(bookshelfId, userId)
+		BookShelfDetailResponse bookShelf = bookshelfRepository.findBookShelfById(bookshelfId)
 			.orElseThrow(() -> new ResourceNotfoundException(Bookshelf.class));
+		return bookShelf.withLiked(bookshelfLikeChecker.isLiked(userId, bookshelfId));
 	}
 
 	@Transactional
@@ -171,6 +214,8 @@ public class DefaultBookshelfService implements BookshelfService {
 		boolean exists = bookshelfItemRepository.existsByBookshelfIdAndBookId(bookshelf.getId(), bookId);
 		if (!exists) {
 			Long bookshelfItemId = bookshelfItemRepository.save(BookshelfItem.create(bookshelf, book)).getId();
+			bookService.increaseShelvedCount(bookId, findJobGroup(bookshelf.getJobId()));
+			bookshelfRepository.addPopularityScore(bookshelf.getId(), Bookshelf.ITEM_POPULARITY_WEIGHT);
 			return Optional.of(bookshelfItemId);
 		}
 
@@ -190,6 +235,13 @@ public class DefaultBookshelfService implements BookshelfService {
 		return bookshelfRepository.findAllLikedByUserId(request, userId);
 	}
 
+	private JobGroup findJobGroup(Long jobId) {
+		if (jobId == null) {
+			return null;
+		}
+		return jobService.findById(jobId).map(Job::getJobGroup).orElse(null);
+	}
+
 	private Bookshelf validationBookshelfUser(Long userId, Long bookshelfId) {
 		Bookshelf bookshelf = bookshelfRepository.findById(bookshelfId)
 			.orElseThrow(() -> new ResourceNotfoundException(Bookshelf.class));
@@ -61,4 +61,10 @@ public class DefaultJobService implements JobService {
 			.orElseThrow(() -> new ResourceNotfoundException(Job.class));
 	}
 
+	@Transactional(readOnly = true)
+	@Override
+	public Optional<Job> findById(Long jobId) {
+		return jobRepository.findById(jobId);
+	}
+
 }
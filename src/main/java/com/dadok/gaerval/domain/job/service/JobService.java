@@ -15,4 +15,6 @@ public interface JobService {
 
 	Job getBy(JobGroup jobGroup, JobName jobName);
 
+	Optional<Job> findById(Long jobId);
+
 }
@@ -138,20 +138,15 @@ public class User extends BaseTimeColumn {
 	public boolean equals(Object o) {
 		if (this == o)
 			return true;
-		if (o == null || getClass() != o.getClass())
+		if (!(o instanceof User user))
 			return false;
-		User user = (User)o;
-		return Objects.equals(id, user.id) && Objects.equals(name, user.name)
-			&& Objects.equals(nickname, user.nickname) && Objects.equals(email, user.email)
-			&& Objects.equals(profileImage, user.profileImage) && gender == user.gender
-			&& authProvider == user.authProvider && Objects.equals(authId, user.authId)
-			&& Objects.equals(birthday, user.birthday);
+		return id != null && Objects.equals(id, user.getId());
 	}
 
 	@JacocoExcludeGenerated
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, name, nickname, email, profileImage, gender, authProvider, authId, birthday);
+		return User.class.hashCode();
 	}
 
 	public void changeNickname(Nickname nickname) {
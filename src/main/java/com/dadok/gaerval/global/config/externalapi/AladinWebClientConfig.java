@@ -1,5 +1,7 @@
 package com.dadok.gaerval.global.config.externalapi;
 
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,23 +9,44 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Getter
 @Configuration
-@RequiredArgsConstructor
 public class AladinWebClientConfig implements VendorWebClient {
 
+	public static final int MAXIMUM_ALADIN_COUNT = 200;
+
+	public static final int MAXIMUM_ALADIN_PAGE_SIZE = 50;
+
 	private final WebClientProperties webClientProperties;
 
+	private final VendorResilienceProperties.Vendor resilienceProperties;
+
+	private final ConnectionProvider connectionProvider;
+
+	private final VendorResilience resilience;
+
+	public AladinWebClientConfig(WebClientProperties webClientProperties,
+		VendorResilienceProperties vendorResilienceProperties, MeterRegistry meterRegistry) {
+		this.webClientProperties = webClientProperties;
+		this.resilienceProperties = vendorResilienceProperties.getAladin();
+		this.connectionProvider = VendorConnectionProviders.connectionProvider(
+			BookApiProvider.ALADIN.getDescription(), resilienceProperties);
+		this.resilience = new VendorResilience(BookApiProvider.ALADIN.getDescription(), resilienceProperties,
+			meterRegistry);
+	}
+
 	@Bean
 	@Qualifier("aladinWebClient")
 	public WebClient aladinWebClient() {
 		return WebClient.builder()
 			.baseUrl(webClientProperties.getAladin().getBestSellerBaseUri())
+			.clientConnector(VendorConnectionProviders.clientHttpConnector(connectionProvider, resilienceProperties))
 			.build();
 	}
 
@@ -40,4 +63,9 @@ public class AladinWebClientConfig implements VendorWebClient {
 		queryParams.add("Version", "20131101");
 		return queryParams;
 	}
+
+	@PreDestroy
+	public void disposeConnectionProvider() {
+		connectionProvider.dispose();
+	}
 }
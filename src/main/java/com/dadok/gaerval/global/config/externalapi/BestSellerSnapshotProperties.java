@@ -0,0 +1,24 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "search-api-provider.best-seller-snapshot")
+public class BestSellerSnapshotProperties {
+
+	private final List<Integer> categoryIds;
+	private final Duration fetchTimeout;
+
+	public BestSellerSnapshotProperties(List<Integer> categoryIds, Duration fetchTimeout) {
+		this.categoryIds = categoryIds == null ? List.of(0) : List.copyOf(categoryIds);
+		this.fetchTimeout = Objects.requireNonNullElse(fetchTimeout, Duration.ofSeconds(30));
+	}
+}
@@ -0,0 +1,31 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import com.dadok.gaerval.domain.book.dto.request.SearchTarget;
+
+/**
+ * 카카오 도서 검색 요청을 식별하는 키.
+ * 검색어는 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환으로 정규화해 같은 검색을 같은 키로 묶는다.
+ */
+public record BookSearchKey(String query, SearchTarget searchTarget, int page, int size, String sort) {
+
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+	public static BookSearchKey of(String query, SearchTarget searchTarget, int page, int size, String sort) {
+		return new BookSearchKey(normalize(query), searchTarget, page, size, sort);
+	}
+
+	public String toCacheKey() {
+		return searchTarget == null
+			? String.join(":", "book-search", BookApiProvider.KAKAO.getDescription(), sort,
+			String.valueOf(page), String.valueOf(size), query)
+			: String.join(":", "book-search", BookApiProvider.KAKAO.getDescription(), sort,
+			String.valueOf(page), String.valueOf(size), searchTarget.getName(), query);
+	}
+
+	private static String normalize(String query) {
+		return WHITESPACES.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,213 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.request.SearchTarget;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.infra.redis.RemoteCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *     외부 도서 API 앞단의 2단계 결과 캐시.
+ *     1차는 서버 내 크기/TTL 제한 로컬 캐시, 2차는 서버 간 공유하는 Redis 캐시이다.
+ *     Redis 장애나 지연은 캐시 미스로 취급하고 외부 API 를 그대로 호출한다. 실패 응답은 캐시하지 않는다.
+ *     외부 API 호출이 실패하면 로컬 TTL 이 지났더라도 원격 TTL 안에 마지막으로 성공한 결과가 있으면 그 결과로 응답한다.
+ * </pre>
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingBookApiOperations implements ExternalBookApiOperations {
+
+	static final String REMOTE_CACHE_METRIC = "external.book.cache.remote";
+
+	static final String STALE_CACHE_METRIC = "external.book.cache.stale";
+
+	private final ExternalBookApiOperations delegate;
+	private final RemoteCacheService remoteCacheService;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final ExternalBookCacheProperties cacheProperties;
+
+	private final LocalTier<BookResponses> bookSearchCache;
+	private final LocalTier<BookResponses> aladinBookSearchCache;
+	private final LocalTier<BestSellerBookResponses> bestSellerCache;
+
+	public CachingBookApiOperations(WebClientBookApiOperations delegate, RemoteCacheService remoteCacheService,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry, ExternalBookCacheProperties cacheProperties) {
+		this((ExternalBookApiOperations)delegate, remoteCacheService, objectMapper, meterRegistry, cacheProperties);
+	}
+
+	CachingBookApiOperations(ExternalBookApiOperations delegate, RemoteCacheService remoteCacheService,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry, ExternalBookCacheProperties cacheProperties) {
+		this.delegate = delegate;
+		this.remoteCacheService = remoteCacheService;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.cacheProperties = cacheProperties;
+		this.bookSearchCache = new LocalTier<>("book-search", BookApiProvider.KAKAO, cacheProperties.getKakao(),
+			meterRegistry);
+		this.aladinBookSearchCache = new LocalTier<>("book-search", BookApiProvider.ALADIN,
+			cacheProperties.getAladin(), meterRegistry);
+		this.bestSellerCache = new LocalTier<>("best-seller", BookApiProvider.ALADIN, cacheProperties.getAladin(),
+			meterRegistry);
+	}
+
+	@Override
+	public Mono<BookResponses> searchBooks(String query, int page, int size, String sort) {
+		String key = BookSearchKey.of(query, null, page, size, sort).toCacheKey();
+
+		return cached(BookApiProvider.KAKAO, key, BookResponses.class, bookSearchCache,
+			cacheProperties.getKakao(), () -> delegate.searchBooks(query, page, size, sort));
+	}
+
+	@Override
+	public Mono<BookResponses> searchBooksWithTargetRestriction(String query, SearchTarget searchTarget, int page,
+		int size, String sort) {
+		String key = BookSearchKey.of(query, searchTarget, page, size, sort).toCacheKey();
+
+		return cached(BookApiProvider.KAKAO, key, BookResponses.class, bookSearchCache, cacheProperties.getKakao(),
+			() -> delegate.searchBooksWithTargetRestriction(query, searchTarget, page, size, sort));
+	}
+
+	@Override
+	public Mono<BookResponses> searchAladinBooks(String query, int page, int size) {
+		String key = String.join(":", "book-search", BookApiProvider.ALADIN.getDescription(),
+			String.valueOf(page), String.valueOf(size), BookSearchKey.of(query, null, page, size, null).query());
+
+		return cached(BookApiProvider.ALADIN, key, BookResponses.class, aladinBookSearchCache,
+			cacheProperties.getAladin(), () -> delegate.searchAladinBooks(query, page, size));
+	}
+
+	@Override
+	public Mono<BestSellerBookResponses> searchWeeklyBestSellers(BestSellerSearchRequest bestSellerSearchRequest) {
+		String key = String.join(":", "best-seller", BookApiProvider.ALADIN.getDescription(),
+			String.valueOf(bestSellerSearchRequest.categoryId()), String.valueOf(bestSellerSearchRequest.page()),
+			String.valueOf(bestSellerSearchRequest.pageSize()));
+
+		return cached(BookApiProvider.ALADIN, key, BestSellerBookResponses.class, bestSellerCache,
+			cacheProperties.getAladin(), () -> delegate.searchWeeklyBestSellers(bestSellerSearchRequest));
+	}
+
+	private <T> Mono<T> cached(BookApiProvider provider, String key, Class<T> type, LocalTier<T> localCache,
+		ExternalBookCacheProperties.Tier tier, Supplier<Mono<T>> loader) {
+		T local = localCache.getFresh(key);
+		if (local != null) {
+			return Mono.just(local);
+		}
+
+		return readRemote(provider, key, type)
+			.doOnNext(remote -> localCache.put(key, remote))
+			.switchIfEmpty(Mono.defer(() -> loader.get()
+				.doOnNext(loaded -> {
+					localCache.put(key, loaded);
+					writeRemote(key, loaded, tier.getRemoteTimeToLive());
+				})
+				.onErrorResume(e -> serveStale(provider, key, localCache, e))));
+	}
+
+	private <T> Mono<T> serveStale(BookApiProvider provider, String key, LocalTier<T> localCache, Throwable error) {
+		T stale = localCache.getStale(key);
+		if (stale == null) {
+			return Mono.error(error);
+		}
+		log.warn("[CachingBookApiOperations]-[serveStale] 외부 API 실패로 이전 결과를 응답합니다. key : {}, message : {}",
+			key, error.getMessage());
+		meterRegistry.counter(STALE_CACHE_METRIC, "provider", provider.getDescription()).increment();
+		return Mono.just(stale);
+	}
+
+	private <T> Mono<T> readRemote(BookApiProvider provider, String key, Class<T> type) {
+		return Mono.defer(() -> remoteCacheService.get(key))
+			.timeout(cacheProperties.getRemoteTimeout())
+			.<T>handle((json, sink) -> {
+				try {
+					sink.next(objectMapper.readValue(json, type));
+				} catch (JsonProcessingException e) {
+					log.warn("[CachingBookApiOperations]-[readRemote] 캐시 역직렬화 실패. key : {}", key);
+				}
+			})
+			.onErrorResume(e -> {
+				log.warn("[CachingBookApiOperations]-[readRemote] 원격 캐시 조회 실패. key : {}, message : {}",
+					key, e.getMessage());
+				return Mono.empty();
+			})
+			.doOnNext(hit -> countRemote(provider, "hit"))
+			.switchIfEmpty(Mono.fromRunnable(() -> countRemote(provider, "miss")));
+	}
+
+	private void writeRemote(String key, Object value, Duration timeToLive) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			log.warn("[CachingBookApiOperations]-[writeRemote] 캐시 직렬화 실패. key : {}", key);
+			return;
+		}
+
+		Mono.defer(() -> remoteCacheService.set(key, json, timeToLive))
+			.timeout(cacheProperties.getRemoteTimeout())
+			.subscribe(
+				saved -> {
+				},
+				e -> log.warn("[CachingBookApiOperations]-[writeRemote] 원격 캐시 저장 실패. key : {}, message : {}",
+					key, e.getMessage()));
+	}
+
+	private void countRemote(BookApiProvider provider, String result) {
+		meterRegistry.counter(REMOTE_CACHE_METRIC, "provider", provider.getDescription(), "result", result)
+			.increment();
+	}
+
+	/**
+	 * 로컬 캐시. fresh 는 로컬 TTL 동안 응답에 사용하고, stale 은 외부 API 실패 시 대체 응답으로만 사용한다.
+	 */
+	private static final class LocalTier<T> {
+
+		private final Cache<String, T> fresh;
+		private final Cache<String, T> stale;
+
+		private LocalTier(String cacheName, BookApiProvider provider, ExternalBookCacheProperties.Tier tier,
+			MeterRegistry meterRegistry) {
+			this.fresh = GuavaCacheMetrics.monitor(meterRegistry, CacheBuilder.newBuilder()
+					.maximumSize(tier.getLocalMaximumSize())
+					.expireAfterWrite(tier.getLocalTimeToLive())
+					.recordStats()
+					.<String, T>build(),
+				cacheName, Tags.of("provider", provider.getDescription()));
+			this.stale = CacheBuilder.newBuilder()
+				.maximumSize(tier.getLocalMaximumSize())
+				.expireAfterWrite(tier.getRemoteTimeToLive())
+				.build();
+		}
+
+		private T getFresh(String key) {
+			return fresh.getIfPresent(key);
+		}
+
+		private T getStale(String key) {
+			return stale.getIfPresent(key);
+		}
+
+		private void put(String key, T value) {
+			fresh.put(key, value);
+			stale.put(key, value);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "search-api-provider.catalog-warming")
+public class CatalogWarmingProperties {
+
+	private final Integer queueCapacity;
+	private final Integer batchSize;
+	private final Duration deduplicationWindow;
+	private final Long deduplicationMaximumSize;
+
+	public CatalogWarmingProperties(Integer queueCapacity, Integer batchSize, Duration deduplicationWindow,
+		Long deduplicationMaximumSize) {
+		this.queueCapacity = Objects.requireNonNullElse(queueCapacity, 10_000);
+		this.batchSize = Objects.requireNonNullElse(batchSize, 200);
+		this.deduplicationWindow = Objects.requireNonNullElse(deduplicationWindow, Duration.ofMinutes(30));
+		this.deduplicationMaximumSize = Objects.requireNonNullElse(deduplicationMaximumSize, 100_000L);
+	}
+}
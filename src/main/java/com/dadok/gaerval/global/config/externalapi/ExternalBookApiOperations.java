@@ -5,11 +5,18 @@ import com.dadok.gaerval.domain.book.dto.request.SearchTarget;
 import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponses;
 
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 도서 API 호출. 요청 스레드를 점유하지 않도록 모든 결과는 Mono 로 반환한다.
+ */
 public interface ExternalBookApiOperations {
-	BookResponses searchBooks(String query, int page, int size, String sort);
+	Mono<BookResponses> searchBooks(String query, int page, int size, String sort);
 
-	BookResponses searchBooksWithTargetRestriction(String query, SearchTarget searchTarget, int page, int size,
+	Mono<BookResponses> searchBooksWithTargetRestriction(String query, SearchTarget searchTarget, int page, int size,
 		String sort);
 
-	BestSellerBookResponses searchWeeklyBestSellers(BestSellerSearchRequest bestSellerSearchRequest);
+	Mono<BookResponses> searchAladinBooks(String query, int page, int size);
+
+	Mono<BestSellerBookResponses> searchWeeklyBestSellers(BestSellerSearchRequest bestSellerSearchRequest);
 }
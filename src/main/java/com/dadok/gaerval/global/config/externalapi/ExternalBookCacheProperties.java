@@ -0,0 +1,42 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "search-api-provider.cache")
+public class ExternalBookCacheProperties {
+
+	private static final Duration DEFAULT_REMOTE_TIMEOUT = Duration.ofMillis(100);
+
+	private final Duration remoteTimeout;
+	private final Tier kakao;
+	private final Tier aladin;
+
+	public ExternalBookCacheProperties(Duration remoteTimeout, Tier kakao, Tier aladin) {
+		this.remoteTimeout = Objects.requireNonNullElse(remoteTimeout, DEFAULT_REMOTE_TIMEOUT);
+		this.kakao = Objects.requireNonNullElseGet(kakao,
+			() -> new Tier(10_000L, Duration.ofMinutes(10), Duration.ofHours(1)));
+		this.aladin = Objects.requireNonNullElseGet(aladin,
+			() -> new Tier(1_000L, Duration.ofHours(1), Duration.ofHours(24)));
+	}
+
+	@Getter
+	public static class Tier {
+		private final long localMaximumSize;
+		private final Duration localTimeToLive;
+		private final Duration remoteTimeToLive;
+
+		public Tier(Long localMaximumSize, Duration localTimeToLive, Duration remoteTimeToLive) {
+			this.localMaximumSize = Objects.requireNonNullElse(localMaximumSize, 1_000L);
+			this.localTimeToLive = Objects.requireNonNullElse(localTimeToLive, Duration.ofMinutes(10));
+			this.remoteTimeToLive = Objects.requireNonNullElse(remoteTimeToLive, Duration.ofHours(1));
+		}
+	}
+}
@@ -0,0 +1,351 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.converter.BookDataNormalizer;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponse;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.domain.book.exception.InvalidBookDataException;
+import com.dadok.gaerval.global.error.ErrorCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *     외부 도서 API 응답을 Jackson 스트리밍 파서로 읽어 바로 응답 레코드로 만든다.
+ *     JsonNode 트리나 Book 엔티티를 거치지 않고, 사용하지 않는 필드는 문자열로 만들지 않고 건너뛴다.
+ *     응답 전체를 로그로 남기지 않고 일정 비율로 요약 정보만 debug 로 남긴다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ExternalBookResponseParser {
+
+	static final int DIGEST_SAMPLE_RATE = 100;
+
+	private final JsonFactory jsonFactory;
+
+	private final AtomicLong parseCount = new AtomicLong();
+
+	public ExternalBookResponseParser(ObjectMapper objectMapper) {
+		this.jsonFactory = objectMapper.getFactory();
+	}
+
+	public BookResponses parseKakaoBookSearch(DataBuffer dataBuffer, int page, int size) {
+		int byteCount = dataBuffer.readableByteCount();
+		try (InputStream inputStream = dataBuffer.asInputStream(true);
+			 JsonParser parser = jsonFactory.createParser(inputStream)) {
+			BookResponses bookResponses = readKakaoBookSearch(parser, page, size);
+			logDigest(BookApiProvider.KAKAO, byteCount, bookResponses.searchBookResponseList().size(),
+				bookResponses.totalCount());
+			return bookResponses;
+		} catch (IOException e) {
+			throw new InvalidBookDataException(ErrorCode.BOOK_DATA_INVALID);
+		}
+	}
+
+	public BestSellerBookResponses parseAladinBestSeller(DataBuffer dataBuffer, int page, int size) {
+		int byteCount = dataBuffer.readableByteCount();
+		try (InputStream inputStream = dataBuffer.asInputStream(true);
+			 JsonParser parser = jsonFactory.createParser(inputStream)) {
+			BestSellerBookResponses bestSellerBookResponses = readAladinBestSeller(parser, page, size);
+			logDigest(BookApiProvider.ALADIN, byteCount, bestSellerBookResponses.bestSellerBookResponseList().size(),
+				bestSellerBookResponses.totalCount());
+			return bestSellerBookResponses;
+		} catch (IOException e) {
+			throw new InvalidBookDataException(ErrorCode.BOOK_DATA_INVALID);
+		}
+	}
+
+	public BookResponses parseAladinItemSearch(DataBuffer dataBuffer, int page, int size) {
+		int byteCount = dataBuffer.readableByteCount();
+		try (InputStream inputStream = dataBuffer.asInputStream(true);
+			 JsonParser parser = jsonFactory.createParser(inputStream)) {
+			BookResponses bookResponses = readAladinItemSearch(parser, page, size);
+			logDigest(BookApiProvider.ALADIN, byteCount, bookResponses.searchBookResponseList().size(),
+				bookResponses.totalCount());
+			return bookResponses;
+		} catch (IOException e) {
+			throw new InvalidBookDataException(ErrorCode.BOOK_DATA_INVALID);
+		}
+	}
+
+	private BookResponses readKakaoBookSearch(JsonParser parser, int page, int size) throws IOException {
+		startObject(parser);
+
+		List<SearchBookResponse> searchBookResponses = new ArrayList<>(size);
+		boolean hasMeta = false;
+		boolean isEnd = true;
+		int pageableCount = 0;
+		int totalCount = 0;
+		Integer errorCode = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			parser.nextToken();
+			switch (fieldName) {
+				case "documents" -> readKakaoDocuments(parser, searchBookResponses);
+				case "meta" -> {
+					hasMeta = true;
+					while (parser.nextToken() == JsonToken.FIELD_NAME) {
+						String metaField = parser.getCurrentName();
+						parser.nextToken();
+						switch (metaField) {
+							case "is_end" -> isEnd = parser.getValueAsBoolean(true);
+							case "pageable_count" -> pageableCount = parser.getValueAsInt();
+							case "total_count" -> totalCount = parser.getValueAsInt();
+							default -> parser.skipChildren();
+						}
+					}
+				}
+				case "code" -> errorCode = parser.getValueAsInt();
+				default -> parser.skipChildren();
+			}
+		}
+
+		if (!hasMeta) {
+			if (errorCode == null) {
+				throw new InvalidBookDataException(ErrorCode.BOOK_DATA_INVALID);
+			}
+			throw new BookApiNotAvailableException(ErrorCode.fromCode(String.valueOf(errorCode)));
+		}
+
+		return new BookResponses(page, size, isEnd, pageableCount, totalCount, searchBookResponses);
+	}
+
+	private void readKakaoDocuments(JsonParser parser, List<SearchBookResponse> searchBookResponses)
+		throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			String title = null;
+			String authors = null;
+			String contents = null;
+			String isbn = "";
+			String url = null;
+			String thumbnail = null;
+			String publisher = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				parser.nextToken();
+				switch (fieldName) {
+					case "title" -> title = parser.getValueAsString();
+					case "authors" -> authors = readJoinedStrings(parser);
+					case "contents" -> contents = parser.getValueAsString();
+					case "isbn" -> isbn = parser.getValueAsString("");
+					case "url" -> url = parser.getValueAsString();
+					case "thumbnail" -> thumbnail = parser.getValueAsString();
+					case "publisher" -> publisher = parser.getValueAsString();
+					default -> parser.skipChildren();
+				}
+			}
+
+			searchBookResponses.add(new SearchBookResponse(
+				BookDataNormalizer.title(title),
+				BookDataNormalizer.author(authors),
+				BookDataNormalizer.isbn(isbn),
+				BookDataNormalizer.contents(contents),
+				url,
+				thumbnail,
+				BookApiProvider.KAKAO.getName(),
+				BookDataNormalizer.publisher(publisher)));
+		}
+	}
+
+	private BestSellerBookResponses readAladinBestSeller(JsonParser parser, int page, int size) throws IOException {
+		startObject(parser);
+
+		List<BestSellerBookResponse> bestSellerBookResponses = new ArrayList<>(size);
+		Integer totalResults = null;
+		int startIndex = 0;
+		int itemsPerPage = 0;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			parser.nextToken();
+			switch (fieldName) {
+				case "totalResults" -> totalResults = parser.getValueAsInt();
+				case "startIndex" -> startIndex = parser.getValueAsInt();
+				case "itemsPerPage" -> itemsPerPage = parser.getValueAsInt();
+				case "item" -> readAladinItems(parser, bestSellerBookResponses);
+				default -> parser.skipChildren();
+			}
+		}
+
+		if (totalResults == null) {
+			throw new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE);
+		}
+
+		return new BestSellerBookResponses(page, size, totalResults <= startIndex + itemsPerPage,
+			AladinWebClientConfig.MAXIMUM_ALADIN_COUNT, totalResults, bestSellerBookResponses);
+	}
+
+	private void readAladinItems(JsonParser parser, List<BestSellerBookResponse> bestSellerBookResponses)
+		throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			String title = null;
+			String author = null;
+			String description = null;
+			String isbn = "";
+			String link = null;
+			String cover = null;
+			String publisher = null;
+			int bestRank = 0;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				parser.nextToken();
+				switch (fieldName) {
+					case "title" -> title = parser.getValueAsString();
+					case "author" -> author = parser.getValueAsString();
+					case "description" -> description = parser.getValueAsString();
+					case "isbn" -> isbn = parser.getValueAsString("");
+					case "link" -> link = parser.getValueAsString();
+					case "cover" -> cover = parser.getValueAsString();
+					case "publisher" -> publisher = parser.getValueAsString();
+					case "bestRank" -> bestRank = parser.getValueAsInt();
+					default -> parser.skipChildren();
+				}
+			}
+
+			bestSellerBookResponses.add(new BestSellerBookResponse(
+				BookDataNormalizer.title(title),
+				BookDataNormalizer.author(author),
+				BookDataNormalizer.isbn(isbn),
+				BookDataNormalizer.contents(description),
+				link,
+				cover,
+				BookApiProvider.ALADIN.getName(),
+				BookDataNormalizer.publisher(publisher),
+				bestRank));
+		}
+	}
+
+	private BookResponses readAladinItemSearch(JsonParser parser, int page, int size) throws IOException {
+		startObject(parser);
+
+		List<SearchBookResponse> searchBookResponses = new ArrayList<>(size);
+		Integer totalResults = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			parser.nextToken();
+			switch (fieldName) {
+				case "totalResults" -> totalResults = parser.getValueAsInt();
+				case "item" -> readAladinSearchItems(parser, searchBookResponses);
+				default -> parser.skipChildren();
+			}
+		}
+
+		if (totalResults == null) {
+			throw new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE);
+		}
+
+		int pageableCount = Math.min(totalResults, AladinWebClientConfig.MAXIMUM_ALADIN_COUNT);
+		return new BookResponses(page, size, page * size >= pageableCount, pageableCount, totalResults,
+			searchBookResponses);
+	}
+
+	private void readAladinSearchItems(JsonParser parser, List<SearchBookResponse> searchBookResponses)
+		throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			String title = null;
+			String author = null;
+			String description = null;
+			String isbn = "";
+			String isbn13 = null;
+			String link = null;
+			String cover = null;
+			String publisher = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				parser.nextToken();
+				switch (fieldName) {
+					case "title" -> title = parser.getValueAsString();
+					case "author" -> author = parser.getValueAsString();
+					case "description" -> description = parser.getValueAsString();
+					case "isbn" -> isbn = parser.getValueAsString("");
+					case "isbn13" -> isbn13 = parser.getValueAsString();
+					case "link" -> link = parser.getValueAsString();
+					case "cover" -> cover = parser.getValueAsString();
+					case "publisher" -> publisher = parser.getValueAsString();
+					default -> parser.skipChildren();
+				}
+			}
+
+			searchBookResponses.add(new SearchBookResponse(
+				BookDataNormalizer.title(title),
+				BookDataNormalizer.author(author),
+				BookDataNormalizer.isbn(isbn13 == null || isbn13.isBlank() ? isbn : isbn13),
+				BookDataNormalizer.contents(description),
+				link,
+				cover,
+				BookApiProvider.ALADIN.getName(),
+				BookDataNormalizer.publisher(publisher)));
+		}
+	}
+
+	private String readJoinedStrings(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			String value = parser.getValueAsString();
+			parser.skipChildren();
+			return value;
+		}
+
+		String first = null;
+		StringBuilder joined = null;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (first == null) {
+				first = parser.getText();
+			} else {
+				if (joined == null) {
+					joined = new StringBuilder(first);
+				}
+				joined.append(',').append(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+			}
+		}
+		return joined == null ? first : joined.toString();
+	}
+
+	private void startObject(JsonParser parser) throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw new InvalidBookDataException(ErrorCode.BOOK_DATA_INVALID);
+		}
+	}
+
+	private void logDigest(BookApiProvider provider, int byteCount, int itemCount, int totalCount) {
+		if (log.isDebugEnabled() && parseCount.getAndIncrement() % DIGEST_SAMPLE_RATE == 0) {
+			log.debug("[ExternalBookResponseParser]-[{}] bytes : {}, items : {}, totalCount : {}",
+				provider.getName(), byteCount, itemCount, totalCount);
+		}
+	}
+}
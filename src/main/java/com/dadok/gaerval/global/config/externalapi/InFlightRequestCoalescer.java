@@ -0,0 +1,83 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *     같은 키로 동시에 들어온 외부 호출을 하나로 합친다.
+ *     처음 들어온 호출자만 실제 호출을 시작하고, 완료 전까지 들어온 호출자는 같은 결과(성공/실패)를 공유한다.
+ *     호출이 끝나면 키를 제거하므로 결과를 보관하지는 않는다. 결과 보관은 CachingBookApiOperations 가 담당한다.
+ *
+ *     metric
+ *     - external.book.coalescing.fan.in : 호출 한 번을 공유한 호출자 수
+ *     - external.book.coalescing.saved.latency : 합쳐진 호출자마다 생략된 외부 호출 시간
+ * </pre>
+ */
+public class InFlightRequestCoalescer<K, V> {
+
+	static final String FAN_IN_METRIC = "external.book.coalescing.fan.in";
+
+	static final String SAVED_LATENCY_METRIC = "external.book.coalescing.saved.latency";
+
+	private final ConcurrentMap<K, InFlight> inFlights = new ConcurrentHashMap<>();
+
+	private final DistributionSummary fanIn;
+
+	private final Timer savedLatency;
+
+	public InFlightRequestCoalescer(String name, MeterRegistry meterRegistry) {
+		this.fanIn = DistributionSummary.builder(FAN_IN_METRIC)
+			.tag("name", name)
+			.register(meterRegistry);
+		this.savedLatency = Timer.builder(SAVED_LATENCY_METRIC)
+			.tag("name", name)
+			.register(meterRegistry);
+	}
+
+	public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+		return Mono.defer(() -> {
+			InFlight inFlight = inFlights.computeIfAbsent(key, k -> new InFlight(k, call));
+			inFlight.callers.incrementAndGet();
+			return inFlight.shared;
+		});
+	}
+
+	int inFlightCount() {
+		return inFlights.size();
+	}
+
+	private class InFlight {
+
+		private final AtomicInteger callers = new AtomicInteger();
+
+		private final Mono<V> shared;
+
+		private long startedAt;
+
+		private InFlight(K key, Supplier<Mono<V>> call) {
+			this.shared = Mono.defer(call)
+				.doOnSubscribe(subscription -> startedAt = System.nanoTime())
+				.doFinally(signalType -> complete(key))
+				.cache();
+		}
+
+		private void complete(K key) {
+			inFlights.remove(key, this);
+			long elapsed = System.nanoTime() - startedAt;
+			int fannedIn = callers.get();
+			fanIn.record(fannedIn);
+			for (int i = 1; i < fannedIn; i++) {
+				savedLatency.record(elapsed, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+}
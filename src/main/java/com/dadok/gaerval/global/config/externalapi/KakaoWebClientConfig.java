@@ -1,5 +1,7 @@
 package com.dadok.gaerval.global.config.externalapi;
 
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,18 +9,34 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorResourceFactory;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Getter
 @Configuration
-@RequiredArgsConstructor
 public class KakaoWebClientConfig implements VendorWebClient {
 
 	private final WebClientProperties webClientProperties;
 
+	private final VendorResilienceProperties.Vendor resilienceProperties;
+
+	private final ConnectionProvider connectionProvider;
+
+	private final VendorResilience resilience;
+
+	public KakaoWebClientConfig(WebClientProperties webClientProperties,
+		VendorResilienceProperties vendorResilienceProperties, MeterRegistry meterRegistry) {
+		this.webClientProperties = webClientProperties;
+		this.resilienceProperties = vendorResilienceProperties.getKakao();
+		this.connectionProvider = VendorConnectionProviders.connectionProvider(
+			BookApiProvider.KAKAO.getDescription(), resilienceProperties);
+		this.resilience = new VendorResilience(BookApiProvider.KAKAO.getDescription(), resilienceProperties,
+			meterRegistry);
+	}
+
 	@Bean
 	public ReactorResourceFactory resourceFactory() {
 		ReactorResourceFactory factory = new ReactorResourceFactory();
@@ -31,6 +49,7 @@ public class KakaoWebClientConfig implements VendorWebClient {
 	public WebClient kakaoWebClient() {
 		return WebClient.builder()
 			.baseUrl(webClientProperties.getKakao().getBaseUri())
+			.clientConnector(VendorConnectionProviders.clientHttpConnector(connectionProvider, resilienceProperties))
 			.defaultHeader(HttpHeaders.AUTHORIZATION,
 				String.format("%s %s", webClientProperties.getKakao().getScheme(), webClientProperties.getKakao().getApiKey()))
 			.build();
@@ -40,4 +59,9 @@ public class KakaoWebClientConfig implements VendorWebClient {
 	public WebClient getWebClient() {
 		return kakaoWebClient();
 	}
+
+	@PreDestroy
+	public void disposeConnectionProvider() {
+		connectionProvider.dispose();
+	}
 }
@@ -0,0 +1,107 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dadok.gaerval.domain.book.converter.BookDataNormalizer;
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.global.error.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *     카카오와 알라딘에 같은 검색을 동시에 보내고, 마감 시간까지 도착한 결과만 ISBN 기준으로 합친다.
+ *     카카오 결과를 먼저 두고, 카카오에 없는 알라딘 결과를 뒤에 붙인다. 따라서 한 페이지에 최대 pageSize 의 두 배까지 담길 수 있다.
+ *     한 제공자가 실패하거나 마감 시간을 넘기면 나머지 제공자의 결과만 반환하고, 모두 없으면 BookApiNotAvailableException 이 발생한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class MultiProviderBookSearch {
+
+	static final String FAN_OUT_METRIC = "external.book.fan.out";
+
+	private final ExternalBookApiOperations externalBookApiOperations;
+	private final MeterRegistry meterRegistry;
+	private final Duration deadline;
+
+	public MultiProviderBookSearch(ExternalBookApiOperations externalBookApiOperations, MeterRegistry meterRegistry,
+		@Value("${search-api-provider.fan-out.deadline:1500ms}") Duration deadline) {
+		this.externalBookApiOperations = externalBookApiOperations;
+		this.meterRegistry = meterRegistry;
+		this.deadline = deadline;
+	}
+
+	public Mono<BookResponses> searchBooks(String query, int page, int size, String sort) {
+		return Flux.merge(
+				fromProvider(BookApiProvider.KAKAO, externalBookApiOperations.searchBooks(query, page, size, sort)),
+				fromProvider(BookApiProvider.ALADIN, externalBookApiOperations.searchAladinBooks(query, page, size)))
+			.take(deadline)
+			.collectList()
+			.flatMap(results -> {
+				meterRegistry.counter(FAN_OUT_METRIC, "arrived", String.valueOf(results.size())).increment();
+				if (results.isEmpty()) {
+					return Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE));
+				}
+				return Mono.just(merge(results, page, size));
+			});
+	}
+
+	private Mono<ProviderResult> fromProvider(BookApiProvider provider, Mono<BookResponses> search) {
+		return search
+			.map(bookResponses -> new ProviderResult(provider, bookResponses))
+			.onErrorResume(e -> {
+				log.warn("[MultiProviderBookSearch]-[{}] 검색 실패. message : {}", provider.getDescription(),
+					e.getMessage());
+				return Mono.empty();
+			});
+	}
+
+	private BookResponses merge(List<ProviderResult> results, int page, int size) {
+		List<ProviderResult> ordered = new ArrayList<>(results);
+		ordered.sort(Comparator.comparing(ProviderResult::provider));
+
+		Map<String, SearchBookResponse> byIsbn = new LinkedHashMap<>();
+		List<SearchBookResponse> withoutIsbn = new ArrayList<>();
+		boolean isLast = true;
+		int pageableCount = 0;
+		int totalCount = 0;
+
+		for (ProviderResult result : ordered) {
+			BookResponses bookResponses = result.bookResponses();
+			isLast &= Boolean.TRUE.equals(bookResponses.isLast());
+			pageableCount = Math.max(pageableCount, bookResponses.pageableCount());
+			totalCount = Math.max(totalCount, bookResponses.totalCount());
+
+			for (SearchBookResponse searchBookResponse : bookResponses.searchBookResponseList()) {
+				String isbnKey = BookDataNormalizer.isbn13Key(searchBookResponse.isbn());
+				if (isbnKey == null) {
+					withoutIsbn.add(searchBookResponse);
+				} else {
+					byIsbn.putIfAbsent(isbnKey, searchBookResponse);
+				}
+			}
+		}
+
+		List<SearchBookResponse> merged = new ArrayList<>(byIsbn.size() + withoutIsbn.size());
+		merged.addAll(byIsbn.values());
+		merged.addAll(withoutIsbn);
+		return new BookResponses(page, size, isLast, pageableCount, totalCount, merged);
+	}
+
+	private record ProviderResult(BookApiProvider provider, BookResponses bookResponses) {
+	}
+}
@@ -0,0 +1,87 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ *     외부 도서 API 하나에 대한 서킷 브레이커.
+ *     CLOSED : 연속 실패가 failureThreshold 에 도달하면 OPEN 으로 바뀐다.
+ *     OPEN : openDuration 동안 호출을 거절한다. 시간이 지나면 처음 들어온 호출 하나만 HALF_OPEN 시험 호출로 보낸다.
+ *     HALF_OPEN : 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN 이 된다. 시험 호출 중에는 다른 호출을 거절한다.
+ * </pre>
+ */
+public class VendorCircuitBreaker {
+
+	public enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openDurationNanos;
+	private final LongSupplier nanoClock;
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private volatile long openedAt;
+
+	public VendorCircuitBreaker(int failureThreshold, Duration openDuration) {
+		this(failureThreshold, openDuration, System::nanoTime);
+	}
+
+	VendorCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	public boolean tryAcquirePermission() {
+		State current = state.get();
+		if (current == State.CLOSED) {
+			return true;
+		}
+		if (current == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+			return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+		}
+		return false;
+	}
+
+	public void onSuccess() {
+		if (state.compareAndSet(State.HALF_OPEN, State.CLOSED) || state.get() == State.CLOSED) {
+			consecutiveFailures.set(0);
+		}
+	}
+
+	public void onFailure() {
+		if (state.get() == State.HALF_OPEN) {
+			open(State.HALF_OPEN);
+			return;
+		}
+		if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+			open(State.CLOSED);
+		}
+	}
+
+	/**
+	 * 시험 호출이 결과 없이 끝나면(취소 등) 다음 호출이 바로 시험 호출이 될 수 있도록 OPEN 으로 되돌린다.
+	 */
+	public void onIgnored() {
+		if (state.get() == State.HALF_OPEN) {
+			openedAt = nanoClock.getAsLong() - openDurationNanos;
+			state.compareAndSet(State.HALF_OPEN, State.OPEN);
+		}
+	}
+
+	public State getState() {
+		return state.get();
+	}
+
+	private void open(State expected) {
+		openedAt = nanoClock.getAsLong();
+		if (state.compareAndSet(expected, State.OPEN)) {
+			consecutiveFailures.set(0);
+		}
+	}
+}
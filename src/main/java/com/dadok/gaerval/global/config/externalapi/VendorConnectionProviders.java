@@ -0,0 +1,34 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import io.netty.channel.ChannelOption;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 도서 API 별로 크기와 타임아웃을 따로 둔 커넥션 풀을 만든다.
+ * 풀 사용량은 reactor.netty.connection.provider.* metric 으로 vendor 이름과 함께 노출된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class VendorConnectionProviders {
+
+	static ConnectionProvider connectionProvider(String vendor, VendorResilienceProperties.Vendor properties) {
+		return ConnectionProvider.builder(vendor)
+			.maxConnections(properties.getMaxConnections())
+			.pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+			.maxIdleTime(properties.getMaxIdleTime())
+			.metrics(true)
+			.build();
+	}
+
+	static ReactorClientHttpConnector clientHttpConnector(ConnectionProvider connectionProvider,
+		VendorResilienceProperties.Vendor properties) {
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)properties.getConnectTimeout().toMillis())
+			.responseTimeout(properties.getResponseTimeout());
+		return new ReactorClientHttpConnector(httpClient);
+	}
+}
@@ -0,0 +1,121 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.global.error.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *     외부 도서 API 호출마다 적용하는 장애 격리 정책.
+ *     - 서킷 브레이커가 열려 있으면 호출하지 않고 바로 실패한다.
+ *     - 동시 호출 수를 maxConcurrentCalls 로 제한하고, 초과한 호출은 기다리지 않고 실패한다.
+ *     - 호출 전체에 callTimeout 을 적용한다.
+ *     타임아웃, 연결 실패, 5xx, 429 만 서킷 브레이커 실패로 센다. 나머지 응답은 API 가 살아있다는 뜻이므로 성공으로 본다.
+ *
+ *     metric
+ *     - external.book.circuit.state : 0 CLOSED, 1 HALF_OPEN, 2 OPEN
+ *     - external.book.bulkhead.in.use : 진행 중인 호출 수
+ *     - external.book.call.rejected : 거절된 호출 수 (reason : circuit_open, bulkhead_full)
+ * </pre>
+ */
+@Slf4j
+public class VendorResilience {
+
+	private final String vendor;
+	private final Duration callTimeout;
+	private final int maxConcurrentCalls;
+	private final Semaphore bulkhead;
+	private final VendorCircuitBreaker circuitBreaker;
+
+	private final Counter circuitOpenRejections;
+	private final Counter bulkheadFullRejections;
+
+	public VendorResilience(String vendor, VendorResilienceProperties.Vendor properties,
+		MeterRegistry meterRegistry) {
+		this(vendor, properties, new VendorCircuitBreaker(properties.getFailureThreshold(),
+			properties.getOpenDuration()), meterRegistry);
+	}
+
+	VendorResilience(String vendor, VendorResilienceProperties.Vendor properties,
+		VendorCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+		this.vendor = vendor;
+		this.callTimeout = properties.getCallTimeout();
+		this.maxConcurrentCalls = properties.getMaxConcurrentCalls();
+		this.bulkhead = new Semaphore(maxConcurrentCalls);
+		this.circuitBreaker = circuitBreaker;
+
+		Gauge.builder("external.book.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+			.tag("vendor", vendor)
+			.register(meterRegistry);
+		Gauge.builder("external.book.bulkhead.in.use", bulkhead,
+				semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+			.tag("vendor", vendor)
+			.register(meterRegistry);
+		this.circuitOpenRejections = Counter.builder("external.book.call.rejected")
+			.tags("vendor", vendor, "reason", "circuit_open")
+			.register(meterRegistry);
+		this.bulkheadFullRejections = Counter.builder("external.book.call.rejected")
+			.tags("vendor", vendor, "reason", "bulkhead_full")
+			.register(meterRegistry);
+	}
+
+	public <T> Mono<T> execute(Mono<T> call) {
+		return Mono.defer(() -> {
+			if (!circuitBreaker.tryAcquirePermission()) {
+				circuitOpenRejections.increment();
+				return Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE));
+			}
+			if (!bulkhead.tryAcquire()) {
+				circuitBreaker.onIgnored();
+				bulkheadFullRejections.increment();
+				return Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE));
+			}
+
+			return call
+				.timeout(callTimeout)
+				.doOnSuccess(result -> circuitBreaker.onSuccess())
+				.doOnError(this::record)
+				.doOnCancel(circuitBreaker::onIgnored)
+				.doFinally(signalType -> bulkhead.release())
+				.onErrorMap(this::isVendorFailure, e -> {
+					log.warn("[VendorResilience]-[{}] 외부 도서 API 호출 실패. circuit : {}, message : {}",
+						vendor, circuitBreaker.getState(), e.getMessage());
+					return new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE);
+				});
+		});
+	}
+
+	public VendorCircuitBreaker.State getCircuitState() {
+		return circuitBreaker.getState();
+	}
+
+	private void record(Throwable throwable) {
+		if (isVendorFailure(throwable)) {
+			circuitBreaker.onFailure();
+		} else {
+			circuitBreaker.onSuccess();
+		}
+	}
+
+	private boolean isVendorFailure(Throwable throwable) {
+		if (throwable instanceof TimeoutException || throwable instanceof WebClientRequestException) {
+			return true;
+		}
+		return throwable instanceof WebClientResponseException responseException
+			&& (responseException.getStatusCode().is5xxServerError()
+			|| responseException.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS);
+	}
+}
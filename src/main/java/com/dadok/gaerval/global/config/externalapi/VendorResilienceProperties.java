@@ -0,0 +1,54 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "search-api-provider.resilience")
+public class VendorResilienceProperties {
+
+	private final Vendor kakao;
+	private final Vendor aladin;
+
+	public VendorResilienceProperties(Vendor kakao, Vendor aladin) {
+		this.kakao = Objects.requireNonNullElseGet(kakao, Vendor::defaults);
+		this.aladin = Objects.requireNonNullElseGet(aladin, Vendor::defaults);
+	}
+
+	@Getter
+	public static class Vendor {
+		private final int maxConnections;
+		private final Duration pendingAcquireTimeout;
+		private final Duration maxIdleTime;
+		private final Duration connectTimeout;
+		private final Duration responseTimeout;
+		private final Duration callTimeout;
+		private final int maxConcurrentCalls;
+		private final int failureThreshold;
+		private final Duration openDuration;
+
+		public Vendor(Integer maxConnections, Duration pendingAcquireTimeout, Duration maxIdleTime,
+			Duration connectTimeout, Duration responseTimeout, Duration callTimeout, Integer maxConcurrentCalls,
+			Integer failureThreshold, Duration openDuration) {
+			this.maxConnections = Objects.requireNonNullElse(maxConnections, 50);
+			this.pendingAcquireTimeout = Objects.requireNonNullElse(pendingAcquireTimeout, Duration.ofMillis(500));
+			this.maxIdleTime = Objects.requireNonNullElse(maxIdleTime, Duration.ofSeconds(30));
+			this.connectTimeout = Objects.requireNonNullElse(connectTimeout, Duration.ofSeconds(1));
+			this.responseTimeout = Objects.requireNonNullElse(responseTimeout, Duration.ofSeconds(2));
+			this.callTimeout = Objects.requireNonNullElse(callTimeout, Duration.ofSeconds(3));
+			this.maxConcurrentCalls = Objects.requireNonNullElse(maxConcurrentCalls, 50);
+			this.failureThreshold = Objects.requireNonNullElse(failureThreshold, 5);
+			this.openDuration = Objects.requireNonNullElse(openDuration, Duration.ofSeconds(10));
+		}
+
+		static Vendor defaults() {
+			return new Vendor(null, null, null, null, null, null, null, null, null);
+		}
+	}
+}
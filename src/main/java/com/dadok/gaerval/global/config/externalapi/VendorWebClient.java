@@ -4,4 +4,6 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 public interface VendorWebClient {
 	WebClient getWebClient();
+
+	VendorResilience getResilience();
 }
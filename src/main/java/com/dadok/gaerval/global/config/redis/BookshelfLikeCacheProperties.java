@@ -0,0 +1,21 @@
+package com.dadok.gaerval.global.config.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "bookshelf-like-cache")
+public class BookshelfLikeCacheProperties {
+
+	private final Duration timeToLive;
+
+	public BookshelfLikeCacheProperties(Duration timeToLive) {
+		this.timeToLive = Objects.requireNonNullElse(timeToLive, Duration.ofHours(6));
+	}
+}
@@ -0,0 +1,30 @@
+package com.dadok.gaerval.global.config.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import lombok.Getter;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "recent-search")
+public class RecentSearchProperties {
+
+	private final Integer maxKeywords;
+	private final Duration timeToLive;
+	private final Boolean archiveEnabled;
+	private final Integer archiveQueueCapacity;
+	private final Integer archiveBatchSize;
+
+	public RecentSearchProperties(Integer maxKeywords, Duration timeToLive, Boolean archiveEnabled,
+		Integer archiveQueueCapacity, Integer archiveBatchSize) {
+		this.maxKeywords = Objects.requireNonNullElse(maxKeywords, 100);
+		this.timeToLive = Objects.requireNonNullElse(timeToLive, Duration.ofDays(90));
+		this.archiveEnabled = Objects.requireNonNullElse(archiveEnabled, true);
+		this.archiveQueueCapacity = Objects.requireNonNullElse(archiveQueueCapacity, 10_000);
+		this.archiveBatchSize = Objects.requireNonNullElse(archiveBatchSize, 500);
+	}
+}
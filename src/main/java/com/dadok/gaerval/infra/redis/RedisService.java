@@ -1,7 +1,31 @@
 package com.dadok.gaerval.infra.redis;
 
+import java.time.Duration;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
 @Service
+@RequiredArgsConstructor
 public class RedisService implements RemoteCacheService {
+
+	private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+	@Override
+	public Mono<String> get(String key) {
+		return reactiveStringRedisTemplate.opsForValue().get(key);
+	}
+
+	@Override
+	public Mono<Boolean> set(String key, String value, Duration timeToLive) {
+		return reactiveStringRedisTemplate.opsForValue().set(key, value, timeToLive);
+	}
+
+	@Override
+	public Mono<Boolean> delete(String key) {
+		return reactiveStringRedisTemplate.delete(key).map(count -> count > 0);
+	}
 }
@@ -1,4 +1,18 @@
 package com.dadok.gaerval.infra.redis;
 
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 여러 서버 인스턴스가 공유하는 원격 캐시.
+ * 값은 직렬화된 문자열로 저장하며, 조회 결과가 없으면 빈 Mono 를 반환한다.
+ */
 public interface RemoteCacheService {
+
+	Mono<String> get(String key);
+
+	Mono<Boolean> set(String key, String value, Duration timeToLive);
+
+	Mono<Boolean> delete(String key);
 }
@@ -6,6 +6,9 @@ alter table book_comments auto_increment = 1;
 truncate table bookshelf_item;
 alter table bookshelf_item auto_increment = 1;
 
+truncate table book_job_group_counts;
+alter table book_job_group_counts auto_increment = 1;
+
 truncate table bookshelves;
 alter table bookshelves auto_increment = 1;
 
@@ -2,6 +2,8 @@ drop table if exists book_comments cascade;
 
 drop table if exists bookshelf_item cascade;
 
+drop table if exists book_job_group_counts cascade;
+
 drop table if exists bookshelf_likes cascade;
 
 drop table if exists bookshelves cascade;
@@ -10,6 +12,8 @@ drop table if exists group_comments cascade;
 
 drop table if exists group_member cascade;
 
+drop table if exists book_group_search_tokens cascade;
+
 drop table if exists book_groups cascade;
 
 drop table if exists books cascade;
@@ -58,6 +62,7 @@ create table if not exists  books
     is_deleted   bit           not null,
     isbn         varchar(20)   not null,
     publisher    varchar(30)   not null,
+    shelved_count int default 0 not null,
     title        varchar(500)  not null,
     url          varchar(2083) null,
     constraint UK_kibbepcitr0a3cpk3rfr7nihn
@@ -77,6 +82,8 @@ create table if not exists  book_groups
     join_passwd      varchar(64)   null,
     join_question    varchar(30)   null,
     max_member_count int           not null,
+    member_count     bigint        default 0 not null,
+    comment_count    bigint        default 0 not null,
     owner_id         bigint        not null,
     start_date       date          not null,
     title            varchar(30)   not null,
@@ -91,6 +98,21 @@ create index is_public_index
 create index owner_id_index
     on book_groups (owner_id);
 
+create table if not exists  book_group_search_tokens
+(
+    id            bigint auto_increment
+        primary key,
+    book_group_id bigint      not null,
+    field         varchar(10) not null,
+    token         varchar(8)  not null
+);
+
+create index token_field_book_group_id_index
+    on book_group_search_tokens (token, field, book_group_id);
+
+create index book_group_id_index
+    on book_group_search_tokens (book_group_id);
+
 create table if not exists  oauth2_authorized_client
 (
     client_registration_id  varchar(100)                        not null,
@@ -154,6 +176,8 @@ create table if not exists  bookshelves
     is_public   bit         not null,
     job_id      bigint      null,
     name        varchar(30) not null,
+    popularity_score int default 0 not null,
+    like_count  int         default 0 not null,
     user_id     bigint      not null,
     constraint UK_tcrodhygyxwj34g51k38cpm3v
         unique (user_id),
@@ -176,6 +200,27 @@ create table if not exists  bookshelf_item
         foreign key (book_id) references books (id)
 );
 
+create index book_id_created_at_index
+    on bookshelf_item (book_id, created_at);
+
+create index bookshelf_id_id_index
+    on bookshelf_item (bookshelf_id, id);
+
+create table if not exists  book_job_group_counts
+(
+    id          bigint auto_increment
+        primary key,
+    job_group   varchar(255)     not null,
+    book_id     bigint           not null,
+    shelf_count bigint default 0 not null,
+    constraint UK_book_job_group_counts_job_group_book
+        unique (job_group, book_id),
+    foreign key (book_id) references books (id)
+);
+
+create index job_group_shelf_count_book_id_index
+    on book_job_group_counts (job_group, shelf_count, book_id);
+
 create table if not exists  bookshelf_likes
 (
     id           bigint auto_increment
@@ -189,8 +234,11 @@ create table if not exists  bookshelf_likes
     unique (user_id, bookshelf_id)
     );
 
-create index job_id_index
-    on bookshelves (job_id);
+create index job_id_popularity_score_index
+    on bookshelves (job_id, popularity_score);
+
+create index popularity_score_index
+    on bookshelves (popularity_score);
 
 create table if not exists  group_comments
 (
@@ -210,6 +258,12 @@ create table if not exists  group_comments
         foreign key (user_id) references users (id)
 );
 
+create index book_group_id_parent_comment_id_id_index
+    on group_comments (book_group_id, parent_comment_id, id);
+
+create index parent_comment_id_id_index
+    on group_comments (parent_comment_id, id);
+
 create table if not exists  group_member
 (
     id            bigint auto_increment
@@ -248,6 +302,8 @@ create table if not exists book_recent_searches
     modified_at datetime(6)  null,
     keyword     varchar(255) not null,
     user_id     bigint       not null,
+    constraint UK_book_recent_searches_user_keyword
+        unique (user_id, keyword),
     constraint FK4pehqqyf5xen2icq7qeyxchuv
         foreign key (user_id) references users (id)
 );
\ No newline at end of file
@@ -10,6 +10,7 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -27,19 +28,24 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import com.dadok.gaerval.controller.ControllerSliceTest;
 import com.dadok.gaerval.controller.document.utils.DocumentLinkGenerator;
 import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.request.BookBulkCreateRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookRecentSearchRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookSearchRequest;
+import com.dadok.gaerval.domain.book.dto.request.PopularKeywordRequest;
 import com.dadok.gaerval.domain.book.dto.request.SuggestionsBookFindRequest;
 import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponse;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponse;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponse;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponse;
@@ -54,6 +60,8 @@ import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
 import com.epages.restdocs.apispec.ResourceDocumentation;
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 
+import reactor.core.publisher.Mono;
+
 @WebMvcTest(controllers = BookController.class)
 class BookControllerSliceTest extends ControllerSliceTest {
 
@@ -66,9 +74,9 @@ class BookControllerSliceTest extends ControllerSliceTest {
 	void findBook_success() throws Exception {
 		// given
 		String keyword = "용기";
-		BookSearchRequest bookSearchRequest = new BookSearchRequest(1, 10, keyword, true);
+		BookSearchRequest bookSearchRequest = new BookSearchRequest(1, 10, keyword, true, false);
 		given(bookService.findAllByKeyword(bookSearchRequest, 1L)).willReturn(
-			BookObjectProvider.mockBookData());
+			Mono.just(BookObjectProvider.mockBookData()));
 
 		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 
@@ -76,15 +84,20 @@ class BookControllerSliceTest extends ControllerSliceTest {
 		params.add("pageSize", bookSearchRequest.pageSize().toString());
 		params.add("query", bookSearchRequest.query());
 		params.add("isStoreRecent", String.valueOf(bookSearchRequest.isStoreRecent()));
+		params.add("isSearchAllProviders", String.valueOf(bookSearchRequest.isSearchAllProviders()));
 
 		// when
-		mockMvc.perform(get("/api/books")
+		MvcResult asyncResult = mockMvc.perform(get("/api/books")
 				.contentType(MediaType.APPLICATION_JSON)
 				.header(ACCESS_TOKEN_HEADER_NAME, MOCK_ACCESS_TOKEN)
 				.accept(MediaType.APPLICATION_JSON)
 				.params(params)
 				.characterEncoding(StandardCharsets.UTF_8)
-			).andExpect(status().isOk())
+			).andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(asyncResult))
+			.andExpect(status().isOk())
 			.andDo(print())
 			.andDo(this.restDocs.document(
 				requestHeaders(
@@ -107,6 +120,10 @@ class BookControllerSliceTest extends ControllerSliceTest {
 					parameterWithName("isStoreRecent").description("최근 검색어 저장 여부")
 						.attributes(
 							constrainsAttribute(BookSearchRequest.class, "isStoreRecent")
+						),
+					parameterWithName("isSearchAllProviders").description("카카오, 알라딘 동시 검색 여부 (기본값 : false)")
+						.attributes(
+							constrainsAttribute(BookSearchRequest.class, "isSearchAllProviders")
 						)
 				),
 				responseFields(
@@ -167,7 +184,7 @@ class BookControllerSliceTest extends ControllerSliceTest {
 		// given
 		BestSellerSearchRequest bestSellerSearchRequest = new BestSellerSearchRequest(1, 10, 0, WEEKLY);
 		given(bookService.findAllBestSeller(bestSellerSearchRequest)).willReturn(
-			BookObjectProvider.mockBestSellerData());
+			Mono.just(BookObjectProvider.mockBestSellerData()));
 
 		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 
@@ -177,13 +194,17 @@ class BookControllerSliceTest extends ControllerSliceTest {
 		params.add("bestSellerSearchRange", bestSellerSearchRequest.bestSellerSearchRange().getName());
 
 		// when
-		mockMvc.perform(get("/api/books/best-seller")
+		MvcResult asyncResult = mockMvc.perform(get("/api/books/best-seller")
 				.contentType(MediaType.APPLICATION_JSON)
 				.header(ACCESS_TOKEN_HEADER_NAME, MOCK_ACCESS_TOKEN)
 				.accept(MediaType.APPLICATION_JSON)
 				.params(params)
 				.characterEncoding(StandardCharsets.UTF_8)
-			).andExpect(status().isOk())
+			).andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(asyncResult))
+			.andExpect(status().isOk())
 			.andDo(print())
 			.andDo(this.restDocs.document(
 				requestHeaders(
@@ -307,6 +328,52 @@ class BookControllerSliceTest extends ControllerSliceTest {
 		verify(bookService).findKeywordsByUserId(1L, limit);
 	}
 
+	@DisplayName("findPopularKeywords - 인기 검색어 목록을 반환한다.")
+	@Test
+	@WithMockCustomOAuth2LoginUser
+	void findPopularKeywords_success() throws Exception {
+		// given
+		int limit = 2;
+		given(bookService.findPopularKeywords(limit)).willReturn(new PopularKeywordResponses(
+			List.of(new PopularKeywordResponse(1, "자바"), new PopularKeywordResponse(2, "클린 코드"))));
+
+		// when
+		mockMvc.perform(get("/api/books/popular-keywords")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("limit", String.valueOf(limit)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.popularKeywordResponses[0].keyword").value("자바"))
+			.andDo(this.restDocs.document(
+				requestHeaders(
+					headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+				),
+				requestParameters(
+					parameterWithName("limit").description("가져올 검색어 개수(기본값 : 10)")
+						.attributes(
+							constrainsAttribute(PopularKeywordRequest.class, "limit")
+						)
+				),
+				responseFields(
+					fieldWithPath("count").type(JsonFieldType.NUMBER)
+						.description("검색어 목록 개수"),
+					fieldWithPath("isEmpty").type(JsonFieldType.BOOLEAN)
+						.description("검색어 목록이 비어 있는지 여부"),
+					fieldWithPath("popularKeywordResponses").type(JsonFieldType.ARRAY)
+						.optional()
+						.description("인기 검색어 목록"),
+					fieldWithPath("popularKeywordResponses[].rank").type(JsonFieldType.NUMBER)
+						.optional()
+						.description("순위"),
+					fieldWithPath("popularKeywordResponses[].keyword").type(JsonFieldType.STRING)
+						.optional()
+						.description("검색어")
+				)
+			));
+
+		// then
+		verify(bookService).findPopularKeywords(limit);
+	}
+
 	@DisplayName("findBookDetail - bookId로 도서 상세정보 조회에 성공한다.")
 	@Test
 	void findBookDetail_success() throws Exception {
@@ -433,7 +500,7 @@ class BookControllerSliceTest extends ControllerSliceTest {
 	@Test
 	void findSuggestionBooks_success() throws Exception {
 		SuggestionsBookFindRequest request = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 10,
-			95L, SortDirection.DESC);
+			95L, 2L, SortDirection.DESC);
 
 		List<SuggestionsBookFindResponse> suggestionsBookFindResponses = List.of(
 			new SuggestionsBookFindResponse(1L, "http://imageurl4.com"
@@ -466,6 +533,7 @@ class BookControllerSliceTest extends ControllerSliceTest {
 		params.add("jobGroup", JobGroup.DEVELOPMENT.name());
 		params.add("pageSize", request.pageSize().toString());
 		params.add("bookCursorId", String.valueOf(95));
+		params.add("bookCursorCount", String.valueOf(2));
 		params.add("sortDirection", SortDirection.DESC.name());
 
 		//when
@@ -489,11 +557,13 @@ class BookControllerSliceTest extends ControllerSliceTest {
 							.attributes(
 								constrainsAttribute(SuggestionsBookFindRequest.class, "pageSize")
 							),
-						parameterWithName("bookCursorId").description("커서 book Id. 커서id가 null이고 DESC면 가장 최근 데이터.")
+						parameterWithName("bookCursorId").description("커서 book Id. 직전 페이지 마지막 책의 bookId. bookCursorCount 와 함께 보낸다. 둘 다 null이면 처음부터.")
+							.optional(),
+						parameterWithName("bookCursorCount").description("커서 count. 직전 페이지 마지막 책의 count. bookCursorId 와 함께 보낸다.")
 							.optional(),
 						parameterWithName("sortDirection").description("정렬 순서. default : DESC").optional()
 							.description("정렬 방식 : " +
-								generateLinkCode(DocUrl.SORT_DIRECTION)
+								generateLinkCode(DocUrl.SORT_DIRECTION) + ". DESC : 많이 꽂힌 책부터, ASC : 적게 꽂힌 책부터"
 							)
 
 					),
@@ -557,11 +627,13 @@ class BookControllerSliceTest extends ControllerSliceTest {
 							.attributes(
 								constrainsAttribute(SuggestionsBookFindRequest.class, "pageSize")
 							),
-						parameterWithName("bookCursorId").description("커서 book Id. 커서id가 null이고 DESC면 가장 최근 데이터.")
+						parameterWithName("bookCursorId").description("커서 book Id. 직전 페이지 마지막 책의 bookId. bookCursorCount 와 함께 보낸다. 둘 다 null이면 처음부터.")
+							.optional(),
+						parameterWithName("bookCursorCount").description("커서 count. 직전 페이지 마지막 책의 count. bookCursorId 와 함께 보낸다.")
 							.optional(),
 						parameterWithName("sortDirection").description("정렬 순서. default : DESC").optional()
 							.description("정렬 방식 : " +
-								generateLinkCode(DocUrl.SORT_DIRECTION)
+								generateLinkCode(DocUrl.SORT_DIRECTION) + ". DESC : 많이 꽂힌 책부터, ASC : 적게 꽂힌 책부터"
 							)
 					)
 					.responseFields(
@@ -696,4 +768,43 @@ class BookControllerSliceTest extends ControllerSliceTest {
 
 		;
 	}
-}
\ No newline at end of file
+
+	@DisplayName("saveBooks - 여러 도서를 한 번에 저장하는데 성공한다.")
+	@Test
+	void saveBooks_success() throws Exception {
+		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
+		BookBulkCreateRequest bookBulkCreateRequest = new BookBulkCreateRequest(List.of(bookCreateRequest));
+		given(bookService.createBooksAndReturnIds(List.of(bookCreateRequest))).willReturn(List.of(1L));
+
+		mockMvc.perform(post("/api/books/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.header(ACCESS_TOKEN_HEADER_NAME, MOCK_ACCESS_TOKEN)
+				.characterEncoding(StandardCharsets.UTF_8)
+				.content(objectMapper.writeValueAsString(bookBulkCreateRequest)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.bookIds[0]").value(1L))
+			.andDo(this.restDocs.document(
+					requestHeaders(
+						headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+					),
+					requestFields(
+						fieldWithPath("books").type(JsonFieldType.ARRAY).description("저장할 도서 목록")
+							.attributes(
+								constrainsAttribute(BookBulkCreateRequest.class, "books")
+							),
+						fieldWithPath("books[].title").type(JsonFieldType.STRING).description("도서 제목"),
+						fieldWithPath("books[].author").type(JsonFieldType.STRING).description("도서 작가"),
+						fieldWithPath("books[].isbn").type(JsonFieldType.STRING).description("도서 isbn"),
+						fieldWithPath("books[].contents").type(JsonFieldType.STRING).description("도서 설명"),
+						fieldWithPath("books[].url").type(JsonFieldType.STRING).description("도서 url"),
+						fieldWithPath("books[].imageUrl").type(JsonFieldType.STRING).description("도서 이미지 url"),
+						fieldWithPath("books[].publisher").type(JsonFieldType.STRING).description("출판사"),
+						fieldWithPath("books[].apiProvider").type(JsonFieldType.STRING).description("api 제공사")
+					),
+					responseFields(
+						fieldWithPath("bookIds").type(JsonFieldType.ARRAY).description("요청 순서대로 저장된 도서 id")
+					)
+				)
+			);
+	}
+}
@@ -0,0 +1,115 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository.UpsertResult;
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+
+@CustomDataJpaTest
+@Import(BookJdbcRepository.class)
+class BookJdbcRepositoryTest {
+
+	@Autowired
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@DisplayName("upsertAll - 없는 도서는 저장하고, 이미 있는 isbn 은 도서 정보만 갱신한다.")
+	@Test
+	void upsertAll() {
+		// given
+		Book existingBook = bookRepository.saveAndFlush(BookObjectProvider.createBook());
+		BookCreateRequest changed = new BookCreateRequest("새로운 타이틀", BookObjectProvider.author,
+			BookObjectProvider.isbn, BookObjectProvider.contents, BookObjectProvider.url, BookObjectProvider.imageUrl,
+			BookObjectProvider.publisher, BookObjectProvider.apiProvider);
+		BookCreateRequest created = new BookCreateRequest("자바 ORM 표준 JPA 프로그래밍", "김영한", "9788960777330",
+			"JPA 기본편", "https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "에이콘출판", "KAKAO");
+
+		// when
+		bookJdbcRepository.upsertAll(List.of(changed, created));
+		entityManager.clear();
+
+		// then
+		List<Book> books = bookRepository.findAllByIsbnIn(List.of(BookObjectProvider.isbn, "9788960777330"));
+		assertEquals(2, books.size());
+		Book updatedBook = bookRepository.findBookByIsbn(BookObjectProvider.isbn).orElseThrow();
+		assertEquals(existingBook.getId(), updatedBook.getId());
+		assertEquals("새로운 타이틀", updatedBook.getTitle());
+		assertEquals("김영한", bookRepository.findBookByIsbn("9788960777330").orElseThrow().getAuthor());
+	}
+
+	@DisplayName("upsert - 새 도서는 저장하고, 같은 isbn 을 다시 저장하면 기존 도서ID를 반환한다.")
+	@Test
+	void upsert() {
+		// given
+		BookCreateRequest request = BookObjectProvider.createBookCreateRequest();
+		BookCreateRequest changed = new BookCreateRequest("새로운 타이틀", BookObjectProvider.author,
+			BookObjectProvider.isbn, BookObjectProvider.contents, BookObjectProvider.url, BookObjectProvider.imageUrl,
+			BookObjectProvider.publisher, BookObjectProvider.apiProvider);
+
+		// when
+		UpsertResult created = bookJdbcRepository.upsert(request);
+		UpsertResult updated = bookJdbcRepository.upsert(changed);
+		entityManager.clear();
+
+		// then
+		assertNotNull(created.bookId());
+		assertFalse(created.changed());
+		assertEquals(created.bookId(), updated.bookId());
+		assertTrue(updated.changed());
+		assertEquals("새로운 타이틀", bookRepository.findById(created.bookId()).orElseThrow().getTitle());
+	}
+
+	@DisplayName("upsert - 같은 값으로 다시 저장하면 기존 도서가 바뀌지 않았다고 알려준다.")
+	@Test
+	void upsert_unchanged() {
+		// given
+		BookCreateRequest request = BookObjectProvider.createBookCreateRequest();
+		Long bookId = bookJdbcRepository.upsert(request).bookId();
+
+		// when
+		UpsertResult result = bookJdbcRepository.upsert(request);
+
+		// then
+		assertEquals(bookId, result.bookId());
+		assertFalse(result.changed());
+	}
+
+	@DisplayName("findRetitledBooks - 이미 있는 도서 중 제목이 바뀌는 도서의 id 와 새 제목만 반환한다.")
+	@Test
+	void findRetitledBooks() {
+		// given
+		Book existingBook = bookRepository.saveAndFlush(BookObjectProvider.createBook());
+		BookCreateRequest changed = new BookCreateRequest("새로운 타이틀", BookObjectProvider.author,
+			BookObjectProvider.isbn, BookObjectProvider.contents, BookObjectProvider.url, BookObjectProvider.imageUrl,
+			BookObjectProvider.publisher, BookObjectProvider.apiProvider);
+		BookCreateRequest created = new BookCreateRequest("자바 ORM 표준 JPA 프로그래밍", "김영한", "9788960777330",
+			"JPA 기본편", "https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "에이콘출판", "KAKAO");
+
+		// when
+		Map<Long, String> retitledBooks = bookJdbcRepository.findRetitledBooks(List.of(changed, created));
+		Map<Long, String> unchangedBooks = bookJdbcRepository.findRetitledBooks(
+			List.of(BookObjectProvider.createBookCreateRequest()));
+
+		// then
+		assertEquals(Map.of(existingBook.getId(), "새로운 타이틀"), retitledBooks);
+		assertTrue(unchangedBooks.isEmpty());
+	}
+}
@@ -0,0 +1,79 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestConstructor;
+
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.entity.BookJobGroupCount;
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+
+import lombok.RequiredArgsConstructor;
+
+@CustomDataJpaTest
+@Import(BookJobGroupCountJdbcRepository.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class BookJobGroupCountJdbcRepositoryTest {
+
+	private final BookJobGroupCountJdbcRepository bookJobGroupCountJdbcRepository;
+
+	private final BookRepository bookRepository;
+
+	private final EntityManager entityManager;
+
+	@DisplayName("increase - 없는 (직군, 책) 은 1 로 만들고, 있으면 1 을 더한다.")
+	@Test
+	void increase() {
+		// given
+		Book book = bookRepository.saveAndFlush(BookObjectProvider.createBook());
+
+		// when
+		bookJobGroupCountJdbcRepository.increase(JobGroup.DEVELOPMENT, List.of(book.getId()));
+		bookJobGroupCountJdbcRepository.increase(JobGroup.DEVELOPMENT, List.of(book.getId()));
+		bookJobGroupCountJdbcRepository.increase(JobGroup.HR, List.of(book.getId()));
+
+		// then
+		assertEquals(2L, findShelfCount(JobGroup.DEVELOPMENT, book.getId()));
+		assertEquals(1L, findShelfCount(JobGroup.HR, book.getId()));
+	}
+
+	@DisplayName("decrease - 1 을 빼되 0 아래로 내려가지 않고, 없는 (직군, 책) 은 만들지 않는다.")
+	@Test
+	void decrease() {
+		// given
+		Book book = bookRepository.saveAndFlush(BookObjectProvider.createBook());
+		bookJobGroupCountJdbcRepository.increase(JobGroup.DEVELOPMENT, List.of(book.getId()));
+
+		// when
+		bookJobGroupCountJdbcRepository.decrease(JobGroup.DEVELOPMENT, List.of(book.getId()));
+		bookJobGroupCountJdbcRepository.decrease(JobGroup.DEVELOPMENT, List.of(book.getId()));
+		bookJobGroupCountJdbcRepository.decrease(JobGroup.HR, List.of(book.getId()));
+
+		// then
+		assertEquals(0L, findShelfCount(JobGroup.DEVELOPMENT, book.getId()));
+		assertTrue(entityManager.createQuery(
+				"select c from BookJobGroupCount c where c.jobGroup = :jobGroup", BookJobGroupCount.class)
+			.setParameter("jobGroup", JobGroup.HR)
+			.getResultList()
+			.isEmpty());
+	}
+
+	private long findShelfCount(JobGroup jobGroup, Long bookId) {
+		return entityManager.createQuery(
+				"select c.shelfCount from BookJobGroupCount c where c.jobGroup = :jobGroup and c.book.id = :bookId",
+				Long.class)
+			.setParameter("jobGroup", jobGroup)
+			.setParameter("bookId", bookId)
+			.getSingleResult();
+	}
+}
@@ -0,0 +1,69 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestConstructor;
+
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponse;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchJdbcRepository.RecentSearchKeyword;
+import com.dadok.gaerval.domain.user.entity.Authority;
+import com.dadok.gaerval.domain.user.entity.Role;
+import com.dadok.gaerval.domain.user.entity.User;
+import com.dadok.gaerval.domain.user.entity.UserAuthority;
+import com.dadok.gaerval.domain.user.repository.AuthorityRepository;
+import com.dadok.gaerval.domain.user.repository.UserRepository;
+import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.UserObjectProvider;
+
+import lombok.RequiredArgsConstructor;
+
+@CustomDataJpaTest
+@Import(BookRecentSearchJdbcRepository.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class BookRecentSearchJdbcRepositoryTest {
+
+	private final BookRecentSearchJdbcRepository bookRecentSearchJdbcRepository;
+
+	private final BookRecentSearchRepository bookRecentSearchRepository;
+
+	private final UserRepository userRepository;
+
+	private final AuthorityRepository authorityRepository;
+
+	private final EntityManager entityManager;
+
+	@DisplayName("upsertAll - 없는 검색어는 저장하고, 있는 검색어는 검색일시만 갱신하며, 없는 사용자의 검색어는 건너뛴다.")
+	@Test
+	void upsertAll() {
+		// given
+		Authority authority = authorityRepository.save(Authority.create(Role.USER));
+		User user = userRepository.saveAndFlush(
+			User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority)));
+		LocalDateTime searchedAt = LocalDateTime.of(2023, 4, 23, 23, 18, 35);
+		bookRecentSearchJdbcRepository.upsertAll(List.of(
+			new RecentSearchKeyword(user.getId(), "jpa", searchedAt),
+			new RecentSearchKeyword(user.getId(), "spring", searchedAt.plusMinutes(1))));
+
+		// when
+		int written = bookRecentSearchJdbcRepository.upsertAll(List.of(
+			new RecentSearchKeyword(user.getId(), "jpa", searchedAt.plusMinutes(2)),
+			new RecentSearchKeyword(user.getId() + 100, "jpa", searchedAt)));
+		entityManager.clear();
+
+		// then
+		assertEquals(1, written);
+		List<BookRecentSearchResponse> recentSearches = bookRecentSearchRepository
+			.findRecentSearches(user.getId(), 10L).bookRecentSearchResponses();
+		assertEquals(List.of("jpa", "spring"), recentSearches.stream().map(BookRecentSearchResponse::keyword).toList());
+		assertEquals(searchedAt.plusMinutes(2), recentSearches.get(0).modifiedAt());
+	}
+}
@@ -0,0 +1,129 @@
+package com.dadok.gaerval.domain.book.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponse;
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
+import com.dadok.gaerval.global.config.redis.RecentSearchProperties;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+@ExtendWith(MockitoExtension.class)
+class BookRecentSearchRedisStoreTest {
+
+	private static final long NOW = 1_700_000_000_000L;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisOperations<String, String> redisOperations;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private TimeHolder timeHolder;
+
+	private BookRecentSearchRedisStore bookRecentSearchRedisStore;
+
+	@BeforeEach
+	void setUp() {
+		bookRecentSearchRedisStore = new BookRecentSearchRedisStore(stringRedisTemplate,
+			new RecentSearchProperties(100, Duration.ofDays(90), true, 10_000, 500), timeHolder);
+	}
+
+	@DisplayName("save - 검색어 추가, 오래된 검색어 자르기, 만료 시간 갱신을 한 번의 pipeline 으로 보낸다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void save() {
+		// given
+		given(timeHolder.getMillis()).willReturn(NOW);
+		given(redisOperations.opsForZSet()).willReturn(zSetOperations);
+
+		// when
+		bookRecentSearchRedisStore.save(1L, "jpa");
+
+		// then
+		ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+		verify(stringRedisTemplate).executePipelined(callback.capture());
+		callback.getValue().execute(redisOperations);
+
+		verify(zSetOperations).add("recent-search:1", "jpa", NOW);
+		verify(zSetOperations).removeRange("recent-search:1", 0, -101L);
+		verify(redisOperations).expire("recent-search:1", Duration.ofDays(90));
+	}
+
+	@DisplayName("save - Redis 장애는 예외로 전파하지 않는다.")
+	@Test
+	void save_redisFailure() {
+		// given
+		given(timeHolder.getMillis()).willReturn(NOW);
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+			.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		// when, then
+		assertDoesNotThrow(() -> bookRecentSearchRedisStore.save(1L, "jpa"));
+	}
+
+	@DisplayName("findRecentSearches - 최근에 검색한 순서로 limit 개를 조회한다.")
+	@Test
+	void findRecentSearches() {
+		// given
+		ZoneId zoneId = ZoneId.of("Asia/Seoul");
+		given(timeHolder.getCurrentClock()).willReturn(Clock.system(zoneId));
+		given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+		Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>(List.of(
+			new DefaultTypedTuple<>("spring", (double)NOW),
+			new DefaultTypedTuple<>("jpa", (double)(NOW - 1_000))));
+		given(zSetOperations.reverseRangeWithScores("recent-search:1", 0, 9)).willReturn(tuples);
+
+		// when
+		Optional<BookRecentSearchResponses> result = bookRecentSearchRedisStore.findRecentSearches(1L, 10L);
+
+		// then
+		assertTrue(result.isPresent());
+		assertEquals(List.of("spring", "jpa"),
+			result.get().bookRecentSearchResponses().stream().map(BookRecentSearchResponse::keyword).toList());
+		assertEquals(LocalDateTime.of(2023, 11, 15, 7, 13, 20),
+			result.get().bookRecentSearchResponses().get(0).modifiedAt());
+	}
+
+	@DisplayName("findRecentSearches - Redis 를 사용할 수 없으면 빈 Optional 을 반환한다.")
+	@Test
+	void findRecentSearches_redisFailure() {
+		// given
+		given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.reverseRangeWithScores("recent-search:1", 0, 9))
+			.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		// when
+		Optional<BookRecentSearchResponses> result = bookRecentSearchRedisStore.findRecentSearches(1L, 10L);
+
+		// then
+		assertTrue(result.isEmpty());
+	}
+}
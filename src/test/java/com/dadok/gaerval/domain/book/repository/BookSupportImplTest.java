@@ -1,31 +1,43 @@
 package com.dadok.gaerval.domain.book.repository;
 
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestConstructor;
 
 import com.dadok.gaerval.domain.book.dto.request.SuggestionsBookFindRequest;
+import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponse;
 import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
+import com.dadok.gaerval.domain.book.entity.Book;
 import com.dadok.gaerval.domain.bookshelf.dto.request.BooksInBookShelfFindRequest;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItemType;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
+import com.dadok.gaerval.global.error.exception.InvalidArgumentException;
 import com.dadok.gaerval.global.util.SortDirection;
 import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookObjectProvider;
 
 import lombok.RequiredArgsConstructor;
 
 @CustomDataJpaTest
+@Import(BookJobGroupCountJdbcRepository.class)
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
 class BookSupportImplTest {
 
 	private final BookRepository bookRepository;
 
+	private final BookJobGroupCountJdbcRepository bookJobGroupCountJdbcRepository;
+
 	@DisplayName("findSuggestionBooks - 쿼리 테스트")
 	@Test
 	void findSuggestionBooks_success() {
 		SuggestionsBookFindRequest suggestionsBookFindRequest = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			null, null);
+			null, null, null);
 		SuggestionsBookFindResponses suggestionBooks = bookRepository.findSuggestionBooks(suggestionsBookFindRequest);
 	}
 
@@ -36,7 +48,7 @@ class BookSupportImplTest {
 			BookshelfItemType.READ, 10, null, SortDirection.DESC);
 
 		SuggestionsBookFindRequest suggestionsBookFindRequest = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			999L, null);
+			999L, 1L, null);
 
 		bookRepository.findSuggestionBooks(suggestionsBookFindRequest);
 	}
@@ -48,7 +60,7 @@ class BookSupportImplTest {
 			BookshelfItemType.READ, 10, null, SortDirection.DESC);
 
 		SuggestionsBookFindRequest suggestionsBookFindRequest = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			999L, SortDirection.DESC);
+			999L, 1L, SortDirection.DESC);
 
 		bookRepository.findSuggestionBooks(suggestionsBookFindRequest);
 	}
@@ -60,10 +72,111 @@ class BookSupportImplTest {
 			BookshelfItemType.READ, 10, null, SortDirection.DESC);
 
 		SuggestionsBookFindRequest suggestionsBookFindRequest = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			999L, SortDirection.ASC);
+			999L, 1L, SortDirection.ASC);
 
 		bookRepository.findSuggestionBooks(suggestionsBookFindRequest);
 	}
 
+	@DisplayName("findSuggestionBooks - 직군 집계에서 (꽂힌 수, 책 id) 내림차순으로 읽고, 커서 다음부터 이어서 조회한다.")
+	@Test
+	void findSuggestionBooks_keyset() {
+		// given
+		Book first = bookRepository.save(createBook("9788996991001"));
+		Book second = bookRepository.save(createBook("9788996991002"));
+		Book third = bookRepository.save(createBook("9788996991003"));
+		Book removed = bookRepository.saveAndFlush(createBook("9788996991004"));
+
+		increase(JobGroup.DEVELOPMENT, first.getId(), 3);
+		increase(JobGroup.DEVELOPMENT, second.getId(), 2);
+		increase(JobGroup.DEVELOPMENT, third.getId(), 2);
+		increase(JobGroup.DEVELOPMENT, removed.getId(), 1);
+		bookJobGroupCountJdbcRepository.decrease(JobGroup.DEVELOPMENT, List.of(removed.getId()));
+		increase(JobGroup.HR, removed.getId(), 5);
+
+		// when
+		SuggestionsBookFindResponses firstPage = bookRepository.findSuggestionBooks(
+			new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 2, null, null, SortDirection.DESC));
+		SuggestionsBookFindResponses nextPage = bookRepository.findSuggestionBooks(
+			new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 2, third.getId(), 2L, SortDirection.DESC));
+
+		// then
+		assertThat(firstPage.books()).extracting(SuggestionsBookFindResponse::bookId)
+			.containsExactly(first.getId(), third.getId());
+		assertThat(firstPage.books()).extracting(SuggestionsBookFindResponse::count)
+			.containsExactly(3L, 2L);
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(nextPage.books()).extracting(SuggestionsBookFindResponse::bookId)
+			.containsExactly(second.getId());
+		assertThat(nextPage.hasNext()).isFalse();
+	}
+
+	@DisplayName("findSuggestionBooks - 커서 책의 꽂힌 수가 그 사이 바뀌어도 받은 (count, bookId) 다음부터 조회한다.")
+	@Test
+	void findSuggestionBooks_cursorCountChanged() {
+		// given
+		Book first = bookRepository.save(createBook("9788996991011"));
+		Book second = bookRepository.save(createBook("9788996991012"));
+		Book third = bookRepository.saveAndFlush(createBook("9788996991013"));
+
+		increase(JobGroup.DEVELOPMENT, first.getId(), 3);
+		increase(JobGroup.DEVELOPMENT, second.getId(), 2);
+		increase(JobGroup.DEVELOPMENT, third.getId(), 1);
+
+		SuggestionsBookFindResponses firstPage = bookRepository.findSuggestionBooks(
+			new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 1, null, null, SortDirection.DESC));
+		SuggestionsBookFindResponse last = firstPage.books().get(0);
+		increase(JobGroup.DEVELOPMENT, first.getId(), 5);
+
+		// when
+		SuggestionsBookFindResponses nextPage = bookRepository.findSuggestionBooks(
+			new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 2, last.bookId(), last.count(), SortDirection.DESC));
+
+		// then
+		assertThat(last.bookId()).isEqualTo(first.getId());
+		assertThat(nextPage.books()).extracting(SuggestionsBookFindResponse::bookId)
+			.containsExactly(second.getId(), third.getId());
+	}
+
+	@DisplayName("findSuggestionBooks - ASC 는 적게 꽂힌 책부터 조회한다.")
+	@Test
+	void findSuggestionBooks_asc() {
+		// given
+		Book many = bookRepository.save(createBook("9788996991021"));
+		Book few = bookRepository.saveAndFlush(createBook("9788996991022"));
+
+		increase(JobGroup.DEVELOPMENT, many.getId(), 2);
+		increase(JobGroup.DEVELOPMENT, few.getId(), 1);
+
+		// when
+		SuggestionsBookFindResponses responses = bookRepository.findSuggestionBooks(
+			new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 10, null, null, SortDirection.ASC));
+
+		// then
+		assertThat(responses.books()).extracting(SuggestionsBookFindResponse::bookId)
+			.containsExactly(few.getId(), many.getId());
+	}
+
+	@DisplayName("findSuggestionBooks - bookCursorId 와 bookCursorCount 중 하나만 보내면 InvalidArgumentException 이 발생한다.")
+	@Test
+	void findSuggestionBooks_halfCursor() {
+		// given
+		SuggestionsBookFindRequest request = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 10, 999L, null,
+			SortDirection.DESC);
+
+		// when // then
+		assertThatThrownBy(() -> bookRepository.findSuggestionBooks(request))
+			.isInstanceOf(InvalidArgumentException.class);
+	}
 
-}
\ No newline at end of file
+	private Book createBook(String isbn) {
+		return Book.create(BookObjectProvider.title, BookObjectProvider.author, isbn, BookObjectProvider.contents,
+			BookObjectProvider.url, BookObjectProvider.imageUrl, BookObjectProvider.apiProvider,
+			BookObjectProvider.publisher);
+	}
+
+	private void increase(JobGroup jobGroup, Long bookId, int times) {
+		for (int i = 0; i < times; i++) {
+			bookJobGroupCountJdbcRepository.increase(jobGroup, List.of(bookId));
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponse;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.global.config.externalapi.BestSellerSnapshotProperties;
+import com.dadok.gaerval.global.config.externalapi.WebClientBookApiOperations;
+import com.dadok.gaerval.global.error.ErrorCode;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class BestSellerSnapshotServiceTest {
+
+	@Mock
+	private WebClientBookApiOperations webClientBookApiOperations;
+
+	@Mock
+	private TimeHolder timeHolder;
+
+	private BestSellerSnapshotService bestSellerSnapshotService;
+
+	@BeforeEach
+	void setUp() {
+		bestSellerSnapshotService = new BestSellerSnapshotService(webClientBookApiOperations,
+			new BestSellerSnapshotProperties(List.of(0), Duration.ofSeconds(1)), timeHolder);
+	}
+
+	@DisplayName("refresh - 카테고리의 모든 페이지를 가져와 요청한 페이지를 스냅샷에서 잘라 응답한다.")
+	@Test
+	void refresh_servesPagesFromSnapshot() {
+		// given
+		given(timeHolder.getCurrentClock()).willReturn(Clock.systemDefaultZone());
+		given(webClientBookApiOperations.searchWeeklyBestSellers(any())).willAnswer(invocation -> {
+			BestSellerSearchRequest request = invocation.getArgument(0);
+			int size = request.page() < 3 ? 50 : 20;
+			return Mono.just(aladinPage(request.page(), size, (request.page() - 1) * 50));
+		});
+
+		// when
+		bestSellerSnapshotService.refresh();
+
+		// then
+		BestSellerBookResponses firstPage = bestSellerSnapshotService.find(
+			new BestSellerSearchRequest(1, 10, 0, null)).orElseThrow();
+		assertEquals(10, firstPage.bestSellerBookResponseList().size());
+		assertEquals(1, firstPage.bestSellerBookResponseList().get(0).bestRank());
+		assertFalse(firstPage.isLast());
+		assertEquals(120, firstPage.totalCount());
+
+		BestSellerBookResponses lastPage = bestSellerSnapshotService.find(
+			new BestSellerSearchRequest(12, 10, 0, null)).orElseThrow();
+		assertEquals(111, lastPage.bestSellerBookResponseList().get(0).bestRank());
+		assertTrue(lastPage.isLast());
+
+		BestSellerBookResponses overflowPage = bestSellerSnapshotService.find(
+			new BestSellerSearchRequest(13, 10, 0, null)).orElseThrow();
+		assertTrue(overflowPage.bestSellerBookResponseList().isEmpty());
+		assertTrue(overflowPage.isLast());
+
+		then(webClientBookApiOperations).should(times(3)).searchWeeklyBestSellers(any());
+	}
+
+	@DisplayName("find - 스냅샷이 없는 카테고리는 빈 값을 반환한다.")
+	@Test
+	void find_withoutSnapshot() {
+		// when
+		boolean present = bestSellerSnapshotService.find(new BestSellerSearchRequest(1, 10, 1230, null))
+			.isPresent();
+
+		// then
+		assertFalse(present);
+	}
+
+	@DisplayName("refresh - 갱신에 실패하면 이전 스냅샷을 유지한다.")
+	@Test
+	void refresh_keepsPreviousSnapshotOnFailure() {
+		// given
+		given(timeHolder.getCurrentClock()).willReturn(Clock.systemDefaultZone());
+		given(webClientBookApiOperations.searchWeeklyBestSellers(any()))
+			.willReturn(Mono.just(aladinPage(1, 30, 0)))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)));
+		bestSellerSnapshotService.refresh();
+
+		// when
+		bestSellerSnapshotService.refresh();
+
+		// then
+		BestSellerBookResponses page = bestSellerSnapshotService.find(
+			new BestSellerSearchRequest(1, 50, 0, null)).orElseThrow();
+		assertEquals(30, page.bestSellerBookResponseList().size());
+	}
+
+	@DisplayName("refresh - 외부 API 응답을 기다리지 않고 반환하며, 진행 중인 갱신이 있으면 새로 시작하지 않는다.")
+	@Test
+	void refresh_doesNotBlock() {
+		// given
+		given(webClientBookApiOperations.searchWeeklyBestSellers(any())).willReturn(Mono.never());
+
+		// when
+		assertTimeoutPreemptively(Duration.ofMillis(500), () -> bestSellerSnapshotService.refresh());
+		bestSellerSnapshotService.refresh();
+
+		// then
+		assertFalse(bestSellerSnapshotService.find(new BestSellerSearchRequest(1, 10, 0, null)).isPresent());
+		then(webClientBookApiOperations).should(times(1)).searchWeeklyBestSellers(any());
+	}
+
+	private BestSellerBookResponses aladinPage(int page, int size, int rankOffset) {
+		List<BestSellerBookResponse> items = IntStream.rangeClosed(rankOffset + 1, rankOffset + size)
+			.mapToObj(rank -> new BestSellerBookResponse("title" + rank, "author", "isbn" + rank, "contents",
+				"url", "imageUrl", "ALADIN", "publisher", rank))
+			.toList();
+		return new BestSellerBookResponses(page, 50, size < 50, 200, 120, items);
+	}
+}
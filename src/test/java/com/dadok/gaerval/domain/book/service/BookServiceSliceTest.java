@@ -28,6 +28,10 @@ import com.dadok.gaerval.domain.book.dto.response.SuggestionsBookFindResponses;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponse;
 import com.dadok.gaerval.domain.book.dto.response.UserByBookResponses;
 import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository.UpsertResult;
+import com.dadok.gaerval.domain.book.repository.BookJobGroupCountJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchRedisStore;
 import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
@@ -49,23 +53,38 @@ class BookServiceSliceTest {
 	@Mock
 	private BookMapper bookMapper;
 
+	@Mock
+	private LocalBookCatalogIndex localBookCatalogIndex;
+
+	@Mock
+	private CatalogWarmingQueue catalogWarmingQueue;
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private BookRecentSearchRedisStore bookRecentSearchRedisStore;
+
+	@Mock
+	private PopularKeywordCounter popularKeywordCounter;
+
+	@Mock
+	private BookJobGroupCountJdbcRepository bookJobGroupCountJdbcRepository;
+
 	@DisplayName("createBook - 도서를 저장하는데 성공한다.")
 	@Test
 	void createBook() {
 		// given
-		Book book = BookObjectProvider.createRequiredFieldBook();
-		ReflectionTestUtils.setField(book, "id", 1234L);
-
-		given(bookRepository.save(any()))
-			.willReturn(book);
+		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
+		given(bookJdbcRepository.upsert(bookCreateRequest))
+			.willReturn(new UpsertResult(1234L, false));
 
 		// when
-		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
 		Long savedBookId = defaultBookService.createBookAndReturnId(bookCreateRequest);
 
 		// then
-		verify(bookRepository).save(any());
-		assertEquals(book.getId(), savedBookId);
+		verify(bookJdbcRepository).upsert(bookCreateRequest);
+		assertEquals(1234L, savedBookId);
 	}
 
 	@DisplayName("getById - bookId로 조회에 성공한다.")
@@ -143,7 +162,7 @@ class BookServiceSliceTest {
 	void findSuggestionBooks_success() {
 		//given
 		SuggestionsBookFindRequest request = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			null, null);
+			null, null, null);
 
 		List<SuggestionsBookFindResponse> suggestionsBookFindResponses = List.of(
 			new SuggestionsBookFindResponse(1L, "http://imageurl4.com"
@@ -190,7 +209,7 @@ class BookServiceSliceTest {
 	void findSuggestionBooks_empty() {
 		//given
 		SuggestionsBookFindRequest request = new SuggestionsBookFindRequest(JobGroup.DEVELOPMENT, 50,
-			null, null);
+			null, null, null);
 
 		List<SuggestionsBookFindResponse> suggestionsBookFindResponses = Collections.emptyList();
 
@@ -218,6 +237,39 @@ class BookServiceSliceTest {
 			.hasFieldOrPropertyWithValue("books", Collections.emptyList());
 	}
 
+	@DisplayName("increaseShelvedCount - 책의 꽂힌 수와 책장 주인 직군의 집계를 함께 올린다.")
+	@Test
+	void increaseShelvedCount() {
+		// when
+		defaultBookService.increaseShelvedCount(1L, JobGroup.DEVELOPMENT);
+
+		// then
+		verify(bookRepository).increaseShelvedCount(1L);
+		verify(bookJobGroupCountJdbcRepository).increase(JobGroup.DEVELOPMENT, List.of(1L));
+	}
+
+	@DisplayName("increaseShelvedCount - 직군이 없는 책장이면 직군 집계는 건너뛴다.")
+	@Test
+	void increaseShelvedCount_withoutJobGroup() {
+		// when
+		defaultBookService.increaseShelvedCount(1L, null);
+
+		// then
+		verify(bookRepository).increaseShelvedCount(1L);
+		verifyNoInteractions(bookJobGroupCountJdbcRepository);
+	}
+
+	@DisplayName("moveJobGroupShelfCounts - 책들을 이전 직군 집계에서 빼고 새 직군 집계에 더한다.")
+	@Test
+	void moveJobGroupShelfCounts() {
+		// when
+		defaultBookService.moveJobGroupShelfCounts(List.of(1L, 2L), JobGroup.DEVELOPMENT, JobGroup.HR);
+
+		// then
+		verify(bookJobGroupCountJdbcRepository).decrease(JobGroup.DEVELOPMENT, List.of(1L, 2L));
+		verify(bookJobGroupCountJdbcRepository).increase(JobGroup.HR, List.of(1L, 2L));
+	}
+
 	@DisplayName("findUserByBookId - 책을 책장에 꽂은 user 정보 찾기 - 성공")
 	@Test
 	void findUserByBookId_success() {
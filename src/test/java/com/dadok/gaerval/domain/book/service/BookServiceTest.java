@@ -3,6 +3,8 @@ package com.dadok.gaerval.domain.book.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,23 +21,36 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dadok.gaerval.domain.book.converter.BookMapper;
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRange;
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
 import com.dadok.gaerval.domain.book.dto.request.BookSearchRequest;
 import com.dadok.gaerval.domain.book.dto.request.SortingPolicy;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponse;
+import com.dadok.gaerval.domain.book.dto.response.BookRecentSearchResponses;
 import com.dadok.gaerval.domain.book.dto.response.BookResponse;
 import com.dadok.gaerval.domain.book.dto.response.BookResponses;
 import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
 import com.dadok.gaerval.domain.book.entity.Book;
 import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository.UpsertResult;
+import com.dadok.gaerval.domain.book.repository.BookJobGroupCountJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchRedisStore;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchRepository;
 import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.global.config.externalapi.ExternalApiError;
 import com.dadok.gaerval.global.config.externalapi.ExternalBookApiOperations;
+import com.dadok.gaerval.global.config.externalapi.MultiProviderBookSearch;
 import com.dadok.gaerval.global.error.ErrorCode;
 import com.dadok.gaerval.testutil.BookObjectProvider;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class BookServiceTest {
 
@@ -54,73 +69,110 @@ class BookServiceTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private BestSellerSnapshotService bestSellerSnapshotService;
+
+	@Mock
+	private MultiProviderBookSearch multiProviderBookSearch;
 
-	@DisplayName("createBook - 도서를 저장하는데 성공한다.")
+	@Mock
+	private LocalBookCatalogIndex localBookCatalogIndex;
+
+	@Mock
+	private CatalogWarmingQueue catalogWarmingQueue;
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private BookRecentSearchRedisStore bookRecentSearchRedisStore;
+
+	@Mock
+	private PopularKeywordCounter popularKeywordCounter;
+
+	@Mock
+	private BookJobGroupCountJdbcRepository bookJobGroupCountJdbcRepository;
+
+	@Mock
+	private BookRecentSearchRepository bookRecentSearchRepository;
+
+
+	@DisplayName("createBookAndReturnId - isbn 기준 upsert 한 번으로 도서를 저장하고 도서ID를 얻는데 성공한다.")
 	@Test
-	void createBook() {
+	void createBookAndReturnId() {
 		// given
-		Book book = BookObjectProvider.createRequiredFieldBook();
-		ReflectionTestUtils.setField(book, "id", 1234L);
-
-		given(bookRepository.save(any()))
-			.willReturn(book);
+		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
+		given(bookJdbcRepository.upsert(bookCreateRequest)).willReturn(new UpsertResult(1234L, false));
 
 		// when
-		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
 		Long savedBookId = defaultBookService.createBookAndReturnId(bookCreateRequest);
 
 		// then
-		verify(bookRepository).save(any());
-		assertEquals(book.getId(), savedBookId);
+		assertEquals(1234L, savedBookId);
+		verify(localBookCatalogIndex).indexAfterCommit(1234L, bookCreateRequest);
+		verify(bookJdbcRepository, never()).findRetitledBooks(anyList());
+		verify(eventPublisher, never()).publishEvent(any(BookTitleChangedEvent.class));
+		verify(bookRepository, never()).findBookByIsbn(anyString());
+		verify(bookRepository, never()).save(any());
 	}
 
-	@DisplayName("createBook - 이미 저장된 도서를 수정하는데 성공한다.")
+	@DisplayName("createBookAndReturnId - 이미 저장된 도서의 값이 바뀌면 제목 변경 이벤트를 발행한다.")
 	@Test
-	void createBook_UpdateExistingBook() {
+	void createBookAndReturnId_titleChanged() {
 		// given
-		Book existingBook = BookObjectProvider.createRequiredFieldBook();
+		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
+		given(bookJdbcRepository.upsert(bookCreateRequest)).willReturn(new UpsertResult(1234L, true));
 
-		given(bookRepository.findBookByIsbn(anyString()))
-			.willReturn(Optional.of(existingBook));
+		// when
+		defaultBookService.createBookAndReturnId(bookCreateRequest);
 
-		Book updatedBook = BookObjectProvider.createRequiredFieldBook();
-		updatedBook.changeUrl("https://newurl.com");
-		updatedBook.changeContents("새로운 소개글");
-		updatedBook.changeAuthor("새로운 작가");
-		updatedBook.changeTitle("새로운 타이틀");
-		updatedBook.changeImageUrl("https://newimageurl.com");
-		updatedBook.changeApiProvider("ALADIN");
+		// then
+		verify(eventPublisher).publishEvent(new BookTitleChangedEvent(1234L, bookCreateRequest.title()));
+	}
 
-		given(bookRepository.save(any()))
-			.willReturn(updatedBook);
+	@DisplayName("createBooksAndReturnIds - 여러 도서를 한 번에 저장하고 요청 순서대로 도서ID를 반환한다.")
+	@Test
+	void createBooksAndReturnIds() {
+		// given
+		BookCreateRequest first = BookObjectProvider.createBookCreateRequest();
+		BookCreateRequest second = new BookCreateRequest("자바 ORM 표준 JPA 프로그래밍", "김영한", "9788960777330",
+			"JPA 기본편", "https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "에이콘출판", "KAKAO");
+		Book firstBook = BookObjectProvider.createRequiredFieldBook();
+		ReflectionTestUtils.setField(firstBook, "id", 1L);
+		Book secondBook = Book.create(second.title(), second.author(), second.isbn(), second.contents(), second.url(),
+			second.imageUrl(), second.apiProvider(), second.publisher());
+		ReflectionTestUtils.setField(secondBook, "id", 2L);
+		given(bookRepository.findAllByIsbnIn(List.of(first.isbn(), second.isbn())))
+			.willReturn(List.of(secondBook, firstBook));
 
 		// when
-		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
-		Long savedBookId = defaultBookService.createBookAndReturnId(bookCreateRequest);
+		List<Long> bookIds = defaultBookService.createBooksAndReturnIds(List.of(first, second, first));
 
 		// then
-		verify(bookRepository).findBookByIsbn(bookCreateRequest.isbn());
-		verify(bookRepository).save(existingBook);
-		assertEquals(existingBook.getId(), savedBookId);
+		verify(bookJdbcRepository).upsertAll(List.of(first, second, first));
+		verify(localBookCatalogIndex).indexAfterCommit(firstBook);
+		verify(localBookCatalogIndex).indexAfterCommit(secondBook);
+		assertEquals(List.of(1L, 2L, 1L), bookIds);
 	}
 
-	@DisplayName("createBookAndReturnId - 도서를 저장하고 도서ID를 얻는데 성공한다.")
+	@DisplayName("createBooksAndReturnIds - 길이 제한을 어기는 도서는 저장하지 않고 id 를 null 로 두고, 나머지 도서는 저장한다.")
 	@Test
-	void createBookAndReturnId() {
+	void createBooksAndReturnIds_skipUnstorable() {
 		// given
+		BookCreateRequest storable = BookObjectProvider.createBookCreateRequest();
+		BookCreateRequest tooLongAuthor = new BookCreateRequest("자바 ORM 표준 JPA 프로그래밍", "김".repeat(256),
+			"9788960777330", "JPA 기본편", "https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "에이콘출판",
+			"KAKAO");
 		Book book = BookObjectProvider.createRequiredFieldBook();
-		ReflectionTestUtils.setField(book, "id", 1234L);
-
-		given(bookRepository.save(any()))
-			.willReturn(book);
+		ReflectionTestUtils.setField(book, "id", 1L);
+		given(bookRepository.findAllByIsbnIn(List.of(storable.isbn()))).willReturn(List.of(book));
 
 		// when
-		BookCreateRequest bookCreateRequest = BookObjectProvider.createBookCreateRequest();
-		Long savedBookId = defaultBookService.createBookAndReturnId(bookCreateRequest);
+		List<Long> bookIds = defaultBookService.createBooksAndReturnIds(List.of(tooLongAuthor, storable));
 
 		// then
-		verify(bookRepository).save(any());
-		assertEquals(book.getId(), savedBookId);
+		verify(bookJdbcRepository).upsertAll(List.of(storable));
+		assertEquals(Arrays.asList(null, 1L), bookIds);
 	}
 
 	@DisplayName("getById - bookId로 조회에 성공한다.")
@@ -213,13 +265,17 @@ class BookServiceTest {
 		List<SearchBookResponse> expectedResponses = Collections.singletonList(searchBookResponse);
 		BookResponses bookResponses =  new BookResponses(1,10, true, 1, 1, expectedResponses);
 		given(externalBookApiOperations.searchBooks(keyword, 1, 10, SortingPolicy.ACCURACY.getName()))
-			.willReturn(bookResponses);
+			.willReturn(Mono.just(bookResponses));
 
 		// when
- 		BookResponses actualResponses = defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, true), 1L);
+ 		BookResponses actualResponses = defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, true, false), 1L)
+			.block();
 
 		// then
 		verify(externalBookApiOperations).searchBooks(keyword, 1, 10, SortingPolicy.ACCURACY.getName());
+		verify(catalogWarmingQueue).enqueue(expectedResponses);
+		verify(bookRecentSearchRedisStore).save(1L, keyword);
+		verify(eventPublisher).publishEvent(any(SaveKeywordEvent.class));
 		assertEquals(expectedResponses.get(0).isbn(), actualResponses.searchBookResponseList().get(0).isbn());
 		assertEquals(expectedResponses.get(0).title(), actualResponses.searchBookResponseList().get(0).title());
 		assertEquals(expectedResponses.get(0).contents(), actualResponses.searchBookResponseList().get(0).contents());
@@ -231,9 +287,11 @@ class BookServiceTest {
 	@ValueSource(strings = {"", " ", "!@#$", "키워드에@"})
 	void findAllByKeyword_WithInvalidKeyword_ReturnsEmptyList(String keyword) {
 		// when
-		BookResponses actualResponses = defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, false), 1L);
+		BookResponses actualResponses = defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, false, false), 1L)
+			.block();
 
 		// then
+		verifyNoInteractions(externalBookApiOperations);
 		assertTrue(actualResponses.searchBookResponseList().isEmpty());
 	}
 
@@ -245,12 +303,147 @@ class BookServiceTest {
 		String result = "{\"code\":-10,\"msg\":\"API limit has been exceeded.\"}";
 		JsonNode jsonNode = new ObjectMapper().readTree(result);
 		ExternalApiError externalApiError = new ExternalApiError(-10,"API limit has been exceeded.");
+		given(localBookCatalogIndex.search(keyword, 1, 10)).willReturn(LocalCatalogSearchResult.empty());
 		given(externalBookApiOperations.searchBooks(keyword, 1, 10, SortingPolicy.ACCURACY.getName()))
-			.willThrow(new BookApiNotAvailableException(ErrorCode.KAKAO_QUOTA_EXCEEDED));
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.KAKAO_QUOTA_EXCEEDED)));
 
 
 		// when, then
 		assertThrows(BookApiNotAvailableException.class,
-			() -> defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, false),1L));
+			() -> defaultBookService.findAllByKeyword(new BookSearchRequest(null, null, keyword, false, false),1L).block());
+	}
+
+	@DisplayName("findAllBestSeller - 스냅샷이 있으면 외부 API 를 호출하지 않고 스냅샷으로 응답한다.")
+	@Test
+	void findAllBestSeller_fromSnapshot() {
+		// given
+		BestSellerSearchRequest request = new BestSellerSearchRequest(1, 10, 0, BestSellerSearchRange.WEEKLY);
+		BestSellerBookResponses snapshotPage = new BestSellerBookResponses(1, 10, false, 200, 1000,
+			Collections.emptyList());
+		given(bestSellerSnapshotService.find(request)).willReturn(Optional.of(snapshotPage));
+
+		// when
+		BestSellerBookResponses result = defaultBookService.findAllBestSeller(request).block();
+
+		// then
+		assertEquals(snapshotPage, result);
+		verifyNoInteractions(externalBookApiOperations);
+	}
+
+	@DisplayName("findAllBestSeller - 스냅샷이 없는 카테고리는 외부 API 로 조회한다.")
+	@Test
+	void findAllBestSeller_withoutSnapshot() {
+		// given
+		BestSellerSearchRequest request = new BestSellerSearchRequest(1, 10, 1230, BestSellerSearchRange.WEEKLY);
+		BestSellerBookResponses apiPage = new BestSellerBookResponses(1, 10, false, 200, 1000,
+			Collections.emptyList());
+		given(bestSellerSnapshotService.find(request)).willReturn(Optional.empty());
+		given(externalBookApiOperations.searchWeeklyBestSellers(request)).willReturn(Mono.just(apiPage));
+
+		// when
+		BestSellerBookResponses result = defaultBookService.findAllBestSeller(request).block();
+
+		// then
+		assertEquals(apiPage, result);
+	}
+
+	@DisplayName("findAllByKeyword - 동시 검색을 요청하면 카카오와 알라딘 결과를 합쳐서 반환한다.")
+	@Test
+	void findAllByKeyword_searchAllProviders() {
+		// given
+		BookResponses merged = new BookResponses(1, 10, true, 1, 1, Collections.emptyList());
+		given(multiProviderBookSearch.searchBooks("jpa", 1, 10, SortingPolicy.ACCURACY.getName()))
+			.willReturn(Mono.just(merged));
+
+		// when
+		BookResponses result = defaultBookService.findAllByKeyword(
+			new BookSearchRequest(null, null, "jpa", false, true), 1L).block();
+
+		// then
+		assertEquals(merged, result);
+		verifyNoInteractions(externalBookApiOperations);
+	}
+
+	@DisplayName("findAllByKeyword - 외부 API 가 응답하면 로컬 카탈로그에 결과가 있어도 외부 API 결과로만 응답한다.")
+	@Test
+	void findAllByKeyword_notMixedWithLocalCatalog() {
+		// given
+		BookResponses apiResponses = new BookResponses(2, 10, false, 30, 30, List.of(searchBookResponse()));
+		given(externalBookApiOperations.searchBooks("jpa", 2, 10, SortingPolicy.ACCURACY.getName()))
+			.willReturn(Mono.just(apiResponses));
+
+		// when
+		BookResponses result = defaultBookService.findAllByKeyword(
+			new BookSearchRequest(2, 10, "jpa", false, false), 1L).block();
+
+		// then
+		assertEquals(apiResponses, result);
+		verifyNoInteractions(localBookCatalogIndex, bookRepository);
+	}
+
+	@DisplayName("findAllByKeyword - 외부 API 를 사용할 수 없으면 로컬 카탈로그 결과로 응답한다.")
+	@Test
+	void findAllByKeyword_fallbackToLocalCatalog() {
+		// given
+		Book book = BookObjectProvider.createRequiredFieldBook();
+		ReflectionTestUtils.setField(book, "id", 1234L);
+		SearchBookResponse searchBookResponse = searchBookResponse();
+		given(localBookCatalogIndex.search("jpa", 1, 10))
+			.willReturn(new LocalCatalogSearchResult(List.of(1234L), 1));
+		given(externalBookApiOperations.searchBooks("jpa", 1, 10, SortingPolicy.ACCURACY.getName()))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)));
+		given(bookRepository.findAllById(List.of(1234L))).willReturn(List.of(book));
+		given(bookMapper.entityToSearchBookResponse(book)).willReturn(searchBookResponse);
+
+		// when
+		BookResponses result = defaultBookService.findAllByKeyword(
+			new BookSearchRequest(null, null, "jpa", false, false), 1L).block();
+
+		// then
+		assertNotNull(result);
+		assertEquals(List.of(searchBookResponse), result.searchBookResponseList());
+		assertTrue(result.isLast());
+	}
+
+	private SearchBookResponse searchBookResponse() {
+		return new SearchBookResponse(BookObjectProvider.title, BookObjectProvider.author, BookObjectProvider.isbn,
+			BookObjectProvider.contents, BookObjectProvider.url, BookObjectProvider.imageUrl,
+			BookObjectProvider.apiProvider, BookObjectProvider.publisher);
+	}
+
+	@DisplayName("findKeywordsByUserId - Redis 에 저장된 최근 검색어로 응답한다.")
+	@Test
+	void findKeywordsByUserId_fromRedis() {
+		// given
+		BookRecentSearchResponses recentSearches = new BookRecentSearchResponses(
+			List.of(new BookRecentSearchResponse("jpa", LocalDateTime.now())));
+		given(bookRecentSearchRedisStore.findRecentSearches(1L, 10L)).willReturn(Optional.of(recentSearches));
+
+		// when
+		BookRecentSearchResponses result = defaultBookService.findKeywordsByUserId(1L, 10L);
+
+		// then
+		assertEquals(recentSearches, result);
+		verifyNoInteractions(bookRecentSearchRepository);
+	}
+
+	@DisplayName("findKeywordsByUserId - Redis 에 기록이 없거나 Redis 를 사용할 수 없으면 MySQL 보관분으로 응답한다.")
+	@Test
+	void findKeywordsByUserId_fallbackToMysql() {
+		// given
+		BookRecentSearchResponses archived = new BookRecentSearchResponses(
+			List.of(new BookRecentSearchResponse("jpa", LocalDateTime.now())));
+		given(bookRecentSearchRedisStore.findRecentSearches(1L, 10L))
+			.willReturn(Optional.of(new BookRecentSearchResponses(Collections.emptyList())))
+			.willReturn(Optional.empty());
+		given(bookRecentSearchRepository.findRecentSearches(1L, 10L)).willReturn(archived);
+
+		// when
+		BookRecentSearchResponses empty = defaultBookService.findKeywordsByUserId(1L, 10L);
+		BookRecentSearchResponses unavailable = defaultBookService.findKeywordsByUserId(1L, 10L);
+
+		// then
+		assertEquals(archived, empty);
+		assertEquals(archived, unavailable);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+import com.dadok.gaerval.global.config.externalapi.CatalogWarmingProperties;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogWarmingQueueTest {
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private LocalBookCatalogIndex localBookCatalogIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Captor
+	private ArgumentCaptor<List<BookCreateRequest>> batches;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@DisplayName("flush - 같은 isbn 은 한 번만 큐에 넣고, batchSize 씩 나누어 저장한 뒤 로컬 색인에 반영한다.")
+	@Test
+	void flush_deduplicateAndBatch() {
+		// given
+		CatalogWarmingQueue catalogWarmingQueue = catalogWarmingQueue(10, 2);
+		Book savedBook = BookObjectProvider.createRequiredFieldBook();
+		given(bookRepository.findAllByIsbnIn(anyList())).willReturn(List.of(savedBook));
+
+		catalogWarmingQueue.enqueue(List.of(book("9788960777330"), book("9791158390921"), book("9788960777330")));
+		catalogWarmingQueue.enqueue(List.of(book("9791158391409"), book("9791158390921")));
+
+		// when
+		catalogWarmingQueue.flush();
+
+		// then
+		verify(bookJdbcRepository, times(2)).upsertAll(batches.capture());
+		assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList());
+		assertEquals("9791158391409", batches.getAllValues().get(1).get(0).isbn());
+		verify(localBookCatalogIndex, times(2)).index(savedBook);
+
+		assertEquals(0, catalogWarmingQueue.queueDepth());
+		assertEquals(2.0, meterRegistry.get(CatalogWarmingQueue.SKIPPED_METRIC)
+			.tag("reason", "duplicate").counter().count());
+		assertEquals(2, meterRegistry.get(CatalogWarmingQueue.BATCH_SIZE_METRIC).summary().count());
+		assertEquals(3.0, meterRegistry.get(CatalogWarmingQueue.BATCH_SIZE_METRIC).summary().totalAmount());
+		assertEquals(2, meterRegistry.get(CatalogWarmingQueue.FLUSH_LATENCY_METRIC).timer().count());
+	}
+
+	@DisplayName("enqueue - 큐가 가득 차면 기다리지 않고 버리고, 버린 도서는 다음 검색 때 다시 넣을 수 있다.")
+	@Test
+	void enqueue_bounded() {
+		// given
+		CatalogWarmingQueue catalogWarmingQueue = catalogWarmingQueue(2, 10);
+
+		// when
+		catalogWarmingQueue.enqueue(List.of(book("9788960777330"), book("9791158390921"), book("9791158391409")));
+
+		// then
+		assertEquals(2, catalogWarmingQueue.queueDepth());
+		assertEquals(2.0, meterRegistry.get(CatalogWarmingQueue.QUEUE_DEPTH_METRIC).gauge().value());
+		assertEquals(1.0, meterRegistry.get(CatalogWarmingQueue.SKIPPED_METRIC)
+			.tag("reason", "queue_full").counter().count());
+
+		// when
+		catalogWarmingQueue.flush();
+		catalogWarmingQueue.enqueue(List.of(book("9791158391409")));
+
+		// then
+		assertEquals(1, catalogWarmingQueue.queueDepth());
+	}
+
+	@DisplayName("enqueue - books 테이블 제약을 어기는 도서는 큐에 넣지 않는다.")
+	@Test
+	void enqueue_invalidBook() {
+		// given
+		CatalogWarmingQueue catalogWarmingQueue = catalogWarmingQueue(10, 10);
+		SearchBookResponse withoutContents = new SearchBookResponse("제목", "저자", "9788960777330", "", "url",
+			"imageUrl", "KAKAO", "출판사");
+
+		// when
+		catalogWarmingQueue.enqueue(List.of(withoutContents));
+
+		// then
+		assertEquals(0, catalogWarmingQueue.queueDepth());
+		assertEquals(1.0, meterRegistry.get(CatalogWarmingQueue.SKIPPED_METRIC)
+			.tag("reason", "invalid").counter().count());
+	}
+
+	@DisplayName("flush - 저장에 실패한 도서는 실패로 기록하고 다시 큐에 넣을 수 있다.")
+	@Test
+	void flush_failure() {
+		// given
+		CatalogWarmingQueue catalogWarmingQueue = catalogWarmingQueue(10, 10);
+		willThrow(new IllegalStateException("db down")).given(bookJdbcRepository).upsertAll(anyList());
+		catalogWarmingQueue.enqueue(List.of(book("9788960777330")));
+
+		// when
+		catalogWarmingQueue.flush();
+		catalogWarmingQueue.enqueue(List.of(book("9788960777330")));
+
+		// then
+		assertEquals(1.0, meterRegistry.get(CatalogWarmingQueue.FAILED_METRIC).counter().count());
+		assertEquals(1, catalogWarmingQueue.queueDepth());
+		verifyNoInteractions(localBookCatalogIndex);
+	}
+
+	@DisplayName("flush - 이미 저장된 도서의 제목이 바뀌면 제목 변경 이벤트를 발행한다.")
+	@Test
+	void flush_publishTitleChanged() {
+		// given
+		CatalogWarmingQueue catalogWarmingQueue = catalogWarmingQueue(10, 10);
+		given(bookJdbcRepository.findRetitledBooks(anyList())).willReturn(Map.of(7L, "자바 ORM 표준 JPA 프로그래밍"));
+		catalogWarmingQueue.enqueue(List.of(book("9788960777330")));
+
+		// when
+		catalogWarmingQueue.flush();
+
+		// then
+		verify(eventPublisher).publishEvent(new BookTitleChangedEvent(7L, "자바 ORM 표준 JPA 프로그래밍"));
+	}
+
+	private CatalogWarmingQueue catalogWarmingQueue(int queueCapacity, int batchSize) {
+		return new CatalogWarmingQueue(bookJdbcRepository, bookRepository, localBookCatalogIndex, eventPublisher,
+			new CatalogWarmingProperties(queueCapacity, batchSize, Duration.ofMinutes(30), 1000L), meterRegistry);
+	}
+
+	private SearchBookResponse book(String isbn) {
+		return new SearchBookResponse("자바 ORM 표준 JPA 프로그래밍", "김영한", isbn, "JPA 기본편",
+			"https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "KAKAO", "에이콘출판");
+	}
+}
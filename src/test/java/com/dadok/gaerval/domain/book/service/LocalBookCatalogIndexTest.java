@@ -0,0 +1,208 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class LocalBookCatalogIndexTest {
+
+	@Mock
+	private BookRepository bookRepository;
+
+	private LocalBookCatalogIndex localBookCatalogIndex;
+
+	@BeforeEach
+	void setUp() {
+		localBookCatalogIndex = new LocalBookCatalogIndex(bookRepository);
+	}
+
+	@DisplayName("search - 띄어쓰기 없는 부분 문자열로도 한글 제목을 찾고, 제목 일치를 저자 일치보다 앞에 둔다.")
+	@Test
+	void search_koreanSubstring() {
+		// given
+		localBookCatalogIndex.index(book(1L, "자바 ORM 표준 JPA 프로그래밍", "김영한", "에이콘출판"));
+		localBookCatalogIndex.index(book(2L, "객체지향의 사실과 오해", "조영호", "위키북스"));
+		localBookCatalogIndex.index(book(3L, "클린 코드", "로버트 C. 마틴", "인사이트"));
+		localBookCatalogIndex.index(book(4L, "스프링 입문", "표준 저자", "위키북스"));
+
+		// when
+		LocalCatalogSearchResult programming = localBookCatalogIndex.search("프로그래", 1, 10);
+		LocalCatalogSearchResult standard = localBookCatalogIndex.search("표준", 1, 10);
+		LocalCatalogSearchResult multiWord = localBookCatalogIndex.search("jpa 자바", 1, 10);
+		LocalCatalogSearchResult notFound = localBookCatalogIndex.search("코틀린", 1, 10);
+
+		// then
+		assertEquals(List.of(1L), programming.bookIds());
+		assertEquals(List.of(1L, 4L), standard.bookIds());
+		assertEquals(List.of(1L), multiWord.bookIds());
+		assertTrue(notFound.isEmpty());
+	}
+
+	@DisplayName("search - 한 글자 검색어도 찾고, 요청한 페이지만 반환한다.")
+	@Test
+	void search_singleCharacterAndPaging() {
+		// given
+		localBookCatalogIndex.index(book(1L, "코드 1", "저자", "출판사"));
+		localBookCatalogIndex.index(book(2L, "코드 2", "저자", "출판사"));
+		localBookCatalogIndex.index(book(3L, "코드 3", "저자", "출판사"));
+
+		// when
+		LocalCatalogSearchResult secondPage = localBookCatalogIndex.search("코", 2, 2);
+
+		// then
+		assertEquals(3, secondPage.totalCount());
+		assertEquals(1, secondPage.bookIds().size());
+	}
+
+	@DisplayName("index - 같은 도서를 다시 색인하면 이전 내용을 대체하고, 삭제된 도서는 검색되지 않는다.")
+	@Test
+	void index_upsertAndDelete() {
+		// given
+		localBookCatalogIndex.index(book(1L, "이펙티브 자바", "조슈아 블로크", "인사이트"));
+
+		// when
+		localBookCatalogIndex.index(book(1L, "이펙티브 코틀린", "마르친 모스칼라", "인사이트"));
+
+		// then
+		assertTrue(localBookCatalogIndex.search("자바", 1, 10).isEmpty());
+		assertEquals(List.of(1L), localBookCatalogIndex.search("코틀린", 1, 10).bookIds());
+		assertEquals(1, localBookCatalogIndex.size());
+
+		// when
+		Book deleted = book(1L, "이펙티브 코틀린", "마르친 모스칼라", "인사이트");
+		deleted.changeDeleted(true);
+		localBookCatalogIndex.index(deleted);
+
+		// then
+		assertTrue(localBookCatalogIndex.search("코틀린", 1, 10).isEmpty());
+		assertEquals(0, localBookCatalogIndex.size());
+	}
+
+	@DisplayName("index - 같은 내용으로 여러 번 색인해도 문서를 덧붙이지 않는다.")
+	@Test
+	void index_unchangedText() {
+		// given
+		Book book = book(1L, "이펙티브 자바", "조슈아 블로크", "인사이트");
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			localBookCatalogIndex.index(book);
+		}
+
+		// then
+		assertEquals(1, localBookCatalogIndex.documentCount());
+		assertEquals(List.of(1L), localBookCatalogIndex.search("자바", 1, 10).bookIds());
+	}
+
+	@DisplayName("index - 바뀐 내용으로 다시 색인한 문서가 쌓이면 이전 문서와 postings 를 회수한다.")
+	@Test
+	void index_compact() {
+		// given
+		localBookCatalogIndex.index(book(1L, "클린 코드", "로버트 C. 마틴", "인사이트"));
+		localBookCatalogIndex.index(book(2L, "리팩터링", "마틴 파울러", "한빛미디어"));
+
+		// when
+		for (int i = 0; i < LocalBookCatalogIndex.COMPACT_MIN_REMOVED * 2; i++) {
+			localBookCatalogIndex.index(book(2L, "리팩터링 " + i, "마틴 파울러", "한빛미디어"));
+		}
+
+		// then
+		assertTrue(localBookCatalogIndex.documentCount() <= LocalBookCatalogIndex.COMPACT_MIN_REMOVED + 2,
+			"documents : " + localBookCatalogIndex.documentCount());
+		assertEquals(2, localBookCatalogIndex.size());
+		assertEquals(List.of(1L), localBookCatalogIndex.search("클린", 1, 10).bookIds());
+		assertEquals(List.of(2L), localBookCatalogIndex.search("리팩터링", 1, 10).bookIds());
+		assertEquals(List.of(2L),
+			localBookCatalogIndex.search("리팩터링 " + (LocalBookCatalogIndex.COMPACT_MIN_REMOVED * 2 - 1), 1, 10)
+				.bookIds());
+		assertEquals(List.of(2L, 1L), localBookCatalogIndex.search("마틴", 1, 10).bookIds());
+	}
+
+	@DisplayName("load - books 테이블 전체를 id 순서로 나누어 읽어 색인한다.")
+	@Test
+	void load() {
+		// given
+		List<Book> firstPage = new ArrayList<>();
+		for (long id = 1; id <= LocalBookCatalogIndex.LOAD_PAGE_SIZE; id++) {
+			firstPage.add(book(id, "도서 " + id, "저자", "출판사"));
+		}
+		given(bookRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(firstPage);
+		given(bookRepository.findAllByIdGreaterThanOrderByIdAsc(eq((long)LocalBookCatalogIndex.LOAD_PAGE_SIZE),
+			any(Pageable.class))).willReturn(List.of(book(1001L, "마지막 도서", "저자", "출판사")));
+
+		// when
+		localBookCatalogIndex.load();
+
+		// then
+		assertEquals(LocalBookCatalogIndex.LOAD_PAGE_SIZE + 1, localBookCatalogIndex.size());
+		assertEquals(List.of(1001L), localBookCatalogIndex.search("마지막", 1, 10).bookIds());
+	}
+
+	/**
+	 * 합성 도서 5만 권으로 색인 크기와 검색 지연을 측정한다. 도서를 많이 만들고 벽시계 시간을 재므로 기본 빌드에서는 빼고
+	 * perfTest 로 실행한다.
+	 */
+	@Tag("perf")
+	@DisplayName("benchmark - 도서 5만 권 색인의 메모리 사용량과 검색 지연을 측정한다.")
+	@Test
+	void benchmark() {
+		// given
+		String[] words = {"자바", "스프링", "프로그래밍", "객체지향", "데이터베이스", "알고리즘", "코틀린", "클린", "리팩터링",
+			"테스트", "도메인", "설계", "네트워크", "운영체제", "파이썬", "머신러닝", "소설", "에세이", "여행", "역사"};
+		int bookCount = 50_000;
+		for (int i = 0; i < bookCount; i++) {
+			String title = words[i % words.length] + " " + words[(i / words.length) % words.length] + " 입문 " + i;
+			localBookCatalogIndex.index(book(i + 1L, title, "저자" + (i % 500), "출판사" + (i % 100)));
+		}
+		List<String> queries = List.of("자바", "스프링 입문", "객체지향설계", "데이터베", "코틀린 테스트", "여행 1234",
+			"저자42", "없는도서");
+
+		// when
+		for (int i = 0; i < 20; i++) {
+			queries.forEach(query -> localBookCatalogIndex.search(query, 1, 10));
+		}
+		long[] latencies = new long[queries.size() * 50];
+		for (int i = 0; i < latencies.length; i++) {
+			long startedAt = System.nanoTime();
+			localBookCatalogIndex.search(queries.get(i % queries.size()), 1, 10);
+			latencies[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(latencies);
+		long medianMicros = latencies[latencies.length / 2] / 1_000;
+		long bytesPerBook = localBookCatalogIndex.estimatedFootprintBytes() / bookCount;
+
+		// then
+		log.info("[LocalBookCatalogIndex benchmark] books : {}, grams : {}, bytes/book : {}, "
+				+ "median us : {}, p99 us : {}", bookCount, localBookCatalogIndex.gramCount(), bytesPerBook,
+			medianMicros, latencies[latencies.length * 99 / 100] / 1_000);
+		assertTrue(bytesPerBook < 1_024, "bytes/book : " + bytesPerBook);
+		assertTrue(medianMicros < 50_000, "median us : " + medianMicros);
+	}
+
+	private Book book(long id, String title, String author, String publisher) {
+		Book book = Book.create(title, author, "97889" + String.format("%08d", id), "contents", "url", "imageUrl",
+			"KAKAO", publisher);
+		ReflectionTestUtils.setField(book, "id", id);
+		return book;
+	}
+}
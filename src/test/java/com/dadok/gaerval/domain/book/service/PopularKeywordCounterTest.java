@@ -0,0 +1,98 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponse;
+import com.dadok.gaerval.domain.book.dto.response.PopularKeywordResponses;
+import com.dadok.gaerval.global.util.TimeHolder;
+
+@ExtendWith(MockitoExtension.class)
+class PopularKeywordCounterTest {
+
+	private static final long MINUTE = 60_000L;
+
+	@Mock
+	private TimeHolder timeHolder;
+
+	private PopularKeywordCounter popularKeywordCounter;
+
+	@BeforeEach
+	void setUp() {
+		popularKeywordCounter = new PopularKeywordCounter(timeHolder,
+			new PopularKeywordProperties(Duration.ofMinutes(60), 6, 100, 5, 10));
+	}
+
+	@DisplayName("findPopularKeywords - 많이 검색된 순서로 순위를 매기고, 공백과 대소문자가 다른 검색어는 하나로 센다.")
+	@Test
+	void findPopularKeywords() {
+		// given
+		given(timeHolder.getMillis()).willReturn(0L);
+		record("자바", 3);
+		record("  JPA ", 1);
+		record("jpa", 2);
+		record("클린  코드", 1);
+		record("스프링", 2);
+		record("아주 아주 긴 검색어입니다", 10);
+
+		// when
+		popularKeywordCounter.refresh();
+		PopularKeywordResponses responses = popularKeywordCounter.findPopularKeywords(3);
+
+		// then
+		assertEquals(List.of(new PopularKeywordResponse(1, "jpa"), new PopularKeywordResponse(2, "자바"),
+			new PopularKeywordResponse(3, "스프링")), responses.popularKeywordResponses());
+		assertEquals(4, popularKeywordCounter.findPopularKeywords(10).count());
+	}
+
+	@DisplayName("refresh - window 를 벗어난 구간의 검색은 집계에서 빠진다.")
+	@Test
+	void refresh_slidingWindow() {
+		// given
+		given(timeHolder.getMillis()).willReturn(0L);
+		record("자바", 5);
+		given(timeHolder.getMillis()).willReturn(30 * MINUTE);
+		record("코틀린", 3);
+
+		// when
+		given(timeHolder.getMillis()).willReturn(59 * MINUTE);
+		popularKeywordCounter.refresh();
+		List<PopularKeywordResponse> withinWindow = popularKeywordCounter.findPopularKeywords(10)
+			.popularKeywordResponses();
+
+		given(timeHolder.getMillis()).willReturn(60 * MINUTE);
+		popularKeywordCounter.refresh();
+		List<PopularKeywordResponse> afterWindow = popularKeywordCounter.findPopularKeywords(10)
+			.popularKeywordResponses();
+
+		// then
+		assertEquals(List.of("자바", "코틀린"), withinWindow.stream().map(PopularKeywordResponse::keyword).toList());
+		assertEquals(List.of("코틀린"), afterWindow.stream().map(PopularKeywordResponse::keyword).toList());
+	}
+
+	@DisplayName("findPopularKeywords - refresh 전에는 빈 목록을 반환한다.")
+	@Test
+	void findPopularKeywords_beforeRefresh() {
+		// when
+		PopularKeywordResponses responses = popularKeywordCounter.findPopularKeywords(10);
+
+		// then
+		assertTrue(responses.isEmpty());
+	}
+
+	private void record(String keyword, int times) {
+		for (int i = 0; i < times; i++) {
+			popularKeywordCounter.record(keyword);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchJdbcRepository;
+import com.dadok.gaerval.domain.book.repository.BookRecentSearchJdbcRepository.RecentSearchKeyword;
+import com.dadok.gaerval.global.config.redis.RecentSearchProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RecentSearchArchiveQueueTest {
+
+	private static final LocalDateTime SEARCHED_AT = LocalDateTime.of(2023, 4, 23, 23, 18, 35);
+
+	@Mock
+	private BookRecentSearchJdbcRepository bookRecentSearchJdbcRepository;
+
+	@Captor
+	private ArgumentCaptor<List<RecentSearchKeyword>> batches;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@DisplayName("flush - 같은 사용자의 같은 검색어는 마지막 검색일시 하나로 합쳐 batchSize 씩 저장한다.")
+	@Test
+	void flush_coalesceAndBatch() {
+		// given
+		RecentSearchArchiveQueue queue = queue(10, 2);
+		queue.offer(1L, "jpa", SEARCHED_AT);
+		queue.offer(1L, "spring", SEARCHED_AT.plusSeconds(1));
+		queue.offer(2L, "jpa", SEARCHED_AT.plusSeconds(2));
+		queue.offer(1L, "jpa", SEARCHED_AT.plusSeconds(3));
+
+		// when
+		queue.flush();
+
+		// then
+		verify(bookRecentSearchJdbcRepository, times(2)).upsertAll(batches.capture());
+		assertEquals(List.of(
+				new RecentSearchKeyword(1L, "spring", SEARCHED_AT.plusSeconds(1)),
+				new RecentSearchKeyword(2L, "jpa", SEARCHED_AT.plusSeconds(2))),
+			batches.getAllValues().get(0));
+		assertEquals(List.of(new RecentSearchKeyword(1L, "jpa", SEARCHED_AT.plusSeconds(3))),
+			batches.getAllValues().get(1));
+		assertEquals(1.0, meterRegistry.get(RecentSearchArchiveQueue.COALESCED_METRIC).counter().count());
+		assertEquals(3.0, meterRegistry.get(RecentSearchArchiveQueue.BATCH_SIZE_METRIC).summary().totalAmount());
+		assertEquals(0.0, meterRegistry.get(RecentSearchArchiveQueue.QUEUE_DEPTH_METRIC).gauge().value());
+	}
+
+	@DisplayName("offer - 버퍼가 가득 차면 가장 오래된 항목을 버린다.")
+	@Test
+	void offer_dropOldest() {
+		// given
+		RecentSearchArchiveQueue queue = queue(2, 10);
+
+		// when
+		queue.offer(1L, "jpa", SEARCHED_AT);
+		queue.offer(1L, "spring", SEARCHED_AT.plusSeconds(1));
+		queue.offer(1L, "kotlin", SEARCHED_AT.plusSeconds(2));
+		queue.flush();
+
+		// then
+		verify(bookRecentSearchJdbcRepository).upsertAll(List.of(
+			new RecentSearchKeyword(1L, "spring", SEARCHED_AT.plusSeconds(1)),
+			new RecentSearchKeyword(1L, "kotlin", SEARCHED_AT.plusSeconds(2))));
+		assertEquals(1.0, meterRegistry.get(RecentSearchArchiveQueue.DROPPED_METRIC).counter().count());
+	}
+
+	@DisplayName("offer - keyword 컬럼보다 긴 검색어는 버퍼에 넣지 않는다.")
+	@Test
+	void offer_skipTooLongKeyword() {
+		// given
+		RecentSearchArchiveQueue queue = queue(10, 10);
+
+		// when
+		queue.offer(1L, "a".repeat(RecentSearchArchiveQueue.MAX_KEYWORD_LENGTH + 1), SEARCHED_AT);
+		queue.offer(1L, "jpa", SEARCHED_AT.plusSeconds(1));
+		queue.flush();
+
+		// then
+		verify(bookRecentSearchJdbcRepository).upsertAll(List.of(
+			new RecentSearchKeyword(1L, "jpa", SEARCHED_AT.plusSeconds(1))));
+	}
+
+	@DisplayName("flush - 저장에 실패해도 예외를 전파하지 않고 실패 건수를 기록한다.")
+	@Test
+	void flush_failure() {
+		// given
+		RecentSearchArchiveQueue queue = queue(10, 10);
+		given(bookRecentSearchJdbcRepository.upsertAll(anyList())).willThrow(new IllegalStateException("db down"));
+		queue.offer(1L, "jpa", SEARCHED_AT);
+
+		// when
+		queue.flush();
+
+		// then
+		assertEquals(1.0, meterRegistry.get(RecentSearchArchiveQueue.FAILED_METRIC).counter().count());
+		assertEquals(0, queue.depth());
+	}
+
+	private RecentSearchArchiveQueue queue(int capacity, int batchSize) {
+		return new RecentSearchArchiveQueue(bookRecentSearchJdbcRepository,
+			new RecentSearchProperties(100, Duration.ofDays(90), true, capacity, batchSize), meterRegistry);
+	}
+}
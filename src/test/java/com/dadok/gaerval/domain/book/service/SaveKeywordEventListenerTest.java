@@ -1,12 +1,12 @@
 package com.dadok.gaerval.domain.book.service;
 
-import static org.junit.jupiter.api.Assertions.*;
-
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,16 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import com.dadok.gaerval.domain.book.entity.BookRecentSearch;
-import com.dadok.gaerval.domain.book.repository.BookRecentSearchRepository;
-import com.dadok.gaerval.domain.user.entity.User;
-import com.dadok.gaerval.domain.user.service.UserService;
-import com.dadok.gaerval.testutil.UserObjectProvider;
+import com.dadok.gaerval.global.util.TimeHolder;
 
 @ExtendWith(MockitoExtension.class)
 class SaveKeywordEventListenerTest {
@@ -32,51 +24,39 @@ class SaveKeywordEventListenerTest {
 	private SaveKeywordEventListener saveKeywordEventListener;
 
 	@Mock
-	private UserService userService;
+	private RecentSearchArchiveQueue recentSearchArchiveQueue;
 
 	@Mock
-	private BookRecentSearchRepository bookRecentSearchRepository;
+	private TimeHolder timeHolder;
 
-	@DisplayName("handleSaveKeywordEvent - 사용자가 존재하면 최금 검색어를 저장하거나 업데이트한다. ")
+	@DisplayName("handleSaveKeywordEvent - 최근 검색어를 검색 시각과 함께 보관 버퍼에 넘긴다.")
 	@Test
 	void handleSaveKeywordEvent() {
 		// given
 		Long userId = 1L;
 		String keyword = "test keyword";
 		SaveKeywordEvent saveKeywordEvent = new SaveKeywordEvent(userId, keyword);
-
-		User user = UserObjectProvider.createKakaoUser();
-		ReflectionTestUtils.setField(user, "id", userId);
-		BookRecentSearch bookRecentSearch = BookRecentSearch.create(user, keyword);
-
-		when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-		when(bookRecentSearchRepository.existsByKeywordAndUserId(eq(keyword), eq(userId))).thenReturn(true);
+		ZoneId zoneId = ZoneId.of("Asia/Seoul");
+		when(timeHolder.getCurrentClock()).thenReturn(Clock.fixed(Instant.parse("2023-04-23T14:18:35Z"), zoneId));
 
 		// when
 		saveKeywordEventListener.handleSaveKeywordEvent(saveKeywordEvent);
 
 		// then
-		verify(userService).findById(userId);
-		verify(bookRecentSearchRepository).existsByKeywordAndUserId(keyword, userId);
+		verify(recentSearchArchiveQueue).offer(userId, keyword, LocalDateTime.of(2023, 4, 23, 23, 18, 35));
 	}
 
-	@DisplayName("handleSaveKeywordEvent - 사용자가 존재하면 최금 검색어를 저장하거나 업데이트하는데 실패한다.")
+	@DisplayName("handleSaveKeywordEvent - 사용자 id 가 없으면 보관하지 않는다.")
 	@Test
 	void handleSaveKeywordEventWithAbsentUser() {
 		// given
-		Long userId = 1L;
-		String keyword = "test keyword";
-		SaveKeywordEvent saveKeywordEvent = new SaveKeywordEvent(userId, keyword);
-
-		when(userService.findById(eq(userId))).thenReturn(Optional.empty());
+		SaveKeywordEvent saveKeywordEvent = new SaveKeywordEvent(null, "test keyword");
 
 		// when
 		saveKeywordEventListener.handleSaveKeywordEvent(saveKeywordEvent);
 
 		// then
-		verify(userService).findById(userId);
-		verify(bookRecentSearchRepository, never()).existsByKeywordAndUserId(any(), any());
-		verify(bookRecentSearchRepository, never()).updateRecentSearchKeyword(any());
-		verify(bookRecentSearchRepository, never()).save(any());
+		verify(recentSearchArchiveQueue, never()).offer(any(), any(), any());
+		verifyNoInteractions(timeHolder);
 	}
 }
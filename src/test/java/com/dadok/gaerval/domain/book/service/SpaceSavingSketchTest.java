@@ -0,0 +1,78 @@
+package com.dadok.gaerval.domain.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingSketchTest {
+
+	@DisplayName("offer - capacity 안에서는 정확히 센다.")
+	@Test
+	void offer_exact() {
+		// given
+		SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+
+		// when
+		List.of("a", "b", "a", "c", "a", "b").forEach(sketch::offer);
+
+		// then
+		Map<String, Long> counts = toCounts(sketch.entries());
+		assertEquals(Map.of("a", 3L, "b", 2L, "c", 1L), counts);
+		assertTrue(sketch.entries().stream().allMatch(entry -> entry.error() == 0));
+	}
+
+	@DisplayName("offer - 가득 차면 가장 적게 센 검색어 자리를 물려받고, 그 count 를 오차로 기록한다.")
+	@Test
+	void offer_replaceMinimum() {
+		// given
+		SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+		List.of("a", "a", "b").forEach(sketch::offer);
+
+		// when
+		sketch.offer("c");
+
+		// then
+		assertEquals(2, sketch.size());
+		SpaceSavingSketch.Entry replaced = sketch.entries().stream()
+			.filter(entry -> entry.keyword().equals("c")).findFirst().orElseThrow();
+		assertEquals(2, replaced.count());
+		assertEquals(1, replaced.error());
+		assertEquals(2L, toCounts(sketch.entries()).get("a"));
+	}
+
+	@DisplayName("offer - 치우친 분포에서 capacity 보다 많은 검색어가 들어와도 상위 검색어를 놓치지 않는다.")
+	@Test
+	void offer_heavyHitters() {
+		// given
+		SpaceSavingSketch sketch = new SpaceSavingSketch(50);
+		Random random = new Random(42);
+
+		// when
+		for (int i = 0; i < 100_000; i++) {
+			int rank = (int)Math.floor(Math.pow(random.nextDouble(), 4) * 5_000);
+			sketch.offer("keyword" + rank);
+		}
+
+		// then
+		List<String> top = sketch.entries().stream()
+			.sorted(Comparator.comparingLong(SpaceSavingSketch.Entry::count).reversed())
+			.limit(3)
+			.map(SpaceSavingSketch.Entry::keyword)
+			.toList();
+		assertEquals(List.of("keyword0", "keyword1", "keyword2"), top);
+		assertEquals(50, sketch.size());
+	}
+
+	private Map<String, Long> toCounts(List<SpaceSavingSketch.Entry> entries) {
+		Map<String, Long> counts = new HashMap<>();
+		entries.forEach(entry -> counts.put(entry.keyword(), entry.count()));
+		return counts;
+	}
+}
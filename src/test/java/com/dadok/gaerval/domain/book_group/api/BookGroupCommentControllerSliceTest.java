@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -20,15 +21,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 import com.dadok.gaerval.controller.ControllerSliceTest;
 import com.dadok.gaerval.controller.document.utils.DocumentLinkGenerator;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentCreateRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.domain.book_group.service.BookGroupCommentService;
 import com.dadok.gaerval.global.util.QueryDslUtil;
 import com.dadok.gaerval.global.util.SortDirection;
@@ -228,6 +233,164 @@ class BookGroupCommentControllerSliceTest extends ControllerSliceTest {
 		verify(bookGroupCommentService).findAllBookGroupCommentsByGroup(eq(request), any(), any());
 	}
 
+	@DisplayName("groupId를 통해 댓글을 답글과 함께 조회하는데 성공한다.")
+	@Test
+	void findBookGroupCommentThreads_ShouldReturnOk() throws Exception {
+		// given
+		Long groupId = 234L;
+		BookGroupCommentThreadSearchRequest request = new BookGroupCommentThreadSearchRequest(10, 200L,
+			SortDirection.DESC, 3);
+		BookGroupCommentThreadResponses threadResponses = new BookGroupCommentThreadResponses(true,
+			QueryDslUtil.toSlice(BookGroupCommentObjectProvider.mockThreadResponses, PageRequest.of(0, 10)));
+
+		given(bookGroupCommentService.findBookGroupCommentThreads(eq(request), any(), any()))
+			.willReturn(threadResponses);
+
+		List<FieldDescriptor> responseFields = new ArrayList<>(List.of(
+			fieldWithPath("count").description("댓글 갯수").type(JsonFieldType.NUMBER),
+			fieldWithPath("isEmpty").description("데이터가 없으면 empty = true").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("isFirst").description("첫 번째 페이지 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("isLast").description("마지막 페이지 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("hasNext").description("다음 데이터 존재 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("bookGroup.isPublic").description("모임 공개 여부").optional().type(JsonFieldType.BOOLEAN),
+			fieldWithPath("bookGroupComments[]").type(JsonFieldType.ARRAY).description("댓글 목록"),
+			fieldWithPath("bookGroupComments[].replyCount").type(JsonFieldType.NUMBER).description("답글 전체 갯수"),
+			fieldWithPath("bookGroupComments[].hasMoreReplies").type(JsonFieldType.BOOLEAN)
+				.description("replies 에 담지 못한 답글 존재 여부"),
+			fieldWithPath("bookGroupComments[].replies[]").type(JsonFieldType.ARRAY)
+				.description("먼저 작성된 순서의 답글 replySize 개")
+		));
+		responseFields.addAll(commentFields("bookGroupComments[].comment."));
+		responseFields.addAll(commentFields("bookGroupComments[].replies[]."));
+
+		// when then
+		mockMvc.perform(get("/api/book-groups/{groupId}/comments/threads", groupId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header(ACCESS_TOKEN_HEADER_NAME, MOCK_ACCESS_TOKEN)
+				.param("groupCommentCursorId", "200")
+				.param("pageSize", request.pageSize().toString())
+				.param("sortDirection", request.sortDirection().toString())
+				.param("replySize", request.replySize().toString())
+			)
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(this.restDocs.document(
+				requestHeaders(
+					headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+				),
+				pathParameters(
+					parameterWithName("groupId").description("모임 ID")
+				),
+				requestParameters(
+					parameterWithName("groupCommentCursorId").description("커서 id가 없을 경우 정렬 순서에 따라 결정").optional(),
+					parameterWithName("pageSize").description("요청 1단계 댓글 개수 default : 10")
+						.optional()
+						.attributes(
+							constrainsAttribute(BookGroupCommentThreadSearchRequest.class, "pageSize")
+						),
+					parameterWithName("sortDirection").description("정렬 순서. default : DESC")
+						.optional()
+						.description("정렬 방식 : " +
+							generateLinkCode(DocumentLinkGenerator.DocUrl.SORT_DIRECTION)
+						),
+					parameterWithName("replySize").description("댓글마다 함께 조회할 답글 개수 default : 3")
+						.optional()
+						.attributes(
+							constrainsAttribute(BookGroupCommentThreadSearchRequest.class, "replySize")
+						)
+				),
+				responseFields(responseFields)))
+			.andDo(MockMvcRestDocumentationWrapper.document("{class-name}/{method-name}",
+				ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+					.requestHeaders(
+						headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+					)
+					.pathParameters(
+						parameterWithName("groupId").description("모임 ID")
+					)
+					.requestParameters(
+						parameterWithName("groupCommentCursorId").description("커서 id가 없을 경우 정렬 순서에 따라 결정")
+							.optional(),
+						parameterWithName("pageSize").description("요청 1단계 댓글 개수 default : 10").optional(),
+						parameterWithName("sortDirection").description("정렬 순서. default : DESC").optional(),
+						parameterWithName("replySize").description("댓글마다 함께 조회할 답글 개수 default : 3").optional()
+					)
+					.responseFields(responseFields.toArray(FieldDescriptor[]::new))
+					.build())));
+
+		verify(bookGroupCommentService).findBookGroupCommentThreads(eq(request), any(), any());
+	}
+
+	@DisplayName("댓글의 답글을 이어서 조회하는데 성공한다.")
+	@Test
+	void findBookGroupCommentReplies_ShouldReturnOk() throws Exception {
+		// given
+		Long groupId = 234L;
+		Long commentId = 123L;
+		BookGroupCommentReplySearchRequest request = new BookGroupCommentReplySearchRequest(10, 124L);
+		BookGroupCommentResponses replyResponses = new BookGroupCommentResponses(true,
+			QueryDslUtil.toSlice(BookGroupCommentObjectProvider.mockCommentResponses, PageRequest.of(0, 10)));
+
+		given(bookGroupCommentService.findBookGroupCommentReplies(eq(request), any(), eq(groupId), eq(commentId)))
+			.willReturn(replyResponses);
+
+		List<FieldDescriptor> responseFields = new ArrayList<>(List.of(
+			fieldWithPath("count").description("답글 갯수").type(JsonFieldType.NUMBER),
+			fieldWithPath("isEmpty").description("데이터가 없으면 empty = true").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("isFirst").description("첫 번째 페이지 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("isLast").description("마지막 페이지 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("hasNext").description("다음 데이터 존재 여부").type(JsonFieldType.BOOLEAN),
+			fieldWithPath("bookGroup.isPublic").description("모임 공개 여부").optional().type(JsonFieldType.BOOLEAN),
+			fieldWithPath("bookGroupComments[]").type(JsonFieldType.ARRAY).description("답글 목록")
+		));
+		responseFields.addAll(commentFields("bookGroupComments[]."));
+
+		// when then
+		mockMvc.perform(get("/api/book-groups/{groupId}/comments/{commentId}/replies", groupId, commentId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.header(ACCESS_TOKEN_HEADER_NAME, MOCK_ACCESS_TOKEN)
+				.param("replyCursorId", "124")
+				.param("pageSize", request.pageSize().toString())
+			)
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(this.restDocs.document(
+				requestHeaders(
+					headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+				),
+				pathParameters(
+					parameterWithName("groupId").description("모임 ID"),
+					parameterWithName("commentId").description("부모 댓글 ID")
+				),
+				requestParameters(
+					parameterWithName("replyCursorId").description("마지막으로 받은 답글 id. 없으면 첫 답글부터 조회").optional(),
+					parameterWithName("pageSize").description("요청 데이터 개수 default : 10")
+						.optional()
+						.attributes(
+							constrainsAttribute(BookGroupCommentReplySearchRequest.class, "pageSize")
+						)
+				),
+				responseFields(responseFields)))
+			.andDo(MockMvcRestDocumentationWrapper.document("{class-name}/{method-name}",
+				ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+					.requestHeaders(
+						headerWithName(HttpHeaders.CONTENT_TYPE).description(CONTENT_TYPE_JSON_DESCRIPTION)
+					)
+					.pathParameters(
+						parameterWithName("groupId").description("모임 ID"),
+						parameterWithName("commentId").description("부모 댓글 ID")
+					)
+					.requestParameters(
+						parameterWithName("replyCursorId").description("마지막으로 받은 답글 id. 없으면 첫 답글부터 조회")
+							.optional(),
+						parameterWithName("pageSize").description("요청 데이터 개수 default : 10").optional()
+					)
+					.responseFields(responseFields.toArray(FieldDescriptor[]::new))
+					.build())));
+
+		verify(bookGroupCommentService).findBookGroupCommentReplies(eq(request), any(), eq(groupId), eq(commentId));
+	}
+
 	@DisplayName("댓글 수정에 성공한다.")
 	@Test
 	void updateBookGroupComment_ShouldReturnOk() throws Exception {
@@ -328,4 +491,20 @@ class BookGroupCommentControllerSliceTest extends ControllerSliceTest {
 		;
 
 	}
-}
\ No newline at end of file
+
+	private static List<FieldDescriptor> commentFields(String prefix) {
+		return List.of(
+			fieldWithPath(prefix + "commentId").type(JsonFieldType.NUMBER).description("댓글 ID"),
+			fieldWithPath(prefix + "contents").type(JsonFieldType.STRING).description("댓글 내용"),
+			fieldWithPath(prefix + "bookGroupId").type(JsonFieldType.NUMBER).description("모임 ID"),
+			fieldWithPath(prefix + "parentCommentId").type(JsonFieldType.NUMBER).description("부모 댓글 ID")
+				.optional(),
+			fieldWithPath(prefix + "userId").type(JsonFieldType.NUMBER).description("사용자 ID"),
+			fieldWithPath(prefix + "userProfileImage").type(JsonFieldType.STRING).description("사용자 프로필 이미지"),
+			fieldWithPath(prefix + "createdAt").type(JsonFieldType.STRING).description("생성일"),
+			fieldWithPath(prefix + "modifiedAt").type(JsonFieldType.STRING).description("수정일"),
+			fieldWithPath(prefix + "nickname").type(JsonFieldType.STRING).description("닉네임"),
+			fieldWithPath(prefix + "writtenByCurrentUser").type(JsonFieldType.BOOLEAN).description("댓글 본인 여부")
+		);
+	}
+}
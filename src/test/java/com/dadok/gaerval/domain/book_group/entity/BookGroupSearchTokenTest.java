@@ -0,0 +1,37 @@
+package com.dadok.gaerval.domain.book_group.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BookGroupSearchTokenTest {
+
+	@DisplayName("tokenize - 단어마다 2-gram 과 마지막 한 글자를 소문자로 만든다.")
+	@Test
+	void tokenize() {
+		assertThat(BookGroupSearchToken.tokenize(" 자바스 Java "))
+			.containsExactly("자바", "바스", "스", "ja", "av", "va", "a");
+	}
+
+	@DisplayName("tokenize - 비어 있으면 토큰이 없다.")
+	@Test
+	void tokenize_blank() {
+		assertThat(BookGroupSearchToken.tokenize("  ")).isEmpty();
+		assertThat(BookGroupSearchToken.tokenize(null)).isEmpty();
+	}
+
+	@DisplayName("queryTokens - 검색어는 두 글자 이상인 단어의 2-gram 만 만든다.")
+	@Test
+	void queryTokens() {
+		assertThat(BookGroupSearchToken.queryTokens("자바 스터디 a"))
+			.containsExactly("자바", "스터", "터디");
+	}
+
+	@DisplayName("queryTokens - 모든 단어가 한 글자면 비어 있고, 첫 글자로 토큰을 찾는다.")
+	@Test
+	void queryTokens_singleCharacter() {
+		assertThat(BookGroupSearchToken.queryTokens("자 바")).isEmpty();
+		assertThat(BookGroupSearchToken.firstCharacter(" 자 바")).isEqualTo("자");
+	}
+}
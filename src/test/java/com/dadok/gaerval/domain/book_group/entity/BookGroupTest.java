@@ -26,7 +26,6 @@ import com.dadok.gaerval.global.util.RegexHelper;
 import com.dadok.gaerval.global.util.TimeHolder;
 import com.dadok.gaerval.testutil.BookGroupObjectProvider;
 import com.dadok.gaerval.testutil.BookObjectProvider;
-import com.dadok.gaerval.testutil.GroupCommentObjectProvider;
 import com.dadok.gaerval.testutil.TestTimeHolder;
 import com.dadok.gaerval.testutil.UserObjectProvider;
 
@@ -206,40 +205,6 @@ class BookGroupTest {
 		assertTrue(password.length() > 10);
 	}
 
-	@DisplayName("addComments - GroupComment가 null이 아니면 comments에 add 한다.")
-	@Test
-	void addComments() {
-		//given
-		Book book = BookObjectProvider.createAllFieldBook();
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(book,
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-
-		GroupComment groupComment = GroupCommentObjectProvider.createComment("contents", bookGroup, kakaoUser);
-		//when
-		bookGroup.addComment(groupComment);
-
-		//then
-		assertEquals(1, bookGroup.getComments().size());
-		assertEquals(1L, bookGroup.getOwnerId());
-		assertEquals(book, bookGroup.getBook());
-		assertTrue(bookGroup.getComments().contains(groupComment));
-		assertEquals(groupComment.getBookGroup(), bookGroup);
-	}
-
-	@DisplayName("addComments - GroupComment가 null이 면 예외를 던진다.")
-	@Test
-	void addComments_throw() {
-		//given
-		Book book = BookObjectProvider.createAllFieldBook();
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(book,
-			1L);
-		GroupComment groupComment = null;
-		//when
-		assertThrows(InvalidArgumentException.class,
-			() -> bookGroup.addComment(groupComment));
-	}
-
 	@DisplayName("addMembers - GroupMember가 null이 아니면 members에 add 한다.")
 	@Test
 	void addMembers() {
@@ -47,7 +47,7 @@ class GroupCommentTest {
 
 		//then
 		assertEquals(bookGroup, groupComment.getBookGroup());
-		assertTrue(bookGroup.getComments().contains(groupComment));
+		assertTrue(bookGroup.getComments().isEmpty());
 	}
 
 	@DisplayName("create - Child Comment 생성에 성공한다.")
@@ -65,12 +65,12 @@ class GroupCommentTest {
 		GroupComment childComment = GroupComment.createChild(contents, bookGroup, naverUser, parentComment);
 
 		//then
-		assertTrue(parentComment.getChildComments().contains(childComment));
 		assertEquals(naverUser, childComment.getUser());
 		assertEquals(contents, childComment.getContents());
 		assertEquals(childComment.getParentComment(), parentComment);
 		assertEquals(bookGroup, childComment.getBookGroup());
-		assertTrue(bookGroup.getComments().contains(childComment));
+		assertTrue(parentComment.getChildComments().isEmpty());
+		assertTrue(bookGroup.getComments().isEmpty());
 	}
 
 	@DisplayName("addParent - parent가 부모가 아니면 Parent를 바꾸는데 실패한다.")
@@ -89,7 +89,7 @@ class GroupCommentTest {
 		assertThrows(InvalidCommentException.class, () -> groupComment.addParent(childComment));
 	}
 
-	@DisplayName("addParent - 같은 부모라면 바뀌지 않는다.")
+	@DisplayName("addParent - 부모의 자식 댓글 목록은 건드리지 않고 부모만 지정한다.")
 	@Test
 	void addParent_success() {
 		//given
@@ -104,88 +104,8 @@ class GroupCommentTest {
 		groupComment.addParent(parentComment);
 
 		//then
-
-		assertEquals(1, parentComment.getChildComments().size());
-	}
-
-	@DisplayName("adChild - GroupComment 자신이 Parent가 아니면 addChild에 실패한다.")
-	@Test
-	void addChild_fail_selfNotParent() {
-		//given
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(BookObjectProvider.createAllFieldBook(),
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-		User naverUser = UserObjectProvider.createNaverUser();
-		GroupComment parentComment = GroupComment.create("우리 모임 너무 좋아요", bookGroup, kakaoUser);
-		GroupComment childComment = GroupComment.createChild("자식이에요", bookGroup, naverUser, parentComment);
-
-		//when
-		GroupComment otherChild = GroupComment.createChild("나도 자식이에요", bookGroup, kakaoUser, parentComment);
-
-		assertThrows(InvalidCommentException.class, () -> childComment.addChild(otherChild));
-	}
-
-	@DisplayName("adChild - child가 Parent가 아니면 addChild에 실패한다.")
-	@Test
-	void addChild_fail_childNotParent() {
-		//given
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(BookObjectProvider.createAllFieldBook(),
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-		User naverUser = UserObjectProvider.createNaverUser();
-		GroupComment parentComment = GroupComment.create("우리 모임 너무 좋아요", bookGroup, kakaoUser);
-		GroupComment OtherParent = GroupComment.create("자식이에요", bookGroup, naverUser);
-
-		//when
-		GroupComment child = GroupComment.createChild("나도 자식이에요", bookGroup, kakaoUser, parentComment);
-
-		assertThrows(InvalidCommentException.class, () -> child.addChild(OtherParent));
-	}
-
-	@DisplayName("addChild - child가 Parent이면  addChild에 실패한다.")
-	@Test
-	void addChild_fail_Parent() {
-		//given
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(BookObjectProvider.createAllFieldBook(),
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-		User naverUser = UserObjectProvider.createNaverUser();
-		GroupComment parentComment = GroupComment.create("우리 모임 너무 좋아요", bookGroup, kakaoUser);
-		GroupComment OtherParent = GroupComment.create("자식이에요", bookGroup, naverUser);
-
-		//when
-		assertThrows(InvalidCommentException.class, () -> parentComment.addChild(OtherParent));
-	}
-
-	@DisplayName("adChild - child로 add하려는 child가 Parent이면 addChild에 실패한다.")
-	@Test
-	void addChild_fail_childParent() {
-		//given
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(BookObjectProvider.createAllFieldBook(),
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-		GroupComment parentComment = GroupComment.create("우리 모임 너무 좋아요", bookGroup, kakaoUser);
-		//when
-		GroupComment child = GroupComment.createChild("나도 자식이에요", bookGroup, kakaoUser, parentComment);
-
-		assertThrows(InvalidCommentException.class, () -> child.addChild(parentComment));
-	}
-
-	@DisplayName("adChild - 같은 child이라면 추가되지 않는다 ")
-	@Test
-	void addChild_fail_sameChild() {
-		//given
-		BookGroup bookGroup = BookGroupObjectProvider.createMockBookGroup(BookObjectProvider.createAllFieldBook(),
-			1L);
-		User kakaoUser = UserObjectProvider.createKakaoUser();
-		User naverUser = UserObjectProvider.createNaverUser();
-		GroupComment parentComment = GroupComment.create("우리 모임 너무 좋아요", bookGroup, kakaoUser);
-		GroupComment childComment = GroupComment.createChild("자식이에요", bookGroup, naverUser, parentComment);
-
-		//when
-		parentComment.addChild(childComment);
-		//then
-		assertEquals(1, parentComment.getChildComments().size());
+		assertEquals(parentComment, groupComment.getParentComment());
+		assertTrue(parentComment.getChildComments().isEmpty());
 	}
 
 	@DisplayName("isParent : 부모가 없으면 true")
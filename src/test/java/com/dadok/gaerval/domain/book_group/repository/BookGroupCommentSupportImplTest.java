@@ -1,21 +1,64 @@
 package com.dadok.gaerval.domain.book_group.repository;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.TestPropertySource;
 
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
+import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.GroupComment;
+import com.dadok.gaerval.domain.user.entity.Authority;
+import com.dadok.gaerval.domain.user.entity.Role;
+import com.dadok.gaerval.domain.user.entity.User;
+import com.dadok.gaerval.domain.user.entity.UserAuthority;
+import com.dadok.gaerval.domain.user.repository.AuthorityRepository;
+import com.dadok.gaerval.domain.user.repository.UserRepository;
 import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookGroupObjectProvider;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+import com.dadok.gaerval.testutil.UserObjectProvider;
 
 import lombok.RequiredArgsConstructor;
 
 @CustomDataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
 class BookGroupCommentSupportImplTest {
 
 	private final BookGroupCommentRepository bookGroupCommentRepository;
 
+	private final BookGroupRepository bookGroupRepository;
+
+	private final BookRepository bookRepository;
+
+	private final UserRepository userRepository;
+
+	private final AuthorityRepository authorityRepository;
+
+	private final EntityManager entityManager;
+
+	private final EntityManagerFactory entityManagerFactory;
+
 	@DisplayName("existsBy - id로 존재여부 테스트")
 	@Test
 	void existsBy() {
@@ -34,4 +77,132 @@ class BookGroupCommentSupportImplTest {
 	void findGroupComment() {
 		bookGroupCommentRepository.findGroupComment(1L,1L,1L);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("findThreadsBy - 1단계 댓글만 페이징하고, 댓글마다 답글 수와 앞쪽 답글을 함께 담는다.")
+	@Test
+	void findThreadsBy() {
+		// given
+		User writer = saveUser();
+		BookGroup bookGroup = saveBookGroup(writer);
+		GroupComment first = saveComment(bookGroup, writer, null);
+		List<GroupComment> firstReplies = saveReplies(bookGroup, writer, first, 5);
+		GroupComment second = saveComment(bookGroup, writer, null);
+		GroupComment third = saveComment(bookGroup, writer, null);
+		List<GroupComment> thirdReplies = saveReplies(bookGroup, writer, third, 1);
+
+		// when
+		BookGroupCommentThreadResponses firstPage = bookGroupCommentRepository.findThreadsBy(
+			new BookGroupCommentThreadSearchRequest(2, null, null, 3), writer.getId(), bookGroup.getId());
+		BookGroupCommentThreadResponses secondPage = bookGroupCommentRepository.findThreadsBy(
+			new BookGroupCommentThreadSearchRequest(2, second.getId(), null, 3), writer.getId(), bookGroup.getId());
+
+		// then
+		assertTrue(firstPage.hasNext());
+		assertEquals(List.of(third.getId(), second.getId()), commentIds(firstPage));
+		BookGroupCommentThreadResponse thirdThread = firstPage.bookGroupComments().get(0);
+		assertEquals(1L, thirdThread.replyCount());
+		assertFalse(thirdThread.hasMoreReplies());
+		assertEquals(ids(thirdReplies), replyIds(thirdThread));
+		assertTrue(thirdThread.replies().get(0).getWrittenByCurrentUser());
+		BookGroupCommentThreadResponse secondThread = firstPage.bookGroupComments().get(1);
+		assertEquals(0L, secondThread.replyCount());
+		assertTrue(secondThread.replies().isEmpty());
+
+		assertFalse(secondPage.hasNext());
+		assertEquals(List.of(first.getId()), commentIds(secondPage));
+		BookGroupCommentThreadResponse firstThread = secondPage.bookGroupComments().get(0);
+		assertEquals(5L, firstThread.replyCount());
+		assertTrue(firstThread.hasMoreReplies());
+		assertEquals(ids(firstReplies.subList(0, 3)), replyIds(firstThread));
+	}
+
+	@DisplayName("findThreadsBy - 페이지의 댓글 수와 상관없이 댓글, 답글 수, 답글을 3번의 쿼리로 조회한다.")
+	@Test
+	void findThreadsBy_constantStatements() {
+		// given
+		User writer = saveUser();
+		BookGroup bookGroup = saveBookGroup(writer);
+		for (int i = 0; i < 10; i++) {
+			saveReplies(bookGroup, writer, saveComment(bookGroup, writer, null), 4);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		BookGroupCommentThreadResponses threads = bookGroupCommentRepository.findThreadsBy(
+			new BookGroupCommentThreadSearchRequest(10, null, null, 3), writer.getId(), bookGroup.getId());
+
+		// then
+		assertEquals(10, threads.count());
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	@DisplayName("findReplies - 답글을 커서 다음부터 오래된 순으로 이어서 조회한다.")
+	@Test
+	void findReplies() {
+		// given
+		User writer = saveUser();
+		BookGroup bookGroup = saveBookGroup(writer);
+		GroupComment parent = saveComment(bookGroup, writer, null);
+		List<GroupComment> replies = saveReplies(bookGroup, writer, parent, 5);
+
+		// when
+		BookGroupCommentResponses responses = bookGroupCommentRepository.findReplies(
+			new BookGroupCommentReplySearchRequest(10, replies.get(2).getId()), null, bookGroup.getId(),
+			parent.getId());
+
+		// then
+		assertFalse(responses.hasNext());
+		assertEquals(ids(replies.subList(3, 5)), responses.bookGroupComments().stream()
+			.map(BookGroupCommentResponse::getCommentId)
+			.toList());
+		assertFalse(responses.bookGroupComments().get(0).getWrittenByCurrentUser());
+	}
+
+	private User saveUser() {
+		Authority authority = authorityRepository.save(Authority.create(Role.USER));
+		return userRepository.save(
+			User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority)));
+	}
+
+	private BookGroup saveBookGroup(User owner) {
+		Book book = bookRepository.save(BookObjectProvider.createBook());
+		return bookGroupRepository.save(BookGroupObjectProvider.createBookGroup(book, owner.getId()));
+	}
+
+	private GroupComment saveComment(BookGroup bookGroup, User writer, GroupComment parent) {
+		GroupComment groupComment = GroupComment.create("댓글", bookGroup, writer);
+		if (parent != null) {
+			groupComment.addParent(parent);
+		}
+		return bookGroupCommentRepository.save(groupComment);
+	}
+
+	private List<GroupComment> saveReplies(BookGroup bookGroup, User writer, GroupComment parent, int count) {
+		List<GroupComment> replies = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			replies.add(saveComment(bookGroup, writer, parent));
+		}
+		return replies;
+	}
+
+	private static List<Long> commentIds(BookGroupCommentThreadResponses threads) {
+		return threads.bookGroupComments().stream()
+			.map(thread -> thread.comment().getCommentId())
+			.toList();
+	}
+
+	private static List<Long> replyIds(BookGroupCommentThreadResponse thread) {
+		return thread.replies().stream()
+			.map(BookGroupCommentResponse::getCommentId)
+			.toList();
+	}
+
+	private static List<Long> ids(List<GroupComment> groupComments) {
+		return groupComments.stream()
+			.map(GroupComment::getId)
+			.toList();
+	}
+}
@@ -2,16 +2,26 @@ package com.dadok.gaerval.domain.book_group.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.TestConstructor;
 
+import com.dadok.gaerval.domain.book.dto.request.BookCreateRequest;
 import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookJdbcRepository;
 import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupQueryRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupQueryRequest.GroupSearchOption;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupDetailResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 import com.dadok.gaerval.domain.book_group.entity.GroupMember;
 import com.dadok.gaerval.domain.user.entity.Authority;
@@ -33,6 +43,7 @@ import com.dadok.gaerval.testutil.UserObjectProvider;
 import lombok.RequiredArgsConstructor;
 
 @CustomDataJpaTest
+@Import({BookGroupSearchTokenJdbcRepository.class, BookJdbcRepository.class})
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
 class BookGroupSupportImplTest {
@@ -47,10 +58,16 @@ class BookGroupSupportImplTest {
 
 	private final AuthorityRepository authorityRepository;
 
+	private final BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
+	private final BookJdbcRepository bookJdbcRepository;
+
 	private final TimeHolder timeHolder = TestTimeHolder.now();
 
 	private Authority authority;
 
+	private int bookSequence;
+
 	@BeforeEach
 	void setUp() {
 		authority = authorityRepository.save(Authority.create(Role.USER));
@@ -163,6 +180,29 @@ class BookGroupSupportImplTest {
 			bookGroup.getId());
 	}
 
+	@DisplayName("reconcileMemberCounts - 어긋난 멤버 수를 실제 멤버 수로 맞추고, 조회는 맞춘 값을 읽는다.")
+	@Test
+	void reconcileMemberCounts() {
+		// given
+		User kakaoUser = userRepository.saveAndFlush(
+			User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority)));
+		User naverUser = userRepository.saveAndFlush(
+			User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority)));
+		Book book = bookRepository.saveAndFlush(BookObjectProvider.createBook());
+		BookGroup bookGroup = bookGroupRepository.saveAndFlush(
+			BookGroupObjectProvider.createBookGroup(book, kakaoUser.getId()));
+		groupMemberRepository.saveAndFlush(GroupMember.create(bookGroup, kakaoUser, timeHolder));
+		groupMemberRepository.saveAndFlush(GroupMember.create(bookGroup, naverUser, timeHolder));
+
+		// when
+		int corrected = bookGroupRepository.reconcileMemberCounts(0, bookGroup.getId());
+
+		// then
+		assertEquals(1, corrected);
+		assertEquals(2L, bookGroupRepository.findBookGroup(null, bookGroup.getId()).currentMemberCount());
+		assertEquals(0, bookGroupRepository.reconcileMemberCounts(0, bookGroup.getId()));
+	}
+
 	@DisplayName("findAllByUser 쿼리 테스트")
 	@Test
 	void findAllByUser_query() {
@@ -177,4 +217,139 @@ class BookGroupSupportImplTest {
 
 		bookGroupRepository.findByQuery(request);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("findByQuery - 모임 이름 중간에 들어 있는 검색어도 찾는다.")
+	@Test
+	void findByQuery_infix() {
+		// given
+		BookGroup effectiveJava = createSearchableGroup("이펙티브 자바 스터디", "이펙티브 자바");
+		BookGroup javascript = createSearchableGroup("자바스크립트 모임", "모던 자바스크립트");
+		createSearchableGroup("파이썬 모임", "파이썬");
+
+		// when
+		BookGroupResponses responses = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.GROUP_NAME, "자바", null));
+
+		// then
+		assertEquals(List.of(javascript.getId(), effectiveJava.getId()), bookGroupIds(responses));
+	}
+
+	@DisplayName("findByQuery - 검색어의 토큰을 모두 가졌어도 이어져 있지 않으면 찾지 않는다.")
+	@Test
+	void findByQuery_tokensNotContiguous() {
+		// given
+		BookGroup study = createSearchableGroup("우리 스터디", "월든");
+		createSearchableGroup("터디 스터", "월든");
+
+		// when
+		BookGroupResponses responses = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.GROUP_NAME, "스터디", null));
+
+		// then
+		assertEquals(List.of(study.getId()), bookGroupIds(responses));
+	}
+
+	@DisplayName("findByQuery - 검색 옵션에 맞는 이름만 찾고, 대소문자는 구분하지 않는다.")
+	@Test
+	void findByQuery_option() {
+		// given
+		BookGroup bookNameMatched = createSearchableGroup("토요일 모임", "Effective Java");
+		BookGroup groupNameMatched = createSearchableGroup("JAVA 입문", "월든");
+
+		// when
+		BookGroupResponses bookNameResponses = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.BOOK_NAME, "java", null));
+		BookGroupResponses groupNameResponses = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.GROUP_NAME, "java", null));
+		BookGroupResponses allResponses = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, null, "java", null));
+
+		// then
+		assertEquals(List.of(bookNameMatched.getId()), bookGroupIds(bookNameResponses));
+		assertEquals(List.of(groupNameMatched.getId()), bookGroupIds(groupNameResponses));
+		assertEquals(List.of(groupNameMatched.getId(), bookNameMatched.getId()), bookGroupIds(allResponses));
+	}
+
+	@DisplayName("findByQuery - 검색 결과도 커서로 이어서 조회한다.")
+	@Test
+	void findByQuery_cursor() {
+		// given
+		BookGroup first = createSearchableGroup("자바 1기", "월든");
+		BookGroup second = createSearchableGroup("자바 2기", "월든");
+		BookGroup third = createSearchableGroup("자바 3기", "월든");
+
+		// when
+		BookGroupResponses firstPage = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(2, null, GroupSearchOption.GROUP_NAME, "자바", null));
+		BookGroupResponses secondPage = bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(2, second.getId(), GroupSearchOption.GROUP_NAME, "자바", null));
+
+		// then
+		assertEquals(List.of(third.getId(), second.getId()), bookGroupIds(firstPage));
+		assertTrue(firstPage.hasNext());
+		assertEquals(List.of(first.getId()), bookGroupIds(secondPage));
+		assertFalse(secondPage.hasNext());
+	}
+
+	@DisplayName("backfill - 검색 토큰이 없는 모임만 색인하고, 이미 색인된 모임의 토큰은 그대로 둔다.")
+	@Test
+	void backfill() {
+		// given
+		BookGroup unindexed = bookGroupRepository.saveAndFlush(createGroup("이펙티브 자바 스터디", "이펙티브 자바"));
+		BookGroup indexed = createSearchableGroup("코틀린 스터디", "코틀린 인 액션");
+		BookGroupQueryRequest request = new BookGroupQueryRequest(10, null, GroupSearchOption.BOOK_NAME, "자바", null);
+		assertTrue(bookGroupSearchTokenJdbcRepository.existsAny());
+		assertTrue(bookGroupRepository.findByQuery(request).isEmpty());
+
+		// when
+		int indexedCount = bookGroupSearchTokenJdbcRepository.backfill(0, bookGroupRepository.findMaxId());
+
+		// then
+		assertEquals(1, indexedCount);
+		assertEquals(List.of(unindexed.getId()), bookGroupIds(bookGroupRepository.findByQuery(request)));
+		assertEquals(List.of(indexed.getId()), bookGroupIds(bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.GROUP_NAME, "코틀린", null))));
+		assertEquals(0, bookGroupSearchTokenJdbcRepository.backfill(0, bookGroupRepository.findMaxId()));
+	}
+
+	@DisplayName("reindexBookName - 도서 제목이 바뀌면 그 도서 모임들을 새 책 이름으로 검색한다.")
+	@Test
+	void reindexBookName() {
+		// given
+		BookGroup bookGroup = createSearchableGroup("주말 스터디", "이펙티브 자바");
+		Book book = bookGroup.getBook();
+		bookJdbcRepository.upsert(new BookCreateRequest("이펙티브 코틀린", book.getAuthor(), book.getIsbn(),
+			book.getContents(), book.getUrl(), book.getImageUrl(), book.getPublisher(), book.getApiProvider()));
+
+		// when
+		bookGroupSearchTokenJdbcRepository.reindexBookName(book.getId(), "이펙티브 코틀린");
+
+		// then
+		assertTrue(bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.BOOK_NAME, "자바", null)).isEmpty());
+		assertEquals(List.of(bookGroup.getId()), bookGroupIds(bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.BOOK_NAME, "코틀린", null))));
+		assertEquals(List.of(bookGroup.getId()), bookGroupIds(bookGroupRepository.findByQuery(
+			new BookGroupQueryRequest(10, null, GroupSearchOption.GROUP_NAME, "주말", null))));
+	}
+
+	private BookGroup createSearchableGroup(String title, String bookTitle) {
+		BookGroup bookGroup = bookGroupRepository.saveAndFlush(createGroup(title, bookTitle));
+		bookGroupSearchTokenJdbcRepository.index(bookGroup.getId(), title, bookTitle);
+		return bookGroup;
+	}
+
+	private BookGroup createGroup(String title, String bookTitle) {
+		int sequence = bookSequence++;
+		Book book = bookRepository.saveAndFlush(Book.create(bookTitle, "저자", "97889" + String.format("%08d", sequence),
+			"contents", "url", "imageUrl" + sequence, "KAKAO", "출판사"));
+		return BookGroup.create(1L, book, LocalDate.now(), LocalDate.now().plusDays(1), 5, title, "소개", false,
+			null, null, true, new BCryptPasswordEncoder(), timeHolder);
+	}
+
+	private static List<Long> bookGroupIds(BookGroupResponses responses) {
+		return responses.bookGroups().stream()
+			.map(BookGroupResponse::getBookGroupId)
+			.toList();
+	}
+}
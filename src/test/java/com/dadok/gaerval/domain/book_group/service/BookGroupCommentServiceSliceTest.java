@@ -25,10 +25,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dadok.gaerval.domain.book.service.BookService;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentCreateRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentReplySearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentSearchRequest;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentThreadSearchRequest;
 import com.dadok.gaerval.domain.book_group.dto.request.BookGroupCommentUpdateRequest;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponses;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 import com.dadok.gaerval.domain.book_group.entity.GroupComment;
 import com.dadok.gaerval.domain.book_group.exception.NotMatchedCommentAuthorException;
@@ -99,6 +103,45 @@ class BookGroupCommentServiceSliceTest {
 
 	}
 
+	@DisplayName("findBookGroupCommentThreads - groupId로 댓글과 앞쪽 답글을 함께 조회하는데 성공한다.")
+	@Test
+	void findBookGroupCommentThreads() {
+		// given
+		BookGroupCommentThreadSearchRequest request = new BookGroupCommentThreadSearchRequest(10, null, null, null);
+		Slice<BookGroupCommentThreadResponse> threads = QueryDslUtil.toSlice(mockThreadResponses,
+			PageRequest.of(0, request.pageSize(), Sort.by(Sort.Direction.DESC, "id")));
+		given(bookGroupCommentRepository.findThreadsBy(request, 234L, 234L))
+			.willReturn(new BookGroupCommentThreadResponses(true, threads));
+
+		// when
+		BookGroupCommentThreadResponses responses = defaultBookGroupCommentService.findBookGroupCommentThreads(
+			request, 234L, 234L);
+
+		// then
+		assertThat(request.replySize()).isEqualTo(3);
+		assertThat(responses.count()).isEqualTo(mockThreadResponses.size());
+		assertThat(responses.bookGroupComments().get(0).hasMoreReplies()).isTrue();
+		assertThat(responses.bookGroupComments().get(1).hasMoreReplies()).isFalse();
+	}
+
+	@DisplayName("findBookGroupCommentReplies - 부모 댓글의 답글을 이어서 조회하는데 성공한다.")
+	@Test
+	void findBookGroupCommentReplies() {
+		// given
+		BookGroupCommentReplySearchRequest request = new BookGroupCommentReplySearchRequest(null, 124L);
+		BookGroupCommentResponses replies = new BookGroupCommentResponses(true,
+			QueryDslUtil.toSlice(mockCommentResponses, PageRequest.of(0, request.pageSize())));
+		given(bookGroupCommentRepository.findReplies(request, 234L, 234L, 123L))
+			.willReturn(replies);
+
+		// when
+		BookGroupCommentResponses responses = defaultBookGroupCommentService.findBookGroupCommentReplies(
+			request, 234L, 234L, 123L);
+
+		// then
+		assertThat(responses).isEqualTo(replies);
+	}
+
 	@DisplayName("createBookGroupComment - 부모 없이 groupComment를 생성하는데 성공한다.")
 	@Test
 	void createBookGroupComment() {
@@ -125,6 +168,7 @@ class BookGroupCommentServiceSliceTest {
 
 		// then
 		verify(bookGroupCommentRepository).save(any());
+		verify(bookGroupService).increaseCommentCount(234L);
 		assertEquals(bookCommentId, savedId);
 	}
 
@@ -159,6 +203,7 @@ class BookGroupCommentServiceSliceTest {
 
 		// then
 		verify(bookGroupCommentRepository).save(any());
+		verify(bookGroupService).increaseCommentCount(234L);
 		assertEquals(bookCommentId, savedId);
 	}
 
@@ -305,5 +350,6 @@ class BookGroupCommentServiceSliceTest {
 		// then
 		verify(bookGroupCommentRepository).findById(bookCommentId);
 		verify(bookGroupCommentRepository).delete(groupComment);
+		verify(bookGroupService).decreaseCommentCount(bookGroup.getId());
 	}
 }
\ No newline at end of file
@@ -35,7 +35,6 @@ import com.dadok.gaerval.domain.book_group.dto.request.BookGroupJoinRequest;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 import com.dadok.gaerval.domain.book_group.entity.GroupMember;
 import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
-import com.dadok.gaerval.domain.book_group.repository.GroupMemberRepository;
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
@@ -64,9 +63,6 @@ class BookGroupConcurrencyTest {
 	@Autowired
 	private BookshelfRepository bookshelfRepository;
 
-	@Autowired
-	private GroupMemberRepository groupMemberRepository;
-
 	@Autowired
 	private BookRepository bookRepository;
 
@@ -105,10 +101,9 @@ class BookGroupConcurrencyTest {
 		BookGroup bookGroup = BookGroup.create(owner.getId(), book, LocalDate.now(), LocalDate.now().plusDays(7),
 			5, "인원제한이 5명인 그룹", "인원제한이 5명인 그룹", false, null, null, true,
 			new BCryptPasswordEncoder(), TestTimeHolder.now());
-		this.bookGroup = bookGroupRepository.save(bookGroup);
 		GroupMember groupMember = GroupMember.create(owner);
 		bookGroup.addMember(groupMember, TestTimeHolder.now());
-		groupMemberRepository.save(groupMember);
+		this.bookGroup = bookGroupRepository.save(bookGroup);
 		TransactionStatus transaction = platformTransactionManager.getTransaction(new DefaultTransactionDefinition());
 		try {
 			BookshelfItem bookshelfItem = BookshelfItem.create(bookshelfRepository.findByUserId(owner.getId()).get(),
@@ -154,6 +149,7 @@ class BookGroupConcurrencyTest {
 		int memberCount = findBookGroup.getGroupMembers().size();
 
 		assertEquals(findBookGroup.getMaxMemberCount(), memberCount);
+		assertEquals(memberCount, findBookGroup.getMemberCount());
 		assertEquals(5, failCount.get());
 		assertEquals(5, bookshelfItems.size());
 	}
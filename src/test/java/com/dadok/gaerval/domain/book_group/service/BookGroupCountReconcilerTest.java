@@ -0,0 +1,56 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookGroupCountReconcilerTest {
+
+	@InjectMocks
+	private BookGroupCountReconciler bookGroupCountReconciler;
+
+	@Mock
+	private BookGroupRepository bookGroupRepository;
+
+	@DisplayName("reconcile - 전체 모임을 CHUNK_SIZE 단위 id 범위로 나누어 멤버 수, 댓글 수를 다시 계산한다.")
+	@Test
+	void reconcile() {
+		// Given
+		int chunkSize = BookGroupCountReconciler.CHUNK_SIZE;
+		given(bookGroupRepository.findMaxId()).willReturn(chunkSize + 1L);
+		given(bookGroupRepository.reconcileMemberCounts(0, chunkSize)).willReturn(2);
+		given(bookGroupRepository.reconcileCommentCounts(anyLong(), anyLong())).willReturn(0, 1);
+
+		// When
+		int corrected = bookGroupCountReconciler.reconcile();
+
+		// Then
+		assertThat(corrected).isEqualTo(3);
+		verify(bookGroupRepository, times(2)).reconcileMemberCounts(anyLong(), anyLong());
+		verify(bookGroupRepository, times(2)).reconcileCommentCounts(anyLong(), anyLong());
+	}
+
+	@DisplayName("reconcile - 모임이 없으면 아무것도 하지 않는다.")
+	@Test
+	void reconcile_empty() {
+		// Given
+		given(bookGroupRepository.findMaxId()).willReturn(0L);
+
+		// When
+		int corrected = bookGroupCountReconciler.reconcile();
+
+		// Then
+		assertThat(corrected).isZero();
+		verify(bookGroupRepository, never()).reconcileMemberCounts(anyLong(), anyLong());
+		verify(bookGroupRepository, never()).reconcileCommentCounts(anyLong(), anyLong());
+	}
+}
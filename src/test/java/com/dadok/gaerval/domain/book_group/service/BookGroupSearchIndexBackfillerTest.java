@@ -0,0 +1,56 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookGroupSearchIndexBackfillerTest {
+
+	@InjectMocks
+	private BookGroupSearchIndexBackfiller bookGroupSearchIndexBackfiller;
+
+	@Mock
+	private BookGroupRepository bookGroupRepository;
+
+	@Mock
+	private BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
+	@DisplayName("backfill - 토큰이 없으면 전체 모임을 CHUNK_SIZE 단위 id 범위로 나누어 색인한다.")
+	@Test
+	void backfill() {
+		// Given
+		int chunkSize = BookGroupSearchIndexBackfiller.CHUNK_SIZE;
+		given(bookGroupSearchTokenJdbcRepository.existsAny()).willReturn(false);
+		given(bookGroupRepository.findMaxId()).willReturn(chunkSize + 1L);
+
+		// When
+		bookGroupSearchIndexBackfiller.backfill();
+
+		// Then
+		verify(bookGroupSearchTokenJdbcRepository).backfill(0, chunkSize);
+		verify(bookGroupSearchTokenJdbcRepository).backfill(chunkSize, 2L * chunkSize);
+	}
+
+	@DisplayName("backfill - 토큰이 이미 있으면 아무것도 하지 않는다.")
+	@Test
+	void backfill_alreadyIndexed() {
+		// Given
+		given(bookGroupSearchTokenJdbcRepository.existsAny()).willReturn(true);
+
+		// When
+		bookGroupSearchIndexBackfiller.backfill();
+
+		// Then
+		verify(bookGroupSearchTokenJdbcRepository, never()).backfill(anyLong(), anyLong());
+		verifyNoInteractions(bookGroupRepository);
+	}
+}
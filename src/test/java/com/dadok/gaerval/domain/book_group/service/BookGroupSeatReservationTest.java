@@ -0,0 +1,262 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+import com.dadok.gaerval.domain.book.service.BookService;
+import com.dadok.gaerval.domain.book_group.dto.request.BookGroupJoinRequest;
+import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.GroupMember;
+import com.dadok.gaerval.domain.book_group.exception.ExceedLimitMemberException;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
+import com.dadok.gaerval.domain.book_group.repository.GroupMemberRepository;
+import com.dadok.gaerval.domain.bookshelf.service.BookshelfService;
+import com.dadok.gaerval.domain.user.entity.Authority;
+import com.dadok.gaerval.domain.user.entity.Role;
+import com.dadok.gaerval.domain.user.entity.User;
+import com.dadok.gaerval.domain.user.entity.UserAuthority;
+import com.dadok.gaerval.domain.user.repository.AuthorityRepository;
+import com.dadok.gaerval.domain.user.repository.UserRepository;
+import com.dadok.gaerval.domain.user.service.UserService;
+import com.dadok.gaerval.global.config.security.AuthProvider;
+import com.dadok.gaerval.global.util.TimeHolder;
+import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+import com.dadok.gaerval.testutil.TestTimeHolder;
+import com.dadok.gaerval.testutil.UserObjectProvider;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고, 끝나면 테이블을 비운다.
+ * 가입은 DefaultBookGroupService.join 으로 하고, 책장과 사용자 조회만 대신한다.
+ */
+@Slf4j
+@Tag("Concurrency Integration Test")
+@CustomDataJpaTest
+@Import({DefaultBookGroupService.class, BookGroupSearchTokenJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class BookGroupSeatReservationTest {
+
+	private static final int JOINER_COUNT = 16;
+
+	private static final String JOIN_PASSWD = "1234";
+
+	private final BookGroupService bookGroupService;
+
+	private final BookGroupRepository bookGroupRepository;
+
+	private final GroupMemberRepository groupMemberRepository;
+
+	private final UserRepository userRepository;
+
+	private final BookRepository bookRepository;
+
+	private final AuthorityRepository authorityRepository;
+
+	private final PasswordEncoder passwordEncoder;
+
+	private final TimeHolder timeHolder;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final EntityManager entityManager;
+
+	private final PlatformTransactionManager platformTransactionManager;
+
+	@MockBean
+	private BookService bookService;
+
+	@MockBean
+	private UserService userService;
+
+	@MockBean
+	private BookshelfService bookshelfService;
+
+	private User owner;
+
+	private List<User> joiners;
+
+	private Book book;
+
+	@BeforeEach
+	void setUp() {
+		Authority authority = authorityRepository.save(Authority.create(Role.USER));
+		List<User> users = userRepository.saveAll(IntStream.rangeClosed(0, JOINER_COUNT)
+			.mapToObj(i -> User.createByOAuth(UserObjectProvider.dumAttributes(
+					AuthProvider.KAKAO, "dadok" + i + "@kakao.com", "다독" + i,
+					UserObjectProvider.PICTURE_URL, "oauth" + i),
+				UserAuthority.create(authority)))
+			.toList());
+		owner = users.get(0);
+		joiners = users.subList(1, users.size());
+		book = bookRepository.save(BookObjectProvider.createBook());
+		given(userService.getById(anyLong()))
+			.willAnswer(invocation -> userRepository.findById(invocation.getArgument(0)).orElseThrow());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+		List.of("group_member", "book_groups", "books", "user_authorities", "users", "authorities")
+			.forEach(table -> jdbcTemplate.execute("truncate table " + table));
+		jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+	}
+
+	@DisplayName("join - 인원제한이 5명인 모임에 1명만 참여중이고 16명이 동시에 신청하면 4명만 가입한다.")
+	@Test
+	void join_concurrency() throws InterruptedException {
+		// given
+		BookGroup bookGroup = createGroupWithOwner(5);
+
+		// when
+		int joinedCount = joinConcurrently(bookGroup.getId());
+
+		// then
+		assertThat(joinedCount).isEqualTo(4);
+		assertThat(groupMemberRepository.count()).isEqualTo(5);
+		assertThat(bookGroupRepository.findById(bookGroup.getId()).orElseThrow().getMemberCount()).isEqualTo(5);
+		then(bookshelfService).should(times(4)).insertIfNotPresent(anyLong(), eq(book.getId()));
+	}
+
+	@DisplayName("join - 인원제한이 없는 모임에는 동시에 신청한 사람이 모두 가입한다.")
+	@Test
+	void join_concurrency_noLimit() throws InterruptedException {
+		// given
+		BookGroup bookGroup = createGroupWithOwner(BookGroup.NO_LIMIT_MEMBER_COUNT);
+
+		// when
+		int joinedCount = joinConcurrently(bookGroup.getId());
+
+		// then
+		assertThat(joinedCount).isEqualTo(JOINER_COUNT);
+		assertThat(bookGroupRepository.findById(bookGroup.getId()).orElseThrow().getMemberCount())
+			.isEqualTo(JOINER_COUNT + 1);
+	}
+
+	/**
+	 * 모임 row 를 잠그는 이전 방식과 DefaultBookGroupService.join 의 동시 가입 처리 시간을 비교한다.
+	 * 벽시계 시간을 재므로 기본 빌드에서는 빼고 perfTest 로 실행한다.
+	 */
+	@Tag("perf")
+	@DisplayName("benchmark - 비밀번호 확인을 잠금 밖에서 하고 자리만 원자적으로 잡으면 잠금 방식보다 느리지 않다.")
+	@Test
+	void join_benchmark() throws InterruptedException {
+		// given
+		BookGroup lockedGroup = createGroupWithOwner(BookGroup.NO_LIMIT_MEMBER_COUNT);
+		BookGroup reservedGroup = createGroupWithOwner(BookGroup.NO_LIMIT_MEMBER_COUNT);
+
+		// when
+		long lockedStart = System.nanoTime();
+		int lockedJoinedCount = joinConcurrently(lockedGroup.getId(), this::joinWithLock);
+		long lockedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockedStart);
+
+		long reservedStart = System.nanoTime();
+		int reservedJoinedCount = joinConcurrently(reservedGroup.getId());
+		long reservedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - reservedStart);
+
+		// then
+		log.info("[BookGroup join benchmark] joiners : {}, pessimistic lock ms : {}, seat reservation ms : {}",
+			JOINER_COUNT, lockedMillis, reservedMillis);
+		assertThat(lockedJoinedCount).isEqualTo(JOINER_COUNT);
+		assertThat(reservedJoinedCount).isEqualTo(JOINER_COUNT);
+		assertThat(reservedMillis).isLessThan(lockedMillis * 2 + 500);
+	}
+
+	private BookGroup createGroupWithOwner(Integer maxMemberCount) {
+		LocalDate today = LocalDate.now(timeHolder.getCurrentClock());
+		BookGroup bookGroup = BookGroup.create(owner.getId(), book, today, today.plusDays(7), maxMemberCount,
+			"동시 가입 모임", "동시 가입 모임", true, "비밀번호는?", JOIN_PASSWD, true, passwordEncoder, timeHolder);
+		GroupMember.create(bookGroup, owner, timeHolder);
+		return bookGroupRepository.save(bookGroup);
+	}
+
+	private int joinConcurrently(Long groupId) throws InterruptedException {
+		return joinConcurrently(groupId,
+			(id, joiner) -> bookGroupService.join(id, joiner.getId(), new BookGroupJoinRequest(JOIN_PASSWD)));
+	}
+
+	private int joinConcurrently(Long groupId, BiConsumer<Long, User> join) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(JOINER_COUNT);
+		CountDownLatch latch = new CountDownLatch(JOINER_COUNT);
+		AtomicInteger joinedCount = new AtomicInteger();
+		for (User joiner : joiners) {
+			executorService.execute(() -> {
+				try {
+					join.accept(groupId, joiner);
+					joinedCount.incrementAndGet();
+				} catch (ExceedLimitMemberException ignored) {
+					// 자리가 없어 가입하지 못한 경우
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		return joinedCount.get();
+	}
+
+	/**
+	 * 이전 가입 방식. 모임 row 를 잠그고 멤버를 모두 읽은 채로 비밀번호를 확인한다. benchmark 의 비교 대상으로만 쓴다.
+	 */
+	private void joinWithLock(Long groupId, User user) {
+		new TransactionTemplate(platformTransactionManager).executeWithoutResult(status -> {
+			BookGroup bookGroup = entityManager.find(BookGroup.class, groupId, LockModeType.PESSIMISTIC_WRITE);
+			bookGroup.checkPasswd(JOIN_PASSWD, passwordEncoder);
+			bookGroup.addMember(GroupMember.create(user), timeHolder);
+		});
+	}
+
+	@TestConfiguration
+	static class JoinConfig {
+
+		@Bean
+		PasswordEncoder passwordEncoder() {
+			return new BCryptPasswordEncoder(6);
+		}
+
+		@Bean
+		TimeHolder timeHolder() {
+			return TestTimeHolder.now();
+		}
+	}
+}
@@ -30,15 +30,18 @@ import com.dadok.gaerval.domain.book_group.dto.response.BookGroupDetailResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponse;
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupResponses;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.BookGroupSearchToken;
 import com.dadok.gaerval.domain.book_group.entity.GroupMember;
 import com.dadok.gaerval.domain.book_group.exception.AlreadyContainBookGroupException;
 import com.dadok.gaerval.domain.book_group.exception.BookGroupOwnerNotMatchedException;
 import com.dadok.gaerval.domain.book_group.exception.CannotDeleteMemberExistException;
 import com.dadok.gaerval.domain.book_group.exception.CannotLeaveGroupOwnerException;
+import com.dadok.gaerval.domain.book_group.exception.ExceedLimitMemberException;
 import com.dadok.gaerval.domain.book_group.exception.LessThanCurrentMembersException;
 import com.dadok.gaerval.domain.book_group.exception.NotContainBookGroupException;
 import com.dadok.gaerval.domain.book_group.exception.NotMatchedPasswordException;
 import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
 import com.dadok.gaerval.domain.book_group.repository.GroupMemberRepository;
 import com.dadok.gaerval.domain.bookshelf.service.BookshelfService;
 import com.dadok.gaerval.domain.user.entity.User;
@@ -65,6 +68,9 @@ class BookGroupServiceSliceTest {
 	@Mock
 	private GroupMemberRepository groupMemberRepository;
 
+	@Mock
+	private BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
 	@Mock
 	private BookService bookService;
 
@@ -82,7 +88,8 @@ class BookGroupServiceSliceTest {
 	@BeforeEach
 	private void setUp() {
 		defaultBookGroupService =
-			new DefaultBookGroupService(bookGroupRepository, groupMemberRepository, bookService,
+			new DefaultBookGroupService(bookGroupRepository, groupMemberRepository, bookGroupSearchTokenJdbcRepository,
+				bookService,
 				userService, passwordEncoder, bookshelfService, timeHolder);
 	}
 
@@ -172,6 +179,7 @@ class BookGroupServiceSliceTest {
 		// Then
 		verify(bookService).findById(request.bookId());
 		verify(bookGroupRepository).save(any());
+		verify(bookGroupSearchTokenJdbcRepository).index(1L, "소모임 화이팅", book.getTitle());
 		assertThat(bookGroupId).isEqualTo(1L);
 	}
 
@@ -274,22 +282,84 @@ class BookGroupServiceSliceTest {
 		long groupId = 99L;
 		ReflectionTestUtils.setField(bookGroup, "id", groupId);
 
-		GroupMember groupMember = GroupMember.create(kakaoUser);
-		bookGroup.addMember(groupMember, timeHolder);
-
-		given(bookGroupRepository.findByIdWithGroupMembersForUpdate(groupId))
+		given(bookGroupRepository.findById(groupId))
 			.willReturn(Optional.of(bookGroup));
+		given(groupMemberRepository.existsByBookGroupIdAndUserId(groupId, userId))
+			.willReturn(true);
 
-		given(userService.getById(userId))
-			.willReturn(kakaoUser);
 		//when
 		assertThrows(AlreadyContainBookGroupException.class,
 			() -> defaultBookGroupService.join(bookGroup.getId(), userId, new BookGroupJoinRequest(null)));
 
 		//then
-		assertTrue(bookGroup.getGroupMembers().contains(groupMember));
-		verify(bookGroupRepository).findByIdWithGroupMembersForUpdate(groupId);
-		verify(userService).getById(userId);
+		verify(bookGroupRepository).findById(groupId);
+		verify(groupMemberRepository, never()).save(any());
+		verify(bookGroupRepository, never()).reserveSeat(groupId);
+	}
+
+	@DisplayName("join - 멤버 목록을 읽지 않고 가입하고 자리를 잡는다.")
+	@Test
+	void join_success() {
+		//given
+		Long userId = 100L;
+		User kakaoUser = UserObjectProvider.createKakaoUser();
+		ReflectionTestUtils.setField(kakaoUser, "id", userId);
+
+		Book book = BookObjectProvider.createBook();
+		ReflectionTestUtils.setField(book, "id", 10L);
+		BookGroup bookGroup = BookGroup.create(1L,
+			book, LocalDate.now().plusDays(1), LocalDate.now().plusDays(7),
+			6, "북그룹", "소개합니다", false,
+			null, null, true, passwordEncoder, timeHolder
+		);
+		long groupId = 99L;
+		ReflectionTestUtils.setField(bookGroup, "id", groupId);
+
+		given(bookGroupRepository.findById(groupId))
+			.willReturn(Optional.of(bookGroup));
+		given(userService.getById(userId))
+			.willReturn(kakaoUser);
+		given(bookGroupRepository.reserveSeat(groupId))
+			.willReturn(1);
+
+		//when
+		defaultBookGroupService.join(groupId, userId, new BookGroupJoinRequest(null));
+
+		//then
+		verify(groupMemberRepository).save(any(GroupMember.class));
+		verify(bookshelfService).insertIfNotPresent(userId, 10L);
+		verify(bookGroupRepository).reserveSeat(groupId);
+		assertTrue(bookGroup.getGroupMembers().isEmpty());
+	}
+
+	@DisplayName("join - 남은 자리가 없으면 가입에 실패한다.")
+	@Test
+	void join_exceedLimitMember_fail() {
+		//given
+		Long userId = 100L;
+
+		Book book = BookObjectProvider.createBook();
+		BookGroup bookGroup = BookGroup.create(1L,
+			book, LocalDate.now().plusDays(1), LocalDate.now().plusDays(7),
+			6, "북그룹", "소개합니다", false,
+			null, null, true, passwordEncoder, timeHolder
+		);
+		long groupId = 99L;
+		ReflectionTestUtils.setField(bookGroup, "id", groupId);
+
+		given(bookGroupRepository.findById(groupId))
+			.willReturn(Optional.of(bookGroup));
+		given(bookGroupRepository.reserveSeat(groupId))
+			.willReturn(0);
+
+		//when
+		assertThrows(ExceedLimitMemberException.class,
+			() -> defaultBookGroupService.join(groupId, userId, new BookGroupJoinRequest(null)));
+
+		//then
+		verify(bookGroupRepository).reserveSeat(groupId);
+		verify(groupMemberRepository, never()).save(any());
+		verify(bookshelfService, never()).insertIfNotPresent(any(), any());
 	}
 
 	@DisplayName("join - 비밀번호가 틀리다면 가입에 실패한다.")
@@ -309,7 +379,7 @@ class BookGroupServiceSliceTest {
 		long groupId = 99L;
 		ReflectionTestUtils.setField(bookGroup, "id", groupId);
 
-		given(bookGroupRepository.findByIdWithGroupMembersForUpdate(groupId))
+		given(bookGroupRepository.findById(groupId))
 			.willReturn(Optional.of(bookGroup));
 
 		String passwd = "12345";
@@ -319,7 +389,8 @@ class BookGroupServiceSliceTest {
 			() -> defaultBookGroupService.join(bookGroup.getId(), userId, new BookGroupJoinRequest(passwd)));
 
 		//then
-		verify(bookGroupRepository).findByIdWithGroupMembersForUpdate(groupId);
+		verify(bookGroupRepository).findById(groupId);
+		verify(bookGroupRepository, never()).reserveSeat(groupId);
 	}
 
 	@DisplayName("deleteBookGroup - 그룹을 삭제한다.")
@@ -338,6 +409,7 @@ class BookGroupServiceSliceTest {
 
 		//then
 		verify(bookGroupRepository).findById(2L);
+		verify(bookGroupSearchTokenJdbcRepository).deleteByBookGroupId(2L);
 		verify(bookGroupRepository).deleteById(2L);
 	}
 
@@ -422,6 +494,8 @@ class BookGroupServiceSliceTest {
 
 		//then
 		verify(bookGroupRepository).findById(2L);
+		verify(bookGroupSearchTokenJdbcRepository).reindex(2L, BookGroupSearchToken.Field.GROUP_NAME,
+			bookGroup.getTitle());
 		assertThat(bookGroup.getIntroduce()).isEqualTo("변경된 내용");
 		assertThat(bookGroup.getEndDate()).isEqualTo(LocalDate.now().plusDays(3));
 		assertThat(bookGroup.getMaxMemberCount()).isEqualTo(5);
@@ -603,6 +677,7 @@ class BookGroupServiceSliceTest {
 		// then
 		verify(groupMemberRepository).findByBookGroupIdAndUserId(bookGroup.getId(), user.getId());
 		verify(groupMemberRepository).delete(groupMember);
+		verify(bookGroupRepository).addMemberCount(bookGroup.getId(), -1);
 	}
 
 	@DisplayName("leave - 모임장의 경우 탈퇴에 실패한다.")
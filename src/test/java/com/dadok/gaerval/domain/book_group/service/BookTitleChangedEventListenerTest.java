@@ -0,0 +1,33 @@
+package com.dadok.gaerval.domain.book_group.service;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.service.BookTitleChangedEvent;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupSearchTokenJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookTitleChangedEventListenerTest {
+
+	@InjectMocks
+	private BookTitleChangedEventListener bookTitleChangedEventListener;
+
+	@Mock
+	private BookGroupSearchTokenJdbcRepository bookGroupSearchTokenJdbcRepository;
+
+	@DisplayName("handleBookTitleChangedEvent - 바뀐 제목으로 그 도서 모임들의 책 이름 토큰을 다시 만든다.")
+	@Test
+	void handleBookTitleChangedEvent() {
+		// when
+		bookTitleChangedEventListener.handleBookTitleChangedEvent(new BookTitleChangedEvent(1L, "이펙티브 코틀린"));
+
+		// then
+		verify(bookGroupSearchTokenJdbcRepository).reindexBookName(1L, "이펙티브 코틀린");
+	}
+}
@@ -117,6 +117,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 					fieldWithPath("bookshelfResponses[].bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 					fieldWithPath("bookshelfResponses[].bookshelfId").type(JsonFieldType.NUMBER).description("책장 ID"),
 					fieldWithPath("bookshelfResponses[].likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+					fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 					fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 					fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING).description("책 제목"),
 					fieldWithPath("bookshelfResponses[].books[].imageUrl").type(JsonFieldType.STRING)
@@ -143,6 +144,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 							.description("책장 ID"),
 						fieldWithPath("bookshelfResponses[].likeCount")
 							.type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+						fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 						fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER)
 							.description("책 ID"),
 						fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING)
@@ -200,6 +202,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 						.description("책장 ID - (미로그인 사용자를 위한 api로 로그인 사용자 접근시 응답에 자신의 책장이 포함될 수 있습니다.)"),
 					fieldWithPath("bookshelfResponses[].bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 					fieldWithPath("bookshelfResponses[].likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+					fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 					fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 					fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING).description("책 제목"),
 					fieldWithPath("bookshelfResponses[].books[].imageUrl").type(JsonFieldType.STRING)
@@ -218,6 +221,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 							.description("책장 이름"),
 						fieldWithPath("bookshelfResponses[].likeCount").type(JsonFieldType.NUMBER)
 							.description("책장 좋아요 개수"),
+						fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 						fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER)
 							.description("책 ID"),
 						fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING)
@@ -359,6 +363,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 					fieldWithPath("bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 					fieldWithPath("bookshelfId").type(JsonFieldType.NUMBER).description("책장 ID"),
 					fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+					fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 					fieldWithPath("books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 					fieldWithPath("books[].title").type(JsonFieldType.STRING).description("책 제목"),
 					fieldWithPath("books[].imageUrl").type(JsonFieldType.STRING)
@@ -375,6 +380,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 						fieldWithPath("bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 						fieldWithPath("bookshelfId").type(JsonFieldType.NUMBER).description("책장 ID"),
 						fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+						fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 						fieldWithPath("books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 						fieldWithPath("books[].title").type(JsonFieldType.STRING).description("책 제목"),
 						fieldWithPath("books[].imageUrl").type(JsonFieldType.STRING)
@@ -422,6 +428,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 					fieldWithPath("bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 					fieldWithPath("bookshelfId").type(JsonFieldType.NUMBER).description("책장 ID"),
 					fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+					fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 					fieldWithPath("books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 					fieldWithPath("books[].title").type(JsonFieldType.STRING).description("책 제목"),
 					fieldWithPath("books[].imageUrl").type(JsonFieldType.STRING)
@@ -440,6 +447,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 						fieldWithPath("bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 						fieldWithPath("bookshelfId").type(JsonFieldType.NUMBER).description("책장 ID"),
 						fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+						fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 						fieldWithPath("books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 						fieldWithPath("books[].title").type(JsonFieldType.STRING).description("책 제목"),
 						fieldWithPath("books[].imageUrl").type(JsonFieldType.STRING)
@@ -876,6 +884,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 						.description("책장 ID - (미로그인 사용자를 위한 api로 로그인 사용자 접근시 응답에 자신의 책장이 포함될 수 있습니다.)"),
 					fieldWithPath("bookshelfResponses[].bookshelfName").type(JsonFieldType.STRING).description("책장 이름"),
 					fieldWithPath("bookshelfResponses[].likeCount").type(JsonFieldType.NUMBER).description("책장 좋아요 개수"),
+					fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 					fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER).description("책 ID"),
 					fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING).description("책 제목"),
 					fieldWithPath("bookshelfResponses[].books[].imageUrl").type(JsonFieldType.STRING)
@@ -912,6 +921,7 @@ class BookshelfControllerSliceTest extends ControllerSliceTest {
 							.description("책장 이름"),
 						fieldWithPath("bookshelfResponses[].likeCount").type(JsonFieldType.NUMBER)
 							.description("책장 좋아요 개수"),
+						fieldWithPath("bookshelfResponses[].isLiked").type(JsonFieldType.BOOLEAN).description("책장 좋아요 여부"),
 						fieldWithPath("bookshelfResponses[].books[].bookId").type(JsonFieldType.NUMBER)
 							.description("책 ID"),
 						fieldWithPath("bookshelfResponses[].books[].title").type(JsonFieldType.STRING)
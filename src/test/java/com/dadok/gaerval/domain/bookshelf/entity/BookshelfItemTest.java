@@ -60,11 +60,12 @@ class BookshelfItemTest {
 		});
 	}
 
-	@DisplayName("create - bookshelf에 정상 추가 된다. - 성공")
+	@DisplayName("create - 책장의 도서 목록은 건드리지 않고 책장만 지정한다. - 성공")
 	@Test
 	void create_addBookshelf_success() {
 		var bookshelfItem = BookshelfItem.create(bookshelf, book, type);
-		assertTrue(bookshelf.getBookshelfItems().contains(bookshelfItem));
+		assertEquals(bookshelf, bookshelfItem.getBookshelf());
+		assertTrue(bookshelf.getBookshelfItems().isEmpty());
 	}
 
 
@@ -6,10 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import com.dadok.gaerval.domain.bookshelf.exception.AlreadyContainBookshelfItemException;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.global.error.exception.InvalidArgumentException;
-import com.dadok.gaerval.testutil.BookObjectProvider;
 import com.dadok.gaerval.testutil.JobObjectProvider;
 import com.dadok.gaerval.testutil.UserObjectProvider;
 
@@ -61,19 +59,4 @@ class BookshelfTest {
 		assertThrows(InvalidArgumentException.class, () -> Bookshelf.create(null));
 	}
 
-	@DisplayName("addItem - item이 중복 추가 - 실패")
-	@Test
-	void addItem_success() {
-		Bookshelf bookshelf = Bookshelf.create(user);
-		BookshelfItem bookshelfItem = BookshelfItem.create(bookshelf, BookObjectProvider.createRequiredFieldBook());
-		assertThrows(AlreadyContainBookshelfItemException.class, () -> bookshelf.addBookShelfItem(bookshelfItem));
-	}
-
-	@DisplayName("addItem - item이 null일 경우 - 실패")
-	@Test
-	void addItem_itemNull_fail() {
-		Bookshelf bookshelf = Bookshelf.create(user);
-		assertThrows(InvalidArgumentException.class, () -> bookshelf.addBookShelfItem(null));
-	}
-
 }
\ No newline at end of file
@@ -2,17 +2,31 @@ package com.dadok.gaerval.domain.bookshelf.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestConstructor;
 
+import com.dadok.gaerval.domain.book.entity.Book;
 import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.domain.bookshelf.dto.request.BooksInBookShelfFindRequest;
+import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItemType;
 import com.dadok.gaerval.domain.job.repository.JobRepository;
+import com.dadok.gaerval.domain.user.entity.Authority;
+import com.dadok.gaerval.domain.user.entity.Role;
+import com.dadok.gaerval.domain.user.entity.User;
+import com.dadok.gaerval.domain.user.entity.UserAuthority;
 import com.dadok.gaerval.domain.user.repository.AuthorityRepository;
+import com.dadok.gaerval.domain.user.repository.UserRepository;
 import com.dadok.gaerval.global.util.SortDirection;
 import com.dadok.gaerval.repository.CustomDataJpaTest;
+import com.dadok.gaerval.testutil.BookObjectProvider;
+import com.dadok.gaerval.testutil.UserObjectProvider;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,6 +45,10 @@ class BookShelfItemSupportImplTest {
 
 	private final BookRepository bookRepository;
 
+	private final UserRepository userRepository;
+
+	private final EntityManager entityManager;
+
 	@DisplayName("findAllWithBooks - id = 1L, Type = Read, Sort = DESC, PageSize = 10")
 	@Test
 	void findAllWithBooks_() {
@@ -73,4 +91,33 @@ class BookShelfItemSupportImplTest {
 		assertThat(response.isInMyBookshelf()).isEqualTo(false);
 		assertThat(response.totalCount()).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("findBookshelfItemUsersByBook - 최근에 꽂은 사용자 limit 명과 누적 사용자 수, 내 책장 포함 여부를 함께 조회한다.")
+	@Test
+	void findBookshelfItemUsersByBook() {
+		// Given
+		Authority authority = authorityRepository.save(Authority.create(Role.USER));
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User otherUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, otherUser));
+		Bookshelf bookshelf = bookshelfRepository.save(Bookshelf.create(user));
+		Bookshelf otherBookshelf = bookshelfRepository.save(Bookshelf.create(otherUser));
+		Book book = bookRepository.save(BookObjectProvider.createRequiredFieldBook());
+
+		bookshelfItemRepository.save(BookshelfItem.create(bookshelf, book));
+		bookshelfItemRepository.save(BookshelfItem.create(otherBookshelf, book));
+		bookRepository.increaseShelvedCount(book.getId());
+		bookRepository.increaseShelvedCount(book.getId());
+		entityManager.clear();
+
+		// When
+		var mine = bookshelfItemRepository.findBookshelfItemUsersByBook(book.getId(), user.getId(), 1);
+		var anonymous = bookshelfItemRepository.findBookshelfItemUsersByBook(book.getId(), null, 1);
+
+		// Then
+		assertThat(mine.totalCount()).isEqualTo(2);
+		assertThat(mine.isInMyBookshelf()).isTrue();
+		assertThat(mine.users()).hasSize(1);
+		assertThat(anonymous.isInMyBookshelf()).isFalse();
+	}
+}
@@ -0,0 +1,234 @@
+package com.dadok.gaerval.domain.bookshelf.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore.LikedBookshelves;
+import com.dadok.gaerval.global.config.redis.BookshelfLikeCacheProperties;
+
+@ExtendWith(MockitoExtension.class)
+class BookshelfLikeRedisStoreTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisOperations<String, String> redisOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final Map<String, String> strings = new HashMap<>();
+
+	private final Map<String, Set<String>> sets = new HashMap<>();
+
+	private BookshelfLikeRedisStore bookshelfLikeRedisStore;
+
+	@BeforeEach
+	void setUp() {
+		bookshelfLikeRedisStore = new BookshelfLikeRedisStore(stringRedisTemplate,
+			new BookshelfLikeCacheProperties(Duration.ofHours(6)));
+	}
+
+	@DisplayName("findLiked - 책장마다 marker 와 사용자 id 를 한 번의 pipeline 으로 확인한다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void findLiked() {
+		// given
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+			.willReturn(List.of(true, true, true, false, false, false));
+
+		// when
+		Optional<LikedBookshelves> result = bookshelfLikeRedisStore.findLiked(1L, List.of(2L, 3L, 4L));
+
+		// then
+		assertTrue(result.isPresent());
+		assertEquals(Set.of(2L), result.get().likedIds());
+		assertEquals(List.of(4L), result.get().unknownIds());
+
+		given(redisOperations.opsForSet()).willReturn(setOperations);
+		ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+		verify(stringRedisTemplate).executePipelined(callback.capture());
+		callback.getValue().execute(redisOperations);
+
+		verify(setOperations).isMember("bookshelf-likes:2", "0");
+		verify(setOperations).isMember("bookshelf-likes:2", "1");
+		verify(setOperations).isMember("bookshelf-likes:4", "0");
+	}
+
+	@DisplayName("findLiked - Redis 를 사용할 수 없으면 빈 Optional 을 반환한다.")
+	@Test
+	void findLiked_redisFailure() {
+		// given
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+			.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		// when
+		Optional<LikedBookshelves> result = bookshelfLikeRedisStore.findLiked(1L, List.of(2L));
+
+		// then
+		assertTrue(result.isEmpty());
+	}
+
+	@DisplayName("load - reserveLoad 로 받은 token 이 그대로인 책장만 채우고, 좋아요가 없는 책장도 marker 를 넣어 채운다.")
+	@Test
+	void load() {
+		// given
+		useFakeRedis();
+		String token = bookshelfLikeRedisStore.reserveLoad(List.of(2L, 3L)).orElseThrow();
+
+		// when
+		bookshelfLikeRedisStore.load(token, List.of(2L, 3L), Map.of(2L, List.of(5L, 6L)));
+
+		// then
+		assertEquals(Set.of("0", "5", "6"), sets.get("bookshelf-likes:2"));
+		assertEquals(Set.of("0"), sets.get("bookshelf-likes:3"));
+		assertTrue(strings.isEmpty());
+	}
+
+	@DisplayName("load - DB 를 읽은 뒤 커밋된 좋아요가 set 과 token 을 지웠으면, 그 전에 읽은 사용자 id 로 set 을 만들지 않는다.")
+	@Test
+	void load_likedAfterRead() {
+		// given
+		useFakeRedis();
+		String token = bookshelfLikeRedisStore.reserveLoad(List.of(2L)).orElseThrow();
+		Map<Long, List<Long>> likerIdsReadBeforeLike = Map.of();
+
+		// when
+		bookshelfLikeRedisStore.evictAfterCommit(2L);
+		bookshelfLikeRedisStore.load(token, List.of(2L), likerIdsReadBeforeLike);
+
+		// then
+		assertFalse(sets.containsKey("bookshelf-likes:2"));
+	}
+
+	@DisplayName("load - DB 를 읽은 뒤 커밋된 좋아요 취소가 있으면, 취소한 사용자를 다시 넣지 않는다.")
+	@Test
+	void load_unlikedAfterRead() {
+		// given
+		useFakeRedis();
+		String token = bookshelfLikeRedisStore.reserveLoad(List.of(2L)).orElseThrow();
+		Map<Long, List<Long>> likerIdsReadBeforeUnlike = Map.of(2L, List.of(1L));
+
+		// when
+		bookshelfLikeRedisStore.evictAfterCommit(2L);
+		bookshelfLikeRedisStore.load(token, List.of(2L), likerIdsReadBeforeUnlike);
+
+		// then
+		assertFalse(sets.containsKey("bookshelf-likes:2"));
+	}
+
+	@DisplayName("load - 다른 요청이 이미 채운 set 은 덮어쓰지 않는다.")
+	@Test
+	void load_alreadyLoaded() {
+		// given
+		useFakeRedis();
+		String stale = bookshelfLikeRedisStore.reserveLoad(List.of(2L)).orElseThrow();
+		String fresh = bookshelfLikeRedisStore.reserveLoad(List.of(2L)).orElseThrow();
+		bookshelfLikeRedisStore.load(fresh, List.of(2L), Map.of(2L, List.of(1L)));
+
+		// when
+		bookshelfLikeRedisStore.load(stale, List.of(2L), Map.of());
+
+		// then
+		assertEquals(Set.of("0", "1"), sets.get("bookshelf-likes:2"));
+	}
+
+	@DisplayName("evictAfterCommit - 트랜잭션이 커밋된 뒤에 set 과 load token 을 지운다.")
+	@Test
+	void evictAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			bookshelfLikeRedisStore.evictAfterCommit(2L);
+
+			// then
+			verifyNoInteractions(stringRedisTemplate);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			verify(stringRedisTemplate).delete(List.of("bookshelf-likes:2", "bookshelf-likes-loading:2"));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@DisplayName("evictAfterCommit - Redis 장애는 예외로 전파하지 않는다.")
+	@Test
+	void evictAfterCommit_redisFailure() {
+		// given
+		given(stringRedisTemplate.delete(List.of("bookshelf-likes:2", "bookshelf-likes-loading:2")))
+			.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		// when, then
+		assertDoesNotThrow(() -> bookshelfLikeRedisStore.evictAfterCommit(2L));
+	}
+
+	/**
+	 * pipeline, 값 저장, 삭제, LOAD_IF_RESERVED script 를 메모리 keyspace 로 흉내 낸다. script 는 Lua 본문과 같은 순서로 확인한다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void useFakeRedis() {
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+			invocation.<SessionCallback<Object>>getArgument(0).execute(redisOperations);
+			return List.of();
+		});
+		lenient().when(redisOperations.opsForValue()).thenReturn(valueOperations);
+		lenient().doAnswer(invocation -> strings.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+		lenient().when(stringRedisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> keys = invocation.getArgument(0);
+			keys.forEach(key -> {
+				strings.remove(key);
+				sets.remove(key);
+			});
+			return (long)keys.size();
+		});
+		lenient().when(redisOperations.execute(eq(BookshelfLikeRedisStore.LOAD_IF_RESERVED), anyList(), any()))
+			.thenAnswer(invocation -> {
+				List<String> keys = invocation.getArgument(1);
+				Object[] arguments = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+				if (!arguments[0].equals(strings.get(keys.get(1)))) {
+					return 0L;
+				}
+				strings.remove(keys.get(1));
+				if (sets.containsKey(keys.get(0))) {
+					return 0L;
+				}
+				Set<String> members = new HashSet<>();
+				for (int i = 2; i < arguments.length; i++) {
+					members.add((String)arguments[i]);
+				}
+				sets.put(keys.get(0), members);
+				return 1L;
+			});
+	}
+}
@@ -1,5 +1,7 @@
 package com.dadok.gaerval.domain.bookshelf.repository;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestConstructor;
@@ -27,4 +29,16 @@ class BookshelfLikeRepositoryTest {
 	void existsByBookshelfIdAndUserId() {
 		bookshelfLikeRepository.existsLike(2L, 4L);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("사용자와 책장 id 목록을 입력받아 좋아요한 책장 id 조회")
+	void findLikedBookshelfIds() {
+		bookshelfLikeRepository.findLikedBookshelfIds(2L, List.of(4L, 5L));
+	}
+
+	@Test
+	@DisplayName("책장 id 목록을 입력받아 책장별 좋아요한 사용자 id 조회")
+	void findLikerIdsByBookshelfIds() {
+		bookshelfLikeRepository.findLikerIdsByBookshelfIds(List.of(4L, 5L));
+	}
+}
@@ -2,16 +2,27 @@ package com.dadok.gaerval.domain.bookshelf.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestConstructor;
 
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
 import com.dadok.gaerval.domain.bookshelf.dto.request.LikedBookShelvesRequest;
+import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfLike;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository.LikeCountDelta;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
 import com.dadok.gaerval.domain.job.repository.JobRepository;
 import com.dadok.gaerval.domain.user.entity.Authority;
@@ -26,9 +37,12 @@ import com.dadok.gaerval.testutil.JobObjectProvider;
 import com.dadok.gaerval.testutil.UserObjectProvider;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @DisplayName("bookshelf repository 쿼리 테스트")
 @CustomDataJpaTest
+@Import(BookshelfJdbcRepository.class)
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
 class BookshelfRepositoryTest {
@@ -37,12 +51,20 @@ class BookshelfRepositoryTest {
 
 	private final BookshelfLikeRepository bookshelfLikeRepository;
 
+	private final BookshelfJdbcRepository bookshelfJdbcRepository;
+
+	private final BookshelfItemRepository bookshelfItemRepository;
+
+	private final BookRepository bookRepository;
+
 	private final JobRepository jobRepository;
 
 	private final AuthorityRepository authorityRepository;
 
 	private final UserRepository userRepository;
 
+	private final EntityManager entityManager;
+
 	private Authority authority;
 
 	@BeforeEach
@@ -53,7 +75,7 @@ class BookshelfRepositoryTest {
 	@DisplayName("findBookShelfByOwnerId 쿼리 테스트")
 	@Test
 	void findByIdWithUserAndJob() {
-		bookshelfRepository.findBookShelfByOwnerId(100L, null);
+		bookshelfRepository.findBookShelfByOwnerId(100L);
 	}
 
 	@DisplayName("사용자의 책장 요약 조회")
@@ -74,6 +96,50 @@ class BookshelfRepositoryTest {
 		assertThat(res.isPresent()).isTrue();
 	}
 
+	@DisplayName("findSummaryById - 책장의 책은 가장 최근에 넣은 4권만 최신순으로 조회한다.")
+	@Test
+	void findSummaryById_recentBooks() {
+		// Given
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		userRepository.saveAndFlush(user);
+		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		List<Book> books = shelveBooks(bookshelf, 0, 6);
+		entityManager.clear();
+
+		// When
+		var res = bookshelfRepository.findSummaryById(user.getId()).orElseThrow();
+
+		// Then
+		assertThat(res.books()).extracting(BookShelfSummaryResponse.BookSummaryResponse::bookId)
+			.containsExactly(books.get(5).getId(), books.get(4).getId(), books.get(3).getId(), books.get(2).getId());
+	}
+
+	/**
+	 * 책 10권 책장과 1,000권 책장의 요약 조회 지연을 비교한다. 벽시계 시간을 재므로 기본 빌드에서는 빼고 perfTest 로 실행한다.
+	 */
+	@Tag("perf")
+	@DisplayName("benchmark - 책장의 책 수가 늘어도 요약 조회 지연은 일정하다.")
+	@Test
+	void findSummaryById_benchmark() {
+		// Given
+		User smallShelfUser = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User largeShelfUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(smallShelfUser, largeShelfUser));
+		shelveBooks(bookshelfRepository.saveAndFlush(Bookshelf.create(smallShelfUser)), 0, 10);
+		shelveBooks(bookshelfRepository.saveAndFlush(Bookshelf.create(largeShelfUser)), 10, 1_000);
+		entityManager.clear();
+
+		// When
+		long smallMedianMicros = medianMicros(() -> bookshelfRepository.findSummaryById(smallShelfUser.getId()));
+		long largeMedianMicros = medianMicros(() -> bookshelfRepository.findSummaryById(largeShelfUser.getId()));
+
+		// Then
+		log.info("[BookshelfSummary benchmark] 10 books median us : {}, 1,000 books median us : {}",
+			smallMedianMicros, largeMedianMicros);
+		assertThat(bookshelfRepository.findSummaryById(largeShelfUser.getId()).orElseThrow().books()).hasSize(4);
+		assertThat(largeMedianMicros).isLessThan(smallMedianMicros * 3 + 5_000);
+	}
+
 	@DisplayName("사용자의 책장 요약 조회_empty 반환")
 	@Test
 	void findSummaryByUser_empty() {
@@ -135,7 +201,7 @@ class BookshelfRepositoryTest {
 	@DisplayName("findBookShelfById 쿼리 테스트")
 	@Test
 	void findBookShelfById() {
-		bookshelfRepository.findBookShelfById(100L, null);
+		bookshelfRepository.findBookShelfById(100L);
 	}
 
 	@DisplayName("좋아요한 책장 요약 list 조회 - findAllLikedByUserId 쿼리 테스트")
@@ -152,6 +218,7 @@ class BookshelfRepositoryTest {
 		requestUser.changeJob(job);
 		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
 		bookshelfLikeRepository.saveAndFlush(BookshelfLike.create(requestUser, bookshelf));
+		bookshelfJdbcRepository.addLikeCounts(List.of(new LikeCountDelta(bookshelf.getId(), 1)));
 
 		LikedBookShelvesRequest request = new LikedBookShelvesRequest(10, null, null);
 
@@ -175,4 +242,142 @@ class BookshelfRepositoryTest {
 		var response = bookshelfRepository.findAllLikedByUserId(request, user.getId());
 		assertThat(response.bookshelfResponses().size()).isEqualTo(0);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("findAllSuggestions - 인기 점수가 높은 책장부터 조회한다.")
+	@Test
+	void findAllSuggestions_orderByPopularityScore() {
+		// Given
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User otherUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, otherUser));
+		bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		Bookshelf popularBookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(otherUser));
+		bookshelfRepository.addPopularityScore(popularBookshelf.getId(), Bookshelf.LIKE_POPULARITY_WEIGHT);
+
+		// When
+		var res = bookshelfRepository.findAllSuggestions(1);
+
+		// Then
+		assertThat(res).hasSize(1);
+		assertThat(res.get(0).bookshelfId()).isEqualTo(popularBookshelf.getId());
+	}
+
+	@DisplayName("reconcilePopularityScores - 어긋난 인기 점수를 책장 도서, 좋아요 수로 다시 계산한다.")
+	@Test
+	void reconcilePopularityScores() {
+		// Given
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User likeUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, likeUser));
+		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		bookshelfLikeRepository.saveAndFlush(BookshelfLike.create(likeUser, bookshelf));
+		bookshelfRepository.addPopularityScore(bookshelf.getId(), 10);
+
+		// When
+		int corrected = bookshelfRepository.reconcilePopularityScores(0, bookshelfRepository.findMaxId(),
+			Bookshelf.ITEM_POPULARITY_WEIGHT, Bookshelf.LIKE_POPULARITY_WEIGHT);
+		entityManager.clear();
+
+		// Then
+		assertThat(corrected).isEqualTo(1);
+		assertThat(bookshelfRepository.findById(bookshelf.getId()).orElseThrow().getPopularityScore())
+			.isEqualTo(Bookshelf.LIKE_POPULARITY_WEIGHT);
+	}
+
+	@DisplayName("findSuggestionCandidates - 직군의 책장을 인기 점수 순서로 책장 주인 id 와 함께 조회한다.")
+	@Test
+	void findSuggestionCandidates() {
+		// Given
+		var job = jobRepository.save(JobObjectProvider.backendJob());
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User otherUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, otherUser));
+		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		Bookshelf popularBookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(otherUser));
+		bookshelf.changeJobId(job.getId());
+		popularBookshelf.changeJobId(job.getId());
+		bookshelfRepository.flush();
+		bookshelfRepository.addPopularityScore(popularBookshelf.getId(), Bookshelf.LIKE_POPULARITY_WEIGHT);
+
+		// When
+		var candidates = bookshelfRepository.findSuggestionCandidates(JobGroup.DEVELOPMENT, 5);
+		var others = bookshelfRepository.findSuggestionCandidates(JobGroup.HR, 5);
+
+		// Then
+		assertThat(candidates).extracting(candidate -> candidate.bookshelf().bookshelfId())
+			.containsExactly(popularBookshelf.getId(), bookshelf.getId());
+		assertThat(candidates.get(0).ownerId()).isEqualTo(otherUser.getId());
+		assertThat(others).isEmpty();
+	}
+
+	@DisplayName("addLikeCounts - 좋아요 증감을 좋아요 수와 인기 점수에 함께 반영하고, 상세 조회는 좋아요 수 컬럼을 읽는다.")
+	@Test
+	void addLikeCounts() {
+		// Given
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User otherUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, otherUser));
+		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		Bookshelf otherBookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(otherUser));
+
+		// When
+		bookshelfJdbcRepository.addLikeCounts(List.of(
+			new LikeCountDelta(otherBookshelf.getId(), -1),
+			new LikeCountDelta(bookshelf.getId(), 3)));
+		entityManager.clear();
+
+		// Then
+		Bookshelf updated = bookshelfRepository.findById(bookshelf.getId()).orElseThrow();
+		assertThat(updated.getLikeCount()).isEqualTo(3);
+		assertThat(updated.getPopularityScore()).isEqualTo(3 * Bookshelf.LIKE_POPULARITY_WEIGHT);
+		assertThat(bookshelfRepository.findBookShelfById(bookshelf.getId()).orElseThrow().likeCount())
+			.isEqualTo(3L);
+	}
+
+	@DisplayName("reconcileLikeCounts - 어긋난 좋아요 수를 실제 좋아요 수로 맞춘다.")
+	@Test
+	void reconcileLikeCounts() {
+		// Given
+		User user = User.createByOAuth(UserObjectProvider.kakaoAttribute(), UserAuthority.create(authority));
+		User likeUser = User.createByOAuth(UserObjectProvider.naverAttribute(), UserAuthority.create(authority));
+		userRepository.saveAllAndFlush(List.of(user, likeUser));
+		Bookshelf bookshelf = bookshelfRepository.saveAndFlush(Bookshelf.create(user));
+		bookshelfLikeRepository.saveAndFlush(BookshelfLike.create(likeUser, bookshelf));
+		bookshelfJdbcRepository.addLikeCounts(List.of(new LikeCountDelta(bookshelf.getId(), 5)));
+
+		// When
+		int corrected = bookshelfRepository.reconcileLikeCounts(0, bookshelfRepository.findMaxId());
+		entityManager.clear();
+
+		// Then
+		assertThat(corrected).isEqualTo(1);
+		assertThat(bookshelfRepository.findById(bookshelf.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+	}
+
+	private List<Book> shelveBooks(Bookshelf bookshelf, int from, int count) {
+		List<Book> books = new ArrayList<>();
+		for (int i = from; i < from + count; i++) {
+			books.add(Book.create("책" + i, "저자", "97889" + String.format("%08d", i), "contents", "url",
+				"imageUrl" + i, "KAKAO", "출판사"));
+		}
+		bookRepository.saveAll(books);
+		bookshelfItemRepository.saveAllAndFlush(books.stream()
+			.map(book -> BookshelfItem.create(bookshelf, book))
+			.toList());
+		return books;
+	}
+
+	private long medianMicros(Runnable summaryQuery) {
+		for (int i = 0; i < 20; i++) {
+			summaryQuery.run();
+		}
+		long[] latencies = new long[50];
+		for (int i = 0; i < latencies.length; i++) {
+			long startedAt = System.nanoTime();
+			summaryQuery.run();
+			latencies[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(latencies);
+		return latencies[latencies.length / 2] / 1_000;
+	}
+}
@@ -0,0 +1,99 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore.LikedBookshelves;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookshelfLikeCheckerTest {
+
+	@InjectMocks
+	private BookshelfLikeChecker bookshelfLikeChecker;
+
+	@Mock
+	private BookshelfLikeRedisStore bookshelfLikeRedisStore;
+
+	@Mock
+	private BookshelfLikeRepository bookshelfLikeRepository;
+
+	@DisplayName("findLikedBookshelfIds - Redis 에 채워진 책장은 DB 를 조회하지 않는다.")
+	@Test
+	void findLikedBookshelfIds_cached() {
+		// given
+		given(bookshelfLikeRedisStore.findLiked(1L, List.of(2L, 3L)))
+			.willReturn(Optional.of(new LikedBookshelves(Set.of(3L), List.of())));
+
+		// when
+		Set<Long> likedIds = bookshelfLikeChecker.findLikedBookshelfIds(1L, List.of(2L, 3L));
+
+		// then
+		assertThat(likedIds).containsExactly(3L);
+		verifyNoInteractions(bookshelfLikeRepository);
+	}
+
+	@DisplayName("findLikedBookshelfIds - 채워지지 않은 책장만 DB 에서 읽어 Redis 를 채운다.")
+	@Test
+	void findLikedBookshelfIds_loadUnknown() {
+		// given
+		given(bookshelfLikeRedisStore.findLiked(1L, List.of(2L, 3L, 4L)))
+			.willReturn(Optional.of(new LikedBookshelves(Set.of(2L), List.of(3L, 4L))));
+		Map<Long, List<Long>> likerIds = Map.of(3L, List.of(1L, 7L));
+		given(bookshelfLikeRedisStore.reserveLoad(List.of(3L, 4L))).willReturn(Optional.of("token"));
+		given(bookshelfLikeRepository.findLikerIdsByBookshelfIds(List.of(3L, 4L)))
+			.willReturn(likerIds);
+
+		// when
+		Set<Long> likedIds = bookshelfLikeChecker.findLikedBookshelfIds(1L, List.of(2L, 3L, 4L));
+
+		// then
+		assertThat(likedIds).containsExactlyInAnyOrder(2L, 3L);
+		InOrder inOrder = inOrder(bookshelfLikeRedisStore, bookshelfLikeRepository);
+		inOrder.verify(bookshelfLikeRedisStore).reserveLoad(List.of(3L, 4L));
+		inOrder.verify(bookshelfLikeRepository).findLikerIdsByBookshelfIds(List.of(3L, 4L));
+		inOrder.verify(bookshelfLikeRedisStore).load("token", List.of(3L, 4L), likerIds);
+	}
+
+	@DisplayName("findLikedBookshelfIds - Redis 를 사용할 수 없으면 DB 에서 바로 확인한다.")
+	@Test
+	void findLikedBookshelfIds_redisUnavailable() {
+		// given
+		given(bookshelfLikeRedisStore.findLiked(1L, List.of(2L, 3L)))
+			.willReturn(Optional.empty());
+		given(bookshelfLikeRepository.findLikedBookshelfIds(1L, List.of(2L, 3L)))
+			.willReturn(List.of(2L));
+
+		// when
+		Set<Long> likedIds = bookshelfLikeChecker.findLikedBookshelfIds(1L, List.of(2L, 3L));
+
+		// then
+		assertThat(likedIds).containsExactly(2L);
+		verify(bookshelfLikeRedisStore, never()).load(any(), any(), any());
+	}
+
+	@DisplayName("isLiked - 로그인하지 않은 사용자는 조회 없이 false 를 반환한다.")
+	@Test
+	void isLiked_anonymous() {
+		// when
+		boolean liked = bookshelfLikeChecker.isLiked(null, 2L);
+
+		// then
+		assertThat(liked).isFalse();
+		verifyNoInteractions(bookshelfLikeRedisStore, bookshelfLikeRepository);
+	}
+}
@@ -0,0 +1,220 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository.LikeCountDelta;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookshelfLikeCountBufferTest {
+
+	@Mock
+	private BookshelfJdbcRepository bookshelfJdbcRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private BookshelfLikeCountBuffer bookshelfLikeCountBuffer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookshelfLikeCountBuffer = new BookshelfLikeCountBuffer(bookshelfJdbcRepository, meterRegistry);
+	}
+
+	@DisplayName("flush - 책장마다 모인 증감을 합쳐 한 번에 반영하고, 반영한 만큼 버퍼에서 뺀다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void flush() {
+		// given
+		bookshelfLikeCountBuffer.add(1L, 1);
+		bookshelfLikeCountBuffer.add(1L, 1);
+		bookshelfLikeCountBuffer.add(2L, 1);
+		bookshelfLikeCountBuffer.add(2L, -1);
+		bookshelfLikeCountBuffer.add(3L, -1);
+
+		// when
+		bookshelfLikeCountBuffer.flush();
+
+		// then
+		ArgumentCaptor<List<LikeCountDelta>> batch = ArgumentCaptor.forClass(List.class);
+		verify(bookshelfJdbcRepository).addLikeCounts(batch.capture());
+		assertThat(batch.getValue()).containsExactlyInAnyOrder(new LikeCountDelta(1L, 2), new LikeCountDelta(3L, -1));
+		assertThat(bookshelfLikeCountBuffer.pending(1L)).isZero();
+	}
+
+	@DisplayName("flush - 모인 증감이 없으면 반영하지 않고, 한 주기 동안 조용했던 책장은 버퍼에서 지운다.")
+	@Test
+	void flush_idle() {
+		// given
+		bookshelfLikeCountBuffer.add(1L, 1);
+		bookshelfLikeCountBuffer.flush();
+
+		// when
+		bookshelfLikeCountBuffer.flush();
+
+		// then
+		verify(bookshelfJdbcRepository, times(1)).addLikeCounts(any());
+		assertThat(meterRegistry.get(BookshelfLikeCountBuffer.BUFFER_SIZE_METRIC).gauge().value()).isZero();
+	}
+
+	@DisplayName("flush - 반영에 실패하면 증감을 버퍼에 되돌린다.")
+	@Test
+	void flush_failure() {
+		// given
+		bookshelfLikeCountBuffer.add(1L, 1);
+		willThrow(new QueryTimeoutException("timeout")).given(bookshelfJdbcRepository).addLikeCounts(any());
+
+		// when
+		bookshelfLikeCountBuffer.flush();
+
+		// then
+		assertThat(bookshelfLikeCountBuffer.pending(1L)).isEqualTo(1);
+		assertThat(meterRegistry.get(BookshelfLikeCountBuffer.FLUSH_FAILED_METRIC).counter().count()).isEqualTo(1);
+	}
+
+	@DisplayName("add - 같은 책장에 동시에 좋아요해도 증감을 잃지 않는다.")
+	@Test
+	void add_concurrently() throws InterruptedException {
+		// given
+		int threadCount = 8;
+		int likesPerThread = 1_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.execute(() -> {
+				for (int j = 0; j < likesPerThread; j++) {
+					bookshelfLikeCountBuffer.add(1L, 1);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertThat(bookshelfLikeCountBuffer.pending(1L)).isEqualTo((long)threadCount * likesPerThread);
+	}
+
+	@DisplayName("addAfterCommit - 트랜잭션이 커밋되기 전에는 버퍼에 넣지 않고, 커밋된 뒤에 넣는다.")
+	@Test
+	void addAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			bookshelfLikeCountBuffer.addAfterCommit(1L, -1);
+
+			// then
+			assertThat(bookshelfLikeCountBuffer.pending(1L)).isZero();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertThat(bookshelfLikeCountBuffer.pending(1L)).isEqualTo(-1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@DisplayName("flush - 반영하는 도중에 들어온 증감도 잃지 않는다.")
+	@Test
+	void flush_concurrently() throws InterruptedException {
+		// given
+		int threadCount = 4;
+		int likesPerThread = 5_000;
+		AtomicLong flushed = new AtomicLong();
+		willAnswer(invocation -> {
+			List<LikeCountDelta> batch = invocation.getArgument(0);
+			batch.forEach(likeCountDelta -> flushed.addAndGet(likeCountDelta.delta()));
+			return null;
+		}).given(bookshelfJdbcRepository).addLikeCounts(any());
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.execute(() -> {
+				for (int j = 0; j < likesPerThread; j++) {
+					bookshelfLikeCountBuffer.add(1L, 1);
+				}
+				latch.countDown();
+			});
+		}
+		while (latch.getCount() > 0) {
+			bookshelfLikeCountBuffer.flush();
+		}
+		latch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+		bookshelfLikeCountBuffer.flush();
+
+		// then
+		assertThat(flushed.get()).isEqualTo((long)threadCount * likesPerThread);
+		assertThat(bookshelfLikeCountBuffer.pending(1L)).isZero();
+	}
+
+	@DisplayName("pendingBetween - 범위 안 책장의 반영하지 않은 증감을 버퍼에서 빼지 않고 반환한다.")
+	@Test
+	void pendingBetween() {
+		// given
+		bookshelfLikeCountBuffer.add(1L, 1);
+		bookshelfLikeCountBuffer.add(2L, -1);
+		bookshelfLikeCountBuffer.add(2L, 1);
+		bookshelfLikeCountBuffer.add(3L, 2);
+
+		// when
+		List<LikeCountDelta> pending = bookshelfLikeCountBuffer.pendingBetween(0, 2);
+
+		// then
+		assertThat(pending).containsExactly(new LikeCountDelta(1L, 1));
+		assertThat(bookshelfLikeCountBuffer.pending(1L)).isEqualTo(1);
+	}
+
+	@DisplayName("holdingFlush - task 가 끝날 때까지 다른 스레드의 flush 를 미룬다.")
+	@Test
+	void holdingFlush() throws InterruptedException {
+		// given
+		bookshelfLikeCountBuffer.add(1L, 1);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		CountDownLatch flushed = new CountDownLatch(1);
+
+		// when
+		boolean flushedWhileHolding = bookshelfLikeCountBuffer.holdingFlush(() -> {
+			executorService.execute(() -> {
+				bookshelfLikeCountBuffer.flush();
+				flushed.countDown();
+			});
+			try {
+				return flushed.await(200, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return true;
+			}
+		});
+
+		// then
+		assertThat(flushedWhileHolding).isFalse();
+		assertThat(flushed.await(10, TimeUnit.SECONDS)).isTrue();
+		executorService.shutdown();
+		verify(bookshelfJdbcRepository).addLikeCounts(List.of(new LikeCountDelta(1L, 1)));
+	}
+}
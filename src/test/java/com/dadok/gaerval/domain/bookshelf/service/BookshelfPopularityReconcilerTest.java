@@ -0,0 +1,101 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfJdbcRepository.LikeCountDelta;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookshelfPopularityReconcilerTest {
+
+	@InjectMocks
+	private BookshelfPopularityReconciler bookshelfPopularityReconciler;
+
+	@Mock
+	private BookshelfRepository bookshelfRepository;
+
+	@Mock
+	private BookshelfJdbcRepository bookshelfJdbcRepository;
+
+	@Mock
+	private BookshelfLikeCountBuffer bookshelfLikeCountBuffer;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@DisplayName("reconcile - 전체 책장을 CHUNK_SIZE 단위 id 범위로 나누어 다시 계산한다.")
+	@Test
+	void reconcile() {
+		// Given
+		int chunkSize = BookshelfPopularityReconciler.CHUNK_SIZE;
+		given(bookshelfRepository.findMaxId()).willReturn(chunkSize + 1L);
+		runChunksInline();
+		given(bookshelfRepository.reconcilePopularityScores(0, chunkSize,
+			Bookshelf.ITEM_POPULARITY_WEIGHT, Bookshelf.LIKE_POPULARITY_WEIGHT)).willReturn(2);
+		given(bookshelfRepository.reconcilePopularityScores(chunkSize, chunkSize * 2L,
+			Bookshelf.ITEM_POPULARITY_WEIGHT, Bookshelf.LIKE_POPULARITY_WEIGHT)).willReturn(1);
+
+		// When
+		int corrected = bookshelfPopularityReconciler.reconcile();
+
+		// Then
+		assertThat(corrected).isEqualTo(3);
+		verify(bookshelfLikeCountBuffer).flush();
+		verify(bookshelfRepository, times(2)).reconcileLikeCounts(anyLong(), anyLong());
+		verify(bookshelfRepository, times(2)).reconcilePopularityScores(anyLong(), anyLong(), anyInt(), anyInt());
+	}
+
+	@DisplayName("reconcile - 다시 세는 동안 버퍼에 남은 증감은 다시 센 좋아요 수에서 빼 두어, 나중에 flush 해도 두 번 더해지지 않는다.")
+	@Test
+	void reconcile_foldPendingDeltas() {
+		// Given
+		given(bookshelfRepository.findMaxId()).willReturn(10L);
+		runChunksInline();
+		given(bookshelfLikeCountBuffer.pendingBetween(0, BookshelfPopularityReconciler.CHUNK_SIZE))
+			.willReturn(List.of(new LikeCountDelta(3L, 1), new LikeCountDelta(7L, -2)));
+
+		// When
+		bookshelfPopularityReconciler.reconcile();
+
+		// Then
+		then(bookshelfLikeCountBuffer).should().holdingFlush(any());
+		then(bookshelfJdbcRepository).should().addLikeCounts(List.of(new LikeCountDelta(3L, -1),
+			new LikeCountDelta(7L, 2)));
+	}
+
+	@DisplayName("reconcile - 책장이 없으면 아무것도 하지 않는다.")
+	@Test
+	void reconcile_empty() {
+		// Given
+		given(bookshelfRepository.findMaxId()).willReturn(0L);
+
+		// When
+		int corrected = bookshelfPopularityReconciler.reconcile();
+
+		// Then
+		assertThat(corrected).isZero();
+		verify(bookshelfRepository, never()).reconcilePopularityScores(anyLong(), anyLong(), anyInt(), anyInt());
+	}
+
+	private void runChunksInline() {
+		given(bookshelfLikeCountBuffer.holdingFlush(any()))
+			.willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+		given(transactionTemplate.execute(any()))
+			.willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
@@ -0,0 +1,88 @@
+package com.dadok.gaerval.domain.bookshelf.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelfCandidate;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+import com.dadok.gaerval.domain.job.entity.JobGroup;
+
+@ExtendWith(MockitoExtension.class)
+class BookshelfSuggestionSnapshotTest {
+
+	@InjectMocks
+	private BookshelfSuggestionSnapshot bookshelfSuggestionSnapshot;
+
+	@Mock
+	private BookshelfRepository bookshelfRepository;
+
+	@DisplayName("findByJobGroup - 갱신 전에는 빈 Optional 을 반환한다.")
+	@Test
+	void findByJobGroup_beforeRefresh() {
+		// When // Then
+		assertThat(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.DEVELOPMENT, 1L)).isEmpty();
+		assertThat(bookshelfSuggestionSnapshot.findDefault()).isEmpty();
+	}
+
+	@DisplayName("findByJobGroup - 요청한 사용자의 책장을 빼고 인기 순서대로 5개를 반환한다.")
+	@Test
+	void findByJobGroup_excludeOwnBookshelf() {
+		// Given
+		given(bookshelfRepository.findSuggestionCandidates(any(JobGroup.class), eq(6))).willReturn(List.of());
+		given(bookshelfRepository.findSuggestionCandidates(JobGroup.DEVELOPMENT, 6)).willReturn(candidates(6));
+		given(bookshelfRepository.findSuggestionCandidates(null, 5)).willReturn(candidates(5));
+
+		// When
+		bookshelfSuggestionSnapshot.refresh();
+
+		// Then
+		assertThat(bookshelfIds(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.DEVELOPMENT, 100L).orElseThrow()
+			.bookshelfResponses())).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(bookshelfIds(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.DEVELOPMENT, 2L).orElseThrow()
+			.bookshelfResponses())).containsExactly(1L, 3L, 4L, 5L, 6L);
+		assertThat(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.DEVELOPMENT, 100L))
+			.containsSame(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.DEVELOPMENT, 200L).orElseThrow());
+		assertThat(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.HR, 1L).orElseThrow()
+			.bookshelfResponses()).isEmpty();
+		assertThat(bookshelfSuggestionSnapshot.findDefault().orElseThrow().bookshelfResponses()).hasSize(5);
+	}
+
+	@DisplayName("refresh - 갱신에 실패하면 이전 스냅샷을 유지한다.")
+	@Test
+	void refresh_failure() {
+		// Given
+		given(bookshelfRepository.findSuggestionCandidates(any(), anyInt())).willReturn(candidates(1));
+		bookshelfSuggestionSnapshot.refresh();
+		given(bookshelfRepository.findSuggestionCandidates(any(), anyInt()))
+			.willThrow(new IllegalStateException("db down"));
+
+		// When
+		bookshelfSuggestionSnapshot.refresh();
+
+		// Then
+		assertThat(bookshelfSuggestionSnapshot.findDefault().orElseThrow().bookshelfResponses()).hasSize(1);
+	}
+
+	// 책장 id 와 책장 주인 id 가 같은 후보를 인기 순서대로 만든다.
+	private List<SuggestionBookshelfCandidate> candidates(int count) {
+		return LongStream.rangeClosed(1, count)
+			.mapToObj(id -> new SuggestionBookshelfCandidate(id,
+				new BookShelfSummaryResponse(id, "책장" + id, null, 0)))
+			.toList();
+	}
+
+	private List<Long> bookshelfIds(List<BookShelfSummaryResponse> bookshelves) {
+		return bookshelves.stream().map(BookShelfSummaryResponse::bookshelfId).toList();
+	}
+}
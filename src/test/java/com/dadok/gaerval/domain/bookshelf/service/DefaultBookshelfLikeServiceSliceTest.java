@@ -16,6 +16,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfLike;
 import com.dadok.gaerval.domain.bookshelf.exception.AlreadyExistsBookshelfLikeException;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRedisStore;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRepository;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.domain.user.service.UserService;
@@ -38,6 +39,12 @@ class DefaultBookshelfLikeServiceSliceTest {
 	@Mock
 	private UserService userService;
 
+	@Mock
+	private BookshelfLikeCountBuffer bookshelfLikeCountBuffer;
+
+	@Mock
+	private BookshelfLikeRedisStore bookshelfLikeRedisStore;
+
 	private final User user = UserObjectProvider.createKakaoUser(JobObjectProvider.backendJob());
 	private final Bookshelf bookshelf = Bookshelf.create(UserObjectProvider.createNaverUser());
 
@@ -58,7 +65,10 @@ class DefaultBookshelfLikeServiceSliceTest {
 		});
 
 		// Then
-		assertThat(bookshelf.getBookshelfLikes().size()).isEqualTo(1);
+		verify(bookshelfLikeRepository).save(argThat(like -> like.getBookshelf() == bookshelf));
+		assertThat(bookshelf.getBookshelfLikes()).isEmpty();
+		verify(bookshelfLikeCountBuffer).addAfterCommit(2L, 1);
+		verify(bookshelfLikeRedisStore).evictAfterCommit(2L);
 	}
 
 	@Test
@@ -91,6 +101,8 @@ class DefaultBookshelfLikeServiceSliceTest {
 		assertDoesNotThrow(() -> {
 			bookshelfLikeService.deleteBookshelfLike(1L, 2L);
 		});
+		verify(bookshelfLikeCountBuffer).addAfterCommit(2L, -1);
+		verify(bookshelfLikeRedisStore).evictAfterCommit(2L);
 	}
 
 	@Test
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import com.dadok.gaerval.domain.bookshelf.dto.response.BookInShelfResponses;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfDetailResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookShelfSummaryResponse;
 import com.dadok.gaerval.domain.bookshelf.dto.response.BookshelvesResponses;
+import com.dadok.gaerval.domain.bookshelf.dto.response.SuggestionBookshelvesByJobGroupResponses;
 import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
 import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItemType;
@@ -38,6 +40,7 @@ import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
 import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
 import com.dadok.gaerval.domain.job.entity.Job;
 import com.dadok.gaerval.domain.job.entity.JobGroup;
+import com.dadok.gaerval.domain.job.service.JobService;
 import com.dadok.gaerval.domain.user.entity.User;
 import com.dadok.gaerval.domain.user.service.UserService;
 import com.dadok.gaerval.global.error.exception.ResourceNotfoundException;
@@ -65,6 +68,15 @@ class DefaultBookshelfServiceSliceTest {
 	@Mock
 	private UserService userService;
 
+	@Mock
+	private BookshelfSuggestionSnapshot bookshelfSuggestionSnapshot;
+
+	@Mock
+	private JobService jobService;
+
+	@Mock
+	private BookshelfLikeChecker bookshelfLikeChecker;
+
 	private final User user = UserObjectProvider.createKakaoUser(JobObjectProvider.backendJob());
 	private final Bookshelf bookshelf = Bookshelf.create(user);
 	private final Book book = BookObjectProvider.createRequiredFieldBook();
@@ -139,6 +151,8 @@ class DefaultBookshelfServiceSliceTest {
 	void insertBookSelfItem_success() {
 		// Given
 		ReflectionTestUtils.setField(bookshelf, "id", 1L);
+		Job backendJob = JobObjectProvider.backendJob();
+		bookshelf.changeJobId(backendJob.getId());
 		var request = new BookshelfItemCreateRequest(book.getId());
 
 		given(bookshelfRepository.findById(1L))
@@ -147,16 +161,20 @@ class DefaultBookshelfServiceSliceTest {
 			.willReturn(Optional.of(book));
 		given(bookshelfItemRepository.existsByBookshelfIdAndBookId(1L, book.getId()))
 			.willReturn(false);
+		given(jobService.findById(backendJob.getId()))
+			.willReturn(Optional.of(backendJob));
 
 		// When
 		var bookshelfId = bookshelfService.insertBookSelfItem(user.getId(), 1L, request);
 
 		// Then
 		assertThat(bookshelfId).isEqualTo(1L);
-		assertThat(bookshelf.getBookshelfItems()).hasSize(1);
-		assertThat(bookshelf.getBookshelfItems().get(0).getBook()).isEqualTo(book);
+		verify(bookshelfItemRepository).save(argThat(item -> item.getBook() == book));
+		assertThat(bookshelf.getBookshelfItems()).isEmpty();
 		verify(bookshelfRepository).findById(1L);
 		verify(bookService).findById(book.getId());
+		verify(bookService).increaseShelvedCount(book.getId(), JobGroup.DEVELOPMENT);
+		verify(bookshelfRepository).addPopularityScore(1L, Bookshelf.ITEM_POPULARITY_WEIGHT);
 	}
 
 	@DisplayName("insertBookSelfItem - book이 존재하지 않는 경우 - 실패")
@@ -266,6 +284,8 @@ class DefaultBookshelfServiceSliceTest {
 		verify(bookService).findById(book.getId());
 		verify(bookshelfItemRepository).findByBookshelfAndBook(bookshelf, book);
 		verify(bookshelfItemRepository).deleteById(200L);
+		verify(bookService).decreaseShelvedCount(book.getId(), null);
+		verify(bookshelfRepository).addPopularityScore(1L, -Bookshelf.ITEM_POPULARITY_WEIGHT);
 	}
 
 	@DisplayName("removeBookSelfItem - 존재하지 않는 책 id - 실패")
@@ -337,6 +357,48 @@ class DefaultBookshelfServiceSliceTest {
 
 	}
 
+	@DisplayName("findSuggestionBookshelvesByJobGroup - 스냅샷이 있으면 DB 를 조회하지 않는다 - 성공")
+	@Test
+	void findSuggestionBookshelvesByJobGroup_fromSnapshot() {
+		// Given
+		var snapshotResponses = new SuggestionBookshelvesByJobGroupResponses(JobGroup.HR,
+			JobGroup.HR.getGroupName(), List.of());
+		given(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.HR, 5L))
+			.willReturn(Optional.of(snapshotResponses));
+
+		// When
+		var responses = bookshelfService.findSuggestionBookshelvesByJobGroup(5L, JobGroup.HR);
+
+		// Then
+		assertThat(responses).isSameAs(snapshotResponses);
+		verifyNoInteractions(bookshelfRepository);
+	}
+
+	@DisplayName("findSuggestionBookshelvesByJobGroup - 사용자가 좋아요한 책장에 좋아요 여부를 표시한다 - 성공")
+	@Test
+	void findSuggestionBookshelvesByJobGroup_isLiked() {
+		// Given
+		var snapshotResponses = new SuggestionBookshelvesByJobGroupResponses(JobGroup.HR,
+			JobGroup.HR.getGroupName(), List.of(
+			new BookShelfSummaryResponse(23L, "영지님의 책장", List.of(), 5),
+			new BookShelfSummaryResponse(24L, "지민님의 책장", List.of(), 3)));
+		given(bookshelfSuggestionSnapshot.findByJobGroup(JobGroup.HR, 5L))
+			.willReturn(Optional.of(snapshotResponses));
+		given(bookshelfLikeChecker.findLikedBookshelfIds(5L, List.of(23L, 24L)))
+			.willReturn(Set.of(24L));
+
+		// When
+		var responses = bookshelfService.findSuggestionBookshelvesByJobGroup(5L, JobGroup.HR);
+
+		// Then
+		assertThat(responses.bookshelfResponses())
+			.extracting(BookShelfSummaryResponse::isLiked)
+			.containsExactly(false, true);
+		assertThat(snapshotResponses.bookshelfResponses())
+			.extracting(BookShelfSummaryResponse::isLiked)
+			.containsExactly(false, false);
+	}
+
 	@DisplayName("findSuggestionBookshelves - 인기 책장 리스트 조회 - 성공")
 	@Test
 	void findSuggestionBookshelves_success() {
@@ -471,7 +533,7 @@ class DefaultBookshelfServiceSliceTest {
 			"username", "userNickname",
 			"http://dadok.com/images", JobGroup.DEVELOPMENT, JobGroup.JobName.BACKEND_DEVELOPER, 5);
 
-		given(bookshelfRepository.findBookShelfByOwnerId(ownerId, userId))
+		given(bookshelfRepository.findBookShelfByOwnerId(ownerId))
 			.willReturn(Optional.of(bookShelfDetailResponse));
 		//when
 
@@ -488,7 +550,7 @@ class DefaultBookshelfServiceSliceTest {
 		Long ownerId = 1L;
 		Long userId = 1L;
 
-		given(bookshelfRepository.findBookShelfByOwnerId(ownerId, userId))
+		given(bookshelfRepository.findBookShelfByOwnerId(ownerId))
 			.willReturn(Optional.empty());
 		//when
 		assertThrows(ResourceNotfoundException.class,
@@ -508,7 +570,7 @@ class DefaultBookshelfServiceSliceTest {
 		given(bookshelfRepository.findByUserId(userId))
 			.willReturn(Optional.empty());
 
-		given(bookshelfRepository.save(willBookshelf))
+		given(bookshelfRepository.save(any(Bookshelf.class)))
 			.willReturn(willBookshelf);
 
 		//when
@@ -542,6 +604,64 @@ class DefaultBookshelfServiceSliceTest {
 		verify(bookshelfRepository).findByUserId(userId);
 	}
 
+	@DisplayName("updateJobIdByUserId - 직군이 바뀌면 책장의 책들을 이전 직군 집계에서 새 직군 집계로 옮긴다.")
+	@Test
+	void updateJobIdByUserId_moveJobGroupShelfCounts() {
+		//given
+		User kakaoUser = UserObjectProvider.createKakaoUser();
+		long userId = 1L;
+		ReflectionTestUtils.setField(kakaoUser, "id", userId);
+		Job backendJob = JobObjectProvider.backendJob();
+		Job hrJob = Job.create(JobGroup.HR, JobGroup.JobName.RECRUITER, 1);
+		ReflectionTestUtils.setField(hrJob, "id", 30L);
+
+		Bookshelf bookShelf = Bookshelf.create(kakaoUser);
+		ReflectionTestUtils.setField(bookShelf, "id", 3L);
+		bookShelf.changeJobId(backendJob.getId());
+
+		given(bookshelfRepository.findByUserId(userId))
+			.willReturn(Optional.of(bookShelf));
+		given(jobService.findById(backendJob.getId()))
+			.willReturn(Optional.of(backendJob));
+		given(jobService.findById(hrJob.getId()))
+			.willReturn(Optional.of(hrJob));
+		given(bookshelfItemRepository.findBookIdsByBookshelfId(3L))
+			.willReturn(List.of(1L, 2L));
+
+		//when
+		bookshelfService.updateJobIdByUserId(kakaoUser, hrJob.getId());
+
+		//then
+		verify(bookService).moveJobGroupShelfCounts(List.of(1L, 2L), JobGroup.DEVELOPMENT, JobGroup.HR);
+	}
+
+	@DisplayName("updateJobIdByUserId - 같은 직군 안에서 직업만 바뀌면 집계를 옮기지 않는다.")
+	@Test
+	void updateJobIdByUserId_sameJobGroup() {
+		//given
+		User kakaoUser = UserObjectProvider.createKakaoUser();
+		long userId = 1L;
+		ReflectionTestUtils.setField(kakaoUser, "id", userId);
+		Job backendJob = JobObjectProvider.backendJob();
+		Job frontendJob = JobObjectProvider.frontendJob();
+
+		Bookshelf bookShelf = Bookshelf.create(kakaoUser);
+		bookShelf.changeJobId(backendJob.getId());
+
+		given(bookshelfRepository.findByUserId(userId))
+			.willReturn(Optional.of(bookShelf));
+		given(jobService.findById(backendJob.getId()))
+			.willReturn(Optional.of(backendJob));
+		given(jobService.findById(frontendJob.getId()))
+			.willReturn(Optional.of(frontendJob));
+
+		//when
+		bookshelfService.updateJobIdByUserId(kakaoUser, frontendJob.getId());
+
+		//then
+		verify(bookService, never()).moveJobGroupShelfCounts(any(), any(), any());
+	}
+
 	@DisplayName("findBookShelfById - bookshelfId로 책장과 유저와 직업을 같이 조회해온다.")
 	@Test
 	void findBookShelfById() {
@@ -554,7 +674,7 @@ class DefaultBookshelfServiceSliceTest {
 			"username", "userNickname",
 			"http://dadok.com/images", JobGroup.DEVELOPMENT, JobGroup.JobName.BACKEND_DEVELOPER, 5);
 
-		given(bookshelfRepository.findBookShelfById(bookshelfId, userId))
+		given(bookshelfRepository.findBookShelfById(bookshelfId))
 			.willReturn(Optional.of(bookShelfDetailResponse));
 		//when
 
@@ -564,6 +684,30 @@ class DefaultBookshelfServiceSliceTest {
 		assertEquals(bookShelfWithJob, bookShelfDetailResponse);
 	}
 
+	@DisplayName("findBookShelfById - 사용자가 좋아요한 책장이면 좋아요 여부를 true 로 채운다.")
+	@Test
+	void findBookShelfById_isLiked() {
+		//given
+		Long userId = 1L;
+		Long bookshelfId = 1L;
+
+		BookShelfDetailResponse bookShelfDetailResponse = new BookShelfDetailResponse(bookshelfId, "책장이름", true, 3L,
+			false, 2L, "username", "userNickname",
+			"http://dadok.com/images", JobGroup.DEVELOPMENT, JobGroup.JobName.BACKEND_DEVELOPER, 5);
+
+		given(bookshelfRepository.findBookShelfById(bookshelfId))
+			.willReturn(Optional.of(bookShelfDetailResponse));
+		given(bookshelfLikeChecker.isLiked(userId, bookshelfId))
+			.willReturn(true);
+
+		//when
+		BookShelfDetailResponse bookShelf = bookshelfService.findBookShelfById(bookshelfId, userId);
+
+		//then
+		assertThat(bookShelf.isLiked()).isTrue();
+		assertThat(bookShelf.bookshelfId()).isEqualTo(bookshelfId);
+	}
+
 	@DisplayName("findBookShelfById - bookshelfId로 책장과 유저와 직업을 조회했을 때 없다면 예외를 던진다.")
 	@Test
 	void findBookShelfById_throw() {
@@ -571,7 +715,7 @@ class DefaultBookshelfServiceSliceTest {
 		Long userId = 1L;
 		Long bookshelfId = 1L;
 
-		given(bookshelfRepository.findBookShelfById(bookshelfId, userId))
+		given(bookshelfRepository.findBookShelfById(bookshelfId))
 			.willReturn(Optional.empty());
 		//when
 		assertThrows(ResourceNotfoundException.class,
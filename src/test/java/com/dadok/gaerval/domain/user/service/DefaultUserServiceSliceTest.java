@@ -77,20 +77,21 @@ class DefaultUserServiceSliceTest {
 		given(authorityRepository.findById(roleUser))
 			.willReturn(Optional.of(RoleUserAuthority));
 
-		given(userRepository.save(expectedUser))
-			.willReturn(expectedUser);
+		given(userRepository.save(any(User.class)))
+			.willAnswer(invocation -> invocation.getArgument(0));
 
-		given(bookshelfService.createBookshelf(expectedUser))
+		given(bookshelfService.createBookshelf(any(User.class)))
 			.willReturn(1L);
 
 		//when
 		User register = defaultUserService.register(oAuth2Attribute);
 		//then
 
-		assertEquals(register, expectedUser);
+		assertEquals(expectedUser.getAuthId(), register.getAuthId());
+		assertEquals(expectedUser.getEmail(), register.getEmail());
 		verify(authorityRepository).findById(roleUser);
-		verify(userRepository).save(expectedUser);
-		verify(bookshelfService).createBookshelf(expectedUser);
+		verify(userRepository).save(register);
+		verify(bookshelfService).createBookshelf(register);
 	}
 
 	@DisplayName("register - authority를 새로 저장하고 유저를 저장하고 반환한다 - 성공")
@@ -109,17 +110,18 @@ class DefaultUserServiceSliceTest {
 		given(authorityRepository.save(RoleUserAuthority))
 			.willReturn(RoleUserAuthority);
 
-		given(userRepository.save(expectedUser))
-			.willReturn(expectedUser);
+		given(userRepository.save(any(User.class)))
+			.willAnswer(invocation -> invocation.getArgument(0));
 
 		//when
 		User register = defaultUserService.register(oAuth2Attribute);
 
 		//then
-		assertEquals(register, expectedUser);
+		assertEquals(expectedUser.getAuthId(), register.getAuthId());
+		assertEquals(expectedUser.getEmail(), register.getEmail());
 		verify(authorityRepository).findById(roleUser);
 		verify(authorityRepository).save(RoleUserAuthority);
-		verify(userRepository).save(expectedUser);
+		verify(userRepository).save(register);
 	}
 
 	@DisplayName("findById - Optional<User>를 반환한다.")
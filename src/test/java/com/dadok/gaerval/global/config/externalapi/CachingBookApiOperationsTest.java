@@ -0,0 +1,196 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.dto.request.BestSellerSearchRequest;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponse;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.global.error.ErrorCode;
+import com.dadok.gaerval.infra.redis.RemoteCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBookApiOperationsTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock
+	private ExternalBookApiOperations delegate;
+
+	@Mock
+	private RemoteCacheService remoteCacheService;
+
+	private CachingBookApiOperations cachingBookApiOperations;
+
+	private final BookResponses bookResponses = new BookResponses(1, 10, true, 1, 1,
+		List.of(new SearchBookResponse("자바 ORM 표준 JPA 프로그래밍", "김영한", "9788960777330", "JPA 기본편",
+			"https://search.daum.net/jpa", "https://image.kakao.com/jpa.jpg", "kakao", "에이콘출판")));
+
+	@BeforeEach
+	void setUp() {
+		ExternalBookCacheProperties cacheProperties = new ExternalBookCacheProperties(Duration.ofMillis(100),
+			null, null);
+		cachingBookApiOperations = new CachingBookApiOperations(delegate, remoteCacheService, objectMapper,
+			meterRegistry, cacheProperties);
+	}
+
+	@DisplayName("searchBooks - 같은 검색 요청은 로컬 캐시에서 응답하고 외부 API 를 다시 호출하지 않는다.")
+	@Test
+	void searchBooks_localHit() {
+		// given
+		given(remoteCacheService.get(anyString())).willReturn(Mono.empty());
+		given(remoteCacheService.set(anyString(), anyString(), any())).willReturn(Mono.just(true));
+		given(delegate.searchBooks("jpa", 1, 10, "accuracy")).willReturn(Mono.just(bookResponses));
+
+		// when
+		BookResponses first = cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block();
+		BookResponses second = cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertEquals(bookResponses, first);
+		assertSame(first, second);
+		then(delegate).should(times(1)).searchBooks("jpa", 1, 10, "accuracy");
+		then(remoteCacheService).should(times(1)).get(anyString());
+		then(remoteCacheService).should().set(eq("book-search:kakao:accuracy:1:10:jpa"), anyString(),
+			eq(Duration.ofHours(1)));
+	}
+
+	@DisplayName("searchBooks - 공백과 대소문자만 다른 검색어는 같은 캐시 항목을 사용한다.")
+	@Test
+	void searchBooks_normalizedKey() {
+		// given
+		given(remoteCacheService.get(anyString())).willReturn(Mono.empty());
+		given(remoteCacheService.set(anyString(), anyString(), any())).willReturn(Mono.just(true));
+		given(delegate.searchBooks(anyString(), eq(1), eq(10), eq("accuracy"))).willReturn(Mono.just(bookResponses));
+
+		// when
+		cachingBookApiOperations.searchBooks("  JPA   기본 ", 1, 10, "accuracy").block();
+		cachingBookApiOperations.searchBooks("jpa 기본", 1, 10, "accuracy").block();
+
+		// then
+		then(delegate).should(times(1)).searchBooks(anyString(), eq(1), eq(10), eq("accuracy"));
+	}
+
+	@DisplayName("searchBooks - 원격 캐시에 있으면 외부 API 를 호출하지 않고 히트로 집계한다.")
+	@Test
+	void searchBooks_remoteHit() throws Exception {
+		// given
+		given(remoteCacheService.get("book-search:kakao:accuracy:1:10:jpa"))
+			.willReturn(Mono.just(objectMapper.writeValueAsString(bookResponses)));
+
+		// when
+		BookResponses result = cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertEquals(bookResponses, result);
+		then(delegate).shouldHaveNoInteractions();
+		assertEquals(1.0, meterRegistry.counter(CachingBookApiOperations.REMOTE_CACHE_METRIC,
+			"provider", "kakao", "result", "hit").count());
+	}
+
+	@DisplayName("searchBooks - 원격 캐시 장애는 미스로 취급하고 외부 API 결과를 반환한다.")
+	@Test
+	void searchBooks_remoteFailure() {
+		// given
+		given(remoteCacheService.get(anyString())).willReturn(Mono.error(new IllegalStateException("redis down")));
+		given(remoteCacheService.set(anyString(), anyString(), any()))
+			.willReturn(Mono.error(new IllegalStateException("redis down")));
+		given(delegate.searchBooks("jpa", 1, 10, "accuracy")).willReturn(Mono.just(bookResponses));
+
+		// when
+		BookResponses result = cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertEquals(bookResponses, result);
+		assertEquals(1.0, meterRegistry.counter(CachingBookApiOperations.REMOTE_CACHE_METRIC,
+			"provider", "kakao", "result", "miss").count());
+	}
+
+	@DisplayName("searchBooks - 외부 API 실패 응답은 캐시하지 않는다.")
+	@Test
+	void searchBooks_errorNotCached() {
+		// given
+		given(remoteCacheService.get(anyString())).willReturn(Mono.empty());
+		given(remoteCacheService.set(anyString(), anyString(), any())).willReturn(Mono.just(true));
+		given(delegate.searchBooks("jpa", 1, 10, "accuracy"))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)))
+			.willReturn(Mono.just(bookResponses));
+
+		// when
+		Mono<BookResponses> failed = cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy");
+
+		// then
+		assertThrows(BookApiNotAvailableException.class, failed::block);
+		assertEquals(bookResponses, cachingBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block());
+		then(delegate).should(times(2)).searchBooks("jpa", 1, 10, "accuracy");
+	}
+
+	@DisplayName("searchWeeklyBestSellers - 카테고리와 페이지가 같으면 캐시된 베스트셀러를 반환한다.")
+	@Test
+	void searchWeeklyBestSellers_cached() {
+		// given
+		BestSellerSearchRequest request = new BestSellerSearchRequest(1, 10, 0, null);
+		BestSellerBookResponses bestSellers = new BestSellerBookResponses(1, 10, false, 200, 1000,
+			List.of(new BestSellerBookResponse("세이노의 가르침", "세이노", "9791168473690", "소개",
+				"https://aladin.co.kr/1", "https://image.aladin.co.kr/1.jpg", "aladin", "데이원", 1)));
+		given(remoteCacheService.get(anyString())).willReturn(Mono.empty());
+		given(remoteCacheService.set(anyString(), anyString(), any())).willReturn(Mono.just(true));
+		given(delegate.searchWeeklyBestSellers(request)).willReturn(Mono.just(bestSellers));
+
+		// when
+		cachingBookApiOperations.searchWeeklyBestSellers(request).block();
+		BestSellerBookResponses result = cachingBookApiOperations.searchWeeklyBestSellers(request).block();
+
+		// then
+		assertEquals(bestSellers, result);
+		then(delegate).should(times(1)).searchWeeklyBestSellers(request);
+		then(remoteCacheService).should().set(eq("best-seller:aladin:0:1:10"), anyString(),
+			eq(Duration.ofHours(24)));
+	}
+
+	@DisplayName("searchBooks - 외부 API 가 실패하면 로컬 TTL 이 지난 이전 결과로 응답한다.")
+	@Test
+	void searchBooks_staleIfError() {
+		// given
+		ExternalBookCacheProperties.Tier shortLocalTier = new ExternalBookCacheProperties.Tier(100L,
+			Duration.ofNanos(1), Duration.ofHours(1));
+		CachingBookApiOperations shortLivedCache = new CachingBookApiOperations(delegate, remoteCacheService,
+			objectMapper, meterRegistry, new ExternalBookCacheProperties(Duration.ofMillis(100), shortLocalTier,
+			null));
+		given(remoteCacheService.get(anyString())).willReturn(Mono.empty());
+		given(remoteCacheService.set(anyString(), anyString(), any())).willReturn(Mono.just(true));
+		given(delegate.searchBooks("jpa", 1, 10, "accuracy"))
+			.willReturn(Mono.just(bookResponses))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)));
+		shortLivedCache.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// when
+		BookResponses result = shortLivedCache.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertEquals(bookResponses, result);
+		then(delegate).should(times(2)).searchBooks("jpa", 1, 10, "accuracy");
+		assertEquals(1.0, meterRegistry.counter(CachingBookApiOperations.STALE_CACHE_METRIC,
+			"provider", "kakao").count());
+	}
+}
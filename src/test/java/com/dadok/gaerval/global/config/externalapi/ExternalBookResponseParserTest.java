@@ -0,0 +1,260 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.dadok.gaerval.domain.book.converter.BookMapper;
+import com.dadok.gaerval.domain.book.dto.response.BestSellerBookResponses;
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.OriginalBookData;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.domain.book.exception.InvalidBookDataException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class ExternalBookResponseParserTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ExternalBookResponseParser externalBookResponseParser = new ExternalBookResponseParser(
+		objectMapper);
+
+	private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+	@DisplayName("parseKakaoBookSearch - 카카오 검색 응답을 전처리된 검색 결과로 변환한다.")
+	@Test
+	void parseKakaoBookSearch() {
+		// given
+		String body = """
+			{"documents":[{"authors":["김영한","이일민"],"contents":"","datetime":"2015-07-28T00:00:00.000+09:00",
+			"isbn":"8960777331 9788960777330","price":43000,"publisher":"","sale_price":38700,
+			"thumbnail":"https://image.kakao.com/jpa.jpg","title":"자바 ORM 표준 JPA 프로그래밍","translators":["역자"],
+			"url":"https://search.daum.net/jpa"},
+			{"authors":[],"contents":"소개","isbn":"9788960777331","publisher":"출판사","thumbnail":"",
+			"title":"","url":""}],
+			"meta":{"is_end":false,"pageable_count":800,"total_count":1000}}
+			""";
+
+		// when
+		BookResponses bookResponses = externalBookResponseParser.parseKakaoBookSearch(toDataBuffer(body), 1, 10);
+
+		// then
+		assertEquals(1, bookResponses.requestedPageNumber());
+		assertEquals(10, bookResponses.requestedPageSize());
+		assertFalse(bookResponses.isLast());
+		assertEquals(800, bookResponses.pageableCount());
+		assertEquals(1000, bookResponses.totalCount());
+
+		SearchBookResponse first = bookResponses.searchBookResponseList().get(0);
+		assertEquals("자바 ORM 표준 JPA 프로그래밍", first.title());
+		assertEquals("김영한,이일민", first.author());
+		assertEquals("9788960777330", first.isbn());
+		assertEquals("책 소개 미상", first.contents());
+		assertEquals("출판사 미상", first.publisher());
+		assertEquals(BookApiProvider.KAKAO.getName(), first.apiProvider());
+
+		SearchBookResponse second = bookResponses.searchBookResponseList().get(1);
+		assertEquals("책 제목 미상", second.title());
+		assertEquals("저자 미상", second.author());
+	}
+
+	@DisplayName("parseKakaoBookSearch - 카카오 에러 응답이면 BookApiNotAvailableException 이 발생한다.")
+	@Test
+	void parseKakaoBookSearch_apiError() {
+		// given
+		String body = "{\"code\":-10,\"msg\":\"API limit has been exceeded.\"}";
+
+		// when, then
+		assertThrows(BookApiNotAvailableException.class,
+			() -> externalBookResponseParser.parseKakaoBookSearch(toDataBuffer(body), 1, 10));
+	}
+
+	@DisplayName("parseKakaoBookSearch - JSON 형식이 아니면 InvalidBookDataException 이 발생한다.")
+	@Test
+	void parseKakaoBookSearch_invalidJson() {
+		// when, then
+		assertThrows(InvalidBookDataException.class,
+			() -> externalBookResponseParser.parseKakaoBookSearch(toDataBuffer("<html></html>"), 1, 10));
+	}
+
+	@DisplayName("parseAladinBestSeller - 알라딘 베스트셀러 응답을 순위와 함께 변환한다.")
+	@Test
+	void parseAladinBestSeller() {
+		// given
+		String body = """
+			{"version":"20131101","title":"알라딘 베스트셀러","totalResults":200,"startIndex":1,"itemsPerPage":2,
+			"item":[{"title":"역행자","author":"자청 (지은이)","description":"설명","isbn":"K052831679",
+			"link":"http://aladin.co.kr/1","cover":"http://image.aladin.co.kr/1.jpg","publisher":"웅진지식하우스",
+			"bestRank":1,"subInfo":{}},
+			{"title":"불편한 편의점","author":"김호연 (지은이)","description":"","isbn":"8925588730",
+			"link":"http://aladin.co.kr/2","cover":"http://image.aladin.co.kr/2.jpg","publisher":"나무옆의자",
+			"bestRank":2,"subInfo":{}}]}
+			""";
+
+		// when
+		BestSellerBookResponses responses = externalBookResponseParser.parseAladinBestSeller(toDataBuffer(body), 1, 2);
+
+		// then
+		assertFalse(responses.isLast());
+		assertEquals(200, responses.totalCount());
+		assertEquals(2, responses.bestSellerBookResponseList().size());
+		assertEquals(1, responses.bestSellerBookResponseList().get(0).bestRank());
+		assertEquals("자청 (지은이)", responses.bestSellerBookResponseList().get(0).author());
+		assertEquals("책 소개 미상", responses.bestSellerBookResponseList().get(1).contents());
+		assertEquals(BookApiProvider.ALADIN.getName(), responses.bestSellerBookResponseList().get(1).apiProvider());
+	}
+
+	@DisplayName("parseAladinBestSeller - 알라딘 에러 응답이면 BookApiNotAvailableException 이 발생한다.")
+	@Test
+	void parseAladinBestSeller_apiError() {
+		// given
+		String body = "{\"errorCode\":100,\"errorMessage\":\"잘못된 TTBKey 입니다.\"}";
+
+		// when, then
+		assertThrows(BookApiNotAvailableException.class,
+			() -> externalBookResponseParser.parseAladinBestSeller(toDataBuffer(body), 1, 10));
+	}
+
+	@DisplayName("parseAladinItemSearch - 알라딘 검색 응답을 ISBN13 기준의 검색 결과로 변환한다.")
+	@Test
+	void parseAladinItemSearch() {
+		// given
+		String body = """
+			{"version":"20131101","title":"알라딘 검색결과 - JPA","totalResults":25,"startIndex":1,"itemsPerPage":10,
+			"query":"JPA","item":[{"title":"자바 ORM 표준 JPA 프로그래밍","author":"김영한 (지은이)","description":"JPA",
+			"isbn":"8960777331","isbn13":"9788960777330","link":"http://aladin.co.kr/1",
+			"cover":"http://image.aladin.co.kr/1.jpg","publisher":"에이콘출판","subInfo":{}}]}
+			""";
+
+		// when
+		BookResponses responses = externalBookResponseParser.parseAladinItemSearch(toDataBuffer(body), 3, 10);
+
+		// then
+		assertTrue(responses.isLast());
+		assertEquals(25, responses.totalCount());
+		assertEquals(25, responses.pageableCount());
+		SearchBookResponse item = responses.searchBookResponseList().get(0);
+		assertEquals("9788960777330", item.isbn());
+		assertEquals(BookApiProvider.ALADIN.getName(), item.apiProvider());
+	}
+
+	// 스레드 할당량을 재는 측정이라 기본 빌드에서는 빼고 perfTest 로 실행한다.
+	@Tag("perf")
+	@DisplayName("parseKakaoBookSearch - 50건 응답 기준으로 결과 외에 버려지는 할당량이 트리 파싱 방식의 1/10 이하다.")
+	@Test
+	void parseKakaoBookSearch_allocation() throws Exception {
+		// given
+		byte[] body = createKakaoBody(50).getBytes(StandardCharsets.UTF_8);
+		BookMapper bookMapper = Mappers.getMapper(BookMapper.class);
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		int iterations = 100;
+
+		for (int i = 0; i < 300; i++) {
+			parseWithTree(body, bookMapper);
+			externalBookResponseParser.parseKakaoBookSearch(bufferFactory.wrap(body), 1, 50);
+		}
+
+		// when
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			parseWithTree(body, bookMapper);
+		}
+		long treeAllocated = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			externalBookResponseParser.parseKakaoBookSearch(bufferFactory.wrap(body), 1, 50);
+		}
+		long streamingAllocated = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		// then
+		long retained = retainedBytes(
+			externalBookResponseParser.parseKakaoBookSearch(bufferFactory.wrap(body), 1, 50));
+		long treeGarbage = treeAllocated - retained;
+		long streamingGarbage = streamingAllocated - retained;
+		log.info("[ExternalBookResponseParser benchmark] body bytes : {}, result bytes : {}, "
+				+ "tree bytes/call : {}, streaming bytes/call : {}",
+			body.length, retained, treeAllocated, streamingAllocated);
+		assertThat(streamingGarbage * 10).isLessThan(treeGarbage);
+	}
+
+	// 응답 레코드가 들고 있는 문자열의 대략적인 힙 크기 (헤더 + 배열)
+	private long retainedBytes(BookResponses bookResponses) {
+		long retained = 0;
+		for (SearchBookResponse response : bookResponses.searchBookResponseList()) {
+			for (String value : List.of(response.title(), response.author(), response.isbn(), response.contents(),
+				response.url(), response.imageUrl(), response.apiProvider(), response.publisher())) {
+				boolean latin1 = value.chars().allMatch(c -> c < 256);
+				long arrayBytes = 16 + (latin1 ? value.length() : 2L * value.length());
+				retained += 24 + (arrayBytes + 7) / 8 * 8;
+			}
+			retained += 48;
+		}
+		return retained;
+	}
+
+	// 이전 방식 : 문자열 변환 -> JsonNode 트리 -> pretty print 로그 -> Book 엔티티 -> 응답
+	private List<SearchBookResponse> parseWithTree(byte[] body, BookMapper bookMapper) throws Exception {
+		String result = new String(body, StandardCharsets.UTF_8);
+		JsonNode jsonNode = objectMapper.readTree(result);
+		String logged = MessageFormatter.format(
+			"[WebClientBookApiOperations]-[processBookSearchResult] received data : {}", jsonNode.toPrettyString())
+			.getMessage();
+		List<SearchBookResponse> responses = new ArrayList<>();
+		for (JsonNode document : jsonNode.get("documents")) {
+			List<String> authors = new ArrayList<>();
+			document.get("authors").forEach(author -> authors.add(author.asText()));
+			responses.add(bookMapper.entityToSearchBookResponse(bookMapper.originalBookDataToEntity(
+				new OriginalBookData(document.get("title").asText(), authors, document.get("contents").asText(),
+					document.get("isbn").asText(), document.get("url").asText(), document.get("thumbnail").asText(),
+					document.get("publisher").asText(), BookApiProvider.KAKAO))));
+		}
+		assertFalse(logged.isEmpty());
+		return responses;
+	}
+
+	private String createKakaoBody(int count) {
+		StringBuilder body = new StringBuilder("{\"documents\":[");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				body.append(',');
+			}
+			body.append("{\"authors\":[\"김영한\",\"저자").append(i).append("\"],")
+				.append("\"contents\":\"").append(StringUtils.repeat("스프링 데이터 JPA 소개 ", 20)).append("\",")
+				.append("\"datetime\":\"2015-07-28T00:00:00.000+09:00\",")
+				.append("\"isbn\":\"89607773").append(String.format("%02d", i))
+				.append(" 97889607773").append(String.format("%02d", i)).append("\",")
+				.append("\"price\":43000,\"publisher\":\"에이콘출판\",\"sale_price\":38700,\"status\":\"정상판매\",")
+				.append("\"thumbnail\":\"https://search1.kakaocdn.net/thumb/R120x174.q85/?fname=").append(i)
+				.append("\",\"title\":\"자바 ORM 표준 JPA 프로그래밍 ").append(i).append("\",")
+				.append("\"translators\":[],\"url\":\"https://search.daum.net/search?w=bookpage&bookId=").append(i)
+				.append("\"}");
+		}
+		return body.append("],\"meta\":{\"is_end\":false,\"pageable_count\":800,\"total_count\":1000}}")
+			.toString();
+	}
+
+	private DataBuffer toDataBuffer(String body) {
+		return bufferFactory.wrap(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,114 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class InFlightRequestCoalescerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final InFlightRequestCoalescer<String, String> coalescer =
+		new InFlightRequestCoalescer<>("kakao", meterRegistry);
+
+	@DisplayName("execute - 진행 중인 같은 키의 호출은 한 번만 실행하고 결과를 공유한다.")
+	@Test
+	void execute_sameKeyShared() {
+		// given
+		AtomicInteger invocations = new AtomicInteger();
+		Sinks.One<String> response = Sinks.one();
+		List<String> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			coalescer.execute("jpa", () -> {
+				invocations.incrementAndGet();
+				return response.asMono();
+			}).subscribe(results::add);
+		}
+		response.tryEmitValue("result");
+
+		// then
+		assertEquals(1, invocations.get());
+		assertEquals(List.of("result", "result", "result"), results);
+		assertEquals(0, coalescer.inFlightCount());
+		assertEquals(1, meterRegistry.get(InFlightRequestCoalescer.FAN_IN_METRIC).summary().count());
+		assertEquals(3.0, meterRegistry.get(InFlightRequestCoalescer.FAN_IN_METRIC).summary().totalAmount());
+		assertEquals(2, meterRegistry.get(InFlightRequestCoalescer.SAVED_LATENCY_METRIC).timer().count());
+	}
+
+	@DisplayName("execute - 키가 다르면 각각 호출한다.")
+	@Test
+	void execute_differentKey() {
+		// given
+		AtomicInteger invocations = new AtomicInteger();
+		Sinks.One<String> response = Sinks.one();
+
+		// when
+		coalescer.execute("jpa", () -> {
+			invocations.incrementAndGet();
+			return response.asMono();
+		}).subscribe();
+		coalescer.execute("spring", () -> {
+			invocations.incrementAndGet();
+			return response.asMono();
+		}).subscribe();
+
+		// then
+		assertEquals(2, invocations.get());
+		assertEquals(2, coalescer.inFlightCount());
+	}
+
+	@DisplayName("execute - 완료된 호출의 결과는 보관하지 않아 다음 호출은 새로 실행한다.")
+	@Test
+	void execute_notRetainedAfterComplete() {
+		// given
+		AtomicInteger invocations = new AtomicInteger();
+
+		// when
+		coalescer.execute("jpa", () -> Mono.fromCallable(() -> "first" + invocations.incrementAndGet())).block();
+		String second = coalescer.execute("jpa",
+			() -> Mono.fromCallable(() -> "second" + invocations.incrementAndGet())).block();
+
+		// then
+		assertEquals("second2", second);
+		assertEquals(0, coalescer.inFlightCount());
+	}
+
+	@DisplayName("execute - 실패도 진행 중인 호출자에게 공유하고, 이후 호출은 다시 실행한다.")
+	@Test
+	void execute_errorShared() {
+		// given
+		AtomicInteger invocations = new AtomicInteger();
+		Sinks.One<String> response = Sinks.one();
+		List<Throwable> errors = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 2; i++) {
+			coalescer.execute("jpa", () -> {
+				invocations.incrementAndGet();
+				return response.asMono();
+			}).subscribe(value -> {
+			}, errors::add);
+		}
+		response.tryEmitError(new IllegalStateException("kakao down"));
+		String retried = coalescer.execute("jpa", () -> {
+			invocations.incrementAndGet();
+			return Mono.just("result");
+		}).block();
+
+		// then
+		assertEquals(2, errors.size());
+		assertEquals("result", retried);
+		assertEquals(2, invocations.get());
+	}
+}
@@ -0,0 +1,112 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.dto.response.SearchBookResponse;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.dadok.gaerval.global.error.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class MultiProviderBookSearchTest {
+
+	@Mock
+	private ExternalBookApiOperations externalBookApiOperations;
+
+	private MultiProviderBookSearch multiProviderBookSearch;
+
+	@BeforeEach
+	void setUp() {
+		multiProviderBookSearch = new MultiProviderBookSearch(externalBookApiOperations, new SimpleMeterRegistry(),
+			Duration.ofMillis(300));
+	}
+
+	@DisplayName("searchBooks - 두 제공자의 결과를 ISBN 기준으로 합치고 카카오 결과를 우선한다.")
+	@Test
+	void searchBooks_mergeByIsbn() {
+		// given
+		given(externalBookApiOperations.searchBooks("jpa", 1, 10, "accuracy")).willReturn(Mono.just(
+			responses(false, 30,
+				book("JPA 프로그래밍", "9788960777330", "KAKAO"),
+				book("스프링 입문", "9791158390", "KAKAO"))));
+		given(externalBookApiOperations.searchAladinBooks("jpa", 1, 10)).willReturn(Mono.just(
+			responses(true, 12,
+				book("자바 ORM 표준 JPA", "8960777331", "ALADIN"),
+				book("JPA 퀵스타트", "9791186710258", "ALADIN"))));
+
+		// when
+		BookResponses merged = multiProviderBookSearch.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertNotNull(merged);
+		assertEquals(List.of("JPA 프로그래밍", "스프링 입문", "JPA 퀵스타트"),
+			merged.searchBookResponseList().stream().map(SearchBookResponse::title).toList());
+		assertFalse(merged.isLast());
+		assertEquals(30, merged.totalCount());
+	}
+
+	@DisplayName("searchBooks - 마감 시간까지 도착한 제공자의 결과만 반환한다.")
+	@Test
+	void searchBooks_deadline() {
+		// given
+		given(externalBookApiOperations.searchBooks("jpa", 1, 10, "accuracy")).willReturn(
+			Mono.just(responses(true, 1, book("JPA 프로그래밍", "9788960777330", "KAKAO")))
+				.delayElement(Duration.ofSeconds(5)));
+		given(externalBookApiOperations.searchAladinBooks("jpa", 1, 10)).willReturn(
+			Mono.just(responses(true, 1, book("JPA 퀵스타트", "9791186710258", "ALADIN"))));
+
+		// when
+		long startedAt = System.nanoTime();
+		BookResponses merged = multiProviderBookSearch.searchBooks("jpa", 1, 10, "accuracy").block();
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+		// then
+		assertNotNull(merged);
+		assertEquals(1, merged.searchBookResponseList().size());
+		assertEquals("ALADIN", merged.searchBookResponseList().get(0).apiProvider());
+		assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0);
+	}
+
+	@DisplayName("searchBooks - 한 제공자가 실패해도 나머지 결과를 반환하고, 모두 실패하면 예외가 발생한다.")
+	@Test
+	void searchBooks_providerFailure() {
+		// given
+		given(externalBookApiOperations.searchBooks("jpa", 1, 10, "accuracy"))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)));
+		given(externalBookApiOperations.searchAladinBooks("jpa", 1, 10))
+			.willReturn(Mono.just(responses(true, 1, book("JPA 퀵스타트", "9791186710258", "ALADIN"))))
+			.willReturn(Mono.error(new BookApiNotAvailableException(ErrorCode.BOOK_API_NOT_AVAILABLE)));
+
+		// when
+		BookResponses partial = multiProviderBookSearch.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertNotNull(partial);
+		assertEquals(1, partial.searchBookResponseList().size());
+		assertThrows(BookApiNotAvailableException.class,
+			() -> multiProviderBookSearch.searchBooks("jpa", 1, 10, "accuracy").block());
+	}
+
+	private BookResponses responses(boolean isLast, int totalCount, SearchBookResponse... books) {
+		return new BookResponses(1, 10, isLast, totalCount, totalCount, List.of(books));
+	}
+
+	private SearchBookResponse book(String title, String isbn, String apiProvider) {
+		return new SearchBookResponse(title, "author", isbn, "contents", "url", "imageUrl", apiProvider,
+			"publisher");
+	}
+}
@@ -0,0 +1,101 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VendorCircuitBreakerTest {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final VendorCircuitBreaker circuitBreaker =
+		new VendorCircuitBreaker(3, Duration.ofSeconds(10), nanoTime::get);
+
+	@DisplayName("onFailure - 연속 실패가 기준에 도달하면 OPEN 으로 바뀌고 호출을 거절한다.")
+	@Test
+	void onFailure_opens() {
+		// when
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.onFailure();
+		}
+
+		// then
+		assertEquals(VendorCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+	}
+
+	@DisplayName("onSuccess - 성공하면 연속 실패 횟수를 초기화한다.")
+	@Test
+	void onSuccess_resetsFailures() {
+		// when
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		circuitBreaker.onSuccess();
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		// then
+		assertEquals(VendorCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@DisplayName("tryAcquirePermission - OPEN 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 CLOSED 로 바뀐다.")
+	@Test
+	void tryAcquirePermission_halfOpenProbe() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.onFailure();
+		}
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		// when
+		boolean probe = circuitBreaker.tryAcquirePermission();
+		boolean other = circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onSuccess();
+
+		// then
+		assertTrue(probe);
+		assertFalse(other);
+		assertEquals(VendorCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+	}
+
+	@DisplayName("onFailure - 시험 호출이 실패하면 다시 OPEN 으로 바뀐다.")
+	@Test
+	void onFailure_halfOpenProbeFails() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.onFailure();
+		}
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+		circuitBreaker.tryAcquirePermission();
+
+		// when
+		circuitBreaker.onFailure();
+
+		// then
+		assertEquals(VendorCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+	}
+
+	@DisplayName("onIgnored - 시험 호출이 결과 없이 끝나면 다음 호출이 바로 시험 호출이 된다.")
+	@Test
+	void onIgnored_releasesProbe() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.onFailure();
+		}
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+		circuitBreaker.tryAcquirePermission();
+
+		// when
+		circuitBreaker.onIgnored();
+
+		// then
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertEquals(VendorCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+	}
+}
@@ -0,0 +1,164 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.dadok.gaerval.domain.book.exception.BookApiNotAvailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 로컬 스텁 HTTP 서버를 띄워 실제 커넥션 풀, 타임아웃, 서킷 브레이커, 벌크헤드 동작을 확인한다.
+ */
+class VendorResilienceTest {
+
+	private static final String KAKAO_RESPONSE = """
+		{"documents":[{"authors":["김영한"],"contents":"JPA 기본편","isbn":"8960777331 9788960777330",
+		"publisher":"에이콘출판","thumbnail":"https://image.kakao.com/jpa.jpg","title":"자바 ORM 표준 JPA 프로그래밍",
+		"url":"https://search.daum.net/jpa"}],
+		"meta":{"is_end":true,"pageable_count":1,"total_count":1}}
+		""";
+
+	private final AtomicInteger requestCount = new AtomicInteger();
+
+	private final AtomicReference<Duration> responseDelay = new AtomicReference<>(Duration.ZERO);
+
+	private final AtomicReference<HttpResponseStatus> responseStatus = new AtomicReference<>(HttpResponseStatus.OK);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private DisposableServer stubServer;
+
+	private KakaoWebClientConfig kakaoWebClientConfig;
+
+	@BeforeEach
+	void setUp() {
+		stubServer = HttpServer.create()
+			.port(0)
+			.route(routes -> routes.get("/v3/search/book", (request, response) -> {
+				requestCount.incrementAndGet();
+				return response.status(responseStatus.get())
+					.header(HttpHeaders.CONTENT_TYPE, "application/json")
+					.sendString(Mono.just(KAKAO_RESPONSE).delayElement(responseDelay.get()));
+			}))
+			.bindNow();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubServer.disposeNow();
+		if (kakaoWebClientConfig != null) {
+			kakaoWebClientConfig.disposeConnectionProvider();
+		}
+	}
+
+	@DisplayName("searchBooks - 응답 지연이 이어지면 서킷이 열려 호출을 보내지 않고, 시간이 지나면 시험 호출 성공으로 다시 닫힌다.")
+	@Test
+	void searchBooks_circuitOpensOnTimeoutsAndRecovers() throws InterruptedException {
+		// given
+		WebClientBookApiOperations operations = operations(vendor(Duration.ofMillis(200), 10));
+		responseDelay.set(Duration.ofMillis(500));
+
+		// when
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa1", 1, 10, "accuracy").block());
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa2", 1, 10, "accuracy").block());
+		int requestsBeforeOpen = requestCount.get();
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa3", 1, 10, "accuracy").block());
+
+		// then
+		assertEquals(VendorCircuitBreaker.State.OPEN, kakaoWebClientConfig.getResilience().getCircuitState());
+		assertEquals(requestsBeforeOpen, requestCount.get());
+		assertEquals(2.0, meterRegistry.get("external.book.circuit.state").tag("vendor", "kakao").gauge().value());
+		assertEquals(1.0, meterRegistry.get("external.book.call.rejected")
+			.tags("vendor", "kakao", "reason", "circuit_open").counter().count());
+
+		// when
+		responseDelay.set(Duration.ZERO);
+		Thread.sleep(400);
+		BookResponses recovered = operations.searchBooks("jpa4", 1, 10, "accuracy").block();
+
+		// then
+		assertNotNull(recovered);
+		assertEquals(1, recovered.totalCount());
+		assertEquals(VendorCircuitBreaker.State.CLOSED, kakaoWebClientConfig.getResilience().getCircuitState());
+	}
+
+	@DisplayName("searchBooks - 5xx 응답은 서킷 브레이커 실패로 센다.")
+	@Test
+	void searchBooks_serverErrorCountsAsFailure() {
+		// given
+		WebClientBookApiOperations operations = operations(vendor(Duration.ofSeconds(1), 10));
+		responseStatus.set(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+
+		// when
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa1", 1, 10, "accuracy").block());
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa2", 1, 10, "accuracy").block());
+
+		// then
+		assertEquals(VendorCircuitBreaker.State.OPEN, kakaoWebClientConfig.getResilience().getCircuitState());
+	}
+
+	@DisplayName("searchBooks - 동시 호출 수를 넘는 호출은 기다리지 않고 바로 실패한다.")
+	@Test
+	void searchBooks_bulkheadRejectsOverflow() {
+		// given
+		WebClientBookApiOperations operations = operations(vendor(Duration.ofSeconds(2), 2));
+		responseDelay.set(Duration.ofMillis(300));
+
+		// when
+		Mono<BookResponses> first = operations.searchBooks("jpa1", 1, 10, "accuracy").cache();
+		Mono<BookResponses> second = operations.searchBooks("jpa2", 1, 10, "accuracy").cache();
+		first.subscribe();
+		second.subscribe();
+
+		// then
+		assertThrows(BookApiNotAvailableException.class,
+			() -> operations.searchBooks("jpa3", 1, 10, "accuracy").block());
+		assertNotNull(first.block());
+		assertNotNull(second.block());
+		assertEquals(1.0, meterRegistry.get("external.book.call.rejected")
+			.tags("vendor", "kakao", "reason", "bulkhead_full").counter().count());
+		assertEquals(VendorCircuitBreaker.State.CLOSED, kakaoWebClientConfig.getResilience().getCircuitState());
+	}
+
+	private VendorResilienceProperties.Vendor vendor(Duration callTimeout, int maxConcurrentCalls) {
+		return new VendorResilienceProperties.Vendor(5, Duration.ofMillis(500), Duration.ofSeconds(30),
+			Duration.ofMillis(500), Duration.ofSeconds(2), callTimeout, maxConcurrentCalls, 2, Duration.ofMillis(300));
+	}
+
+	private WebClientBookApiOperations operations(VendorResilienceProperties.Vendor vendor) {
+		String baseUri = "http://localhost:" + stubServer.port();
+		WebClientProperties webClientProperties = new WebClientProperties(
+			new WebClientProperties.Kakao("api-key", "KakaoAK", baseUri + "/v3/search/book"),
+			new WebClientProperties.Aladin("ttb-key", baseUri));
+		VendorResilienceProperties resilienceProperties = new VendorResilienceProperties(vendor, vendor);
+
+		kakaoWebClientConfig = new KakaoWebClientConfig(webClientProperties, resilienceProperties, meterRegistry);
+		AladinWebClientConfig aladinWebClientConfig = new AladinWebClientConfig(webClientProperties,
+			resilienceProperties, meterRegistry);
+		aladinWebClientConfig.disposeConnectionProvider();
+
+		return new WebClientBookApiOperations(kakaoWebClientConfig, aladinWebClientConfig,
+			new ExternalBookResponseParser(new ObjectMapper()), meterRegistry);
+	}
+}
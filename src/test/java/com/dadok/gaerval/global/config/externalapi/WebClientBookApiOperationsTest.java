@@ -0,0 +1,86 @@
+package com.dadok.gaerval.global.config.externalapi;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.dadok.gaerval.domain.book.dto.response.BookResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class WebClientBookApiOperationsTest {
+
+	private static final String KAKAO_RESPONSE = """
+		{"documents":[{"authors":["김영한"],"contents":"JPA 기본편","datetime":"2015-07-28T00:00:00.000+09:00",
+		"isbn":"8960777331 9788960777330","price":43000,"publisher":"에이콘출판","sale_price":38700,"status":"정상판매",
+		"thumbnail":"https://image.kakao.com/jpa.jpg","title":"자바 ORM 표준 JPA 프로그래밍","translators":[],
+		"url":"https://search.daum.net/jpa"}],
+		"meta":{"is_end":true,"pageable_count":1,"total_count":1}}
+		""";
+
+	@Mock
+	private KakaoWebClientConfig kakaoWebClientConfig;
+
+	@Mock
+	private AladinWebClientConfig aladinWebClientConfig;
+
+	private WebClientBookApiOperations webClientBookApiOperations;
+
+	@BeforeEach
+	void setUp() {
+		webClientBookApiOperations = new WebClientBookApiOperations(kakaoWebClientConfig, aladinWebClientConfig,
+			new ExternalBookResponseParser(new ObjectMapper()), new SimpleMeterRegistry());
+	}
+
+	@DisplayName("searchBooks - 응답 본문이 여러 청크로 나뉘어 와도 전체 본문을 파싱한다.")
+	@Test
+	void searchBooks_chunkedBody() {
+		// given
+		byte[] body = KAKAO_RESPONSE.getBytes(StandardCharsets.UTF_8);
+		int half = body.length / 2;
+		DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+		Flux<DataBuffer> chunks = Flux.just(
+			bufferFactory.wrap(Arrays.copyOfRange(body, 0, half)),
+			bufferFactory.wrap(Arrays.copyOfRange(body, half, body.length)));
+
+		WebClient webClient = WebClient.builder()
+			.exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body(chunks)
+				.build()))
+			.build();
+		given(kakaoWebClientConfig.getWebClient()).willReturn(webClient);
+		given(kakaoWebClientConfig.getResilience()).willReturn(new VendorResilience("kakao",
+			VendorResilienceProperties.Vendor.defaults(), new SimpleMeterRegistry()));
+
+		// when
+		BookResponses bookResponses = webClientBookApiOperations.searchBooks("jpa", 1, 10, "accuracy").block();
+
+		// then
+		assertNotNull(bookResponses);
+		assertEquals(1, bookResponses.totalCount());
+		assertEquals(1, bookResponses.searchBookResponseList().size());
+		assertEquals("9788960777330", bookResponses.searchBookResponseList().get(0).isbn());
+		assertEquals("김영한", bookResponses.searchBookResponseList().get(0).author());
+	}
+}
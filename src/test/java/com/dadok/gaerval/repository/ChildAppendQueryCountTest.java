@@ -0,0 +1,205 @@
+package com.dadok.gaerval.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dadok.gaerval.domain.book.entity.Book;
+import com.dadok.gaerval.domain.book.repository.BookRepository;
+import com.dadok.gaerval.domain.book_group.entity.BookGroup;
+import com.dadok.gaerval.domain.book_group.entity.GroupComment;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupCommentRepository;
+import com.dadok.gaerval.domain.book_group.repository.BookGroupRepository;
+import com.dadok.gaerval.domain.bookshelf.entity.Bookshelf;
+import com.dadok.gaerval.domain.bookshelf.entity.BookshelfItem;
+import com.dadok.gaerval.domain.bookshelf.entity.BookshelfLike;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfItemRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfLikeRepository;
+import com.dadok.gaerval.domain.bookshelf.repository.BookshelfRepository;
+import com.dadok.gaerval.domain.user.entity.Authority;
+import com.dadok.gaerval.domain.user.entity.Role;
+import com.dadok.gaerval.domain.user.entity.User;
+import com.dadok.gaerval.domain.user.entity.UserAuthority;
+import com.dadok.gaerval.domain.user.repository.AuthorityRepository;
+import com.dadok.gaerval.domain.user.repository.UserRepository;
+import com.dadok.gaerval.global.config.security.AuthProvider;
+import com.dadok.gaerval.testutil.BookGroupObjectProvider;
+import com.dadok.gaerval.testutil.UserObjectProvider;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 책장 도서, 책장 좋아요, 모임 댓글을 하나 추가할 때 실행되는 SQL 수가 이미 있는 자식 수와 상관없이 같은지 확인한다.
+ */
+@CustomDataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class ChildAppendQueryCountTest {
+
+	private static final int SMALL = 1;
+
+	private static final int LARGE = 30;
+
+	private final EntityManager entityManager;
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final AuthorityRepository authorityRepository;
+
+	private final UserRepository userRepository;
+
+	private final BookRepository bookRepository;
+
+	private final BookshelfRepository bookshelfRepository;
+
+	private final BookshelfItemRepository bookshelfItemRepository;
+
+	private final BookshelfLikeRepository bookshelfLikeRepository;
+
+	private final BookGroupRepository bookGroupRepository;
+
+	private final BookGroupCommentRepository bookGroupCommentRepository;
+
+	private List<User> users;
+
+	private int bookSequence;
+
+	@BeforeEach
+	void setUp() {
+		Authority authority = authorityRepository.save(Authority.create(Role.USER));
+		users = userRepository.saveAll(IntStream.range(0, LARGE + 3)
+			.mapToObj(i -> User.createByOAuth(UserObjectProvider.dumAttributes(AuthProvider.KAKAO,
+				"dadok" + i + "@kakao.com", "다독" + i, UserObjectProvider.PICTURE_URL, "oauth" + i),
+				UserAuthority.create(authority)))
+			.toList());
+	}
+
+	@DisplayName("BookshelfItem.create - 책장의 도서 수와 상관없이 도서 목록을 읽지 않고 같은 수의 SQL 로 추가한다.")
+	@Test
+	void addBookshelfItem_constantStatements() {
+		// given
+		Bookshelf smallShelf = shelveBooks(users.get(0), SMALL);
+		Bookshelf largeShelf = shelveBooks(users.get(1), LARGE);
+		Book smallShelfNewBook = saveBook();
+		Book largeShelfNewBook = saveBook();
+
+		// when
+		long smallCount = countStatements(() -> appendBookshelfItem(smallShelf.getId(), smallShelfNewBook.getId()));
+		long largeCount = countStatements(() -> appendBookshelfItem(largeShelf.getId(), largeShelfNewBook.getId()));
+
+		// then
+		assertThat(largeCount).isEqualTo(smallCount);
+	}
+
+	@DisplayName("BookshelfLike.create - 책장의 좋아요 수와 상관없이 좋아요 목록을 읽지 않고 같은 수의 SQL 로 추가한다.")
+	@Test
+	void addBookshelfLike_constantStatements() {
+		// given
+		Bookshelf smallShelf = likeBookshelf(users.get(0), users.subList(2, 2 + SMALL));
+		Bookshelf largeShelf = likeBookshelf(users.get(1), users.subList(2, 2 + LARGE));
+		User newLiker = users.get(LARGE + 2);
+
+		// when
+		long smallCount = countStatements(() -> appendBookshelfLike(smallShelf.getId(), newLiker.getId()));
+		long largeCount = countStatements(() -> appendBookshelfLike(largeShelf.getId(), newLiker.getId()));
+
+		// then
+		assertThat(largeCount).isEqualTo(smallCount);
+	}
+
+	@DisplayName("GroupComment.create - 모임의 댓글 수와 상관없이 댓글 목록을 읽지 않고 같은 수의 SQL 로 추가한다.")
+	@Test
+	void addGroupComment_constantStatements() {
+		// given
+		BookGroup smallGroup = commentBookGroup(SMALL);
+		BookGroup largeGroup = commentBookGroup(LARGE);
+		User writer = users.get(0);
+
+		// when
+		long smallCount = countStatements(() -> appendGroupComment(smallGroup.getId(), writer.getId()));
+		long largeCount = countStatements(() -> appendGroupComment(largeGroup.getId(), writer.getId()));
+
+		// then
+		assertThat(largeCount).isEqualTo(smallCount);
+	}
+
+	private void appendBookshelfItem(Long bookshelfId, Long bookId) {
+		Bookshelf bookshelf = bookshelfRepository.findById(bookshelfId).orElseThrow();
+		Book book = bookRepository.findById(bookId).orElseThrow();
+		bookshelfItemRepository.save(BookshelfItem.create(bookshelf, book));
+		assertThat(Hibernate.isInitialized(bookshelf.getBookshelfItems())).isFalse();
+	}
+
+	private void appendBookshelfLike(Long bookshelfId, Long userId) {
+		Bookshelf bookshelf = bookshelfRepository.findById(bookshelfId).orElseThrow();
+		User user = userRepository.findById(userId).orElseThrow();
+		bookshelfLikeRepository.save(BookshelfLike.create(user, bookshelf));
+		assertThat(Hibernate.isInitialized(bookshelf.getBookshelfLikes())).isFalse();
+	}
+
+	private void appendGroupComment(Long bookGroupId, Long userId) {
+		BookGroup bookGroup = bookGroupRepository.findById(bookGroupId).orElseThrow();
+		User user = userRepository.findById(userId).orElseThrow();
+		bookGroupCommentRepository.save(GroupComment.create("새 댓글", bookGroup, user));
+		assertThat(Hibernate.isInitialized(bookGroup.getComments())).isFalse();
+	}
+
+	private Book saveBook() {
+		int sequence = bookSequence++;
+		return bookRepository.save(Book.create("책" + sequence, "저자", "97889" + String.format("%08d", sequence),
+			"contents", "url", "imageUrl" + sequence, "KAKAO", "출판사"));
+	}
+
+	private long countStatements(Runnable append) {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		append.run();
+		entityManager.flush();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Bookshelf shelveBooks(User owner, int count) {
+		Bookshelf bookshelf = bookshelfRepository.save(Bookshelf.create(owner));
+		bookshelfItemRepository.saveAll(IntStream.range(0, count)
+			.mapToObj(i -> BookshelfItem.create(bookshelf, saveBook()))
+			.toList());
+		return bookshelf;
+	}
+
+	private Bookshelf likeBookshelf(User owner, List<User> likers) {
+		Bookshelf bookshelf = bookshelfRepository.save(Bookshelf.create(owner));
+		bookshelfLikeRepository.saveAll(likers.stream()
+			.map(liker -> BookshelfLike.create(liker, bookshelf))
+			.toList());
+		return bookshelf;
+	}
+
+	private BookGroup commentBookGroup(int count) {
+		BookGroup bookGroup = bookGroupRepository.save(
+			BookGroupObjectProvider.createBookGroup(saveBook(), users.get(0).getId()));
+		List<GroupComment> comments = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			comments.add(GroupComment.create("댓글" + i, bookGroup, users.get(i % users.size())));
+		}
+		bookGroupCommentRepository.saveAll(comments);
+		return bookGroup;
+	}
+}
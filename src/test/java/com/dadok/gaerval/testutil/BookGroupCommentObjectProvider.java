@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentResponse;
+import com.dadok.gaerval.domain.book_group.dto.response.BookGroupCommentThreadResponse;
 import com.dadok.gaerval.domain.book_group.entity.BookGroup;
 import com.dadok.gaerval.domain.book_group.entity.GroupComment;
 import com.dadok.gaerval.domain.user.entity.User;
@@ -24,6 +25,20 @@ public class BookGroupCommentObjectProvider {
 			(456L, comment3, 234L, 234L, 456L, profileImageUrl, LocalDateTime.now(), LocalDateTime.now(), "youngijang", Boolean.FALSE)
 	);
 
+	public static final List<BookGroupCommentThreadResponse> mockThreadResponses = List.of(
+		new BookGroupCommentThreadResponse(
+			new BookGroupCommentResponse(123L, comment1, 234L, null, 123L, profileImageUrl, LocalDateTime.now(),
+				LocalDateTime.now(), "티나", Boolean.TRUE),
+			3L,
+			List.of(new BookGroupCommentResponse(124L, comment2, 234L, 123L, 234L, profileImageUrl,
+				LocalDateTime.now(), LocalDateTime.now(), "0Soo", Boolean.FALSE))),
+		new BookGroupCommentThreadResponse(
+			new BookGroupCommentResponse(100L, comment3, 234L, null, 456L, profileImageUrl, LocalDateTime.now(),
+				LocalDateTime.now(), "youngijang", Boolean.FALSE),
+			0L,
+			List.of())
+	);
+
 	public static GroupComment createSampleGroupComment(BookGroup bookGroup, User user) {
 		GroupComment groupComment = GroupComment.create(comment1, bookGroup, user);
 		ReflectionTestUtils.setField(groupComment, "id", bookCommentId);